@@ -0,0 +1,35 @@
+package com.coopcredit.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the regular JMH command line and
+ * writes results as JSON to {@code jmh-result.json} unless {@code -rf}/{@code -rff}
+ * say otherwise, so runs can be compared before changing a hot path.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar [regexp] [-rff before.json]}
+ */
+public final class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        if (!arguments.contains("-rf")) {
+            arguments.add("-rf");
+            arguments.add("json");
+        }
+        if (!arguments.contains("-rff")) {
+            arguments.add("-rff");
+            arguments.add(DEFAULT_RESULT_FILE);
+        }
+        Main.main(arguments.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,80 @@
+package com.coopcredit.benchmarks;
+
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.RiskEvaluation;
+import com.coopcredit.domain.model.enums.AffiliateStatus;
+import com.coopcredit.domain.model.enums.RiskLevel;
+import com.coopcredit.infrastructure.adapter.output.persistence.entity.CreditApplicationEntity;
+import com.coopcredit.infrastructure.adapter.output.persistence.mapper.AffiliateMapperImpl;
+import com.coopcredit.infrastructure.adapter.output.persistence.mapper.CreditApplicationMapper;
+import com.coopcredit.infrastructure.adapter.output.persistence.mapper.CreditApplicationMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct {@link CreditApplicationMapper} conversions between the domain model
+ * and the JPA entity. The generated mappers use field injection, so they are
+ * wired by a minimal Spring context exactly as in the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreditApplicationMapperBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private CreditApplicationMapper mapper;
+    private CreditApplication application;
+    private CreditApplicationEntity entity;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(CreditApplicationMapperImpl.class, AffiliateMapperImpl.class);
+        mapper = context.getBean(CreditApplicationMapper.class);
+
+        Affiliate affiliate = new Affiliate(1L, "1234567890", "Benchmark Affiliate",
+                new BigDecimal("4500000.00"), LocalDate.of(2020, 1, 15), AffiliateStatus.ACTIVE);
+        application = new CreditApplication(1L, affiliate, new BigDecimal("25000000.00"), 36,
+                new BigDecimal("18.50"));
+        application.setRiskEvaluation(new RiskEvaluation(720, RiskLevel.LOW, new BigDecimal("22.5000"),
+                "Meets all criteria", true));
+        entity = mapper.toEntity(application);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CreditApplicationEntity toEntity() {
+        return mapper.toEntity(application);
+    }
+
+    @Benchmark
+    public CreditApplication toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public CreditApplication roundTrip() {
+        return mapper.toDomain(mapper.toEntity(application));
+    }
+}
@@ -0,0 +1,101 @@
+package com.coopcredit.benchmarks;
+
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.Money;
+import com.coopcredit.domain.model.Rate;
+import com.coopcredit.domain.model.enums.AffiliateStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monthly payment and debt-to-income calculations of {@link CreditApplication}.
+ * The {@code bigDecimal*} benchmarks keep the original BigDecimal formulas as a
+ * baseline for the fixed-point {@link Money} implementation; run with
+ * {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreditApplicationMathBenchmark {
+
+    @Param({"5000000.00", "250000000.00"})
+    public String requestedAmount;
+
+    @Param({"12", "60"})
+    public int termMonths;
+
+    private CreditApplication application;
+    private BigDecimal salary;
+    private Money salaryMoney;
+    private BigDecimal amount;
+    private BigDecimal rate;
+
+    @Setup
+    public void setUp() {
+        Affiliate affiliate = new Affiliate(1L, "1234567890", "Benchmark Affiliate",
+                new BigDecimal("4500000.00"), LocalDate.of(2020, 1, 15), AffiliateStatus.ACTIVE);
+        application = new CreditApplication(1L, affiliate, new BigDecimal(requestedAmount), termMonths,
+                new BigDecimal("18.50"));
+        salary = affiliate.getSalary();
+        salaryMoney = Money.of(salary);
+        amount = application.getRequestedAmount();
+        rate = application.getProposedRate();
+    }
+
+    @Benchmark
+    public BigDecimal calculateMonthlyPayment() {
+        return application.calculateMonthlyPayment();
+    }
+
+    @Benchmark
+    public BigDecimal calculateDebtToIncomeRatio() {
+        return application.calculateDebtToIncomeRatio(salary);
+    }
+
+    @Benchmark
+    public Money monthlyPayment() {
+        return application.monthlyPayment();
+    }
+
+    @Benchmark
+    public Rate debtToIncomeRatio() {
+        return application.debtToIncomeRatio(salaryMoney);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalMonthlyPayment() {
+        return bigDecimalMonthlyPayment(amount, rate, termMonths);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalDebtToIncomeRatio() {
+        return bigDecimalMonthlyPayment(amount, rate, termMonths)
+                .divide(salary, 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100));
+    }
+
+    private static BigDecimal bigDecimalMonthlyPayment(BigDecimal amount, BigDecimal rate, int termMonths) {
+        BigDecimal annualRate = rate.divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
+        BigDecimal termYears = BigDecimal.valueOf(termMonths).divide(BigDecimal.valueOf(12), 6, RoundingMode.HALF_UP);
+        BigDecimal totalAmount = amount.multiply(BigDecimal.ONE.add(annualRate.multiply(termYears)));
+        return totalAmount.divide(BigDecimal.valueOf(termMonths), 2, RoundingMode.HALF_UP);
+    }
+}
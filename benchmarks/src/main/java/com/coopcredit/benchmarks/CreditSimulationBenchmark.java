@@ -0,0 +1,80 @@
+package com.coopcredit.benchmarks;
+
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.CreditSimulation;
+import com.coopcredit.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Affordability grid of {@link CreditSimulation} against building one
+ * {@link CreditApplication} per combination, which is what one request per
+ * cell costs on the server before any HTTP overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreditSimulationBenchmark {
+
+    @Param({"20", "200"})
+    public int amounts;
+
+    private final Money salary = Money.ofCents(450_000_000);
+    private final BigDecimal salaryDecimal = salary.toBigDecimal();
+    private long[] amountCents;
+    private final int[] terms = { 6, 12, 24, 36, 48, 60, 72, 84, 96, 108, 120 };
+    private final long[] rates = { 80_000, 120_000, 150_000, 185_000, 240_000 };
+
+    @Setup
+    public void setUp() {
+        amountCents = new long[amounts];
+        for (int i = 0; i < amounts; i++) {
+            amountCents[i] = 10_000_000L + i * 25_000_000L;
+        }
+    }
+
+    @Benchmark
+    public CreditSimulation grid() {
+        return CreditSimulation.calculate(salary, amountCents, terms, rates, false);
+    }
+
+    @Benchmark
+    public CreditSimulation parallelGrid() {
+        return CreditSimulation.calculate(salary, amountCents, terms, rates, true);
+    }
+
+    @Benchmark
+    public int perApplication() {
+        int affordable = 0;
+        BigDecimal maxCredit = salaryDecimal.multiply(BigDecimal.valueOf(12));
+        BigDecimal maxDti = CreditApplication.MAX_DEBT_TO_INCOME_RATIO.toPercent();
+        for (int term : terms) {
+            for (long rate : rates) {
+                for (long amount : amountCents) {
+                    CreditApplication application = new CreditApplication(null, null,
+                            BigDecimal.valueOf(amount, 2), term, BigDecimal.valueOf(rate, 4));
+                    if (application.getRequestedAmount().compareTo(maxCredit) <= 0
+                            && application.calculateDebtToIncomeRatio(salaryDecimal).compareTo(maxDti) <= 0) {
+                        affordable++;
+                    }
+                }
+            }
+        }
+        return affordable;
+    }
+}
@@ -0,0 +1,84 @@
+package com.coopcredit.benchmarks;
+
+import com.coopcredit.application.dto.CreditApplicationResponse;
+import com.coopcredit.application.dto.RiskEvaluationResponse;
+import com.coopcredit.domain.model.enums.ApplicationStatus;
+import com.coopcredit.domain.model.enums.RiskLevel;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of {@link CreditApplicationResponse}, as a single
+ * application and as a list page, using an ObjectMapper configured like the
+ * one Spring Boot creates for the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20"})
+    public int listSize;
+
+    private ObjectWriter writer;
+    private CreditApplicationResponse response;
+    private List<CreditApplicationResponse> responses;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = objectMapper.writer();
+
+        response = response(1L);
+        responses = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            responses.add(response(i + 1L));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeOne() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(responses);
+    }
+
+    private static CreditApplicationResponse response(long id) {
+        LocalDateTime applied = LocalDateTime.of(2024, 3, 1, 10, 30);
+        RiskEvaluationResponse evaluation = new RiskEvaluationResponse(id, 720, RiskLevel.LOW,
+                new BigDecimal("22.5000"), "Meets all criteria", List.of(),
+                "Low credit risk. Excellent payment history and credit behavior.",
+                applied.plusMinutes(5), true);
+        return new CreditApplicationResponse(id, "1234567890", "Benchmark Affiliate",
+                new BigDecimal("25000000.00"), 36, new BigDecimal("18.50"), new BigDecimal("1080555.56"),
+                applied, ApplicationStatus.APPROVED, evaluation);
+    }
+}
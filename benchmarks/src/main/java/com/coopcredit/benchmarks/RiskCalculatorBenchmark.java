@@ -0,0 +1,55 @@
+package com.coopcredit.benchmarks;
+
+import com.coopcredit.risk.dto.RiskEvaluationRequest;
+import com.coopcredit.risk.dto.RiskEvaluationResponse;
+import com.coopcredit.risk.service.RiskCalculatorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Score calculation of the Risk Central mock's {@link RiskCalculatorService}.
+ * Logging is limited to WARN by the module's logback.xml, so this measures the
+ * scoring itself rather than the appender.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RiskCalculatorBenchmark {
+
+    private static final int DOCUMENTS = 1024;
+
+    private RiskCalculatorService riskCalculator;
+    private RiskEvaluationRequest[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        riskCalculator = new RiskCalculatorService();
+        requests = new RiskEvaluationRequest[DOCUMENTS];
+        for (int i = 0; i < DOCUMENTS; i++) {
+            requests[i] = new RiskEvaluationRequest(String.valueOf(1_000_000_000L + i * 7919L),
+                    new BigDecimal("25000000.00"), 36);
+        }
+    }
+
+    @Benchmark
+    public RiskEvaluationResponse evaluate() {
+        RiskEvaluationRequest request = requests[next];
+        next = (next + 1) & (DOCUMENTS - 1);
+        return riskCalculator.evaluate(request);
+    }
+}
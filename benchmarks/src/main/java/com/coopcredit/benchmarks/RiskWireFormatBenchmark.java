@@ -0,0 +1,89 @@
+package com.coopcredit.benchmarks;
+
+import com.coopcredit.risk.dto.RiskEvaluationRequest;
+import com.coopcredit.risk.dto.RiskEvaluationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of one Risk Central exchange in each wire format
+ * ({@code app.risk-service.wire-format}): the request as the credit service
+ * writes it and the mock reads it, and the response the other way round. The
+ * mappers are built like the ones behind Spring's JSON, CBOR and Smile
+ * message converters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RiskWireFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectWriter writer;
+    private ObjectReader requestReader;
+    private ObjectReader responseReader;
+    private RiskEvaluationRequest request;
+    private RiskEvaluationResponse response;
+    private byte[] encodedRequest;
+    private byte[] encodedResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        writer = objectMapper.writer();
+        requestReader = objectMapper.readerFor(RiskEvaluationRequest.class);
+        responseReader = objectMapper.readerFor(RiskEvaluationResponse.class);
+
+        request = new RiskEvaluationRequest("1234567890", new BigDecimal("25000000.00"), 36);
+        response = new RiskEvaluationResponse("1234567890", 720, "LOW",
+                "Low credit risk. Excellent payment history and credit behavior.");
+        encodedRequest = writer.writeValueAsBytes(request);
+        encodedResponse = writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encodeRequest() throws IOException {
+        return writer.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public RiskEvaluationRequest decodeRequest() throws IOException {
+        return requestReader.readValue(encodedRequest);
+    }
+
+    @Benchmark
+    public byte[] encodeResponse() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public RiskEvaluationResponse decodeResponse() throws IOException {
+        return responseReader.readValue(encodedResponse);
+    }
+}
@@ -0,0 +1,16 @@
+package com.coopcredit.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request DTO for resolving several affiliates at once.
+ */
+public record AffiliateLookupRequest(
+        @NotEmpty(message = "At least one document number is required")
+        @Size(max = LookupResult.MAX_IDS, message = "At most " + LookupResult.MAX_IDS + " document numbers per lookup")
+        List<@NotBlank(message = "Document numbers cannot be blank") String> documentNumbers
+) {
+}
@@ -0,0 +1,16 @@
+package com.coopcredit.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request DTO for resolving several credit applications at once.
+ */
+public record ApplicationLookupRequest(
+        @NotEmpty(message = "At least one ID is required")
+        @Size(max = LookupResult.MAX_IDS, message = "At most " + LookupResult.MAX_IDS + " IDs per lookup")
+        List<@NotNull(message = "IDs cannot be null") Long> ids
+) {
+}
@@ -0,0 +1,34 @@
+package com.coopcredit.application.dto;
+
+/**
+ * One entry of a lookup response, in the position of the identifier it resolves.
+ *
+ * @param id     the requested identifier
+ * @param status whether the resource was found and may be read
+ * @param value  the resource, only when found
+ */
+public record LookupResult<K, T>(K id, Status status, T value) {
+
+    /**
+     * Most identifiers a single lookup accepts.
+     */
+    public static final int MAX_IDS = 100;
+
+    public enum Status {
+        FOUND,
+        NOT_FOUND,
+        FORBIDDEN
+    }
+
+    public static <K, T> LookupResult<K, T> found(K id, T value) {
+        return new LookupResult<>(id, Status.FOUND, value);
+    }
+
+    public static <K, T> LookupResult<K, T> notFound(K id) {
+        return new LookupResult<>(id, Status.NOT_FOUND, null);
+    }
+
+    public static <K, T> LookupResult<K, T> forbidden(K id) {
+        return new LookupResult<>(id, Status.FORBIDDEN, null);
+    }
+}
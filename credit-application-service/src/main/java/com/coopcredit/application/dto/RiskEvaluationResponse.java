@@ -1,8 +1,10 @@
 package com.coopcredit.application.dto;
 
+import com.coopcredit.domain.model.enums.EvaluationWarning;
 import com.coopcredit.domain.model.enums.RiskLevel;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * DTO for risk evaluation response.
@@ -13,6 +15,7 @@ public record RiskEvaluationResponse(
         RiskLevel riskLevel,
         BigDecimal debtToIncomeRatio,
         String reason,
+        List<EvaluationWarning> warnings,
         String details,
         LocalDateTime evaluationDate,
         Boolean approved) {
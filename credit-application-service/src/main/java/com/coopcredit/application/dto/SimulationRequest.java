@@ -0,0 +1,28 @@
+package com.coopcredit.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+
+/**
+ * DTO for simulating a grid of credit amounts, terms and rates.
+ */
+public record SimulationRequest(
+        @NotBlank(message = "Affiliate document number is required") String affiliateDocumentNumber,
+
+        @NotNull(message = "Amount range is required") @Valid Range amounts,
+
+        @NotNull(message = "Term range is required") @Valid Range terms,
+
+        @NotNull(message = "Rate range is required") @Valid Range rates) {
+
+    /**
+     * Inclusive range; {@code to} and {@code step} may be omitted for a single value.
+     */
+    public record Range(
+            @NotNull(message = "Range start is required") BigDecimal from,
+            BigDecimal to,
+            BigDecimal step) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.coopcredit.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for a simulation grid response.
+ */
+public record SimulationResponse(
+        String affiliateDocumentNumber,
+        BigDecimal monthlySalary,
+        BigDecimal existingMonthlyPayments,
+        BigDecimal maximumCreditAmount,
+        BigDecimal maxDebtToIncomeRatio,
+        List<BigDecimal> amounts,
+        List<SimulationRowResponse> results) {
+}
@@ -0,0 +1,16 @@
+package com.coopcredit.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for one term and rate of a simulation; lists follow the order of the amounts.
+ */
+public record SimulationRowResponse(
+        Integer termMonths,
+        BigDecimal rate,
+        BigDecimal maxAffordableAmount,
+        List<BigDecimal> monthlyPayments,
+        List<BigDecimal> debtToIncomeRatios,
+        boolean[] affordable) {
+}
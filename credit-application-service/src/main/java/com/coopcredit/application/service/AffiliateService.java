@@ -3,6 +3,9 @@ package com.coopcredit.application.service;
 import com.coopcredit.domain.exception.AffiliateNotFoundException;
 import com.coopcredit.domain.exception.DuplicateDocumentException;
 import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.FieldProjection;
+import com.coopcredit.domain.model.VersionStamp;
+import com.coopcredit.domain.model.enums.AffiliateField;
 import com.coopcredit.domain.model.enums.AffiliateStatus;
 import com.coopcredit.domain.port.input.AffiliateUseCase;
 import com.coopcredit.domain.port.output.AffiliateRepositoryPort;
@@ -11,9 +14,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 /**
  * Application service implementing affiliate use cases.
  */
@@ -31,7 +37,7 @@ public class AffiliateService implements AffiliateUseCase {
 
     @Override
     public Affiliate register(Affiliate affiliate) {
-        log.info("Registering new affiliate with document: {}", affiliate.getDocumentNumber());
+        log.debug("Registering new affiliate {}", kv("documentNumber", affiliate.getDocumentNumber()));
 
         // Validate unique document number
         if (affiliateRepository.existsByDocumentNumber(affiliate.getDocumentNumber())) {
@@ -44,13 +50,13 @@ public class AffiliateService implements AffiliateUseCase {
         }
 
         Affiliate saved = affiliateRepository.save(affiliate);
-        log.info("Affiliate registered successfully with ID: {}", saved.getId());
+        log.info("Affiliate registered {}", kv("affiliateId", saved.getId()));
         return saved;
     }
 
     @Override
     public Affiliate update(String documentNumber, Affiliate updatedData) {
-        log.info("Updating affiliate with document: {}", documentNumber);
+        log.debug("Updating affiliate {}", kv("documentNumber", documentNumber));
 
         Affiliate existing = affiliateRepository.findByDocumentNumber(documentNumber)
                 .orElseThrow(() -> new AffiliateNotFoundException(documentNumber));
@@ -67,7 +73,7 @@ public class AffiliateService implements AffiliateUseCase {
         }
 
         Affiliate saved = affiliateRepository.save(existing);
-        log.info("Affiliate updated successfully: {}", documentNumber);
+        log.info("Affiliate updated {}", kv("documentNumber", documentNumber));
         return saved;
     }
 
@@ -78,6 +84,13 @@ public class AffiliateService implements AffiliateUseCase {
         return affiliateRepository.findByDocumentNumber(documentNumber);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Affiliate> findAllByDocumentNumber(Collection<String> documentNumbers) {
+        log.debug("Finding {} affiliates by document", documentNumbers.size());
+        return affiliateRepository.findAllByDocumentNumber(documentNumbers);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Affiliate> findById(Long id) {
@@ -94,7 +107,7 @@ public class AffiliateService implements AffiliateUseCase {
 
     @Override
     public Affiliate activate(String documentNumber) {
-        log.info("Activating affiliate: {}", documentNumber);
+        log.info("Activating affiliate {}", kv("documentNumber", documentNumber));
 
         Affiliate affiliate = affiliateRepository.findByDocumentNumber(documentNumber)
                 .orElseThrow(() -> new AffiliateNotFoundException(documentNumber));
@@ -105,7 +118,7 @@ public class AffiliateService implements AffiliateUseCase {
 
     @Override
     public Affiliate deactivate(String documentNumber) {
-        log.info("Deactivating affiliate: {}", documentNumber);
+        log.info("Deactivating affiliate {}", kv("documentNumber", documentNumber));
 
         Affiliate affiliate = affiliateRepository.findByDocumentNumber(documentNumber)
                 .orElseThrow(() -> new AffiliateNotFoundException(documentNumber));
@@ -113,4 +126,23 @@ public class AffiliateService implements AffiliateUseCase {
         affiliate.setStatus(AffiliateStatus.INACTIVE);
         return affiliateRepository.save(affiliate);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FieldProjection<AffiliateField> findFields(List<AffiliateField> fields) {
+        log.debug("Finding fields {} of all affiliates", fields);
+        return affiliateRepository.findFields(fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VersionStamp> findVersion(String documentNumber) {
+        return affiliateRepository.findVersionByDocumentNumber(documentNumber);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp versionOfAll() {
+        return affiliateRepository.versionOfAll();
+    }
 }
@@ -0,0 +1,50 @@
+package com.coopcredit.application.service;
+
+import com.coopcredit.domain.exception.CreditApplicationNotFoundException;
+import com.coopcredit.domain.model.AmortizationSchedule;
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.enums.AmortizationMethod;
+import com.coopcredit.domain.port.input.AmortizationUseCase;
+import com.coopcredit.domain.port.output.CreditApplicationRepositoryPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Application service computing payment schedules.
+ * Schedules depend only on amount, rate, term and method, and applications share
+ * a small set of terms, so computed schedules are kept in a bounded cache keyed
+ * by those terms.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AmortizationService implements AmortizationUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(AmortizationService.class);
+
+    private final CreditApplicationRepositoryPort applicationRepository;
+    private final Cache<AmortizationSchedule.Terms, AmortizationSchedule> schedules;
+
+    public AmortizationService(
+            CreditApplicationRepositoryPort applicationRepository,
+            @Value("${app.amortization.cache.max-size:10000}") long maxSize) {
+        this.applicationRepository = applicationRepository;
+        this.schedules = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @Override
+    public AmortizationSchedule getSchedule(Long applicationId, AmortizationMethod method) {
+        CreditApplication application = applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new CreditApplicationNotFoundException(applicationId));
+        log.debug("Building payment schedule {} {}", kv("applicationId", applicationId), kv("method", method));
+        return schedules.get(application.scheduleTerms(method), AmortizationSchedule::calculate);
+    }
+}
@@ -18,6 +18,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 /**
  * Application service implementing authentication use cases.
  */
@@ -48,17 +50,10 @@ public class AuthService implements AuthUseCase {
 
     @Override
     public User register(User user) {
-        log.info("Registering new user: {}", user.getUsername());
-
-        // Check if username already exists
-        if (userRepository.existsByUsername(user.getUsername())) {
-            throw new DomainException("Username already exists: " + user.getUsername(), "DUPLICATE_USERNAME");
-        }
+        log.debug("Registering new user {}", kv("username", user.getUsername()));
 
-        // Check if email already exists
-        if (user.getEmail() != null && userRepository.existsByEmail(user.getEmail())) {
-            throw new DomainException("Email already exists: " + user.getEmail(), "DUPLICATE_EMAIL");
-        }
+        // Username/email uniqueness is enforced by the unique constraints on insert;
+        // the repository raises DuplicateUserException instead of pre-checking.
 
         // Encode password
         user.setPassword(passwordEncoder.encode(user.getPassword()));
@@ -72,13 +67,13 @@ public class AuthService implements AuthUseCase {
         user.setEnabled(true);
 
         User saved = userRepository.save(user);
-        log.info("User registered successfully: {}", saved.getUsername());
+        log.info("User registered {}", kv("username", saved.getUsername()));
         return saved;
     }
 
     @Override
     public String login(String username, String password) {
-        log.info("User login attempt: {}", username);
+        log.debug("User login attempt {}", kv("username", username));
 
         try {
             Authentication authentication = authenticationManager.authenticate(
@@ -86,12 +81,12 @@ public class AuthService implements AuthUseCase {
 
             String token = jwtTokenProvider.generateToken(authentication);
             metricsService.incrementLoginSuccess();
-            log.info("User logged in successfully: {}", username);
+            log.info("User logged in {}", kv("username", username));
             return token;
 
         } catch (AuthenticationException e) {
             metricsService.incrementLoginFailure();
-            log.warn("Authentication failed for user: {}", username);
+            log.warn("Authentication failed {}", kv("username", username));
             throw new DomainException("Invalid username or password", "AUTHENTICATION_FAILED");
         }
     }
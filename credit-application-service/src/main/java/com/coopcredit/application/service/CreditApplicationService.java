@@ -2,26 +2,41 @@ package com.coopcredit.application.service;
 
 import com.coopcredit.domain.exception.*;
 import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.AffiliateExposure;
 import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.CreditApplicationChangedEvent;
+import com.coopcredit.domain.model.CreditApplicationChangedEvent.Change;
+import com.coopcredit.domain.model.FieldProjection;
 import com.coopcredit.domain.model.RiskEvaluation;
+import com.coopcredit.domain.model.VersionStamp;
 import com.coopcredit.domain.model.enums.ApplicationStatus;
+import com.coopcredit.domain.model.enums.CreditApplicationField;
 import com.coopcredit.domain.model.enums.RiskLevel;
 import com.coopcredit.domain.port.input.CreditApplicationUseCase;
+import com.coopcredit.domain.port.output.AffiliateExposurePort;
 import com.coopcredit.domain.port.output.AffiliateRepositoryPort;
 import com.coopcredit.domain.port.output.CreditApplicationRepositoryPort;
 import com.coopcredit.domain.port.output.RiskCentralPort;
+import com.coopcredit.domain.rule.RuleContext;
 import com.coopcredit.infrastructure.config.MetricsService;
+import com.coopcredit.infrastructure.config.MetricsService.EvaluationOutcome;
+import com.coopcredit.infrastructure.config.MetricsService.EvaluationStage;
+import com.coopcredit.infrastructure.observability.jfr.DecisionEvent;
+import com.coopcredit.infrastructure.observability.jfr.EvaluateRiskEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 /**
  * Application service implementing credit application use cases.
  * Contains the core business logic for credit evaluation.
@@ -32,32 +47,36 @@ public class CreditApplicationService implements CreditApplicationUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(CreditApplicationService.class);
 
-    // Business rule constants
-    private static final int MINIMUM_AFFILIATION_MONTHS = 6;
-    private static final BigDecimal MAX_DEBT_TO_INCOME_RATIO = new BigDecimal("40"); // 40%
-    private static final int SALARY_MULTIPLIER_FOR_MAX_CREDIT = 12;
+    // Largest percentage risk_evaluations.debt_to_income_ratio (NUMERIC(5, 2)) can hold
+    private static final BigDecimal MAX_STORED_DEBT_TO_INCOME_RATIO = new BigDecimal("999.99");
 
     private final CreditApplicationRepositoryPort applicationRepository;
     private final AffiliateRepositoryPort affiliateRepository;
-    private final RiskCentralPort riskCentralPort;
+    private final AffiliateExposurePort exposurePort;
+    private final CreditRulePipeline rulePipeline;
     private final MetricsService metricsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CreditApplicationService(
             CreditApplicationRepositoryPort applicationRepository,
             AffiliateRepositoryPort affiliateRepository,
-            RiskCentralPort riskCentralPort,
-            MetricsService metricsService) {
+            AffiliateExposurePort exposurePort,
+            CreditRulePipeline rulePipeline,
+            MetricsService metricsService,
+            ApplicationEventPublisher eventPublisher) {
         this.applicationRepository = applicationRepository;
         this.affiliateRepository = affiliateRepository;
-        this.riskCentralPort = riskCentralPort;
+        this.exposurePort = exposurePort;
+        this.rulePipeline = rulePipeline;
         this.metricsService = metricsService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public CreditApplication create(String affiliateDocumentNumber, BigDecimal requestedAmount,
             Integer termMonths, BigDecimal proposedRate) {
-        log.info("Creating credit application for affiliate: {}, amount: {}",
-                affiliateDocumentNumber, requestedAmount);
+        log.debug("Creating credit application {} {}",
+                kv("affiliateDocument", affiliateDocumentNumber), kv("requestedAmount", requestedAmount));
 
         // Find and validate affiliate
         Affiliate affiliate = affiliateRepository.findByDocumentNumber(affiliateDocumentNumber)
@@ -78,126 +97,154 @@ public class CreditApplicationService implements CreditApplicationUseCase {
         application.setStatus(ApplicationStatus.PENDING);
 
         CreditApplication saved = applicationRepository.save(application);
+        exposurePort.applicationCreated(affiliate.getId());
         metricsService.incrementApplicationsCreated();
-        log.info("Credit application created with ID: {}", saved.getId());
+        eventPublisher.publishEvent(new CreditApplicationChangedEvent(Change.CREATED, saved));
+        log.info("Credit application created {}", kv("applicationId", saved.getId()));
         return saved;
     }
 
     @Override
     public CreditApplication evaluateRisk(Long applicationId) {
-        log.info("Evaluating risk for credit application: {}", applicationId);
-
-        // Find application with affiliate data
-        CreditApplication application = applicationRepository.findByIdWithAffiliate(applicationId)
-                .orElseThrow(() -> new CreditApplicationNotFoundException(applicationId));
-
-        // Validate application is pending
-        if (!application.isPending()) {
-            throw new CreditEvaluationException("Application has already been evaluated");
-        }
-
-        Affiliate affiliate = application.getAffiliate();
-        List<String> warnings = new ArrayList<>();
-
-        // Calculate metrics (but don't auto-reject)
-        
-        // Check 1: Minimum affiliation time
-        if (!affiliate.hasMinimumAffiliationTime(MINIMUM_AFFILIATION_MONTHS)) {
-            warnings.add("Insufficient affiliation time. Required: " + MINIMUM_AFFILIATION_MONTHS + " months");
-        }
-
-        // Check 2: Maximum credit amount based on salary
-        BigDecimal maxCreditAmount = affiliate.getMaximumCreditAmount();
-        if (application.getRequestedAmount().compareTo(maxCreditAmount) > 0) {
-            warnings.add("Requested amount exceeds maximum allowed: " + maxCreditAmount);
-        }
-
-        // Check 3: Debt-to-income ratio
-        BigDecimal debtToIncomeRatio = application.calculateDebtToIncomeRatio(affiliate.getSalary());
-        if (debtToIncomeRatio.compareTo(MAX_DEBT_TO_INCOME_RATIO) > 0) {
-            warnings.add("Debt-to-income ratio too high: " + debtToIncomeRatio + "% (max: "
-                    + MAX_DEBT_TO_INCOME_RATIO + "%)");
-        }
-
-        // Check 4: Call external risk central service
-        RiskCentralPort.RiskEvaluationResponse riskResponse = riskCentralPort.evaluate(
-                affiliate.getDocumentNumber(),
-                application.getRequestedAmount(),
-                application.getTermMonths());
-
-        // Check 5: Add warning for high risk
-        if (riskResponse.riskLevel() == RiskLevel.HIGH) {
-            warnings.add("High risk level from credit bureau: score " + riskResponse.score());
+        log.debug("Evaluating risk {}", kv("applicationId", applicationId));
+
+        EvaluateRiskEvent event = new EvaluateRiskEvent();
+        event.begin();
+        long evaluationStart = System.nanoTime();
+        EvaluationOutcome outcome = EvaluationOutcome.ERROR;
+        RiskLevel riskLevel = null;
+        try {
+            // Find application with affiliate data
+            long stageStart = System.nanoTime();
+            Optional<CreditApplication> found = applicationRepository.findByIdWithAffiliate(applicationId);
+            metricsService.recordEvaluationStage(EvaluationStage.LOAD, System.nanoTime() - stageStart);
+            if (found.isEmpty()) {
+                outcome = EvaluationOutcome.NOT_FOUND;
+                throw new CreditApplicationNotFoundException(applicationId);
+            }
+            CreditApplication application = found.get();
+
+            // Validate application is pending
+            if (!application.isPending()) {
+                outcome = EvaluationOutcome.ALREADY_EVALUATED;
+                throw new CreditEvaluationException("Application has already been evaluated");
+            }
+
+            // Run the credit rules against the affiliate's current exposure;
+            // they only raise warnings, the analyst decides
+            stageStart = System.nanoTime();
+            AffiliateExposure exposure = exposurePort.findByAffiliateId(application.getAffiliate().getId());
+            RuleContext context = new RuleContext(application, exposure);
+            CreditRulePipeline.Result rules = rulePipeline.evaluate(context);
+            metricsService.recordEvaluationStage(EvaluationStage.RULES, System.nanoTime() - stageStart);
+            RiskCentralPort.RiskEvaluationResponse riskResponse = context.bureauResponse();
+            riskLevel = riskResponse != null ? riskResponse.riskLevel() : null;
+
+            // Create risk evaluation (as information, not decision); the bureau
+            // fields stay empty when a hard-reject rule stopped the pipeline
+            RiskEvaluation riskEvaluation = new RiskEvaluation();
+            if (riskResponse != null) {
+                riskEvaluation.setScore(riskResponse.score());
+                riskEvaluation.setRiskLevel(riskResponse.riskLevel());
+                riskEvaluation.setDetails(riskResponse.details());
+            }
+            riskEvaluation.setDebtToIncomeRatio(context.debtToIncomeRatio().min(MAX_STORED_DEBT_TO_INCOME_RATIO));
+            riskEvaluation.setWarnings(rules.warnings());
+            riskEvaluation.setEvaluationDate(LocalDateTime.now());
+            riskEvaluation.setReason(rules.violations().isEmpty()
+                    ? "All evaluation criteria met successfully"
+                    : rules.reason());
+
+            // Don't set approved/rejected yet - that's for the analyst
+            riskEvaluation.setApproved(null);
+
+            // Associate evaluation with application
+            application.setRiskEvaluation(riskEvaluation);
+
+            // Save and return (still PENDING)
+            stageStart = System.nanoTime();
+            CreditApplication saved = applicationRepository.save(application);
+            metricsService.recordEvaluationStage(EvaluationStage.PERSIST, System.nanoTime() - stageStart);
+            outcome = EvaluationOutcome.SUCCESS;
+            eventPublisher.publishEvent(new CreditApplicationChangedEvent(Change.EVALUATED, saved));
+            log.info("Risk evaluation completed {} {} {} {}", kv("applicationId", applicationId),
+                    kv("riskLevel", riskLevel), kv("warnings", rules.warnings()), kv("stoppedBy", rules.stoppedBy()));
+            return saved;
+        } finally {
+            metricsService.recordEvaluation(outcome, riskLevel, System.nanoTime() - evaluationStart);
+            if (event.shouldCommit()) {
+                event.applicationId = applicationId;
+                event.outcome = outcome.tagValue();
+                event.riskLevel = riskLevel != null ? riskLevel.name() : null;
+                event.commit();
+            }
         }
-
-        // Create risk evaluation (as information, not decision)
-        RiskEvaluation riskEvaluation = new RiskEvaluation();
-        riskEvaluation.setScore(riskResponse.score());
-        riskEvaluation.setRiskLevel(riskResponse.riskLevel());
-        riskEvaluation.setDebtToIncomeRatio(debtToIncomeRatio);
-        riskEvaluation.setDetails(riskResponse.details());
-        riskEvaluation.setEvaluationDate(LocalDateTime.now());
-        
-        // Set warnings as reason (for analyst to review)
-        if (!warnings.isEmpty()) {
-            riskEvaluation.setReason(String.join("; ", warnings));
-        } else {
-            riskEvaluation.setReason("All evaluation criteria met successfully");
-        }
-        
-        // Don't set approved/rejected yet - that's for the analyst
-        riskEvaluation.setApproved(null);
-
-        // Associate evaluation with application
-        application.setRiskEvaluation(riskEvaluation);
-
-        // Save and return (still PENDING)
-        CreditApplication saved = applicationRepository.save(application);
-        log.info("Risk evaluation completed for application: {}", applicationId);
-        return saved;
     }
 
     @Override
     public CreditApplication makeDecision(Long applicationId, boolean approved, String comments) {
-        log.info("Making decision for credit application {}: {}", applicationId, approved ? "APPROVED" : "REJECTED");
-
-        // Find application with affiliate data
-        CreditApplication application = applicationRepository.findByIdWithAffiliate(applicationId)
-                .orElseThrow(() -> new CreditApplicationNotFoundException(applicationId));
-
-        // Validate application is pending
-        if (!application.isPending()) {
-            throw new CreditEvaluationException("Application has already been evaluated");
-        }
-
-        // Validate risk evaluation exists
-        if (application.getRiskEvaluation() == null) {
-            throw new CreditEvaluationException("Risk evaluation must be performed before making a decision");
-        }
-
-        // Update risk evaluation with analyst decision
-        RiskEvaluation riskEvaluation = application.getRiskEvaluation();
-        riskEvaluation.setApproved(approved);
-        
-        // Add analyst comments to existing reason
-        if (comments != null && !comments.trim().isEmpty()) {
-            String existingReason = riskEvaluation.getReason();
-            riskEvaluation.setReason(existingReason + " | Analyst comments: " + comments);
-        }
-
-        // Update application status
-        if (approved) {
-            application.approve();
-            metricsService.incrementApplicationsApproved();
-            log.info("Credit application {} APPROVED by analyst", applicationId);
-        } else {
-            application.reject();
-            metricsService.incrementApplicationsRejected();
-            log.info("Credit application {} REJECTED by analyst", applicationId);
+        log.debug("Making decision {} {}", kv("applicationId", applicationId), kv("approved", approved));
+
+        DecisionEvent event = new DecisionEvent();
+        event.begin();
+        String outcome = "error";
+        try {
+            // Find application with affiliate data
+            Optional<CreditApplication> found = applicationRepository.findByIdWithAffiliate(applicationId);
+            if (found.isEmpty()) {
+                outcome = "not_found";
+                throw new CreditApplicationNotFoundException(applicationId);
+            }
+            CreditApplication application = found.get();
+
+            // Validate application is pending
+            if (!application.isPending()) {
+                outcome = "already_decided";
+                throw new CreditEvaluationException("Application has already been evaluated");
+            }
+
+            // Validate risk evaluation exists
+            if (application.getRiskEvaluation() == null) {
+                outcome = "not_evaluated";
+                throw new CreditEvaluationException("Risk evaluation must be performed before making a decision");
+            }
+
+            // Update risk evaluation with analyst decision
+            RiskEvaluation riskEvaluation = application.getRiskEvaluation();
+            riskEvaluation.setApproved(approved);
+
+            // Add analyst comments to existing reason
+            if (comments != null && !comments.trim().isEmpty()) {
+                String existingReason = riskEvaluation.getReason();
+                riskEvaluation.setReason(existingReason + " | Analyst comments: " + comments);
+            }
+
+            // Update application status
+            if (approved) {
+                application.approve();
+                metricsService.incrementApplicationsApproved();
+                log.info("Credit application approved by analyst {}", kv("applicationId", applicationId));
+            } else {
+                application.reject();
+                metricsService.incrementApplicationsRejected();
+                log.info("Credit application rejected by analyst {}", kv("applicationId", applicationId));
+            }
+
+            // Save and move the application out of the affiliate's pending exposure
+            CreditApplication saved = applicationRepository.save(application);
+            exposurePort.applicationDecided(application.getAffiliate().getId(), application.monthlyPayment(),
+                    approved);
+            eventPublisher.publishEvent(new CreditApplicationChangedEvent(Change.DECIDED, saved));
+            outcome = "success";
+            return saved;
+        } finally {
+            if (event.shouldCommit()) {
+                event.applicationId = applicationId;
+                event.approved = approved;
+                event.outcome = outcome;
+                event.commit();
+            }
         }
-
-        // Save and return
-        return applicationRepository.save(application);
     }
 
     @Override
@@ -207,6 +254,13 @@ public class CreditApplicationService implements CreditApplicationUseCase {
         return applicationRepository.findByIdWithAffiliate(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<CreditApplication> findAllById(Collection<Long> ids) {
+        log.debug("Finding {} credit applications by ID", ids.size());
+        return applicationRepository.findAllByIdWithAffiliate(ids);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<CreditApplication> findByAffiliateDocument(String affiliateDocumentNumber) {
@@ -234,4 +288,36 @@ public class CreditApplicationService implements CreditApplicationUseCase {
         log.debug("Finding all credit applications");
         return applicationRepository.findAll();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FieldProjection<CreditApplicationField> findFields(List<CreditApplicationField> fields,
+            ApplicationStatus status, String affiliateDocumentNumber) {
+        log.debug("Finding fields {} of credit applications", fields);
+        return applicationRepository.findFields(fields, status, affiliateDocumentNumber);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VersionStamp> findVersion(Long id) {
+        return applicationRepository.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp versionByAffiliateDocument(String affiliateDocumentNumber) {
+        return applicationRepository.versionByAffiliateDocumentNumber(affiliateDocumentNumber);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp pendingApplicationsVersion() {
+        return applicationRepository.versionByStatus(ApplicationStatus.PENDING);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp versionOfAll() {
+        return applicationRepository.versionOfAll();
+    }
 }
@@ -0,0 +1,122 @@
+package com.coopcredit.application.service;
+
+import com.coopcredit.domain.exception.AffiliateNotFoundException;
+import com.coopcredit.domain.exception.InactiveAffiliateException;
+import com.coopcredit.domain.exception.InvalidSimulationException;
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.AffiliateExposure;
+import com.coopcredit.domain.model.CreditSimulation;
+import com.coopcredit.domain.model.Money;
+import com.coopcredit.domain.model.Rate;
+import com.coopcredit.domain.model.SimulationRange;
+import com.coopcredit.domain.port.input.SimulationUseCase;
+import com.coopcredit.domain.port.output.AffiliateExposurePort;
+import com.coopcredit.domain.port.output.AffiliateRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Application service implementing credit simulations.
+ * Ranges are expanded into primitive arrays and handed to {@link CreditSimulation},
+ * which applies the same salary cap and DTI rules as risk evaluation, including
+ * the payments of the affiliate's approved credits.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SimulationService implements SimulationUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationService.class);
+
+    // Same bounds as CreateCreditApplicationRequest
+    private static final BigDecimal MIN_AMOUNT = new BigDecimal("100000");
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("500000000");
+    private static final BigDecimal MIN_TERM = BigDecimal.valueOf(6);
+    private static final BigDecimal MAX_TERM = BigDecimal.valueOf(120);
+    private static final BigDecimal MIN_RATE = new BigDecimal("0.1");
+    private static final BigDecimal MAX_RATE = new BigDecimal("50");
+
+    private final AffiliateRepositoryPort affiliateRepository;
+    private final AffiliateExposurePort exposurePort;
+    private final int maxCells;
+    private final int parallelThreshold;
+
+    public SimulationService(
+            AffiliateRepositoryPort affiliateRepository,
+            AffiliateExposurePort exposurePort,
+            @Value("${app.simulation.max-cells:100000}") int maxCells,
+            @Value("${app.simulation.parallel-threshold:20000}") int parallelThreshold) {
+        this.affiliateRepository = affiliateRepository;
+        this.exposurePort = exposurePort;
+        this.maxCells = maxCells;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    public CreditSimulation simulate(String affiliateDocumentNumber, SimulationRange amounts,
+            SimulationRange terms, SimulationRange rates) {
+        checkBounds("amount", amounts, MIN_AMOUNT, MAX_AMOUNT);
+        checkBounds("term", terms, MIN_TERM, MAX_TERM);
+        checkBounds("rate", rates, MIN_RATE, MAX_RATE);
+        if (terms.from().stripTrailingZeros().scale() > 0
+                || (terms.step() != null && terms.step().stripTrailingZeros().scale() > 0)) {
+            throw new InvalidSimulationException("terms must be whole months");
+        }
+        long cells = gridSize(amounts, terms, rates);
+
+        Affiliate affiliate = affiliateRepository.findByDocumentNumber(affiliateDocumentNumber)
+                .orElseThrow(() -> new AffiliateNotFoundException(affiliateDocumentNumber));
+        if (!affiliate.canApplyForCredit()) {
+            throw new InactiveAffiliateException(affiliateDocumentNumber);
+        }
+
+        long[] amountCents = new long[amounts.count()];
+        for (int i = 0; i < amountCents.length; i++) {
+            amountCents[i] = Money.of(amounts.valueAt(i)).cents();
+        }
+        int[] termMonths = new int[terms.count()];
+        for (int i = 0; i < termMonths.length; i++) {
+            termMonths[i] = terms.valueAt(i).intValueExact();
+        }
+        long[] rateMicros = new long[rates.count()];
+        for (int i = 0; i < rateMicros.length; i++) {
+            rateMicros[i] = Rate.ofPercent(rates.valueAt(i)).micros();
+        }
+
+        AffiliateExposure exposure = exposurePort.findByAffiliateId(affiliate.getId());
+        CreditSimulation simulation = CreditSimulation.calculate(
+                affiliate.getSalary() != null ? Money.of(affiliate.getSalary()) : Money.ZERO,
+                exposure.approvedMonthlyPayments(), amountCents, termMonths, rateMicros, cells >= parallelThreshold);
+        log.debug("Simulated credit grid {} {}", kv("affiliateDocument", affiliateDocumentNumber),
+                kv("cells", cells));
+        return simulation;
+    }
+
+    /**
+     * Number of combinations of the ranges. Checked against the limit after
+     * each axis, so the product stays far from overflowing even when a range
+     * count saturates.
+     */
+    private long gridSize(SimulationRange... ranges) {
+        long cells = 1;
+        for (SimulationRange range : ranges) {
+            cells *= range.count();
+            if (cells > maxCells) {
+                throw new InvalidSimulationException("grid exceeds the limit of " + maxCells + " combinations");
+            }
+        }
+        return cells;
+    }
+
+    private static void checkBounds(String name, SimulationRange range, BigDecimal min, BigDecimal max) {
+        if (range.from().compareTo(min) < 0 || range.to().compareTo(max) > 0) {
+            throw new InvalidSimulationException(name + " range must be within " + min + " and " + max);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.coopcredit.domain.exception;
+
+/**
+ * Exception thrown when a username or email is already registered.
+ */
+public class DuplicateUserException extends DomainException {
+
+    private DuplicateUserException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+
+    public static DuplicateUserException username(String username) {
+        return new DuplicateUserException("Username already exists: " + username, "DUPLICATE_USERNAME");
+    }
+
+    public static DuplicateUserException email(String email) {
+        return new DuplicateUserException("Email already exists: " + email, "DUPLICATE_EMAIL");
+    }
+}
@@ -0,0 +1,11 @@
+package com.coopcredit.domain.exception;
+
+/**
+ * Exception thrown when the request first sent with an Idempotency-Key has not finished yet.
+ */
+public class IdempotencyKeyInProgressException extends DomainException {
+
+    public IdempotencyKeyInProgressException() {
+        super("A request with the same Idempotency-Key is still being processed", "IDEMPOTENCY_KEY_IN_PROGRESS");
+    }
+}
@@ -0,0 +1,11 @@
+package com.coopcredit.domain.exception;
+
+/**
+ * Exception thrown when an Idempotency-Key is sent again with a different request.
+ */
+public class IdempotencyKeyReusedException extends DomainException {
+
+    public IdempotencyKeyReusedException() {
+        super("The Idempotency-Key was already used for a different request", "IDEMPOTENCY_KEY_REUSED");
+    }
+}
@@ -0,0 +1,11 @@
+package com.coopcredit.domain.exception;
+
+/**
+ * Exception thrown when a field selection names an unknown field.
+ */
+public class InvalidFieldsException extends DomainException {
+
+    public InvalidFieldsException(String reason) {
+        super("Invalid fields: " + reason, "INVALID_FIELDS");
+    }
+}
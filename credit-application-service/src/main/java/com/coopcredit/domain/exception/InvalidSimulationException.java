@@ -0,0 +1,11 @@
+package com.coopcredit.domain.exception;
+
+/**
+ * Exception thrown when a simulation grid is malformed or too large.
+ */
+public class InvalidSimulationException extends DomainException {
+
+    public InvalidSimulationException(String reason) {
+        super("Invalid simulation: " + reason, "INVALID_SIMULATION");
+    }
+}
@@ -12,6 +12,11 @@ import java.util.List;
  */
 public class Affiliate {
 
+    /**
+     * Maximum credit, in monthly salaries.
+     */
+    public static final int MAX_CREDIT_SALARY_MULTIPLIER = 12;
+
     private Long id;
     private String documentNumber;
     private String name;
@@ -19,6 +24,7 @@ public class Affiliate {
     private LocalDate affiliationDate;
     private AffiliateStatus status;
     private List<CreditApplication> creditApplications;
+    private Long version;
 
     public Affiliate() {
         this.creditApplications = new ArrayList<>();
@@ -48,6 +54,13 @@ public class Affiliate {
      * Calculate the months since affiliation.
      */
     public long getMonthsOfAffiliation() {
+        return monthsOfAffiliation(affiliationDate);
+    }
+
+    /**
+     * Months from an affiliation date until today, 0 without a date.
+     */
+    public static long monthsOfAffiliation(LocalDate affiliationDate) {
         if (affiliationDate == null) {
             return 0;
         }
@@ -71,7 +84,7 @@ public class Affiliate {
         if (salary == null) {
             return BigDecimal.ZERO;
         }
-        return salary.multiply(BigDecimal.valueOf(12));
+        return salary.multiply(BigDecimal.valueOf(MAX_CREDIT_SALARY_MULTIPLIER));
     }
 
     // Getters and Setters
@@ -132,6 +145,17 @@ public class Affiliate {
         this.creditApplications = creditApplications;
     }
 
+    /**
+     * Version of the stored affiliate, checked when it is saved again.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public void addCreditApplication(CreditApplication application) {
         this.creditApplications.add(application);
         application.setAffiliate(this);
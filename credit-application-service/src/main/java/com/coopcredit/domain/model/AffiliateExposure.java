@@ -0,0 +1,12 @@
+package com.coopcredit.domain.model;
+
+/**
+ * Credit an affiliate already carries: the monthly payments of its approved
+ * credits and the number of its applications still pending.
+ */
+public record AffiliateExposure(Long affiliateId, Money approvedMonthlyPayments, int pendingCount) {
+
+    public static AffiliateExposure none(Long affiliateId) {
+        return new AffiliateExposure(affiliateId, Money.ZERO, 0);
+    }
+}
@@ -0,0 +1,160 @@
+package com.coopcredit.domain.model;
+
+import com.coopcredit.domain.model.enums.AmortizationMethod;
+
+/**
+ * Immutable payment schedule of a credit, one row per monthly installment.
+ * <p>
+ * Rows are kept as parallel arrays of cents rather than one object per row, so a
+ * 120-month schedule is four allocations and can be shared between applications
+ * with the same terms. Interest accrues monthly at {@code annualRate / 12} and is
+ * rounded HALF_UP to the cent; the last installment absorbs rounding so the
+ * balance always ends at zero.
+ */
+public final class AmortizationSchedule {
+
+    private static final long MONTHLY_RATE_DIVISOR = 12 * 1_000_000L;
+
+    private final Terms terms;
+    private final long[] payment;
+    private final long[] principal;
+    private final long[] interest;
+    private final long[] balance;
+
+    private AmortizationSchedule(Terms terms) {
+        this.terms = terms;
+        int n = terms.termMonths();
+        this.payment = new long[n];
+        this.principal = new long[n];
+        this.interest = new long[n];
+        this.balance = new long[n];
+    }
+
+    /**
+     * Amount, rate, term and method of a schedule; equal terms give equal schedules.
+     */
+    public record Terms(Money principal, Rate annualRate, int termMonths, AmortizationMethod method) {
+
+        public Terms {
+            if (termMonths <= 0) {
+                throw new IllegalArgumentException("Term must be positive: " + termMonths);
+            }
+            if (principal.cents() < 0 || annualRate.micros() < 0) {
+                throw new IllegalArgumentException("Principal and rate must not be negative");
+            }
+        }
+    }
+
+    public static AmortizationSchedule calculate(Terms terms) {
+        AmortizationSchedule schedule = new AmortizationSchedule(terms);
+        switch (terms.method()) {
+            case FRENCH -> schedule.fillFrench();
+            case GERMAN -> schedule.fillGerman();
+            case SIMPLE_INTEREST -> schedule.fillSimpleInterest();
+        }
+        return schedule;
+    }
+
+    private void fillFrench() {
+        long amount = terms.principal().cents();
+        int n = terms.termMonths();
+        long rateMicros = terms.annualRate().micros();
+        long installment;
+        if (rateMicros == 0) {
+            installment = Money.divideHalfUp(amount, n);
+        } else {
+            double monthlyRate = rateMicros / (double) MONTHLY_RATE_DIVISOR;
+            installment = Math.round(amount * monthlyRate / (1 - Math.pow(1 + monthlyRate, -n)));
+        }
+        long remaining = amount;
+        for (int i = 0; i < n; i++) {
+            long monthInterest = monthlyInterest(remaining);
+            long monthPrincipal = i == n - 1 ? remaining : Math.min(remaining, installment - monthInterest);
+            remaining = fill(i, monthPrincipal, monthInterest, monthPrincipal + monthInterest, remaining);
+        }
+    }
+
+    private void fillGerman() {
+        long amount = terms.principal().cents();
+        int n = terms.termMonths();
+        long constantPrincipal = Money.divideHalfUp(amount, n);
+        long remaining = amount;
+        for (int i = 0; i < n; i++) {
+            long monthInterest = monthlyInterest(remaining);
+            long monthPrincipal = i == n - 1 ? remaining : Math.min(remaining, constantPrincipal);
+            remaining = fill(i, monthPrincipal, monthInterest, monthPrincipal + monthInterest, remaining);
+        }
+    }
+
+    private void fillSimpleInterest() {
+        long amount = terms.principal().cents();
+        int n = terms.termMonths();
+        long installment = terms.principal().simpleInterestInstallment(terms.annualRate(), n).cents();
+        long constantPrincipal = Money.divideHalfUp(amount, n);
+        long remaining = amount;
+        for (int i = 0; i < n; i++) {
+            long monthPrincipal = i == n - 1 ? remaining : Math.min(remaining, constantPrincipal);
+            remaining = fill(i, monthPrincipal, Math.max(0, installment - monthPrincipal),
+                    Math.max(installment, monthPrincipal), remaining);
+        }
+    }
+
+    private long monthlyInterest(long remaining) {
+        return Money.divideHalfUp(Math.multiplyExact(remaining, terms.annualRate().micros()), MONTHLY_RATE_DIVISOR);
+    }
+
+    private long fill(int row, long monthPrincipal, long monthInterest, long monthPayment, long remaining) {
+        long after = remaining - monthPrincipal;
+        principal[row] = monthPrincipal;
+        interest[row] = monthInterest;
+        payment[row] = monthPayment;
+        balance[row] = after;
+        return after;
+    }
+
+    public Terms terms() {
+        return terms;
+    }
+
+    public int installments() {
+        return payment.length;
+    }
+
+    /**
+     * Installment payment in cents; {@code row} is zero-based.
+     */
+    public long paymentCents(int row) {
+        return payment[row];
+    }
+
+    public long principalCents(int row) {
+        return principal[row];
+    }
+
+    public long interestCents(int row) {
+        return interest[row];
+    }
+
+    /**
+     * Outstanding balance after the installment, in cents.
+     */
+    public long balanceCents(int row) {
+        return balance[row];
+    }
+
+    public Money totalPayment() {
+        long total = 0;
+        for (long value : payment) {
+            total = Math.addExact(total, value);
+        }
+        return Money.ofCents(total);
+    }
+
+    public Money totalInterest() {
+        long total = 0;
+        for (long value : interest) {
+            total = Math.addExact(total, value);
+        }
+        return Money.ofCents(total);
+    }
+}
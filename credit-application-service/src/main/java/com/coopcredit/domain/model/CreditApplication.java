@@ -1,5 +1,6 @@
 package com.coopcredit.domain.model;
 
+import com.coopcredit.domain.model.enums.AmortizationMethod;
 import com.coopcredit.domain.model.enums.ApplicationStatus;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -10,11 +11,16 @@ import java.time.LocalDateTime;
  */
 public class CreditApplication {
 
+    /**
+     * Highest monthly payment to monthly salary ratio that passes evaluation.
+     */
+    public static final Rate MAX_DEBT_TO_INCOME_RATIO = Rate.ofMicros(400_000); // 40%
+
     private Long id;
     private Affiliate affiliate;
-    private BigDecimal requestedAmount;
+    private Money requestedAmount;
     private Integer termMonths;
-    private BigDecimal proposedRate;
+    private Rate proposedRate;
     private LocalDateTime applicationDate;
     private ApplicationStatus status;
     private RiskEvaluation riskEvaluation;
@@ -28,9 +34,9 @@ public class CreditApplication {
             Integer termMonths, BigDecimal proposedRate) {
         this.id = id;
         this.affiliate = affiliate;
-        this.requestedAmount = requestedAmount;
+        setRequestedAmount(requestedAmount);
         this.termMonths = termMonths;
-        this.proposedRate = proposedRate;
+        setProposedRate(proposedRate);
         this.applicationDate = LocalDateTime.now();
         this.status = ApplicationStatus.PENDING;
     }
@@ -43,16 +49,25 @@ public class CreditApplication {
      * Where P = principal, r = annual rate, t = term in years
      */
     public BigDecimal calculateMonthlyPayment() {
-        if (requestedAmount == null || proposedRate == null || termMonths == null || termMonths == 0) {
-            return BigDecimal.ZERO;
-        }
+        Money payment = monthlyPayment();
+        return payment != null ? payment.toBigDecimal() : BigDecimal.ZERO;
+    }
 
-        BigDecimal annualRate = proposedRate.divide(BigDecimal.valueOf(100), 6, java.math.RoundingMode.HALF_UP);
-        BigDecimal termYears = BigDecimal.valueOf(termMonths).divide(BigDecimal.valueOf(12), 6,
-                java.math.RoundingMode.HALF_UP);
-        BigDecimal totalAmount = requestedAmount.multiply(BigDecimal.ONE.add(annualRate.multiply(termYears)));
+    /**
+     * The monthly payment in fixed point, or null when amount, rate or term is missing.
+     */
+    public Money monthlyPayment() {
+        return monthlyPayment(requestedAmount, proposedRate, termMonths);
+    }
 
-        return totalAmount.divide(BigDecimal.valueOf(termMonths), 2, java.math.RoundingMode.HALF_UP);
+    /**
+     * The monthly payment of the given terms, or null when one is missing.
+     */
+    public static Money monthlyPayment(Money requestedAmount, Rate proposedRate, Integer termMonths) {
+        if (requestedAmount == null || proposedRate == null || termMonths == null || termMonths == 0) {
+            return null;
+        }
+        return requestedAmount.simpleInterestInstallment(proposedRate, termMonths);
     }
 
     /**
@@ -61,12 +76,45 @@ public class CreditApplication {
      * @param monthlySalary the affiliate's monthly salary
      */
     public BigDecimal calculateDebtToIncomeRatio(BigDecimal monthlySalary) {
-        if (monthlySalary == null || monthlySalary.compareTo(BigDecimal.ZERO) == 0) {
+        return calculateDebtToIncomeRatio(monthlySalary, Money.ZERO);
+    }
+
+    /**
+     * Calculate the debt-to-income ratio including the payments of the
+     * affiliate's other approved credits.
+     * 
+     * @param monthlySalary    the affiliate's monthly salary
+     * @param existingPayments monthly payments already committed
+     */
+    public BigDecimal calculateDebtToIncomeRatio(BigDecimal monthlySalary, Money existingPayments) {
+        if (monthlySalary == null || monthlySalary.signum() == 0) {
             return BigDecimal.valueOf(100); // Infinite ratio
         }
-        BigDecimal monthlyPayment = calculateMonthlyPayment();
-        return monthlyPayment.divide(monthlySalary, 4, java.math.RoundingMode.HALF_UP)
-                .multiply(BigDecimal.valueOf(100));
+        return debtToIncomeRatio(Money.of(monthlySalary), existingPayments).toPercent();
+    }
+
+    /**
+     * The monthly payment as a fraction of the monthly salary, rounded to four
+     * decimals (two decimals of a percentage).
+     */
+    public Rate debtToIncomeRatio(Money monthlySalary) {
+        return debtToIncomeRatio(monthlySalary, Money.ZERO);
+    }
+
+    /**
+     * The monthly payment plus existing payments as a fraction of the monthly
+     * salary, rounded to four decimals.
+     */
+    public Rate debtToIncomeRatio(Money monthlySalary, Money existingPayments) {
+        Money payment = monthlyPayment();
+        return (payment != null ? payment : Money.ZERO).plus(existingPayments).ratioTo(monthlySalary, 4);
+    }
+
+    /**
+     * The terms of this application's payment schedule under the given method.
+     */
+    public AmortizationSchedule.Terms scheduleTerms(AmortizationMethod method) {
+        return new AmortizationSchedule.Terms(requestedAmount, proposedRate, termMonths, method);
     }
 
     /**
@@ -116,11 +164,11 @@ public class CreditApplication {
     }
 
     public BigDecimal getRequestedAmount() {
-        return requestedAmount;
+        return requestedAmount != null ? requestedAmount.toBigDecimal() : null;
     }
 
     public void setRequestedAmount(BigDecimal requestedAmount) {
-        this.requestedAmount = requestedAmount;
+        this.requestedAmount = requestedAmount != null ? Money.of(requestedAmount) : null;
     }
 
     public Integer getTermMonths() {
@@ -132,11 +180,11 @@ public class CreditApplication {
     }
 
     public BigDecimal getProposedRate() {
-        return proposedRate;
+        return proposedRate != null ? proposedRate.toPercent(2) : null;
     }
 
     public void setProposedRate(BigDecimal proposedRate) {
-        this.proposedRate = proposedRate;
+        this.proposedRate = proposedRate != null ? Rate.ofPercent(proposedRate) : null;
     }
 
     public LocalDateTime getApplicationDate() {
@@ -0,0 +1,17 @@
+package com.coopcredit.domain.model;
+
+/**
+ * Published when a credit application is created, evaluated or decided.
+ * Listeners should act after the publishing transaction commits.
+ *
+ * @param change      what happened to the application
+ * @param application the application as saved
+ */
+public record CreditApplicationChangedEvent(Change change, CreditApplication application) {
+
+    public enum Change {
+        CREATED,
+        EVALUATED,
+        DECIDED
+    }
+}
@@ -0,0 +1,189 @@
+package com.coopcredit.domain.model;
+
+import java.util.stream.IntStream;
+
+/**
+ * Affordability grid of an affiliate over requested amounts, terms and rates.
+ * <p>
+ * Each (term, rate) pair is a row and each amount a column. Cells hold the
+ * simple-interest monthly payment, the debt-to-income ratio and whether the
+ * amount passes both the {@link Affiliate#MAX_CREDIT_SALARY_MULTIPLIER salary cap}
+ * and the {@link CreditApplication#MAX_DEBT_TO_INCOME_RATIO DTI limit}, computed
+ * exactly as evaluation does, on top of the payments of the affiliate's approved
+ * credits. Every row also carries the largest amount that
+ * passes both rules, solved in closed form. Results are kept in flat primitive
+ * arrays; rows are independent, so large grids are filled in parallel.
+ */
+public final class CreditSimulation {
+
+    private static final long RATIO_SCALE = 10_000; // Ratios are rounded to four decimals
+    private static final long RATIO_TO_MICROS = 100;
+
+    private final long salaryCents;
+    private final long existingPaymentCents;
+    private final long maxCreditCents;
+    private final long maxPaymentCents;
+    private final long[] amounts;
+    private final int[] terms;
+    private final long[] rates;
+    private final long[] payments;
+    private final long[] ratios;
+    private final boolean[] affordable;
+    private final long[] maxAffordable;
+
+    private CreditSimulation(long salaryCents, long existingPaymentCents, long[] amounts, int[] terms,
+            long[] rates) {
+        this.salaryCents = salaryCents;
+        this.existingPaymentCents = existingPaymentCents;
+        this.maxCreditCents = Math.multiplyExact(salaryCents, Affiliate.MAX_CREDIT_SALARY_MULTIPLIER);
+        long maxTotalPayment = maxPayment(salaryCents);
+        this.maxPaymentCents = maxTotalPayment < 0 ? -1 : maxTotalPayment - existingPaymentCents;
+        this.amounts = amounts;
+        this.terms = terms;
+        this.rates = rates;
+        int rows = Math.multiplyExact(terms.length, rates.length);
+        int cells = Math.multiplyExact(rows, amounts.length);
+        this.payments = new long[cells];
+        this.ratios = new long[cells];
+        this.affordable = new boolean[cells];
+        this.maxAffordable = new long[rows];
+    }
+
+    /**
+     * Compute the grid for an affiliate without other approved credits.
+     */
+    public static CreditSimulation calculate(Money monthlySalary, long[] amountCents, int[] termMonths,
+            long[] rateMicros, boolean parallel) {
+        return calculate(monthlySalary, Money.ZERO, amountCents, termMonths, rateMicros, parallel);
+    }
+
+    /**
+     * Compute the grid.
+     *
+     * @param monthlySalary    the affiliate's monthly salary
+     * @param existingPayments monthly payments of the affiliate's approved credits
+     * @param amountCents      requested amounts, in cents
+     * @param termMonths       terms, in months
+     * @param rateMicros       annual rates, as fractions in millionths
+     * @param parallel         whether to fill rows in parallel
+     */
+    public static CreditSimulation calculate(Money monthlySalary, Money existingPayments, long[] amountCents,
+            int[] termMonths, long[] rateMicros, boolean parallel) {
+        CreditSimulation simulation = new CreditSimulation(monthlySalary.cents(), existingPayments.cents(),
+                amountCents.clone(), termMonths.clone(), rateMicros.clone());
+        IntStream rows = IntStream.range(0, simulation.rows());
+        (parallel ? rows.parallel() : rows).forEach(simulation::fillRow);
+        return simulation;
+    }
+
+    private void fillRow(int row) {
+        int term = termMonths(row);
+        long rate = rateMicros(row);
+        int offset = row * amounts.length;
+        for (int column = 0; column < amounts.length; column++) {
+            long payment = Money.simpleInterestInstallment(amounts[column], rate, term);
+            payments[offset + column] = payment;
+            ratios[offset + column] = ratio(payment);
+            affordable[offset + column] = amounts[column] <= maxCreditCents && payment <= maxPaymentCents;
+        }
+        maxAffordable[row] = maxAffordableAmount(term, rate);
+    }
+
+    /**
+     * The DTI as evaluation computes it: (payment + existing payments) / salary
+     * rounded HALF_UP to four decimals, 100% when there is no salary.
+     */
+    private long ratio(long payment) {
+        if (salaryCents <= 0) {
+            return 1_000_000;
+        }
+        long totalPayment = Math.addExact(payment, existingPaymentCents);
+        return Money.divideHalfUp(Math.multiplyExact(totalPayment, RATIO_SCALE), salaryCents) * RATIO_TO_MICROS;
+    }
+
+    /**
+     * The largest total payment whose rounded DTI is within the limit:
+     * {@code round(p * 10^4 / s) <= k} holds exactly when {@code 2 * 10^4 * p < (2k + 1) * s}.
+     */
+    private static long maxPayment(long salaryCents) {
+        if (salaryCents <= 0) {
+            return -1;
+        }
+        long limit = CreditApplication.MAX_DEBT_TO_INCOME_RATIO.micros() / RATIO_TO_MICROS;
+        return (Math.multiplyExact(2 * limit + 1, salaryCents) - 1) / (2 * RATIO_SCALE);
+    }
+
+    /**
+     * The installment is {@code round(P * (1 + r * t) / n)}, so the largest amount
+     * whose installment fits {@link #maxPaymentCents} is about
+     * {@code (m + 1/2) * n / (1 + r * t)}. The estimate is then corrected against
+     * the exact installment to absorb rounding, and capped by the salary rule.
+     */
+    private long maxAffordableAmount(int term, long rate) {
+        if (maxPaymentCents < 0) {
+            return 0;
+        }
+        double termYears = Money.divideHalfUp(term * 1_000_000L, 12) / 1e6;
+        double factor = 1 + rate / 1e6 * termYears;
+        long amount = Math.min(maxCreditCents + 1, (long) ((maxPaymentCents + 0.5) * term / factor));
+        while (amount > 0 && Money.simpleInterestInstallment(amount, rate, term) > maxPaymentCents) {
+            amount--;
+        }
+        while (amount < maxCreditCents
+                && Money.simpleInterestInstallment(amount + 1, rate, term) <= maxPaymentCents) {
+            amount++;
+        }
+        return Math.min(amount, maxCreditCents);
+    }
+
+    public Money monthlySalary() {
+        return Money.ofCents(salaryCents);
+    }
+
+    public Money existingMonthlyPayments() {
+        return Money.ofCents(existingPaymentCents);
+    }
+
+    public Money maximumCreditAmount() {
+        return Money.ofCents(maxCreditCents);
+    }
+
+    public int rows() {
+        return maxAffordable.length;
+    }
+
+    public int columns() {
+        return amounts.length;
+    }
+
+    public long amountCents(int column) {
+        return amounts[column];
+    }
+
+    public int termMonths(int row) {
+        return terms[row / rates.length];
+    }
+
+    public long rateMicros(int row) {
+        return rates[row % rates.length];
+    }
+
+    public long paymentCents(int row, int column) {
+        return payments[row * amounts.length + column];
+    }
+
+    /**
+     * Debt-to-income ratio of the cell, as a fraction in millionths.
+     */
+    public long ratioMicros(int row, int column) {
+        return ratios[row * amounts.length + column];
+    }
+
+    public boolean isAffordable(int row, int column) {
+        return affordable[row * amounts.length + column];
+    }
+
+    public long maxAffordableCents(int row) {
+        return maxAffordable[row];
+    }
+}
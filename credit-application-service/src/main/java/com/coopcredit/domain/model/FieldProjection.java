@@ -0,0 +1,12 @@
+package com.coopcredit.domain.model;
+
+import java.util.List;
+
+/**
+ * Selected fields of a list of resources, read without loading the resources.
+ *
+ * @param fields the selected fields, in the order requested
+ * @param rows   one array per resource, holding the values of {@code fields} in order
+ */
+public record FieldProjection<F extends Enum<F>>(List<F> fields, List<Object[]> rows) {
+}
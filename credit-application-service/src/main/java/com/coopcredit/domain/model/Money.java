@@ -0,0 +1,139 @@
+package com.coopcredit.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable amount of money as a whole number of cents.
+ * <p>
+ * Domain calculations work on the {@code long} directly and round HALF_UP to the
+ * cent, exactly like the BigDecimal code they replace; BigDecimal is only used
+ * when converting at the persistence and JSON edges.
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final long MICROS = 1_000_000;
+    private static final long MICROS_SQUARED = MICROS * MICROS;
+
+    public static Money ofCents(long cents) {
+        return new Money(cents);
+    }
+
+    /**
+     * Convert from a decimal amount, rounding HALF_UP to the cent.
+     */
+    public static Money of(BigDecimal amount) {
+        return new Money(amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public boolean isZero() {
+        return cents == 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return cents > other.cents;
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(cents, other.cents));
+    }
+
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(cents, factor));
+    }
+
+    /**
+     * Monthly installment under simple interest, {@code P * (1 + r * t) / n}, where
+     * t is the term in years rounded HALF_UP to six decimals and the result is
+     * rounded HALF_UP to the cent.
+     * <p>
+     * The exact numerator needs up to ~90 bits, so the product with {@code r * t}
+     * (scaled by 10^12) is split into 10^6 limbs and divided in two steps, keeping
+     * the remainders to round once at the end.
+     */
+    public Money simpleInterestInstallment(Rate annualRate, int termMonths) {
+        return new Money(simpleInterestInstallment(cents, annualRate.micros(), termMonths));
+    }
+
+    /**
+     * Primitive form of {@link #simpleInterestInstallment(Rate, int)} for grid
+     * calculations: amount and result in cents, rate in millionths.
+     */
+    static long simpleInterestInstallment(long cents, long rateMicros, int termMonths) {
+        if (termMonths <= 0) {
+            throw new IllegalArgumentException("Term must be positive: " + termMonths);
+        }
+        if (rateMicros < 0) {
+            throw new IllegalArgumentException("Rate must not be negative: " + rateMicros);
+        }
+        long termYearsMicros = divideHalfUp(Math.multiplyExact(termMonths, MICROS), 12);
+        long interestFactor = Math.multiplyExact(rateMicros, termYearsMicros);
+
+        long amount = Math.abs(cents);
+        long amountHigh = amount / MICROS;
+        long amountLow = amount % MICROS;
+        long factorHigh = interestFactor / MICROS;
+        long factorLow = interestFactor % MICROS;
+
+        // amount * interestFactor = high * 10^12 + middle * 10^6 + low
+        long middle = Math.addExact(Math.multiplyExact(amountHigh, factorLow),
+                Math.multiplyExact(amountLow, factorHigh));
+        long low = (middle % MICROS) * MICROS + amountLow * factorLow;
+        long quotient = Math.addExact(Math.addExact(Math.multiplyExact(amountHigh, factorHigh), middle / MICROS),
+                low / MICROS_SQUARED);
+        long remainder = low % MICROS_SQUARED;
+
+        // (amount * 10^12 + amount * interestFactor) / (termMonths * 10^12)
+        long total = Math.addExact(amount, quotient);
+        long installment = total / termMonths;
+        long fraction = (total % termMonths) * MICROS_SQUARED + remainder;
+        if (fraction >= Math.multiplyExact(termMonths, MICROS_SQUARED) - fraction) {
+            installment++;
+        }
+        return cents < 0 ? -installment : installment;
+    }
+
+    /**
+     * This amount as a fraction of {@code other}, rounded HALF_UP to the given
+     * number of decimals (at most six).
+     */
+    public Rate ratioTo(Money other, int decimals) {
+        if (other.cents == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        if (decimals < 0 || decimals > 6) {
+            throw new IllegalArgumentException("Decimals must be between 0 and 6: " + decimals);
+        }
+        long scale = Rate.POWERS_OF_TEN[decimals];
+        long ratio = divideHalfUp(Math.multiplyExact(cents, scale), other.cents);
+        return new Rate(ratio * Rate.POWERS_OF_TEN[6 - decimals]);
+    }
+
+    /**
+     * Integer division rounding HALF_UP (half away from zero).
+     */
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) >= Math.abs(divisor) - Math.abs(remainder)) {
+            quotient += (dividend < 0) == (divisor < 0) ? 1 : -1;
+        }
+        return quotient;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
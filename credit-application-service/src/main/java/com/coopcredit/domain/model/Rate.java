@@ -0,0 +1,57 @@
+package com.coopcredit.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable rate or ratio as a fraction in millionths (12.5% is 125,000).
+ * <p>
+ * Six decimals of a fraction are what the BigDecimal calculations used for
+ * annual rates ({@code rate / 100} at scale 6), so conversions round the same
+ * way; BigDecimal percentages are only produced at the edges.
+ */
+public record Rate(long micros) implements Comparable<Rate> {
+
+    public static final Rate ZERO = new Rate(0);
+
+    static final long[] POWERS_OF_TEN = { 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000 };
+
+    public static Rate ofMicros(long micros) {
+        return new Rate(micros);
+    }
+
+    /**
+     * Convert from a percentage, rounding HALF_UP to six decimals of the fraction.
+     */
+    public static Rate ofPercent(BigDecimal percent) {
+        return new Rate(percent.movePointRight(4).setScale(0, RoundingMode.HALF_UP).longValueExact());
+    }
+
+    /**
+     * The percentage with four decimals, e.g. 25.5000.
+     */
+    public BigDecimal toPercent() {
+        return BigDecimal.valueOf(micros, 4);
+    }
+
+    /**
+     * The percentage rounded HALF_UP to the given scale.
+     */
+    public BigDecimal toPercent(int scale) {
+        return toPercent().setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    public boolean isGreaterThan(Rate other) {
+        return micros > other.micros;
+    }
+
+    @Override
+    public int compareTo(Rate other) {
+        return Long.compare(micros, other.micros);
+    }
+
+    @Override
+    public String toString() {
+        return toPercent().toPlainString() + "%";
+    }
+}
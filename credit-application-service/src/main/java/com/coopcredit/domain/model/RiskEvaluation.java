@@ -1,8 +1,10 @@
 package com.coopcredit.domain.model;
 
+import com.coopcredit.domain.model.enums.EvaluationWarning;
 import com.coopcredit.domain.model.enums.RiskLevel;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Domain model representing the risk evaluation of a credit application.
@@ -16,6 +18,7 @@ public class RiskEvaluation {
     private RiskLevel riskLevel;
     private BigDecimal debtToIncomeRatio;
     private String reason;
+    private List<EvaluationWarning> warnings = List.of();
     private String details;
     private LocalDateTime evaluationDate;
     private Boolean approved;
@@ -120,6 +123,14 @@ public class RiskEvaluation {
         this.reason = reason;
     }
 
+    public List<EvaluationWarning> getWarnings() {
+        return warnings;
+    }
+
+    public void setWarnings(List<EvaluationWarning> warnings) {
+        this.warnings = warnings != null ? warnings : List.of();
+    }
+
     public String getDetails() {
         return details;
     }
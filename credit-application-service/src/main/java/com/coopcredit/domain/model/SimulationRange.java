@@ -0,0 +1,44 @@
+package com.coopcredit.domain.model;
+
+import com.coopcredit.domain.exception.InvalidSimulationException;
+
+import java.math.BigDecimal;
+
+/**
+ * Inclusive range of values {@code from, from + step, ...} up to {@code to}.
+ * A range without a step, or with {@code from == to}, is a single value.
+ */
+public record SimulationRange(BigDecimal from, BigDecimal to, BigDecimal step) {
+
+    public SimulationRange {
+        if (from == null) {
+            throw new InvalidSimulationException("range start is required");
+        }
+        if (to == null) {
+            to = from;
+        }
+        if (to.compareTo(from) < 0) {
+            throw new InvalidSimulationException("range end " + to + " is before its start " + from);
+        }
+        if (to.compareTo(from) > 0 && (step == null || step.signum() <= 0)) {
+            throw new InvalidSimulationException("a positive step is required for range " + from + " to " + to);
+        }
+    }
+
+    /**
+     * Number of values in the range; saturates at {@link Integer#MAX_VALUE}.
+     */
+    public int count() {
+        if (to.compareTo(from) == 0) {
+            return 1;
+        }
+        BigDecimal steps = to.subtract(from).divideToIntegralValue(step);
+        return steps.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE - 1)) >= 0
+                ? Integer.MAX_VALUE
+                : steps.intValue() + 1;
+    }
+
+    public BigDecimal valueAt(int index) {
+        return index == 0 ? from : from.add(step.multiply(BigDecimal.valueOf(index)));
+    }
+}
@@ -0,0 +1,15 @@
+package com.coopcredit.domain.model;
+
+/**
+ * Fingerprint of a stored resource or collection, read without loading it.
+ * <p>
+ * Versions only grow, so any update raises {@code versionSum}; identifiers are
+ * never reused, so an insert raises {@code maxId}; and a removal lowers
+ * {@code count}. Any change to the rows therefore changes the stamp.
+ *
+ * @param count      number of rows
+ * @param maxId      highest row identifier, 0 when there are none
+ * @param versionSum sum of the rows' versions, including those of the rows they show
+ */
+public record VersionStamp(long count, long maxId, long versionSum) {
+}
@@ -0,0 +1,24 @@
+package com.coopcredit.domain.model.enums;
+
+/**
+ * Fields a client can select from affiliate lists.
+ */
+public enum AffiliateField {
+    ID("id"),
+    DOCUMENT_NUMBER("documentNumber"),
+    NAME("name"),
+    SALARY("salary"),
+    AFFILIATION_DATE("affiliationDate"),
+    STATUS("status"),
+    MONTHS_OF_AFFILIATION("monthsOfAffiliation");
+
+    private final String fieldName;
+
+    AffiliateField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+}
@@ -0,0 +1,10 @@
+package com.coopcredit.domain.model.enums;
+
+/**
+ * How a credit is repaid over its term.
+ */
+public enum AmortizationMethod {
+    FRENCH, // Constant installment
+    GERMAN, // Constant principal, decreasing installment
+    SIMPLE_INTEREST // Constant installment from P * (1 + r*t) / n, as calculateMonthlyPayment
+}
@@ -0,0 +1,35 @@
+package com.coopcredit.domain.model.enums;
+
+/**
+ * Fields a client can select from credit application lists; the names are
+ * those of the full representation, with the risk evaluation's flattened.
+ */
+public enum CreditApplicationField {
+    ID("id"),
+    AFFILIATE_DOCUMENT_NUMBER("affiliateDocumentNumber"),
+    AFFILIATE_NAME("affiliateName"),
+    REQUESTED_AMOUNT("requestedAmount"),
+    TERM_MONTHS("termMonths"),
+    PROPOSED_RATE("proposedRate"),
+    ESTIMATED_MONTHLY_PAYMENT("estimatedMonthlyPayment"),
+    APPLICATION_DATE("applicationDate"),
+    STATUS("status"),
+    SCORE("score"),
+    RISK_LEVEL("riskLevel"),
+    DEBT_TO_INCOME_RATIO("debtToIncomeRatio"),
+    WARNINGS("warnings"),
+    REASON("reason"),
+    DETAILS("details"),
+    EVALUATION_DATE("evaluationDate"),
+    APPROVED("approved");
+
+    private final String fieldName;
+
+    CreditApplicationField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+}
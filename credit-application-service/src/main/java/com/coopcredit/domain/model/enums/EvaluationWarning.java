@@ -0,0 +1,22 @@
+package com.coopcredit.domain.model.enums;
+
+/**
+ * Warnings raised by the credit rules during a risk evaluation; the analyst
+ * sees them as codes and as the rendered reason text.
+ */
+public enum EvaluationWarning {
+    INSUFFICIENT_AFFILIATION("Insufficient affiliation time. Required: %s months"),
+    AMOUNT_EXCEEDS_MAXIMUM("Requested amount exceeds maximum allowed: %s"),
+    DEBT_TO_INCOME_TOO_HIGH("Debt-to-income ratio too high: %s"),
+    HIGH_BUREAU_RISK("High risk level from credit bureau: score %s");
+
+    private final String template;
+
+    EvaluationWarning(String template) {
+        this.template = template;
+    }
+
+    public String describe(String detail) {
+        return template.formatted(detail);
+    }
+}
@@ -1,6 +1,10 @@
 package com.coopcredit.domain.port.input;
 
 import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.FieldProjection;
+import com.coopcredit.domain.model.VersionStamp;
+import com.coopcredit.domain.model.enums.AffiliateField;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +39,14 @@ public interface AffiliateUseCase {
      */
     Optional<Affiliate> findByDocumentNumber(String documentNumber);
 
+    /**
+     * Find affiliates by document number.
+     * 
+     * @param documentNumbers the document numbers
+     * @return the affiliates found, in no particular order
+     */
+    List<Affiliate> findAllByDocumentNumber(Collection<String> documentNumbers);
+
     /**
      * Find an affiliate by ID.
      * 
@@ -65,4 +77,27 @@ public interface AffiliateUseCase {
      * @return the deactivated affiliate
      */
     Affiliate deactivate(String documentNumber);
+
+    /**
+     * Selected fields of all affiliates, without loading or mapping them.
+     * 
+     * @param fields the fields to read
+     * @return the values of the fields, one row per affiliate
+     */
+    FieldProjection<AffiliateField> findFields(List<AffiliateField> fields);
+
+    /**
+     * Version stamp of an affiliate, read without loading it.
+     * 
+     * @param documentNumber the document number of the affiliate
+     * @return optional containing the stamp if the affiliate exists
+     */
+    Optional<VersionStamp> findVersion(String documentNumber);
+
+    /**
+     * Version stamp of all affiliates.
+     * 
+     * @return the stamp of all affiliates
+     */
+    VersionStamp versionOfAll();
 }
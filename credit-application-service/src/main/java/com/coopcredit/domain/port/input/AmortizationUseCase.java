@@ -0,0 +1,19 @@
+package com.coopcredit.domain.port.input;
+
+import com.coopcredit.domain.model.AmortizationSchedule;
+import com.coopcredit.domain.model.enums.AmortizationMethod;
+
+/**
+ * Input port for payment schedules of credit applications.
+ */
+public interface AmortizationUseCase {
+
+    /**
+     * Get the payment schedule of a credit application.
+     *
+     * @param applicationId the ID of the application
+     * @param method        the amortization method
+     * @return the schedule for the application's amount, rate and term
+     */
+    AmortizationSchedule getSchedule(Long applicationId, AmortizationMethod method);
+}
@@ -1,8 +1,12 @@
 package com.coopcredit.domain.port.input;
 
 import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.FieldProjection;
+import com.coopcredit.domain.model.VersionStamp;
 import com.coopcredit.domain.model.enums.ApplicationStatus;
+import com.coopcredit.domain.model.enums.CreditApplicationField;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +55,14 @@ public interface CreditApplicationUseCase {
      */
     Optional<CreditApplication> findById(Long id);
 
+    /**
+     * Find credit applications by ID.
+     * 
+     * @param ids the application IDs
+     * @return the applications found, in no particular order
+     */
+    List<CreditApplication> findAllById(Collection<Long> ids);
+
     /**
      * Get all credit applications for an affiliate.
      * 
@@ -80,4 +92,46 @@ public interface CreditApplicationUseCase {
      * @return list of all credit applications
      */
     List<CreditApplication> findAll();
+
+    /**
+     * Selected fields of credit applications, without loading or mapping the
+     * applications.
+     * 
+     * @param fields                  the fields to read
+     * @param status                  the application status, or null for any
+     * @param affiliateDocumentNumber the document number of the affiliate, or null for any
+     * @return the values of the fields, one row per application
+     */
+    FieldProjection<CreditApplicationField> findFields(List<CreditApplicationField> fields,
+            ApplicationStatus status, String affiliateDocumentNumber);
+
+    /**
+     * Version stamp of a credit application, read without loading it.
+     * 
+     * @param id the application ID
+     * @return optional containing the stamp if the application exists
+     */
+    Optional<VersionStamp> findVersion(Long id);
+
+    /**
+     * Version stamp of an affiliate's credit applications.
+     * 
+     * @param affiliateDocumentNumber the document number of the affiliate
+     * @return the stamp of the applications
+     */
+    VersionStamp versionByAffiliateDocument(String affiliateDocumentNumber);
+
+    /**
+     * Version stamp of the pending credit applications.
+     * 
+     * @return the stamp of the pending applications
+     */
+    VersionStamp pendingApplicationsVersion();
+
+    /**
+     * Version stamp of all credit applications.
+     * 
+     * @return the stamp of all applications
+     */
+    VersionStamp versionOfAll();
 }
@@ -0,0 +1,22 @@
+package com.coopcredit.domain.port.input;
+
+import com.coopcredit.domain.model.CreditSimulation;
+import com.coopcredit.domain.model.SimulationRange;
+
+/**
+ * Input port for credit simulations.
+ */
+public interface SimulationUseCase {
+
+    /**
+     * Simulate every combination of amount, term and rate for an affiliate.
+     *
+     * @param affiliateDocumentNumber the document number of the affiliate
+     * @param amounts                 the requested amounts
+     * @param terms                   the terms in months
+     * @param rates                   the annual interest rates, as percentages
+     * @return the affordability grid
+     */
+    CreditSimulation simulate(String affiliateDocumentNumber, SimulationRange amounts,
+            SimulationRange terms, SimulationRange rates);
+}
@@ -0,0 +1,36 @@
+package com.coopcredit.domain.port.output;
+
+import com.coopcredit.domain.model.AffiliateExposure;
+import com.coopcredit.domain.model.Money;
+
+/**
+ * Output port for the per-affiliate exposure aggregate.
+ * Updates join the caller's transaction, so the aggregate changes atomically
+ * with the application it describes.
+ */
+public interface AffiliateExposurePort {
+
+    /**
+     * Get the current exposure of an affiliate.
+     * 
+     * @param affiliateId the affiliate ID
+     * @return the exposure, empty when the affiliate has no applications
+     */
+    AffiliateExposure findByAffiliateId(Long affiliateId);
+
+    /**
+     * Record a new pending application.
+     * 
+     * @param affiliateId the affiliate ID
+     */
+    void applicationCreated(Long affiliateId);
+
+    /**
+     * Record the decision on a pending application.
+     * 
+     * @param affiliateId    the affiliate ID
+     * @param monthlyPayment the application's monthly payment
+     * @param approved       whether the application was approved
+     */
+    void applicationDecided(Long affiliateId, Money monthlyPayment, boolean approved);
+}
@@ -1,6 +1,10 @@
 package com.coopcredit.domain.port.output;
 
 import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.FieldProjection;
+import com.coopcredit.domain.model.VersionStamp;
+import com.coopcredit.domain.model.enums.AffiliateField;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +38,14 @@ public interface AffiliateRepositoryPort {
      */
     Optional<Affiliate> findByDocumentNumber(String documentNumber);
 
+    /**
+     * Find affiliates by document number, in one query.
+     * 
+     * @param documentNumbers the document numbers
+     * @return the affiliates found, in no particular order
+     */
+    List<Affiliate> findAllByDocumentNumber(Collection<String> documentNumbers);
+
     /**
      * Get all affiliates.
      * 
@@ -49,6 +61,29 @@ public interface AffiliateRepositoryPort {
      */
     boolean existsByDocumentNumber(String documentNumber);
 
+    /**
+     * Selected fields of all affiliates.
+     * 
+     * @param fields the fields to read
+     * @return the values of the fields, one row per affiliate
+     */
+    FieldProjection<AffiliateField> findFields(List<AffiliateField> fields);
+
+    /**
+     * Version stamp of an affiliate.
+     * 
+     * @param documentNumber the document number
+     * @return optional containing the stamp if the affiliate exists
+     */
+    Optional<VersionStamp> findVersionByDocumentNumber(String documentNumber);
+
+    /**
+     * Version stamp of all affiliates.
+     * 
+     * @return the stamp of the affiliates
+     */
+    VersionStamp versionOfAll();
+
     /**
      * Delete an affiliate by ID.
      * 
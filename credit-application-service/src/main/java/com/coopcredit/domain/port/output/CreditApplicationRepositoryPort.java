@@ -1,7 +1,11 @@
 package com.coopcredit.domain.port.output;
 
 import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.FieldProjection;
+import com.coopcredit.domain.model.VersionStamp;
 import com.coopcredit.domain.model.enums.ApplicationStatus;
+import com.coopcredit.domain.model.enums.CreditApplicationField;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +39,14 @@ public interface CreditApplicationRepositoryPort {
      */
     Optional<CreditApplication> findByIdWithAffiliate(Long id);
 
+    /**
+     * Find credit applications by ID with affiliate data eagerly loaded, in one query.
+     * 
+     * @param ids the application IDs
+     * @return the applications found, in no particular order
+     */
+    List<CreditApplication> findAllByIdWithAffiliate(Collection<Long> ids);
+
     /**
      * Get all credit applications for an affiliate.
      * 
@@ -66,6 +78,48 @@ public interface CreditApplicationRepositoryPort {
      */
     List<CreditApplication> findAll();
 
+    /**
+     * Selected fields of the credit applications matching the filters.
+     * 
+     * @param fields         the fields to read
+     * @param status         the application status, or null for any
+     * @param documentNumber the affiliate's document number, or null for any
+     * @return the values of the fields, one row per application
+     */
+    FieldProjection<CreditApplicationField> findFields(List<CreditApplicationField> fields,
+            ApplicationStatus status, String documentNumber);
+
+    /**
+     * Version stamp of a credit application, including its affiliate's version.
+     * 
+     * @param id the application ID
+     * @return optional containing the stamp if the application exists
+     */
+    Optional<VersionStamp> findVersionById(Long id);
+
+    /**
+     * Version stamp of an affiliate's credit applications.
+     * 
+     * @param documentNumber the affiliate's document number
+     * @return the stamp of the applications
+     */
+    VersionStamp versionByAffiliateDocumentNumber(String documentNumber);
+
+    /**
+     * Version stamp of the credit applications with a specific status.
+     * 
+     * @param status the application status
+     * @return the stamp of the applications
+     */
+    VersionStamp versionByStatus(ApplicationStatus status);
+
+    /**
+     * Version stamp of all credit applications.
+     * 
+     * @return the stamp of the applications
+     */
+    VersionStamp versionOfAll();
+
     /**
      * Delete a credit application by ID.
      * 
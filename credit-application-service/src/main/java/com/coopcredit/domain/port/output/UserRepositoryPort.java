@@ -14,6 +14,8 @@ public interface UserRepositoryPort {
      * 
      * @param user the user to save
      * @return the saved user
+     * @throws com.coopcredit.domain.exception.DuplicateUserException if the
+     *         username or email is already registered
      */
     User save(User user);
 
@@ -0,0 +1,51 @@
+package com.coopcredit.domain.rule;
+
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.enums.EvaluationWarning;
+import com.coopcredit.domain.model.enums.RiskLevel;
+import com.coopcredit.domain.port.output.RiskCentralPort;
+
+import java.util.Optional;
+
+/**
+ * Consults the credit bureau and warns on a HIGH risk level. This is the only
+ * remote rule, so it normally runs last and is the one short-circuiting saves.
+ * The response is kept in the context for the evaluation record.
+ */
+public class BureauRiskRule implements CreditRule {
+
+    private final RiskCentralPort riskCentralPort;
+
+    public BureauRiskRule(RiskCentralPort riskCentralPort) {
+        this.riskCentralPort = riskCentralPort;
+    }
+
+    @Override
+    public String name() {
+        return "bureau";
+    }
+
+    @Override
+    public boolean hardReject() {
+        return false;
+    }
+
+    @Override
+    public long estimatedCostNanos() {
+        return 50_000_000;
+    }
+
+    @Override
+    public Optional<RuleViolation> evaluate(RuleContext context) {
+        CreditApplication application = context.application();
+        RiskCentralPort.RiskEvaluationResponse response = riskCentralPort.evaluate(
+                context.affiliate().getDocumentNumber(),
+                application.getRequestedAmount(),
+                application.getTermMonths());
+        context.setBureauResponse(response);
+        if (response.riskLevel() != RiskLevel.HIGH) {
+            return Optional.empty();
+        }
+        return Optional.of(new RuleViolation(EvaluationWarning.HIGH_BUREAU_RISK, String.valueOf(response.score())));
+    }
+}
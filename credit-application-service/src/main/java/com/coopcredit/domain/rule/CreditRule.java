@@ -0,0 +1,38 @@
+package com.coopcredit.domain.rule;
+
+import java.util.Optional;
+
+/**
+ * A check applied to a credit application during risk evaluation.
+ * <p>
+ * Rules are independent of each other and may run in any order; the pipeline
+ * runs the cheapest first. A failed hard-reject rule disqualifies the
+ * application, so when short-circuiting is enabled the remaining rules are
+ * skipped.
+ */
+public interface CreditRule {
+
+    /**
+     * Short, stable name used to tag the rule's metrics, e.g. {@code dti}.
+     */
+    String name();
+
+    /**
+     * Whether a violation of this rule disqualifies the application.
+     */
+    boolean hardReject();
+
+    /**
+     * Expected cost of one evaluation in nanoseconds, used to order rules until
+     * their cost has been measured.
+     */
+    long estimatedCostNanos();
+
+    /**
+     * Evaluate the rule.
+     *
+     * @param context the application being evaluated
+     * @return the violation, or empty when the rule passes
+     */
+    Optional<RuleViolation> evaluate(RuleContext context);
+}
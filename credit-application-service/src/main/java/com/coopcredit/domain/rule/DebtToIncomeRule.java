@@ -0,0 +1,47 @@
+package com.coopcredit.domain.rule;
+
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.Money;
+import com.coopcredit.domain.model.enums.EvaluationWarning;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * The monthly payment, together with those of the affiliate's approved credits,
+ * must not exceed {@link CreditApplication#MAX_DEBT_TO_INCOME_RATIO} of the
+ * monthly salary.
+ */
+public class DebtToIncomeRule implements CreditRule {
+
+    private static final BigDecimal MAX_DEBT_TO_INCOME_RATIO = CreditApplication.MAX_DEBT_TO_INCOME_RATIO.toPercent(0);
+
+    @Override
+    public String name() {
+        return "dti";
+    }
+
+    @Override
+    public boolean hardReject() {
+        return true;
+    }
+
+    @Override
+    public long estimatedCostNanos() {
+        return 2_000;
+    }
+
+    @Override
+    public Optional<RuleViolation> evaluate(RuleContext context) {
+        BigDecimal debtToIncomeRatio = context.debtToIncomeRatio();
+        if (debtToIncomeRatio.compareTo(MAX_DEBT_TO_INCOME_RATIO) <= 0) {
+            return Optional.empty();
+        }
+        Money existing = context.existingMonthlyPayments();
+        String detail = debtToIncomeRatio + "% (max: " + MAX_DEBT_TO_INCOME_RATIO + "%)";
+        if (!existing.isZero()) {
+            detail += " including " + existing + " of approved credits";
+        }
+        return Optional.of(new RuleViolation(EvaluationWarning.DEBT_TO_INCOME_TOO_HIGH, detail));
+    }
+}
@@ -0,0 +1,38 @@
+package com.coopcredit.domain.rule;
+
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.enums.EvaluationWarning;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * The requested amount must not exceed the affiliate's maximum credit,
+ * {@link Affiliate#MAX_CREDIT_SALARY_MULTIPLIER} monthly salaries.
+ */
+public class MaximumAmountRule implements CreditRule {
+
+    @Override
+    public String name() {
+        return "amount";
+    }
+
+    @Override
+    public boolean hardReject() {
+        return true;
+    }
+
+    @Override
+    public long estimatedCostNanos() {
+        return 500;
+    }
+
+    @Override
+    public Optional<RuleViolation> evaluate(RuleContext context) {
+        BigDecimal maxCreditAmount = context.affiliate().getMaximumCreditAmount();
+        if (context.application().getRequestedAmount().compareTo(maxCreditAmount) <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new RuleViolation(EvaluationWarning.AMOUNT_EXCEEDS_MAXIMUM, maxCreditAmount.toString()));
+    }
+}
@@ -0,0 +1,41 @@
+package com.coopcredit.domain.rule;
+
+import com.coopcredit.domain.model.enums.EvaluationWarning;
+
+import java.util.Optional;
+
+/**
+ * The affiliate must have been a member for a minimum number of months.
+ */
+public class MinimumAffiliationRule implements CreditRule {
+
+    private final int minimumMonths;
+
+    public MinimumAffiliationRule(int minimumMonths) {
+        this.minimumMonths = minimumMonths;
+    }
+
+    @Override
+    public String name() {
+        return "affiliation";
+    }
+
+    @Override
+    public boolean hardReject() {
+        return true;
+    }
+
+    @Override
+    public long estimatedCostNanos() {
+        return 1_000;
+    }
+
+    @Override
+    public Optional<RuleViolation> evaluate(RuleContext context) {
+        if (context.affiliate().hasMinimumAffiliationTime(minimumMonths)) {
+            return Optional.empty();
+        }
+        return Optional.of(new RuleViolation(EvaluationWarning.INSUFFICIENT_AFFILIATION,
+                String.valueOf(minimumMonths)));
+    }
+}
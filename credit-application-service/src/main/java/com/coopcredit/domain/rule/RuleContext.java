@@ -0,0 +1,68 @@
+package com.coopcredit.domain.rule;
+
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.AffiliateExposure;
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.Money;
+import com.coopcredit.domain.port.output.RiskCentralPort;
+
+import java.math.BigDecimal;
+
+/**
+ * State shared by the rules of one evaluation. Values are computed on first use
+ * so the evaluation can record them whether or not the rule that needs them ran.
+ */
+public class RuleContext {
+
+    private final CreditApplication application;
+    private final AffiliateExposure exposure;
+    private BigDecimal debtToIncomeRatio;
+    private RiskCentralPort.RiskEvaluationResponse bureauResponse;
+
+    public RuleContext(CreditApplication application) {
+        this(application, null);
+    }
+
+    public RuleContext(CreditApplication application, AffiliateExposure exposure) {
+        this.application = application;
+        this.exposure = exposure;
+    }
+
+    public CreditApplication application() {
+        return application;
+    }
+
+    public Affiliate affiliate() {
+        return application.getAffiliate();
+    }
+
+    /**
+     * Monthly payments of the affiliate's other approved credits.
+     */
+    public Money existingMonthlyPayments() {
+        return exposure != null ? exposure.approvedMonthlyPayments() : Money.ZERO;
+    }
+
+    /**
+     * The debt-to-income ratio as a percentage, counting the payments of the
+     * affiliate's other approved credits.
+     */
+    public BigDecimal debtToIncomeRatio() {
+        if (debtToIncomeRatio == null) {
+            debtToIncomeRatio = application.calculateDebtToIncomeRatio(affiliate().getSalary(),
+                    existingMonthlyPayments());
+        }
+        return debtToIncomeRatio;
+    }
+
+    /**
+     * The credit bureau response, or null when the bureau rule was skipped.
+     */
+    public RiskCentralPort.RiskEvaluationResponse bureauResponse() {
+        return bureauResponse;
+    }
+
+    public void setBureauResponse(RiskCentralPort.RiskEvaluationResponse bureauResponse) {
+        this.bureauResponse = bureauResponse;
+    }
+}
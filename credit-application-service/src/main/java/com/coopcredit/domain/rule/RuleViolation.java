@@ -0,0 +1,13 @@
+package com.coopcredit.domain.rule;
+
+import com.coopcredit.domain.model.enums.EvaluationWarning;
+
+/**
+ * A failed credit rule: the warning code and the value that triggered it.
+ */
+public record RuleViolation(EvaluationWarning warning, String detail) {
+
+    public String describe() {
+        return warning.describe(detail);
+    }
+}
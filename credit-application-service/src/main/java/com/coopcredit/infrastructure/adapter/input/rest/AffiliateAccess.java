@@ -0,0 +1,58 @@
+package com.coopcredit.infrastructure.adapter.input.rest;
+
+import com.coopcredit.infrastructure.security.CustomUserDetails;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Predicate;
+
+/**
+ * Record-level access for the AFFILIATE role: affiliates only see their own
+ * data, while analysts and admins see everyone's.
+ * <p>
+ * JWT authentication only carries the username and roles, so an affiliate's
+ * document number is read through the (cached) UserDetailsService.
+ */
+@Component
+public class AffiliateAccess {
+
+    private final UserDetailsService userDetailsService;
+
+    public AffiliateAccess(UserDetailsService userDetailsService) {
+        this.userDetailsService = userDetailsService;
+    }
+
+    /**
+     * Whether the authenticated user may read the data of the affiliate with the document number.
+     */
+    boolean canAccess(String documentNumber) {
+        return readableDocuments().test(documentNumber);
+    }
+
+    /**
+     * The affiliate document numbers the authenticated user may read, resolved
+     * once for checking many records.
+     */
+    Predicate<String> readableDocuments() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        boolean isAffiliate = auth.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_AFFILIATE"));
+        boolean isAdminOrAnalyst = auth.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("ROLE_ANALYST"));
+        if (!isAffiliate || isAdminOrAnalyst) {
+            return documentNumber -> true;
+        }
+
+        // Get the document number from the authenticated user
+        UserDetails user = auth.getPrincipal() instanceof UserDetails details
+                ? details
+                : userDetailsService.loadUserByUsername(auth.getName());
+        String userDocumentNumber = user instanceof CustomUserDetails customUser
+                ? customUser.getDocumentNumber()
+                : null;
+        return documentNumber -> userDocumentNumber != null && userDocumentNumber.equals(documentNumber);
+    }
+}
@@ -3,8 +3,12 @@ package com.coopcredit.infrastructure.adapter.input.rest;
 import com.coopcredit.application.dto.*;
 import com.coopcredit.domain.exception.AffiliateNotFoundException;
 import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.FieldProjection;
+import com.coopcredit.domain.model.VersionStamp;
+import com.coopcredit.domain.model.enums.AffiliateField;
 import com.coopcredit.domain.model.enums.AffiliateStatus;
 import com.coopcredit.domain.port.input.AffiliateUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,11 +16,18 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * REST Controller for affiliate management endpoints.
@@ -30,16 +41,21 @@ public class AffiliateController {
     private static final Logger log = LoggerFactory.getLogger(AffiliateController.class);
 
     private final AffiliateUseCase affiliateUseCase;
+    private final ObjectMapper objectMapper;
+    private final AffiliateAccess affiliateAccess;
 
-    public AffiliateController(AffiliateUseCase affiliateUseCase) {
+    public AffiliateController(AffiliateUseCase affiliateUseCase, ObjectMapper objectMapper,
+            AffiliateAccess affiliateAccess) {
         this.affiliateUseCase = affiliateUseCase;
+        this.objectMapper = objectMapper;
+        this.affiliateAccess = affiliateAccess;
     }
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Register a new affiliate", description = "Creates a new affiliate (Admin only)")
     public ResponseEntity<AffiliateResponse> create(@Valid @RequestBody CreateAffiliateRequest request) {
-        log.info("Creating affiliate with document: {}", request.documentNumber());
+        log.debug("Creating affiliate with document: {}", request.documentNumber());
 
         Affiliate affiliate = new Affiliate();
         affiliate.setDocumentNumber(request.documentNumber());
@@ -55,27 +71,73 @@ public class AffiliateController {
     @GetMapping("/{documentNumber}")
     @PreAuthorize("hasAnyRole('ADMIN', 'ANALYST', 'AFFILIATE')")
     @Operation(summary = "Get affiliate by document", description = "Retrieves affiliate information")
-    public ResponseEntity<AffiliateResponse> getByDocument(@PathVariable String documentNumber) {
-        log.info("Getting affiliate by document: {}", documentNumber);
+    public ResponseEntity<AffiliateResponse> getByDocument(@PathVariable String documentNumber,
+            WebRequest request) {
+        log.debug("Getting affiliate by document: {}", documentNumber);
+
+        // Months of affiliation depend on today's date as well as on the affiliate
+        Optional<VersionStamp> version = affiliateUseCase.findVersion(documentNumber);
+        if (version.isPresent()
+                && ConditionalGet.notModified(request, ConditionalGet.etag(version.get(), LocalDate.now().toEpochDay()))) {
+            return null;
+        }
 
         Affiliate affiliate = affiliateUseCase.findByDocumentNumber(documentNumber)
                 .orElseThrow(() -> new AffiliateNotFoundException(documentNumber));
 
-        return ResponseEntity.ok(toResponse(affiliate));
+        return ConditionalGet.ok().body(toResponse(affiliate));
+    }
+
+    @PostMapping("/lookup")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ANALYST', 'AFFILIATE')")
+    @Operation(summary = "Get affiliates by documents",
+            description = "Resolves up to " + LookupResult.MAX_IDS + " affiliates in one query, in request order")
+    public ResponseEntity<List<LookupResult<String, AffiliateResponse>>> lookup(
+            @Valid @RequestBody AffiliateLookupRequest request) {
+        log.debug("Looking up {} affiliates", request.documentNumbers().size());
+
+        Predicate<String> readable = affiliateAccess.readableDocuments();
+        List<Affiliate> found = affiliateUseCase.findAllByDocumentNumber(new LinkedHashSet<>(request.documentNumbers()));
+        return ResponseEntity.ok(Lookups.resolve(request.documentNumbers(), found, Affiliate::getDocumentNumber,
+                affiliate -> readable.test(affiliate.getDocumentNumber()), this::toResponse));
     }
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'ANALYST')")
     @Operation(summary = "Get all affiliates", description = "Retrieves all affiliates (Admin/Analyst only)")
-    public ResponseEntity<List<AffiliateResponse>> getAll() {
-        log.info("Getting all affiliates");
+    public ResponseEntity<List<AffiliateResponse>> getAll(WebRequest request) {
+        log.debug("Getting all affiliates");
+
+        if (ConditionalGet.notModified(request,
+                ConditionalGet.etag(affiliateUseCase.versionOfAll(), LocalDate.now().toEpochDay()))) {
+            return null;
+        }
 
         List<AffiliateResponse> affiliates = affiliateUseCase.findAll()
                 .stream()
                 .map(this::toResponse)
                 .toList();
 
-        return ResponseEntity.ok(affiliates);
+        return ConditionalGet.ok().body(affiliates);
+    }
+
+    @GetMapping(params = "fields")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ANALYST')")
+    @Operation(summary = "Get selected fields of all affiliates",
+            description = "Returns only the comma-separated fields, e.g. fields=documentNumber,name,status")
+    public ResponseEntity<StreamingResponseBody> getAllFields(@RequestParam String fields, WebRequest request) {
+        log.debug("Getting fields {} of all affiliates", fields);
+
+        List<AffiliateField> selected = SparseFields.parse(fields, AffiliateField.values(), AffiliateField::fieldName);
+        if (ConditionalGet.notModified(request, ConditionalGet.etag(affiliateUseCase.versionOfAll(),
+                LocalDate.now().toEpochDay(), SparseFields.qualifier(selected)))) {
+            return null;
+        }
+
+        FieldProjection<AffiliateField> projection = affiliateUseCase.findFields(selected);
+        return ConditionalGet.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(SparseFields.write(objectMapper, projection, AffiliateField::fieldName));
     }
 
     @PutMapping("/{documentNumber}")
@@ -84,7 +146,7 @@ public class AffiliateController {
     public ResponseEntity<AffiliateResponse> update(
             @PathVariable String documentNumber,
             @Valid @RequestBody UpdateAffiliateRequest request) {
-        log.info("Updating affiliate: {}", documentNumber);
+        log.debug("Updating affiliate: {}", documentNumber);
 
         Affiliate updateData = new Affiliate();
         updateData.setName(request.name());
@@ -98,7 +160,7 @@ public class AffiliateController {
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Activate affiliate", description = "Activates an affiliate (Admin only)")
     public ResponseEntity<AffiliateResponse> activate(@PathVariable String documentNumber) {
-        log.info("Activating affiliate: {}", documentNumber);
+        log.debug("Activating affiliate: {}", documentNumber);
 
         Affiliate activated = affiliateUseCase.activate(documentNumber);
         return ResponseEntity.ok(toResponse(activated));
@@ -108,7 +170,7 @@ public class AffiliateController {
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Deactivate affiliate", description = "Deactivates an affiliate (Admin only)")
     public ResponseEntity<AffiliateResponse> deactivate(@PathVariable String documentNumber) {
-        log.info("Deactivating affiliate: {}", documentNumber);
+        log.debug("Deactivating affiliate: {}", documentNumber);
 
         Affiliate deactivated = affiliateUseCase.deactivate(documentNumber);
         return ResponseEntity.ok(toResponse(deactivated));
@@ -41,7 +41,7 @@ public class AuthController {
     @PostMapping("/register")
     @Operation(summary = "Register a new user", description = "Creates a new user account")
     public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
-        log.info("Registration request for user: {}", request.username());
+        log.debug("Registration request for user: {}", request.username());
 
         User user = new User();
         user.setUsername(request.username());
@@ -82,7 +82,7 @@ public class AuthController {
     @PostMapping("/login")
     @Operation(summary = "User login", description = "Authenticates a user and returns a JWT token")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        log.info("Login request for user: {}", request.username());
+        log.debug("Login request for user: {}", request.username());
 
         String token = authUseCase.login(request.username(), request.password());
         User user = authUseCase.findByUsername(request.username());
@@ -0,0 +1,51 @@
+package com.coopcredit.infrastructure.adapter.input.rest;
+
+import com.coopcredit.domain.model.VersionStamp;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional GETs driven by {@link VersionStamp}s.
+ * <p>
+ * Controllers read the stamp, which costs one aggregate query, before loading
+ * anything. When it matches {@code If-None-Match} the 304 is sent without
+ * loading, mapping or serializing the resource. Otherwise the ETag header is
+ * already set and the controller answers through {@link #ok()}, which lets the
+ * client keep the copy but revalidate it on every use.
+ */
+final class ConditionalGet {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * ETag of the stamped resources; qualifiers tell apart representations that
+     * also depend on something else, e.g. the current date or the selected fields.
+     */
+    static String etag(VersionStamp stamp, Object... qualifiers) {
+        StringBuilder etag = new StringBuilder("\"").append(stamp.count()).append('-').append(stamp.maxId())
+                .append('-').append(stamp.versionSum());
+        for (Object qualifier : qualifiers) {
+            etag.append('-').append(qualifier);
+        }
+        return etag.append('"').toString();
+    }
+
+    /**
+     * Whether the client's copy is current, in which case the 304 is prepared
+     * and the handler returns null. Sets the ETag header in both cases.
+     */
+    static boolean notModified(WebRequest request, String etag) {
+        return request.checkNotModified(etag);
+    }
+
+    /**
+     * A 200 for a resource whose ETag was set by {@link #notModified}.
+     */
+    static ResponseEntity.BodyBuilder ok() {
+        return ResponseEntity.ok().cacheControl(REVALIDATE);
+    }
+}
@@ -2,9 +2,20 @@ package com.coopcredit.infrastructure.adapter.input.rest;
 
 import com.coopcredit.application.dto.*;
 import com.coopcredit.domain.exception.CreditApplicationNotFoundException;
+import com.coopcredit.domain.model.AmortizationSchedule;
 import com.coopcredit.domain.model.CreditApplication;
-import com.coopcredit.domain.model.RiskEvaluation;
+import com.coopcredit.domain.model.FieldProjection;
+import com.coopcredit.domain.model.VersionStamp;
+import com.coopcredit.domain.model.enums.AmortizationMethod;
+import com.coopcredit.domain.model.enums.ApplicationStatus;
+import com.coopcredit.domain.model.enums.CreditApplicationField;
+import com.coopcredit.domain.port.input.AmortizationUseCase;
 import com.coopcredit.domain.port.input.CreditApplicationUseCase;
+import com.coopcredit.infrastructure.config.MetricsService;
+import com.coopcredit.infrastructure.config.MetricsService.EvaluationStage;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,13 +23,24 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.coopcredit.infrastructure.adapter.input.rest.CreditApplicationResponseMapper.toResponse;
 
 /**
  * REST Controller for credit application management endpoints.
@@ -32,9 +54,24 @@ public class CreditApplicationController {
     private static final Logger log = LoggerFactory.getLogger(CreditApplicationController.class);
 
     private final CreditApplicationUseCase creditApplicationUseCase;
+    private final AmortizationUseCase amortizationUseCase;
+    private final MetricsService metricsService;
+    private final ObjectMapper objectMapper;
+    private final PendingQueueBroadcaster pendingQueueBroadcaster;
+    private final AffiliateAccess affiliateAccess;
 
-    public CreditApplicationController(CreditApplicationUseCase creditApplicationUseCase) {
+    public CreditApplicationController(CreditApplicationUseCase creditApplicationUseCase,
+            AmortizationUseCase amortizationUseCase,
+            MetricsService metricsService,
+            ObjectMapper objectMapper,
+            PendingQueueBroadcaster pendingQueueBroadcaster,
+            AffiliateAccess affiliateAccess) {
         this.creditApplicationUseCase = creditApplicationUseCase;
+        this.amortizationUseCase = amortizationUseCase;
+        this.metricsService = metricsService;
+        this.objectMapper = objectMapper;
+        this.pendingQueueBroadcaster = pendingQueueBroadcaster;
+        this.affiliateAccess = affiliateAccess;
     }
 
     @PostMapping
@@ -42,7 +79,7 @@ public class CreditApplicationController {
     @Operation(summary = "Create credit application", description = "Creates a new credit application")
     public ResponseEntity<CreditApplicationResponse> create(
             @Valid @RequestBody CreateCreditApplicationRequest request) {
-        log.info("Creating credit application for affiliate: {}", request.affiliateDocumentNumber());
+        log.debug("Creating credit application for affiliate: {}", request.affiliateDocumentNumber());
 
         CreditApplication created = creditApplicationUseCase.create(
                 request.affiliateDocumentNumber(),
@@ -56,86 +93,167 @@ public class CreditApplicationController {
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('AFFILIATE', 'ANALYST', 'ADMIN')")
     @Operation(summary = "Get application by ID", description = "Retrieves a credit application by ID")
-    public ResponseEntity<CreditApplicationResponse> getById(@PathVariable Long id) {
-        log.info("Getting credit application: {}", id);
+    public ResponseEntity<CreditApplicationResponse> getById(@PathVariable Long id, WebRequest request) {
+        log.debug("Getting credit application: {}", id);
+
+        Optional<VersionStamp> version = creditApplicationUseCase.findVersion(id);
+        if (version.isPresent() && ConditionalGet.notModified(request, ConditionalGet.etag(version.get()))) {
+            return null;
+        }
 
         CreditApplication application = creditApplicationUseCase.findById(id)
                 .orElseThrow(() -> new CreditApplicationNotFoundException(id));
 
-        return ResponseEntity.ok(toResponse(application));
+        return ConditionalGet.ok().body(toResponse(application));
+    }
+
+    @GetMapping("/{id}/schedule")
+    @PreAuthorize("hasAnyRole('AFFILIATE', 'ANALYST', 'ADMIN')")
+    @Operation(summary = "Get payment schedule",
+            description = "Streams the installments of an application (FRENCH, GERMAN or SIMPLE_INTEREST)")
+    public ResponseEntity<StreamingResponseBody> getSchedule(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "FRENCH") AmortizationMethod method) {
+        log.debug("Getting payment schedule for credit application {}: {}", id, method);
+
+        // Resolved before streaming starts so a missing application still maps to a 404
+        AmortizationSchedule schedule = amortizationUseCase.getSchedule(id, method);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> writeSchedule(id, schedule, out));
+    }
+
+    @PostMapping("/lookup")
+    @PreAuthorize("hasAnyRole('AFFILIATE', 'ANALYST', 'ADMIN')")
+    @Operation(summary = "Get applications by IDs",
+            description = "Resolves up to " + LookupResult.MAX_IDS + " applications in one query, in request order")
+    public ResponseEntity<List<LookupResult<Long, CreditApplicationResponse>>> lookup(
+            @Valid @RequestBody ApplicationLookupRequest request) {
+        log.debug("Looking up {} credit applications", request.ids().size());
+
+        Predicate<String> readable = affiliateAccess.readableDocuments();
+        List<CreditApplication> found = creditApplicationUseCase.findAllById(new LinkedHashSet<>(request.ids()));
+        return ResponseEntity.ok(Lookups.resolve(request.ids(), found, CreditApplication::getId,
+                application -> readable.test(application.getAffiliate().getDocumentNumber()),
+                CreditApplicationResponseMapper::toResponse));
     }
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get all applications", description = "Retrieves all credit applications (Admin only)")
-    public ResponseEntity<List<CreditApplicationResponse>> getAll() {
-        log.info("Getting all credit applications");
+    public ResponseEntity<List<CreditApplicationResponse>> getAll(WebRequest request) {
+        log.debug("Getting all credit applications");
+
+        if (ConditionalGet.notModified(request, ConditionalGet.etag(creditApplicationUseCase.versionOfAll()))) {
+            return null;
+        }
 
         List<CreditApplicationResponse> applications = creditApplicationUseCase.findAll()
                 .stream()
-                .map(this::toResponse)
+                .map(CreditApplicationResponseMapper::toResponse)
                 .toList();
 
-        return ResponseEntity.ok(applications);
+        return ConditionalGet.ok().body(applications);
     }
 
     @GetMapping("/pending")
     @PreAuthorize("hasAnyRole('ANALYST', 'ADMIN')")
     @Operation(summary = "Get pending applications", description = "Retrieves all pending applications (Analyst/Admin)")
-    public ResponseEntity<List<CreditApplicationResponse>> getPending() {
-        log.info("Getting pending credit applications");
+    public ResponseEntity<List<CreditApplicationResponse>> getPending(WebRequest request) {
+        log.debug("Getting pending credit applications");
+
+        if (ConditionalGet.notModified(request,
+                ConditionalGet.etag(creditApplicationUseCase.pendingApplicationsVersion()))) {
+            return null;
+        }
 
         List<CreditApplicationResponse> applications = creditApplicationUseCase.findPendingApplications()
                 .stream()
-                .map(this::toResponse)
+                .map(CreditApplicationResponseMapper::toResponse)
                 .toList();
 
-        return ResponseEntity.ok(applications);
+        return ConditionalGet.ok().body(applications);
+    }
+
+    @GetMapping(value = "/pending/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ANALYST', 'ADMIN')")
+    @Operation(summary = "Stream pending applications",
+            description = "Server-Sent Events: a snapshot of the pending applications, then every change (Analyst/Admin)")
+    public SseEmitter streamPending() {
+        log.debug("Opening pending credit applications stream");
+
+        return pendingQueueBroadcaster.subscribe(() -> creditApplicationUseCase.findPendingApplications()
+                .stream()
+                .map(CreditApplicationResponseMapper::toResponse)
+                .toList());
     }
 
     @GetMapping("/affiliate/{documentNumber}")
     @PreAuthorize("hasAnyRole('AFFILIATE', 'ANALYST', 'ADMIN')")
     @Operation(summary = "Get applications by affiliate", description = "Retrieves applications for an affiliate")
-    public ResponseEntity<List<CreditApplicationResponse>> getByAffiliate(@PathVariable String documentNumber) {
-        log.info("Getting credit applications for affiliate: {}", documentNumber);
-
-        // For AFFILIATE role, verify they are accessing their own applications
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        boolean isAffiliate = auth.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_AFFILIATE"));
-        boolean isAdminOrAnalyst = auth.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("ROLE_ANALYST"));
-
-        if (isAffiliate && !isAdminOrAnalyst) {
-            // Get the document number from the authenticated user
-            Object principal = auth.getPrincipal();
-            if (principal instanceof com.coopcredit.infrastructure.security.CustomUserDetails userDetails) {
-                String userDocumentNumber = userDetails.getDocumentNumber();
-                if (userDocumentNumber == null || !userDocumentNumber.equals(documentNumber)) {
-                    log.warn("Affiliate {} attempted to access applications for {}",
-                            auth.getName(), documentNumber);
-                    throw new org.springframework.security.access.AccessDeniedException(
-                            "Affiliates can only view their own applications");
-                }
-            }
+    public ResponseEntity<List<CreditApplicationResponse>> getByAffiliate(@PathVariable String documentNumber,
+            WebRequest request) {
+        log.debug("Getting credit applications for affiliate: {}", documentNumber);
+
+        checkAffiliateAccess(documentNumber);
+
+        if (ConditionalGet.notModified(request,
+                ConditionalGet.etag(creditApplicationUseCase.versionByAffiliateDocument(documentNumber)))) {
+            return null;
         }
 
         List<CreditApplicationResponse> applications = creditApplicationUseCase.findByAffiliateDocument(documentNumber)
                 .stream()
-                .map(this::toResponse)
+                .map(CreditApplicationResponseMapper::toResponse)
                 .toList();
 
-        return ResponseEntity.ok(applications);
+        return ConditionalGet.ok().body(applications);
+    }
+
+    @GetMapping(params = "fields")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get selected fields of all applications",
+            description = "Returns only the comma-separated fields, e.g. fields=id,affiliateName,status,score (Admin only)")
+    public ResponseEntity<StreamingResponseBody> getAllFields(@RequestParam String fields, WebRequest request) {
+        log.debug("Getting fields {} of all credit applications", fields);
+        return fieldsResponse(fields, null, null, creditApplicationUseCase::versionOfAll, request);
+    }
+
+    @GetMapping(value = "/pending", params = "fields")
+    @PreAuthorize("hasAnyRole('ANALYST', 'ADMIN')")
+    @Operation(summary = "Get selected fields of pending applications",
+            description = "Returns only the comma-separated fields, e.g. fields=id,affiliateName,status,score")
+    public ResponseEntity<StreamingResponseBody> getPendingFields(@RequestParam String fields, WebRequest request) {
+        log.debug("Getting fields {} of pending credit applications", fields);
+        return fieldsResponse(fields, ApplicationStatus.PENDING, null,
+                creditApplicationUseCase::pendingApplicationsVersion, request);
+    }
+
+    @GetMapping(value = "/affiliate/{documentNumber}", params = "fields")
+    @PreAuthorize("hasAnyRole('AFFILIATE', 'ANALYST', 'ADMIN')")
+    @Operation(summary = "Get selected fields of an affiliate's applications",
+            description = "Returns only the comma-separated fields, e.g. fields=id,requestedAmount,status")
+    public ResponseEntity<StreamingResponseBody> getByAffiliateFields(@PathVariable String documentNumber,
+            @RequestParam String fields, WebRequest request) {
+        log.debug("Getting fields {} of credit applications for affiliate: {}", fields, documentNumber);
+        checkAffiliateAccess(documentNumber);
+        return fieldsResponse(fields, null, documentNumber,
+                () -> creditApplicationUseCase.versionByAffiliateDocument(documentNumber), request);
     }
 
     @PostMapping("/{id}/evaluate-risk")
     @PreAuthorize("hasAnyRole('ANALYST', 'ADMIN')")
     @Operation(summary = "Evaluate risk", description = "Performs automatic risk evaluation (Analyst/Admin)")
     public ResponseEntity<CreditApplicationResponse> evaluateRisk(@PathVariable Long id) {
-        log.info("Evaluating risk for credit application: {}", id);
+        log.debug("Evaluating risk for credit application: {}", id);
 
         CreditApplication evaluated = creditApplicationUseCase.evaluateRisk(id);
-        return ResponseEntity.ok(toResponse(evaluated));
+
+        long mappingStart = System.nanoTime();
+        CreditApplicationResponse response = toResponse(evaluated);
+        metricsService.recordEvaluationStage(EvaluationStage.RESPONSE_MAPPING, System.nanoTime() - mappingStart);
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping("/{id}/decide")
@@ -144,37 +262,89 @@ public class CreditApplicationController {
     public ResponseEntity<CreditApplicationResponse> makeDecision(
             @PathVariable Long id,
             @RequestBody @Valid EvaluationDecisionRequest request) {
-        log.info("Making decision for credit application {}: {}", id, request.approved() ? "APPROVED" : "REJECTED");
+        log.debug("Making decision for credit application {}: {}", id, request.approved() ? "APPROVED" : "REJECTED");
 
         CreditApplication decided = creditApplicationUseCase.makeDecision(id, request.approved(), request.comments());
         return ResponseEntity.ok(toResponse(decided));
     }
 
-    private CreditApplicationResponse toResponse(CreditApplication application) {
-        RiskEvaluationResponse riskResponse = null;
-        if (application.getRiskEvaluation() != null) {
-            RiskEvaluation re = application.getRiskEvaluation();
-            riskResponse = new RiskEvaluationResponse(
-                    re.getId(),
-                    re.getScore(),
-                    re.getRiskLevel(),
-                    re.getDebtToIncomeRatio(),
-                    re.getReason(),
-                    re.getDetails(),
-                    re.getEvaluationDate(),
-                    re.getApproved());
+    /**
+     * For AFFILIATE role, verify they are accessing their own applications.
+     */
+    private void checkAffiliateAccess(String documentNumber) {
+        if (!affiliateAccess.canAccess(documentNumber)) {
+            log.warn("Affiliate {} attempted to access applications for {}",
+                    SecurityContextHolder.getContext().getAuthentication().getName(), documentNumber);
+            throw new org.springframework.security.access.AccessDeniedException(
+                    "Affiliates can only view their own applications");
         }
+    }
 
-        return new CreditApplicationResponse(
-                application.getId(),
-                application.getAffiliate() != null ? application.getAffiliate().getDocumentNumber() : null,
-                application.getAffiliate() != null ? application.getAffiliate().getName() : null,
-                application.getRequestedAmount(),
-                application.getTermMonths(),
-                application.getProposedRate(),
-                application.calculateMonthlyPayment(),
-                application.getApplicationDate(),
-                application.getStatus(),
-                riskResponse);
+    /**
+     * Sparse list: the selection is part of the ETag, and only its columns are read.
+     */
+    private ResponseEntity<StreamingResponseBody> fieldsResponse(String fields, ApplicationStatus status,
+            String documentNumber, Supplier<VersionStamp> version, WebRequest request) {
+        List<CreditApplicationField> selected = SparseFields.parse(fields, CreditApplicationField.values(),
+                CreditApplicationField::fieldName);
+        if (ConditionalGet.notModified(request,
+                ConditionalGet.etag(version.get(), SparseFields.qualifier(selected)))) {
+            return null;
+        }
+
+        FieldProjection<CreditApplicationField> projection = creditApplicationUseCase.findFields(selected, status,
+                documentNumber);
+        return ConditionalGet.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(SparseFields.write(objectMapper, projection, CreditApplicationField::fieldName));
+    }
+
+    /**
+     * Write the schedule row by row straight from its arrays; amounts are written
+     * as decimal numbers with two places, like the BigDecimal fields elsewhere.
+     */
+    private void writeSchedule(Long id, AmortizationSchedule schedule, OutputStream out) throws IOException {
+        char[] buffer = new char[24];
+        AmortizationSchedule.Terms terms = schedule.terms();
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeNumberField("applicationId", id);
+            json.writeStringField("method", terms.method().name());
+            writeAmount(json, "principal", terms.principal().cents(), buffer);
+            json.writeNumberField("annualRate", terms.annualRate().toPercent(2));
+            json.writeNumberField("termMonths", terms.termMonths());
+            writeAmount(json, "totalPayment", schedule.totalPayment().cents(), buffer);
+            writeAmount(json, "totalInterest", schedule.totalInterest().cents(), buffer);
+            json.writeArrayFieldStart("installments");
+            for (int row = 0; row < schedule.installments(); row++) {
+                json.writeStartObject();
+                json.writeNumberField("number", row + 1);
+                writeAmount(json, "payment", schedule.paymentCents(row), buffer);
+                writeAmount(json, "principal", schedule.principalCents(row), buffer);
+                writeAmount(json, "interest", schedule.interestCents(row), buffer);
+                writeAmount(json, "balance", schedule.balanceCents(row), buffer);
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    private static void writeAmount(JsonGenerator json, String field, long cents, char[] buffer)
+            throws IOException {
+        json.writeFieldName(field);
+        int pos = buffer.length;
+        long value = Math.abs(cents);
+        for (int digit = 0; digit < 3 || value > 0; digit++) {
+            if (digit == 2) {
+                buffer[--pos] = '.';
+            }
+            buffer[--pos] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        if (cents < 0) {
+            buffer[--pos] = '-';
+        }
+        json.writeRawValue(buffer, pos, buffer.length - pos);
     }
 }
@@ -0,0 +1,45 @@
+package com.coopcredit.infrastructure.adapter.input.rest;
+
+import com.coopcredit.application.dto.CreditApplicationResponse;
+import com.coopcredit.application.dto.RiskEvaluationResponse;
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.RiskEvaluation;
+
+/**
+ * Maps credit applications to the response returned by the API and sent on the
+ * pending queue stream.
+ */
+final class CreditApplicationResponseMapper {
+
+    private CreditApplicationResponseMapper() {
+    }
+
+    static CreditApplicationResponse toResponse(CreditApplication application) {
+        RiskEvaluationResponse riskResponse = null;
+        if (application.getRiskEvaluation() != null) {
+            RiskEvaluation re = application.getRiskEvaluation();
+            riskResponse = new RiskEvaluationResponse(
+                    re.getId(),
+                    re.getScore(),
+                    re.getRiskLevel(),
+                    re.getDebtToIncomeRatio(),
+                    re.getReason(),
+                    re.getWarnings(),
+                    re.getDetails(),
+                    re.getEvaluationDate(),
+                    re.getApproved());
+        }
+
+        return new CreditApplicationResponse(
+                application.getId(),
+                application.getAffiliate() != null ? application.getAffiliate().getDocumentNumber() : null,
+                application.getAffiliate() != null ? application.getAffiliate().getName() : null,
+                application.getRequestedAmount(),
+                application.getTermMonths(),
+                application.getProposedRate(),
+                application.calculateMonthlyPayment(),
+                application.getApplicationDate(),
+                application.getStatus(),
+                riskResponse);
+    }
+}
@@ -0,0 +1,48 @@
+package com.coopcredit.infrastructure.adapter.input.rest;
+
+import com.coopcredit.application.dto.LookupResult;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Multi-get responses: one entry per requested identifier, in request order.
+ */
+final class Lookups {
+
+    private Lookups() {
+    }
+
+    /**
+     * Match the resources found, loaded in one query, to the requested identifiers.
+     *
+     * @param ids      the identifiers in request order; repeated ones get repeated entries
+     * @param found    the resources found, in any order
+     * @param idOf     the identifier of a resource
+     * @param readable whether the user may read a resource; otherwise its entry is FORBIDDEN
+     * @param mapper   maps a readable resource to its response, once per resource
+     */
+    static <K, D, R> List<LookupResult<K, R>> resolve(List<K> ids, Collection<D> found, Function<D, K> idOf,
+            Predicate<D> readable, Function<D, R> mapper) {
+        Map<K, D> byId = new HashMap<>(found.size() * 2);
+        for (D resource : found) {
+            byId.put(idOf.apply(resource), resource);
+        }
+        Map<K, LookupResult<K, R>> results = new HashMap<>(byId.size() * 2);
+        return ids.stream()
+                .map(id -> results.computeIfAbsent(id, key -> {
+                    D resource = byId.get(key);
+                    if (resource == null) {
+                        return LookupResult.notFound(key);
+                    }
+                    return readable.test(resource)
+                            ? LookupResult.found(key, mapper.apply(resource))
+                            : LookupResult.forbidden(key);
+                }))
+                .toList();
+    }
+}
@@ -0,0 +1,237 @@
+package com.coopcredit.infrastructure.adapter.input.rest;
+
+import com.coopcredit.application.dto.CreditApplicationResponse;
+import com.coopcredit.domain.model.CreditApplicationChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Server-Sent Events feed of the pending queue.
+ * <p>
+ * A subscriber first gets a {@code snapshot} of the pending applications, then a
+ * {@code created}, {@code evaluated} or {@code decided} event, carrying the
+ * application, for every change committed afterwards. Changes made while the
+ * snapshot is loaded may appear in both, so clients apply events by id.
+ * <p>
+ * Each change is serialized once and offered to every subscriber's bounded
+ * queue, so publishing never waits on a connection. Each queue is drained on its
+ * own virtual thread; a subscriber that falls a full queue behind is disconnected
+ * and gets a fresh snapshot when its EventSource reconnects. Periodic heartbeats
+ * keep idle connections open through proxies and find dead ones.
+ */
+@Component
+public class PendingQueueBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingQueueBroadcaster.class);
+
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+    private final Duration timeout;
+    private final Duration heartbeatInterval;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Counter evictions;
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("pending-stream-", 0).factory());
+    private final ScheduledExecutorService heartbeats;
+
+    public PendingQueueBroadcaster(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.pending-stream.queue-capacity:256}") int queueCapacity,
+            @Value("${app.pending-stream.timeout:30m}") Duration timeout,
+            @Value("${app.pending-stream.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this.objectMapper = objectMapper;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        this.heartbeatInterval = heartbeatInterval;
+        Gauge.builder("credit.pending_stream.subscribers", subscribers, Set::size)
+                .description("Open pending queue streams")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("credit.pending_stream.evictions")
+                .description("Pending queue streams closed because the client fell behind")
+                .register(meterRegistry);
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pending-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (heartbeatInterval.isZero() || heartbeatInterval.isNegative()) {
+            return;
+        }
+        heartbeats.scheduleWithFixedDelay(() -> broadcast(new Event(null, null, null)),
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Open a stream; the snapshot is loaded after the subscriber is registered,
+     * so no change committed in between is missed.
+     */
+    public SseEmitter subscribe(Supplier<List<CreditApplicationResponse>> snapshot) {
+        return subscribe(new SseEmitter(timeout.toMillis()), snapshot);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, Supplier<List<CreditApplicationResponse>> snapshot) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        try {
+            subscriber.start(event("snapshot", snapshot.get()));
+        } catch (RuntimeException ex) {
+            subscribers.remove(subscriber);
+            throw ex;
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicationChanged(CreditApplicationChangedEvent changed) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        broadcast(event(changed.change().name().toLowerCase(),
+                CreditApplicationResponseMapper.toResponse(changed.application())));
+    }
+
+    private void broadcast(Event event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.offer(event)) {
+                evict(subscriber);
+            }
+        }
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            evictions.increment();
+            log.info("Pending queue stream closed, client fell behind {}", kv("queueCapacity", queueCapacity));
+            // Completing may wait for a send blocked on the same connection
+            senders.execute(subscriber.emitter::complete);
+        }
+    }
+
+    private Event event(String name, Object payload) {
+        try {
+            return new Event(sequence.incrementAndGet(), name, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize pending queue event " + name, ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    /**
+     * An event serialized once for all subscribers; a heartbeat has no name.
+     */
+    private record Event(Long id, String name, String data) {
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().id(id.toString()).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Event> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile Event snapshot;
+        private volatile boolean started;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void start(Event snapshot) {
+            this.snapshot = snapshot;
+            this.started = true;
+            drain();
+        }
+
+        /**
+         * Queue an event without blocking; false when the queue is full.
+         */
+        boolean offer(Event event) {
+            if (!queue.offer(event)) {
+                return false;
+            }
+            drain();
+            return true;
+        }
+
+        private void drain() {
+            if (started && draining.compareAndSet(false, true)) {
+                senders.execute(this::send);
+            }
+        }
+
+        private void send() {
+            try {
+                Event first = snapshot;
+                if (first != null) {
+                    snapshot = null;
+                    emitter.send(first.toSse());
+                }
+                Event event;
+                while ((event = queue.poll()) != null) {
+                    emitter.send(event.toSse());
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Disconnected or completed; the container completes the emitter
+                subscribers.remove(this);
+                queue.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!queue.isEmpty()) {
+                drain();
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.coopcredit.infrastructure.adapter.input.rest;
+
+import com.coopcredit.application.dto.SimulationRequest;
+import com.coopcredit.application.dto.SimulationResponse;
+import com.coopcredit.application.dto.SimulationRowResponse;
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.CreditSimulation;
+import com.coopcredit.domain.model.SimulationRange;
+import com.coopcredit.domain.port.input.SimulationUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * REST Controller for credit simulations.
+ */
+@RestController
+@RequestMapping("/simulations")
+@Tag(name = "Simulations", description = "Credit affordability simulations")
+@SecurityRequirement(name = "bearerAuth")
+public class SimulationController {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationController.class);
+
+    private final SimulationUseCase simulationUseCase;
+    private final AffiliateAccess affiliateAccess;
+
+    public SimulationController(SimulationUseCase simulationUseCase, AffiliateAccess affiliateAccess) {
+        this.simulationUseCase = simulationUseCase;
+        this.affiliateAccess = affiliateAccess;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasAnyRole('AFFILIATE', 'ANALYST', 'ADMIN')")
+    @Operation(summary = "Simulate credits",
+            description = "Computes payments, DTI and affordability for every amount, term and rate in the ranges")
+    public ResponseEntity<SimulationResponse> simulate(@Valid @RequestBody SimulationRequest request) {
+        log.debug("Simulating credits for affiliate: {}", request.affiliateDocumentNumber());
+
+        // Affiliates can only simulate for themselves
+        if (!affiliateAccess.canAccess(request.affiliateDocumentNumber())) {
+            log.warn("Affiliate attempted to simulate for {}", request.affiliateDocumentNumber());
+            throw new AccessDeniedException("Affiliates can only simulate their own credits");
+        }
+
+        CreditSimulation simulation = simulationUseCase.simulate(
+                request.affiliateDocumentNumber(),
+                toRange(request.amounts()),
+                toRange(request.terms()),
+                toRange(request.rates()));
+
+        return ResponseEntity.ok(toResponse(request.affiliateDocumentNumber(), simulation));
+    }
+
+    private static SimulationRange toRange(SimulationRequest.Range range) {
+        return new SimulationRange(range.from(), range.to(), range.step());
+    }
+
+    private static SimulationResponse toResponse(String documentNumber, CreditSimulation simulation) {
+        int columns = simulation.columns();
+        List<BigDecimal> amounts = new ArrayList<>(columns);
+        for (int column = 0; column < columns; column++) {
+            amounts.add(BigDecimal.valueOf(simulation.amountCents(column), 2));
+        }
+
+        List<SimulationRowResponse> results = new ArrayList<>(simulation.rows());
+        for (int row = 0; row < simulation.rows(); row++) {
+            List<BigDecimal> payments = new ArrayList<>(columns);
+            List<BigDecimal> ratios = new ArrayList<>(columns);
+            boolean[] affordable = new boolean[columns];
+            for (int column = 0; column < columns; column++) {
+                payments.add(BigDecimal.valueOf(simulation.paymentCents(row, column), 2));
+                ratios.add(BigDecimal.valueOf(simulation.ratioMicros(row, column), 4));
+                affordable[column] = simulation.isAffordable(row, column);
+            }
+            results.add(new SimulationRowResponse(
+                    simulation.termMonths(row),
+                    BigDecimal.valueOf(simulation.rateMicros(row), 4),
+                    BigDecimal.valueOf(simulation.maxAffordableCents(row), 2),
+                    payments,
+                    ratios,
+                    affordable));
+        }
+
+        return new SimulationResponse(
+                documentNumber,
+                simulation.monthlySalary().toBigDecimal(),
+                simulation.existingMonthlyPayments().toBigDecimal(),
+                simulation.maximumCreditAmount().toBigDecimal(),
+                CreditApplication.MAX_DEBT_TO_INCOME_RATIO.toPercent(),
+                amounts,
+                results);
+    }
+}
@@ -0,0 +1,83 @@
+package com.coopcredit.infrastructure.adapter.input.rest;
+
+import com.coopcredit.domain.exception.InvalidFieldsException;
+import com.coopcredit.domain.model.FieldProjection;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldsets for list endpoints: {@code fields=id,status,score}.
+ * <p>
+ * Each row is written as a flat object with the selected fields only, in the
+ * order requested, straight from the projected values.
+ */
+final class SparseFields {
+
+    private SparseFields() {
+    }
+
+    /**
+     * Parse a comma-separated selection; repeated fields are kept once.
+     *
+     * @throws InvalidFieldsException for an empty selection or an unknown field
+     */
+    static <F extends Enum<F>> List<F> parse(String fields, F[] values, Function<F, String> name) {
+        List<F> selected = new ArrayList<>();
+        for (String requested : fields.split(",")) {
+            String trimmed = requested.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            F field = Arrays.stream(values).filter(value -> name.apply(value).equals(trimmed)).findFirst()
+                    .orElseThrow(() -> new InvalidFieldsException("unknown field '" + trimmed + "', expected "
+                            + Arrays.stream(values).map(name).collect(Collectors.joining(", "))));
+            if (!selected.contains(field)) {
+                selected.add(field);
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new InvalidFieldsException("no field selected");
+        }
+        return selected;
+    }
+
+    /**
+     * ETag qualifier of a selection: the field ordinals in order, one base-36 digit each.
+     */
+    static String qualifier(List<? extends Enum<?>> fields) {
+        StringBuilder qualifier = new StringBuilder(fields.size());
+        for (Enum<?> field : fields) {
+            qualifier.append(Character.forDigit(field.ordinal(), Character.MAX_RADIX));
+        }
+        return qualifier.toString();
+    }
+
+    static <F extends Enum<F>> StreamingResponseBody write(ObjectMapper objectMapper, FieldProjection<F> projection,
+            Function<F, String> name) {
+        SerializedString[] names = projection.fields().stream().map(field -> new SerializedString(name.apply(field)))
+                .toArray(SerializedString[]::new);
+        return out -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                json.writeStartArray();
+                for (Object[] row : projection.rows()) {
+                    json.writeStartObject();
+                    for (int i = 0; i < names.length; i++) {
+                        json.writeFieldName(names[i]);
+                        json.writeObject(row[i]);
+                    }
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+            }
+        };
+    }
+}
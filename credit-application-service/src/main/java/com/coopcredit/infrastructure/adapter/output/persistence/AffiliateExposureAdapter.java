@@ -0,0 +1,209 @@
+package com.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.coopcredit.domain.model.AffiliateExposure;
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.Money;
+import com.coopcredit.domain.model.enums.ApplicationStatus;
+import com.coopcredit.domain.port.output.AffiliateExposurePort;
+import com.coopcredit.infrastructure.adapter.output.persistence.entity.AffiliateExposureEntity;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaAffiliateExposureRepository;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaAffiliateExposureRepository.ExposureRow;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaCreditApplicationRepository;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaCreditApplicationRepository.AffiliateCount;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaCreditApplicationRepository.CreditTerms;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * JPA adapter implementing the AffiliateExposurePort.
+ * <p>
+ * Each affiliate has one affiliate_exposure row, changed under a row lock by the
+ * transaction that creates or decides one of its applications; the first change
+ * inserts the row from the applications themselves. Committed rows are copied
+ * into a ConcurrentHashMap keyed by affiliate, and evaluations only read the
+ * row's revision (a primary key lookup) to check that the copy is current.
+ * Other instances change the rows too, and their changes reach this mirror
+ * only through that check, so the mirror is a cache and never the source of
+ * truth. {@link AffiliateExposureReconciler} periodically recomputes the rows
+ * from the applications and corrects any drift.
+ */
+@Component
+public class AffiliateExposureAdapter implements AffiliateExposurePort {
+
+    private final JpaAffiliateExposureRepository exposureRepository;
+    private final JpaCreditApplicationRepository applicationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConcurrentHashMap<Long, AffiliateExposureChangedEvent> mirror = new ConcurrentHashMap<>();
+
+    public AffiliateExposureAdapter(
+            JpaAffiliateExposureRepository exposureRepository,
+            JpaCreditApplicationRepository applicationRepository,
+            ApplicationEventPublisher eventPublisher) {
+        this.exposureRepository = exposureRepository;
+        this.applicationRepository = applicationRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public AffiliateExposure findByAffiliateId(Long affiliateId) {
+        Long revision = exposureRepository.findRevision(affiliateId).orElse(null);
+        if (revision == null) {
+            // Before its first reconcile an affiliate may have no row
+            return fromApplications(affiliateId);
+        }
+        AffiliateExposureChangedEvent mirrored = mirror.get(affiliateId);
+        if (mirrored != null && mirrored.revision() == revision) {
+            return mirrored.exposure();
+        }
+        // Not mirrored yet, or changed by another instance
+        return exposureRepository.findRow(affiliateId)
+                .map(row -> mirror(toEvent(row)).exposure())
+                .orElseGet(() -> fromApplications(affiliateId));
+    }
+
+    @Override
+    public void applicationCreated(Long affiliateId) {
+        apply(affiliateId, Money.ZERO, 1);
+    }
+
+    @Override
+    public void applicationDecided(Long affiliateId, Money monthlyPayment, boolean approved) {
+        apply(affiliateId, approved && monthlyPayment != null ? monthlyPayment : Money.ZERO, -1);
+    }
+
+    private void apply(Long affiliateId, Money paymentDelta, int pendingDelta) {
+        AffiliateExposureEntity row = exposureRepository.findForUpdate(affiliateId).orElse(null);
+        if (row == null) {
+            // The queries flush this transaction's application first, so the
+            // computed values already include the change
+            AffiliateExposure exposure = fromApplications(affiliateId);
+            if (insert(exposure)) {
+                return;
+            }
+            row = exposureRepository.findForUpdate(affiliateId).orElseThrow();
+        }
+        row.setApprovedMonthlyPayments(Money.of(row.getApprovedMonthlyPayments()).plus(paymentDelta).toBigDecimal());
+        row.setPendingCount(Math.max(0, row.getPendingCount() + pendingDelta));
+        touch(row);
+    }
+
+    /**
+     * Affiliates whose row does not match their applications, found by one scan
+     * of the approved credits, the pending counts and the exposure table.
+     * Mirrored rows that do match are refreshed. Must run in a transaction.
+     */
+    public List<Long> findDrift() {
+        Map<Long, long[]> expected = new HashMap<>(); // { approved payment cents, pending count }
+        try (Stream<CreditTerms> approved = applicationRepository.streamTermsByStatus(ApplicationStatus.APPROVED)) {
+            approved.forEach(terms -> expected.computeIfAbsent(terms.getAffiliateId(), id -> new long[2])[0]
+                    += monthlyPayment(terms).cents());
+        }
+        for (AffiliateCount pending : applicationRepository.countByStatusGroupByAffiliate(ApplicationStatus.PENDING)) {
+            expected.computeIfAbsent(pending.getAffiliateId(), id -> new long[2])[1] = pending.getCount();
+        }
+
+        List<Long> drifted = new ArrayList<>();
+        try (Stream<ExposureRow> rows = exposureRepository.streamAll()) {
+            rows.forEach(row -> {
+                long[] values = expected.remove(row.getAffiliateId());
+                long approvedCents = values != null ? values[0] : 0;
+                long pendingCount = values != null ? values[1] : 0;
+                if (Money.of(row.getApprovedMonthlyPayments()).cents() != approvedCents
+                        || row.getPendingCount() != pendingCount) {
+                    drifted.add(row.getAffiliateId());
+                } else if (mirror.containsKey(row.getAffiliateId())) {
+                    mirror(new AffiliateExposureChangedEvent(new AffiliateExposure(row.getAffiliateId(),
+                            Money.ofCents(approvedCents), (int) pendingCount), row.getRevision()));
+                }
+            });
+        }
+        drifted.addAll(expected.keySet()); // Applications without a row
+        return drifted;
+    }
+
+    /**
+     * Recompute an affiliate's row from its applications while holding the row
+     * lock. Must run in a transaction.
+     *
+     * @return whether the row was inserted or corrected
+     */
+    public boolean reconcile(Long affiliateId) {
+        AffiliateExposureEntity row = exposureRepository.findForUpdate(affiliateId).orElse(null);
+        AffiliateExposure exposure = fromApplications(affiliateId);
+        if (row == null) {
+            return insert(exposure);
+        }
+        if (toEvent(row).exposure().equals(exposure)) {
+            return false;
+        }
+        row.setApprovedMonthlyPayments(exposure.approvedMonthlyPayments().toBigDecimal());
+        row.setPendingCount(exposure.pendingCount());
+        touch(row);
+        return true;
+    }
+
+    public int mirroredAffiliates() {
+        return mirror.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void onExposureChanged(AffiliateExposureChangedEvent event) {
+        mirror(event);
+    }
+
+    private AffiliateExposureChangedEvent mirror(AffiliateExposureChangedEvent event) {
+        return mirror.merge(event.exposure().affiliateId(), event,
+                (current, candidate) -> candidate.revision() >= current.revision() ? candidate : current);
+    }
+
+    private boolean insert(AffiliateExposure exposure) {
+        if (exposureRepository.insertIfAbsent(exposure.affiliateId(),
+                exposure.approvedMonthlyPayments().toBigDecimal(), exposure.pendingCount()) == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(new AffiliateExposureChangedEvent(exposure, 0));
+        return true;
+    }
+
+    private void touch(AffiliateExposureEntity row) {
+        row.setRevision(row.getRevision() + 1);
+        row.setUpdatedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(toEvent(row));
+    }
+
+    private AffiliateExposure fromApplications(Long affiliateId) {
+        Money approved = Money.ZERO;
+        for (CreditTerms terms : applicationRepository.findTermsByAffiliateIdAndStatus(affiliateId,
+                ApplicationStatus.APPROVED)) {
+            approved = approved.plus(monthlyPayment(terms));
+        }
+        long pending = applicationRepository.countByAffiliateIdAndStatus(affiliateId, ApplicationStatus.PENDING);
+        return new AffiliateExposure(affiliateId, approved, (int) pending);
+    }
+
+    private static Money monthlyPayment(CreditTerms terms) {
+        Money payment = new CreditApplication(null, null, terms.getRequestedAmount(), terms.getTermMonths(),
+                terms.getProposedRate()).monthlyPayment();
+        return payment != null ? payment : Money.ZERO;
+    }
+
+    private static AffiliateExposureChangedEvent toEvent(ExposureRow row) {
+        return new AffiliateExposureChangedEvent(new AffiliateExposure(row.getAffiliateId(),
+                Money.of(row.getApprovedMonthlyPayments()), row.getPendingCount()), row.getRevision());
+    }
+
+    private static AffiliateExposureChangedEvent toEvent(AffiliateExposureEntity row) {
+        return new AffiliateExposureChangedEvent(new AffiliateExposure(row.getAffiliateId(),
+                Money.of(row.getApprovedMonthlyPayments()), row.getPendingCount()), row.getRevision());
+    }
+}
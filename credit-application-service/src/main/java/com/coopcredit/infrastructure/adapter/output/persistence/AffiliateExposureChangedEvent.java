@@ -0,0 +1,11 @@
+package com.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.coopcredit.domain.model.AffiliateExposure;
+
+/**
+ * Event published whenever an affiliate_exposure row is written through the
+ * AffiliateExposureAdapter. The adapter applies it to its in-memory copy once
+ * the transaction commits; the revision orders events that arrive late.
+ */
+public record AffiliateExposureChangedEvent(AffiliateExposure exposure, long revision) {
+}
@@ -0,0 +1,116 @@
+package com.coopcredit.infrastructure.adapter.output.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Periodically recomputes the affiliate exposure rows from the credit
+ * applications, starting when the application is ready (which also fills the
+ * table on first deployment). Drift is found with one read-only scan, then each
+ * drifted affiliate is corrected in its own short transaction under its row
+ * lock, so concurrent creates and decisions are never overwritten.
+ */
+@Component
+public class AffiliateExposureReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(AffiliateExposureReconciler.class);
+
+    private final AffiliateExposureAdapter exposureAdapter;
+    private final TransactionTemplate scanTransaction;
+    private final TransactionTemplate fixTransaction;
+    private final Duration interval;
+    private final Timer reconcileTimer;
+    private final Counter corrections;
+    private final ScheduledExecutorService scheduler;
+
+    public AffiliateExposureReconciler(
+            AffiliateExposureAdapter exposureAdapter,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.exposure.reconcile-interval:10m}") Duration interval) {
+        this.exposureAdapter = exposureAdapter;
+        this.scanTransaction = new TransactionTemplate(transactionManager);
+        this.scanTransaction.setReadOnly(true);
+        this.fixTransaction = new TransactionTemplate(transactionManager);
+        this.interval = interval;
+        this.reconcileTimer = Timer.builder("credit.exposure.reconcile")
+                .description("Time spent reconciling affiliate exposure")
+                .register(meterRegistry);
+        this.corrections = Counter.builder("credit.exposure.corrections")
+                .description("Affiliate exposure rows inserted or corrected by the reconciler")
+                .register(meterRegistry);
+        Gauge.builder("credit.exposure.mirrored", exposureAdapter, AffiliateExposureAdapter::mirroredAffiliates)
+                .description("Affiliates whose exposure is held in memory")
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "exposure-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (interval.isZero() || interval.isNegative()) {
+            log.info("Affiliate exposure reconciliation disabled");
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(this::reconcileQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Run one reconciliation pass.
+     *
+     * @return the number of affiliates whose row was inserted or corrected
+     */
+    public int reconcile() {
+        long start = System.nanoTime();
+        List<Long> drifted = scanTransaction.execute(status -> exposureAdapter.findDrift());
+        int corrected = 0;
+        for (Long affiliateId : drifted) {
+            if (Boolean.TRUE.equals(fixTransaction.execute(status -> exposureAdapter.reconcile(affiliateId)))) {
+                corrected++;
+            }
+        }
+        reconcileTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        corrections.increment(corrected);
+        if (corrected > 0) {
+            log.info("Affiliate exposure reconciled {} {}", kv("drifted", drifted.size()), kv("corrected", corrected));
+        } else {
+            log.debug("Affiliate exposure reconciled {}", kv("drifted", drifted.size()));
+        }
+        return corrected;
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException ex) {
+            log.warn("Could not reconcile affiliate exposure", ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -1,14 +1,21 @@
 package com.coopcredit.infrastructure.adapter.output.persistence;
 
 import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.FieldProjection;
+import com.coopcredit.domain.model.VersionStamp;
+import com.coopcredit.domain.model.enums.AffiliateField;
 import com.coopcredit.domain.port.output.AffiliateRepositoryPort;
 import com.coopcredit.infrastructure.adapter.output.persistence.entity.AffiliateEntity;
 import com.coopcredit.infrastructure.adapter.output.persistence.mapper.AffiliateMapper;
 import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaAffiliateRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * JPA adapter implementing the AffiliateRepositoryPort.
@@ -18,10 +25,13 @@ public class AffiliateRepositoryAdapter implements AffiliateRepositoryPort {
 
     private final JpaAffiliateRepository jpaRepository;
     private final AffiliateMapper mapper;
+    private final EntityManager entityManager;
 
-    public AffiliateRepositoryAdapter(JpaAffiliateRepository jpaRepository, AffiliateMapper mapper) {
+    public AffiliateRepositoryAdapter(JpaAffiliateRepository jpaRepository, AffiliateMapper mapper,
+            EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -43,6 +53,11 @@ public class AffiliateRepositoryAdapter implements AffiliateRepositoryPort {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Affiliate> findAllByDocumentNumber(Collection<String> documentNumbers) {
+        return mapper.toDomainList(jpaRepository.findByDocumentNumberIn(documentNumbers));
+    }
+
     @Override
     public List<Affiliate> findAll() {
         return mapper.toDomainList(jpaRepository.findAll());
@@ -53,6 +68,42 @@ public class AffiliateRepositoryAdapter implements AffiliateRepositoryPort {
         return jpaRepository.existsByDocumentNumber(documentNumber);
     }
 
+    @Override
+    public FieldProjection<AffiliateField> findFields(List<AffiliateField> fields) {
+        String columns = fields.stream().map(AffiliateRepositoryAdapter::column).collect(Collectors.joining(", "));
+        List<Object[]> rows = entityManager.createQuery("SELECT " + columns + " FROM AffiliateEntity a", Object[].class)
+                .getResultList();
+        int months = fields.indexOf(AffiliateField.MONTHS_OF_AFFILIATION);
+        if (months >= 0) {
+            for (Object[] row : rows) {
+                row[months] = Affiliate.monthsOfAffiliation((LocalDate) row[months]);
+            }
+        }
+        return new FieldProjection<>(fields, rows);
+    }
+
+    private static String column(AffiliateField field) {
+        return switch (field) {
+            case ID -> "a.id";
+            case DOCUMENT_NUMBER -> "a.documentNumber";
+            case NAME -> "a.name";
+            case SALARY -> "a.salary";
+            case AFFILIATION_DATE, MONTHS_OF_AFFILIATION -> "a.affiliationDate";
+            case STATUS -> "a.status";
+        };
+    }
+
+    @Override
+    public Optional<VersionStamp> findVersionByDocumentNumber(String documentNumber) {
+        return Optional.of(jpaRepository.summarizeVersionByDocumentNumber(documentNumber).toStamp())
+                .filter(stamp -> stamp.count() > 0);
+    }
+
+    @Override
+    public VersionStamp versionOfAll() {
+        return jpaRepository.summarizeVersion().toStamp();
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
@@ -1,7 +1,12 @@
 package com.coopcredit.infrastructure.adapter.output.persistence;
 
 import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.FieldProjection;
+import com.coopcredit.domain.model.Money;
+import com.coopcredit.domain.model.Rate;
+import com.coopcredit.domain.model.VersionStamp;
 import com.coopcredit.domain.model.enums.ApplicationStatus;
+import com.coopcredit.domain.model.enums.CreditApplicationField;
 import com.coopcredit.domain.port.output.CreditApplicationRepositoryPort;
 import com.coopcredit.infrastructure.adapter.output.persistence.entity.AffiliateEntity;
 import com.coopcredit.infrastructure.adapter.output.persistence.entity.CreditApplicationEntity;
@@ -9,8 +14,14 @@ import com.coopcredit.infrastructure.adapter.output.persistence.entity.RiskEvalu
 import com.coopcredit.infrastructure.adapter.output.persistence.mapper.CreditApplicationMapper;
 import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaAffiliateRepository;
 import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaCreditApplicationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,14 +34,17 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
     private final JpaCreditApplicationRepository jpaRepository;
     private final JpaAffiliateRepository affiliateRepository;
     private final CreditApplicationMapper mapper;
+    private final EntityManager entityManager;
 
     public CreditApplicationRepositoryAdapter(
             JpaCreditApplicationRepository jpaRepository,
             JpaAffiliateRepository affiliateRepository,
-            CreditApplicationMapper mapper) {
+            CreditApplicationMapper mapper,
+            EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.affiliateRepository = affiliateRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -42,6 +56,10 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
             entity = jpaRepository.findById(application.getId())
                     .orElseThrow(() -> new RuntimeException("Application not found: " + application.getId()));
 
+            // The risk evaluation is not a column of the application, so replacing it
+            // alone would leave the version, and with it the ETag, unchanged
+            boolean statusChanged = entity.getStatus() != application.getStatus();
+
             entity.setRequestedAmount(application.getRequestedAmount());
             entity.setTermMonths(application.getTermMonths());
             entity.setProposedRate(application.getProposedRate());
@@ -53,6 +71,9 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
                 RiskEvaluationEntity riskEntity = mapper.riskEvaluationToEntity(application.getRiskEvaluation());
                 riskEntity.setCreditApplication(entity);
                 entity.setRiskEvaluation(riskEntity);
+                if (!statusChanged) {
+                    entityManager.lock(entity, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+                }
             }
         } else {
             // Create new
@@ -73,7 +94,8 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
 
     @Override
     public Optional<CreditApplication> findById(Long id) {
-        return jpaRepository.findById(id)
+        // Mapping touches the affiliate and risk evaluation, so load them with the application
+        return jpaRepository.findByIdWithAffiliate(id)
                 .map(mapper::toDomain);
     }
 
@@ -83,6 +105,11 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<CreditApplication> findAllByIdWithAffiliate(Collection<Long> ids) {
+        return mapper.toDomainList(jpaRepository.findAllByIdWithAffiliate(ids));
+    }
+
     @Override
     public List<CreditApplication> findByAffiliateId(Long affiliateId) {
         return mapper.toDomainList(jpaRepository.findByAffiliateId(affiliateId));
@@ -103,6 +130,114 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
         return mapper.toDomainList(jpaRepository.findAllWithAffiliate());
     }
 
+    /**
+     * Selects just the columns behind the requested fields, joining the affiliate
+     * and the risk evaluation only when one of their columns is needed.
+     */
+    @Override
+    public FieldProjection<CreditApplicationField> findFields(List<CreditApplicationField> fields,
+            ApplicationStatus status, String documentNumber) {
+        List<String> columns = new ArrayList<>();
+        for (CreditApplicationField field : fields) {
+            columns.addAll(columns(field));
+        }
+        StringBuilder jpql = new StringBuilder("SELECT ").append(String.join(", ", columns))
+                .append(" FROM CreditApplicationEntity c");
+        if (documentNumber != null || columns.stream().anyMatch(column -> column.startsWith("a."))) {
+            jpql.append(" JOIN c.affiliate a");
+        }
+        if (columns.stream().anyMatch(column -> column.startsWith("r."))) {
+            jpql.append(" LEFT JOIN c.riskEvaluation r");
+        }
+        List<String> conditions = new ArrayList<>(2);
+        if (status != null) {
+            conditions.add("c.status = :status");
+        }
+        if (documentNumber != null) {
+            conditions.add("a.documentNumber = :documentNumber");
+        }
+        if (!conditions.isEmpty()) {
+            jpql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (documentNumber != null) {
+            query.setParameter("documentNumber", documentNumber);
+        }
+        List<Object[]> tuples = query.getResultList();
+        List<Object[]> rows = new ArrayList<>(tuples.size());
+        for (Object[] tuple : tuples) {
+            Object[] row = new Object[fields.size()];
+            int column = 0;
+            for (int f = 0; f < row.length; f++) {
+                row[f] = value(fields.get(f), tuple, column);
+                column += columns(fields.get(f)).size();
+            }
+            rows.add(row);
+        }
+        return new FieldProjection<>(fields, rows);
+    }
+
+    private static List<String> columns(CreditApplicationField field) {
+        return switch (field) {
+            case ID -> List.of("c.id");
+            case AFFILIATE_DOCUMENT_NUMBER -> List.of("a.documentNumber");
+            case AFFILIATE_NAME -> List.of("a.name");
+            case REQUESTED_AMOUNT -> List.of("c.requestedAmount");
+            case TERM_MONTHS -> List.of("c.termMonths");
+            case PROPOSED_RATE -> List.of("c.proposedRate");
+            case ESTIMATED_MONTHLY_PAYMENT -> List.of("c.requestedAmount", "c.proposedRate", "c.termMonths");
+            case APPLICATION_DATE -> List.of("c.applicationDate");
+            case STATUS -> List.of("c.status");
+            case SCORE -> List.of("r.score");
+            case RISK_LEVEL -> List.of("r.riskLevel");
+            case DEBT_TO_INCOME_RATIO -> List.of("r.debtToIncomeRatio");
+            case WARNINGS -> List.of("r.id", "r.warningCodes");
+            case REASON -> List.of("r.reason");
+            case DETAILS -> List.of("r.details");
+            case EVALUATION_DATE -> List.of("r.evaluationDate");
+            case APPROVED -> List.of("r.approved");
+        };
+    }
+
+    private Object value(CreditApplicationField field, Object[] tuple, int column) {
+        return switch (field) {
+            case ESTIMATED_MONTHLY_PAYMENT -> {
+                BigDecimal amount = (BigDecimal) tuple[column];
+                BigDecimal rate = (BigDecimal) tuple[column + 1];
+                Money payment = CreditApplication.monthlyPayment(amount != null ? Money.of(amount) : null,
+                        rate != null ? Rate.ofPercent(rate) : null, (Integer) tuple[column + 2]);
+                yield payment != null ? payment.toBigDecimal() : BigDecimal.ZERO;
+            }
+            // Empty for an evaluation without warnings, null without an evaluation
+            case WARNINGS -> tuple[column] != null ? mapper.toWarnings((String) tuple[column + 1]) : null;
+            default -> tuple[column];
+        };
+    }
+
+    @Override
+    public Optional<VersionStamp> findVersionById(Long id) {
+        return Optional.of(jpaRepository.summarizeVersionById(id).toStamp()).filter(stamp -> stamp.count() > 0);
+    }
+
+    @Override
+    public VersionStamp versionByAffiliateDocumentNumber(String documentNumber) {
+        return jpaRepository.summarizeVersionByAffiliateDocumentNumber(documentNumber).toStamp();
+    }
+
+    @Override
+    public VersionStamp versionByStatus(ApplicationStatus status) {
+        return jpaRepository.summarizeVersionByStatus(status).toStamp();
+    }
+
+    @Override
+    public VersionStamp versionOfAll() {
+        return jpaRepository.summarizeVersion().toStamp();
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
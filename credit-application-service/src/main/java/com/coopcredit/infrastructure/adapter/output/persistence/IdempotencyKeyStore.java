@@ -0,0 +1,264 @@
+package com.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.coopcredit.infrastructure.adapter.output.persistence.entity.IdempotencyKeyEntity;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaIdempotencyKeyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Responses stored under Idempotency-Keys, shared by all instances through the
+ * idempotency_keys table.
+ * <p>
+ * A request claims its key by inserting the row before it is executed, and
+ * fills in the response afterwards; the row of a claim that is never completed
+ * (the instance died) stops blocking the key after the lock timeout. Completed
+ * responses are also kept in a local cache, so most retries are answered
+ * without a query. Duplicates arriving on this instance while the first request
+ * is still running wait for it and get its response, instead of a conflict.
+ * {@link IdempotencyKeySweeper} deletes the rows once they expire.
+ */
+@Component
+public class IdempotencyKeyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyStore.class);
+
+    private final JpaIdempotencyKeyRepository repository;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Cache<Key, StoredResponse> completed;
+    private final ConcurrentHashMap<Key, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public IdempotencyKeyStore(
+            JpaIdempotencyKeyRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${app.idempotency.ttl:24h}") Duration ttl,
+            @Value("${app.idempotency.lock-timeout:1m}") Duration lockTimeout,
+            @Value("${app.idempotency.cache.max-size:10000}") long cacheMaxSize) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+        this.completed = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(cacheMaxSize)
+                .build();
+        Gauge.builder("credit.idempotency.cached", completed, Cache::estimatedSize)
+                .description("Stored idempotent responses held in memory")
+                .register(meterRegistry);
+        Gauge.builder("credit.idempotency.in_flight", inFlight, ConcurrentHashMap::size)
+                .description("Idempotent requests being executed on this instance")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Decide what to do with a request carrying an Idempotency-Key. Blocks, up to
+     * the lock timeout, while a duplicate is being executed on this instance.
+     *
+     * @param requestHash fingerprint of the request; a key can only be reused for the same request
+     */
+    public Outcome begin(String owner, String idempotencyKey, String requestHash) {
+        Key key = new Key(owner, idempotencyKey);
+        Outcome outcome = claim(key, requestHash);
+        count(outcome);
+        return outcome;
+    }
+
+    /**
+     * Finish the execution of a claimed key. Responses that a retry could change
+     * (server errors, conflicts, throttling and authorization failures) are handed
+     * to the waiting duplicates but not stored, and the key is released.
+     */
+    public void complete(Claim claim, StoredResponse response) {
+        try {
+            if (isReplayable(response.status())) {
+                repository.complete(claim.key.owner(), claim.key.idempotencyKey(), response.status(),
+                        response.contentType(), response.body(), LocalDateTime.now().plus(ttl));
+                completed.put(claim.key, response);
+            } else {
+                repository.release(claim.key.owner(), claim.key.idempotencyKey());
+            }
+        } catch (RuntimeException ex) {
+            // The response is still sent; the key stays claimed until the lock timeout
+            log.warn("Could not store idempotent response {}", kv("owner", claim.key.owner()), ex);
+        } finally {
+            inFlight.remove(claim.key, claim.inFlight);
+            claim.inFlight.response().complete(response);
+        }
+    }
+
+    /**
+     * Release a claimed key whose execution failed without a response; waiting
+     * duplicates are executed again.
+     */
+    public void abandon(Claim claim) {
+        try {
+            repository.release(claim.key.owner(), claim.key.idempotencyKey());
+        } catch (RuntimeException ex) {
+            log.warn("Could not release idempotency key {}", kv("owner", claim.key.owner()), ex);
+        } finally {
+            inFlight.remove(claim.key, claim.inFlight);
+            claim.inFlight.response().complete(null);
+        }
+    }
+
+    /**
+     * Delete the expired rows.
+     *
+     * @return the number of rows deleted
+     */
+    public int deleteExpired() {
+        return repository.deleteExpired(LocalDateTime.now());
+    }
+
+    private Outcome claim(Key key, String requestHash) {
+        StoredResponse cached = completed.getIfPresent(key);
+        if (cached != null) {
+            return cached.requestHash().equals(requestHash)
+                    ? new Outcome(Outcome.Kind.REPLAYED, null, cached)
+                    : new Outcome(Outcome.Kind.MISMATCH, null, null);
+        }
+
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(key, running, requestHash);
+        }
+
+        boolean claimed = false;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            claimed = insert(key, requestHash, now);
+            if (!claimed && repository.deleteIfExpired(key.owner(), key.idempotencyKey(), now) > 0) {
+                claimed = insert(key, requestHash, now);
+            }
+            if (claimed) {
+                return new Outcome(Outcome.Kind.EXECUTE, new Claim(key, mine), null);
+            }
+            Optional<IdempotencyKeyEntity> stored = repository.findById(
+                    new IdempotencyKeyEntity.Key(key.owner(), key.idempotencyKey()));
+            if (stored.isEmpty()) {
+                // Released between the insert and the read
+                return new Outcome(Outcome.Kind.IN_PROGRESS, null, null);
+            }
+            IdempotencyKeyEntity entity = stored.get();
+            if (!entity.getRequestHash().equals(requestHash)) {
+                return new Outcome(Outcome.Kind.MISMATCH, null, null);
+            }
+            if (entity.getStatus() == null) {
+                // Being executed by another instance
+                return new Outcome(Outcome.Kind.IN_PROGRESS, null, null);
+            }
+            StoredResponse response = new StoredResponse(entity.getRequestHash(), entity.getStatus(),
+                    entity.getContentType(), entity.getBody());
+            completed.put(key, response);
+            return new Outcome(Outcome.Kind.REPLAYED, null, response);
+        } finally {
+            if (!claimed) {
+                inFlight.remove(key, mine);
+                mine.response().complete(null);
+            }
+        }
+    }
+
+    private boolean insert(Key key, String requestHash, LocalDateTime now) {
+        return repository.insertIfAbsent(key.owner(), key.idempotencyKey(), requestHash, now,
+                now.plus(lockTimeout)) == 1;
+    }
+
+    private Outcome await(Key key, InFlight running, String requestHash) {
+        if (!running.requestHash().equals(requestHash)) {
+            return new Outcome(Outcome.Kind.MISMATCH, null, null);
+        }
+        try {
+            StoredResponse response = running.response().get(lockTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            // Null when the first execution failed or lost the key to another instance
+            return response != null
+                    ? new Outcome(Outcome.Kind.COLLAPSED, null, response)
+                    : claim(key, requestHash);
+        } catch (TimeoutException ex) {
+            return new Outcome(Outcome.Kind.IN_PROGRESS, null, null);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return new Outcome(Outcome.Kind.IN_PROGRESS, null, null);
+        } catch (ExecutionException ex) {
+            return new Outcome(Outcome.Kind.IN_PROGRESS, null, null);
+        }
+    }
+
+    private static boolean isReplayable(int status) {
+        return status < 500 && status != 401 && status != 403 && status != 409 && status != 429;
+    }
+
+    private void count(Outcome outcome) {
+        Counter.builder("credit.idempotency.requests")
+                .description("Requests carrying an Idempotency-Key, by outcome")
+                .tag("outcome", outcome.kind().name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record Key(String owner, String idempotencyKey) {
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<StoredResponse> response) {
+    }
+
+    /**
+     * A key claimed by this instance, to be passed back to {@link #complete} or {@link #abandon}.
+     */
+    public static final class Claim {
+
+        private final Key key;
+        private final InFlight inFlight;
+
+        private Claim(Key key, InFlight inFlight) {
+            this.key = key;
+            this.inFlight = inFlight;
+        }
+    }
+
+    /**
+     * What to do with a request: execute it under its {@code claim}, answer with
+     * {@code response}, or reject it.
+     */
+    public record Outcome(Kind kind, Claim claim, StoredResponse response) {
+
+        public enum Kind {
+            /** First request with the key: execute it. */
+            EXECUTE,
+            /** Answer with the stored response. */
+            REPLAYED,
+            /** Answer with the response of the duplicate that was running on this instance. */
+            COLLAPSED,
+            /** The key was used for a different request. */
+            MISMATCH,
+            /** A duplicate is still being executed elsewhere. */
+            IN_PROGRESS
+        }
+    }
+
+    /**
+     * A response as sent to the first request with the key.
+     */
+    public record StoredResponse(String requestHash, int status, String contentType, String body) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.coopcredit.infrastructure.adapter.output.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Periodically deletes the expired idempotency_keys rows, starting when the
+ * application is ready. Expired rows are already ignored when a key is claimed,
+ * so sweeping only keeps the table small.
+ */
+@Component
+public class IdempotencyKeySweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeySweeper.class);
+
+    private final IdempotencyKeyStore store;
+    private final Duration interval;
+    private final Counter swept;
+    private final ScheduledExecutorService scheduler;
+
+    public IdempotencyKeySweeper(
+            IdempotencyKeyStore store,
+            MeterRegistry meterRegistry,
+            @Value("${app.idempotency.sweep-interval:15m}") Duration interval) {
+        this.store = store;
+        this.interval = interval;
+        this.swept = Counter.builder("credit.idempotency.swept")
+                .description("Expired idempotency keys deleted by the sweeper")
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (interval.isZero() || interval.isNegative()) {
+            log.info("Idempotency key sweeping disabled");
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(this::sweepQuietly, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Run one sweep.
+     *
+     * @return the number of keys deleted
+     */
+    public int sweep() {
+        int deleted = store.deleteExpired();
+        swept.increment(deleted);
+        log.debug("Idempotency keys swept {}", kv("deleted", deleted));
+        return deleted;
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (RuntimeException ex) {
+            log.warn("Could not sweep idempotency keys", ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,9 @@
+package com.coopcredit.infrastructure.adapter.output.persistence;
+
+/**
+ * Event published whenever a user is persisted through the
+ * UserRepositoryAdapter (registration, role changes, enable/disable).
+ * Listeners use it to drop any cached security data for the user.
+ */
+public record UserChangedEvent(String username) {
+}
@@ -1,12 +1,19 @@
 package com.coopcredit.infrastructure.adapter.output.persistence;
 
+import com.coopcredit.domain.exception.DuplicateUserException;
 import com.coopcredit.domain.model.User;
 import com.coopcredit.domain.port.output.UserRepositoryPort;
+import com.coopcredit.infrastructure.adapter.output.persistence.entity.UserEntity;
 import com.coopcredit.infrastructure.adapter.output.persistence.mapper.UserMapper;
 import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaUserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 /**
  * JPA adapter implementing the UserRepositoryPort.
@@ -14,19 +21,55 @@ import java.util.Optional;
 @Component
 public class UserRepositoryAdapter implements UserRepositoryPort {
 
+    private static final Pattern H2_INDEX_SUFFIX = Pattern.compile("_index_\\d+$");
+
     private final JpaUserRepository jpaRepository;
     private final UserMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserRepositoryAdapter(JpaUserRepository jpaRepository, UserMapper mapper) {
+    public UserRepositoryAdapter(JpaUserRepository jpaRepository, UserMapper mapper,
+            ApplicationEventPublisher eventPublisher) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * Save a user. Username and email uniqueness is enforced by the table's
+     * unique constraints; a violation of either is translated to a
+     * DuplicateUserException, any other integrity violation is rethrown.
+     */
     @Override
     public User save(User user) {
         var entity = mapper.toEntity(user);
-        var savedEntity = jpaRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        try {
+            var savedEntity = jpaRepository.save(entity);
+            eventPublisher.publishEvent(new UserChangedEvent(savedEntity.getUsername()));
+            return mapper.toDomain(savedEntity);
+        } catch (DataIntegrityViolationException ex) {
+            String constraint = violatedConstraint(ex);
+            if (UserEntity.USERNAME_CONSTRAINT.equals(constraint)) {
+                throw DuplicateUserException.username(user.getUsername());
+            }
+            if (UserEntity.EMAIL_CONSTRAINT.equals(constraint)) {
+                throw DuplicateUserException.email(user.getEmail());
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * The unqualified, lower-case name of the violated constraint, or null when
+     * the driver did not report one. H2 reports the index backing the
+     * constraint, e.g. {@code PUBLIC.USERS_EMAIL_KEY_INDEX_4 ON PUBLIC.USERS(EMAIL)}.
+     */
+    static String violatedConstraint(DataIntegrityViolationException ex) {
+        if (!(ex.getCause() instanceof ConstraintViolationException cve) || cve.getConstraintName() == null) {
+            return null;
+        }
+        String name = cve.getConstraintName().trim().split("\\s", 2)[0].toLowerCase(Locale.ROOT);
+        name = name.substring(name.lastIndexOf('.') + 1);
+        return H2_INDEX_SUFFIX.matcher(name).replaceFirst("");
     }
 
     @Override
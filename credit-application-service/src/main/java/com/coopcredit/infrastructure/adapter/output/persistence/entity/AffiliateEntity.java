@@ -37,6 +37,10 @@ public class AffiliateEntity {
     @OneToMany(mappedBy = "affiliate", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<CreditApplicationEntity> creditApplications = new ArrayList<>();
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public AffiliateEntity() {
     }
 
@@ -97,4 +101,12 @@ public class AffiliateEntity {
     public void setCreditApplications(List<CreditApplicationEntity> creditApplications) {
         this.creditApplications = creditApplications;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
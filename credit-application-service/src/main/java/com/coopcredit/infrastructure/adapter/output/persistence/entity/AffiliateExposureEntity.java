@@ -0,0 +1,75 @@
+package com.coopcredit.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for the per-affiliate exposure aggregate.
+ */
+@Entity
+@Table(name = "affiliate_exposure")
+public class AffiliateExposureEntity {
+
+    @Id
+    @Column(name = "affiliate_id")
+    private Long affiliateId;
+
+    @Column(name = "approved_monthly_payments", nullable = false, precision = 15, scale = 2)
+    private BigDecimal approvedMonthlyPayments;
+
+    @Column(name = "pending_count", nullable = false)
+    private Integer pendingCount;
+
+    // Incremented on every change; orders the copies kept in memory
+    @Column(nullable = false)
+    private Long revision;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public AffiliateExposureEntity() {
+    }
+
+    // Getters and Setters
+
+    public Long getAffiliateId() {
+        return affiliateId;
+    }
+
+    public void setAffiliateId(Long affiliateId) {
+        this.affiliateId = affiliateId;
+    }
+
+    public BigDecimal getApprovedMonthlyPayments() {
+        return approvedMonthlyPayments;
+    }
+
+    public void setApprovedMonthlyPayments(BigDecimal approvedMonthlyPayments) {
+        this.approvedMonthlyPayments = approvedMonthlyPayments;
+    }
+
+    public Integer getPendingCount() {
+        return pendingCount;
+    }
+
+    public void setPendingCount(Integer pendingCount) {
+        this.pendingCount = pendingCount;
+    }
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -40,6 +40,10 @@ public class CreditApplicationEntity {
     @OneToOne(mappedBy = "creditApplication", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private RiskEvaluationEntity riskEvaluation;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public CreditApplicationEntity() {
     }
 
@@ -111,4 +115,12 @@ public class CreditApplicationEntity {
             riskEvaluation.setCreditApplication(this);
         }
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
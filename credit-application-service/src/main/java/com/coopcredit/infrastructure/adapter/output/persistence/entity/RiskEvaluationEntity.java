@@ -20,11 +20,12 @@ public class RiskEvaluationEntity {
     @JoinColumn(name = "credit_application_id", nullable = false, unique = true)
     private CreditApplicationEntity creditApplication;
 
-    @Column(nullable = false)
+    // Score and risk level are NULL when the bureau was skipped (see V8__rule_pipeline.sql)
+    @Column
     private Integer score;
 
     @Enumerated(EnumType.STRING)
-    @Column(name = "risk_level", nullable = false, length = 20)
+    @Column(name = "risk_level", length = 20)
     private RiskLevel riskLevel;
 
     @Column(name = "debt_to_income_ratio", precision = 5, scale = 2)
@@ -33,13 +34,18 @@ public class RiskEvaluationEntity {
     @Column(length = 500)
     private String reason;
 
+    // Comma-separated EvaluationWarning names
+    @Column(name = "warning_codes", length = 200)
+    private String warningCodes;
+
     @Column(length = 1000)
     private String details;
 
     @Column(name = "evaluation_date", nullable = false)
     private LocalDateTime evaluationDate;
 
-    @Column(nullable = false)
+    // NULL until the analyst decides (see V4__allow_null_approved.sql)
+    @Column
     private Boolean approved;
 
     public RiskEvaluationEntity() {
@@ -95,6 +101,14 @@ public class RiskEvaluationEntity {
         this.reason = reason;
     }
 
+    public String getWarningCodes() {
+        return warningCodes;
+    }
+
+    public void setWarningCodes(String warningCodes) {
+        this.warningCodes = warningCodes;
+    }
+
     public String getDetails() {
         return details;
     }
@@ -24,5 +24,6 @@ public interface AffiliateMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "creditApplications", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntity(@MappingTarget AffiliateEntity entity, Affiliate domain);
 }
@@ -2,12 +2,15 @@ package com.coopcredit.infrastructure.adapter.output.persistence.mapper;
 
 import com.coopcredit.domain.model.CreditApplication;
 import com.coopcredit.domain.model.RiskEvaluation;
+import com.coopcredit.domain.model.enums.EvaluationWarning;
 import com.coopcredit.infrastructure.adapter.output.persistence.entity.CreditApplicationEntity;
 import com.coopcredit.infrastructure.adapter.output.persistence.entity.RiskEvaluationEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * MapStruct mapper for CreditApplication domain model and entity.
@@ -21,13 +24,30 @@ public interface CreditApplicationMapper {
 
     @Mapping(source = "affiliate", target = "affiliate")
     @Mapping(target = "riskEvaluation", ignore = true)
+    @Mapping(target = "version", ignore = true)
     CreditApplicationEntity toEntity(CreditApplication domain);
 
     List<CreditApplication> toDomainList(List<CreditApplicationEntity> entities);
 
     @Mapping(target = "creditApplication", ignore = true)
+    @Mapping(source = "warningCodes", target = "warnings")
     RiskEvaluation riskEvaluationToDomain(RiskEvaluationEntity entity);
 
     @Mapping(target = "creditApplication", ignore = true)
+    @Mapping(source = "warnings", target = "warningCodes")
     RiskEvaluationEntity riskEvaluationToEntity(RiskEvaluation domain);
+
+    default List<EvaluationWarning> toWarnings(String warningCodes) {
+        if (warningCodes == null || warningCodes.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(warningCodes.split(",")).map(EvaluationWarning::valueOf).toList();
+    }
+
+    default String toWarningCodes(List<EvaluationWarning> warnings) {
+        if (warnings == null || warnings.isEmpty()) {
+            return null;
+        }
+        return warnings.stream().map(Enum::name).collect(Collectors.joining(","));
+    }
 }
@@ -0,0 +1,66 @@
+package com.coopcredit.infrastructure.adapter.output.persistence.repository;
+
+import com.coopcredit.infrastructure.adapter.output.persistence.entity.AffiliateExposureEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * JPA Repository for AffiliateExposureEntity.
+ */
+@Repository
+public interface JpaAffiliateExposureRepository extends JpaRepository<AffiliateExposureEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM AffiliateExposureEntity e WHERE e.affiliateId = :affiliateId")
+    Optional<AffiliateExposureEntity> findForUpdate(@Param("affiliateId") Long affiliateId);
+
+    /**
+     * Insert the first row of an affiliate; returns 0 when a concurrent
+     * transaction inserted it first.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO affiliate_exposure (affiliate_id, approved_monthly_payments, pending_count, revision, updated_at) "
+            + "VALUES (:affiliateId, :approvedMonthlyPayments, :pendingCount, 0, CURRENT_TIMESTAMP) "
+            + "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("affiliateId") Long affiliateId,
+            @Param("approvedMonthlyPayments") BigDecimal approvedMonthlyPayments,
+            @Param("pendingCount") int pendingCount);
+
+    @Query("SELECT e.revision FROM AffiliateExposureEntity e WHERE e.affiliateId = :affiliateId")
+    Optional<Long> findRevision(@Param("affiliateId") Long affiliateId);
+
+    @Query("SELECT e.affiliateId AS affiliateId, e.approvedMonthlyPayments AS approvedMonthlyPayments, "
+            + "e.pendingCount AS pendingCount, e.revision AS revision FROM AffiliateExposureEntity e "
+            + "WHERE e.affiliateId = :affiliateId")
+    Optional<ExposureRow> findRow(@Param("affiliateId") Long affiliateId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.affiliateId AS affiliateId, e.approvedMonthlyPayments AS approvedMonthlyPayments, "
+            + "e.pendingCount AS pendingCount, e.revision AS revision FROM AffiliateExposureEntity e")
+    Stream<ExposureRow> streamAll();
+
+    /**
+     * Read-only view of a row, so full scans do not fill the persistence context.
+     */
+    interface ExposureRow {
+        Long getAffiliateId();
+
+        BigDecimal getApprovedMonthlyPayments();
+
+        Integer getPendingCount();
+
+        Long getRevision();
+    }
+}
@@ -2,8 +2,12 @@ package com.coopcredit.infrastructure.adapter.output.persistence.repository;
 
 import com.coopcredit.infrastructure.adapter.output.persistence.entity.AffiliateEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,5 +18,16 @@ public interface JpaAffiliateRepository extends JpaRepository<AffiliateEntity, L
 
     Optional<AffiliateEntity> findByDocumentNumber(String documentNumber);
 
+    List<AffiliateEntity> findByDocumentNumberIn(Collection<String> documentNumbers);
+
     boolean existsByDocumentNumber(String documentNumber);
+
+    String VERSION_SUMMARY = "SELECT COUNT(a) AS count, COALESCE(MAX(a.id), 0) AS maxId, "
+            + "COALESCE(SUM(a.version), 0) AS versionSum FROM AffiliateEntity a ";
+
+    @Query(VERSION_SUMMARY + "WHERE a.documentNumber = :documentNumber")
+    VersionSummary summarizeVersionByDocumentNumber(@Param("documentNumber") String documentNumber);
+
+    @Query(VERSION_SUMMARY)
+    VersionSummary summarizeVersion();
 }
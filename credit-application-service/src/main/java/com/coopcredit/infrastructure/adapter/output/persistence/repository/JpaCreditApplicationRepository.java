@@ -2,14 +2,20 @@ package com.coopcredit.infrastructure.adapter.output.persistence.repository;
 
 import com.coopcredit.domain.model.enums.ApplicationStatus;
 import com.coopcredit.infrastructure.adapter.output.persistence.entity.CreditApplicationEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * JPA Repository for CreditApplicationEntity.
@@ -20,16 +26,79 @@ public interface JpaCreditApplicationRepository extends JpaRepository<CreditAppl
     @EntityGraph(value = "CreditApplication.withAffiliate")
     Optional<CreditApplicationEntity> findWithAffiliateById(Long id);
 
-    @Query("SELECT c FROM CreditApplicationEntity c JOIN FETCH c.affiliate WHERE c.id = :id")
+    // The mapper reads both the affiliate and the risk evaluation, and the inverse
+    // one-to-one cannot be proxied, so every read query fetches both in one statement.
+
+    @Query("SELECT c FROM CreditApplicationEntity c JOIN FETCH c.affiliate LEFT JOIN FETCH c.riskEvaluation WHERE c.id = :id")
     Optional<CreditApplicationEntity> findByIdWithAffiliate(@Param("id") Long id);
 
-    List<CreditApplicationEntity> findByAffiliateId(Long affiliateId);
+    @Query("SELECT c FROM CreditApplicationEntity c JOIN FETCH c.affiliate LEFT JOIN FETCH c.riskEvaluation WHERE c.id IN :ids")
+    List<CreditApplicationEntity> findAllByIdWithAffiliate(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c FROM CreditApplicationEntity c JOIN FETCH c.affiliate LEFT JOIN FETCH c.riskEvaluation WHERE c.affiliate.id = :affiliateId")
+    List<CreditApplicationEntity> findByAffiliateId(@Param("affiliateId") Long affiliateId);
 
-    @Query("SELECT c FROM CreditApplicationEntity c JOIN FETCH c.affiliate WHERE c.affiliate.documentNumber = :documentNumber")
+    @Query("SELECT c FROM CreditApplicationEntity c JOIN FETCH c.affiliate LEFT JOIN FETCH c.riskEvaluation WHERE c.affiliate.documentNumber = :documentNumber")
     List<CreditApplicationEntity> findByAffiliateDocumentNumber(@Param("documentNumber") String documentNumber);
 
-    List<CreditApplicationEntity> findByStatus(ApplicationStatus status);
+    @Query("SELECT c FROM CreditApplicationEntity c JOIN FETCH c.affiliate LEFT JOIN FETCH c.riskEvaluation WHERE c.status = :status")
+    List<CreditApplicationEntity> findByStatus(@Param("status") ApplicationStatus status);
 
-    @Query("SELECT c FROM CreditApplicationEntity c JOIN FETCH c.affiliate")
+    @Query("SELECT c FROM CreditApplicationEntity c JOIN FETCH c.affiliate LEFT JOIN FETCH c.riskEvaluation")
     List<CreditApplicationEntity> findAllWithAffiliate();
+
+    // Version stamps for conditional GETs; an application's response shows its
+    // affiliate, so the affiliate's version is part of the application's
+
+    String VERSION_SUMMARY = "SELECT COUNT(c) AS count, COALESCE(MAX(c.id), 0) AS maxId, "
+            + "COALESCE(SUM(c.version + a.version), 0) AS versionSum FROM CreditApplicationEntity c JOIN c.affiliate a ";
+
+    @Query(VERSION_SUMMARY + "WHERE c.id = :id")
+    VersionSummary summarizeVersionById(@Param("id") Long id);
+
+    @Query(VERSION_SUMMARY + "WHERE a.documentNumber = :documentNumber")
+    VersionSummary summarizeVersionByAffiliateDocumentNumber(@Param("documentNumber") String documentNumber);
+
+    @Query(VERSION_SUMMARY + "WHERE c.status = :status")
+    VersionSummary summarizeVersionByStatus(@Param("status") ApplicationStatus status);
+
+    @Query(VERSION_SUMMARY)
+    VersionSummary summarizeVersion();
+
+    // Exposure aggregate sources: the terms of the approved credits (the payment is
+    // computed by the domain) and the pending counts, without loading entities
+
+    @Query("SELECT c.affiliate.id AS affiliateId, c.requestedAmount AS requestedAmount, c.termMonths AS termMonths, "
+            + "c.proposedRate AS proposedRate FROM CreditApplicationEntity c "
+            + "WHERE c.affiliate.id = :affiliateId AND c.status = :status")
+    List<CreditTerms> findTermsByAffiliateIdAndStatus(@Param("affiliateId") Long affiliateId,
+            @Param("status") ApplicationStatus status);
+
+    @Query("SELECT COUNT(c) FROM CreditApplicationEntity c WHERE c.affiliate.id = :affiliateId AND c.status = :status")
+    long countByAffiliateIdAndStatus(@Param("affiliateId") Long affiliateId, @Param("status") ApplicationStatus status);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.affiliate.id AS affiliateId, c.requestedAmount AS requestedAmount, c.termMonths AS termMonths, "
+            + "c.proposedRate AS proposedRate FROM CreditApplicationEntity c WHERE c.status = :status")
+    Stream<CreditTerms> streamTermsByStatus(@Param("status") ApplicationStatus status);
+
+    @Query("SELECT c.affiliate.id AS affiliateId, COUNT(c) AS count FROM CreditApplicationEntity c "
+            + "WHERE c.status = :status GROUP BY c.affiliate.id")
+    List<AffiliateCount> countByStatusGroupByAffiliate(@Param("status") ApplicationStatus status);
+
+    interface CreditTerms {
+        Long getAffiliateId();
+
+        BigDecimal getRequestedAmount();
+
+        Integer getTermMonths();
+
+        BigDecimal getProposedRate();
+    }
+
+    interface AffiliateCount {
+        Long getAffiliateId();
+
+        Long getCount();
+    }
 }
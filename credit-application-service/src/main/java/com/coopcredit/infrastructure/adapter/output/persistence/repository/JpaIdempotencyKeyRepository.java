@@ -0,0 +1,65 @@
+package com.coopcredit.infrastructure.adapter.output.persistence.repository;
+
+import com.coopcredit.infrastructure.adapter.output.persistence.entity.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Repository for IdempotencyKeyEntity. Every write is its own short
+ * transaction, independent of the request it guards.
+ */
+@Repository
+public interface JpaIdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, IdempotencyKeyEntity.Key> {
+
+    /**
+     * Claim a key for a request about to be executed; returns 0 when the key
+     * already exists.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (owner, idempotency_key, request_hash, created_at, expires_at) "
+            + "VALUES (:owner, :key, :requestHash, :createdAt, :expiresAt) "
+            + "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("owner") String owner,
+            @Param("key") String key,
+            @Param("requestHash") String requestHash,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyKeyEntity k SET k.status = :status, k.contentType = :contentType, k.body = :body, "
+            + "k.expiresAt = :expiresAt WHERE k.owner = :owner AND k.idempotencyKey = :key")
+    int complete(@Param("owner") String owner,
+            @Param("key") String key,
+            @Param("status") int status,
+            @Param("contentType") String contentType,
+            @Param("body") String body,
+            @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Give up a claimed key whose request produced no response worth replaying.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.owner = :owner AND k.idempotencyKey = :key "
+            + "AND k.status IS NULL")
+    int release(@Param("owner") String owner, @Param("key") String key);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.owner = :owner AND k.idempotencyKey = :key "
+            + "AND k.expiresAt < :now")
+    int deleteIfExpired(@Param("owner") String owner, @Param("key") String key, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
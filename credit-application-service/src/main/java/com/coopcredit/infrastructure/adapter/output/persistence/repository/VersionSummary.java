@@ -0,0 +1,19 @@
+package com.coopcredit.infrastructure.adapter.output.persistence.repository;
+
+import com.coopcredit.domain.model.VersionStamp;
+
+/**
+ * Projection of the aggregates behind a {@link VersionStamp}.
+ */
+public interface VersionSummary {
+
+    Long getCount();
+
+    Long getMaxId();
+
+    Long getVersionSum();
+
+    default VersionStamp toStamp() {
+        return new VersionStamp(getCount(), getMaxId(), getVersionSum());
+    }
+}
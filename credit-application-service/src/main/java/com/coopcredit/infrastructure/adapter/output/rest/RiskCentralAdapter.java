@@ -2,17 +2,29 @@ package com.coopcredit.infrastructure.adapter.output.rest;
 
 import com.coopcredit.domain.model.enums.RiskLevel;
 import com.coopcredit.domain.port.output.RiskCentralPort;
+import com.coopcredit.infrastructure.observability.jfr.RiskCentralCallEvent;
+import com.coopcredit.observability.tracing.TracingClientInterceptor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 import java.math.BigDecimal;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 /**
  * REST adapter for calling the external Risk Central mock service.
+ * <p>
+ * Requests and responses are JSON unless {@code app.risk-service.wire-format}
+ * selects CBOR or Smile, which Risk Central negotiates from the Content-Type
+ * and Accept headers. The binary formats carry the same fields and cost less
+ * to encode and decode at high evaluation rates.
  */
 @Component
 public class RiskCentralAdapter implements RiskCentralPort {
@@ -21,26 +33,40 @@ public class RiskCentralAdapter implements RiskCentralPort {
 
     private final RestClient restClient;
     private final String riskServiceUrl;
+    private final WireFormat wireFormat;
 
     public RiskCentralAdapter(
             RestClient.Builder restClientBuilder,
-            @Value("${app.risk-service.url:http://localhost:8081}") String riskServiceUrl) {
+            TracingClientInterceptor tracingInterceptor,
+            @Value("${app.risk-service.url:http://localhost:8081}") String riskServiceUrl,
+            @Value("${app.risk-service.wire-format:json}") WireFormat wireFormat) {
         this.riskServiceUrl = riskServiceUrl;
-        this.restClient = restClientBuilder
+        this.wireFormat = wireFormat;
+        RestClient.Builder builder = restClientBuilder
                 .baseUrl(riskServiceUrl)
-                .build();
+                .requestInterceptor(tracingInterceptor);
+        HttpMessageConverter<Object> converter = wireFormat.converter();
+        if (converter != null) {
+            builder.messageConverters(converters -> converters.add(0, converter));
+        }
+        this.restClient = builder.build();
+        log.info("Risk Central client configured {} {}", kv("url", riskServiceUrl), kv("wireFormat", wireFormat));
     }
 
     @Override
     public RiskEvaluationResponse evaluate(String documentNumber, BigDecimal requestedAmount, Integer termMonths) {
-        log.info("Calling Risk Central service for document: {}", documentNumber);
+        log.debug("Calling Risk Central service {}", kv("documentNumber", documentNumber));
 
+        RiskCentralCallEvent event = new RiskCentralCallEvent();
+        event.begin();
+        event.outcome = "error";
         try {
             RiskRequest request = new RiskRequest(documentNumber, requestedAmount, termMonths);
 
             RiskResponse response = restClient.post()
                     .uri("/risk-evaluation")
-                    .contentType(MediaType.APPLICATION_JSON)
+                    .contentType(wireFormat.mediaType)
+                    .accept(wireFormat.mediaType)
                     .body(request)
                     .retrieve()
                     .body(RiskResponse.class);
@@ -50,17 +76,28 @@ public class RiskCentralAdapter implements RiskCentralPort {
                 throw new RuntimeException("Risk Central service returned null response");
             }
 
-            log.info("Risk evaluation received: score={}, level={}", response.score(), response.riskLevel());
+            log.debug("Risk evaluation received {} {}", kv("score", response.score()), kv("riskLevel", response.riskLevel()));
+
+            RiskLevel riskLevel = mapRiskLevel(response.riskLevel());
+            event.outcome = "success";
+            event.score = response.score() != null ? response.score() : 0;
+            event.riskLevel = riskLevel.name();
 
             return new RiskEvaluationResponse(
                     response.documentNumber(),
                     response.score(),
-                    mapRiskLevel(response.riskLevel()),
+                    riskLevel,
                     response.details());
 
         } catch (Exception e) {
-            log.error("Error calling Risk Central service: {}", e.getMessage());
+            log.error("Error calling Risk Central service {}", kv("error", e.getMessage()));
             throw new RuntimeException("Failed to call Risk Central service: " + e.getMessage(), e);
+        } finally {
+            if (event.shouldCommit()) {
+                event.termMonths = termMonths != null ? termMonths : 0;
+                event.wireFormat = wireFormat.name();
+                event.commit();
+            }
         }
     }
 
@@ -73,6 +110,32 @@ public class RiskCentralAdapter implements RiskCentralPort {
         };
     }
 
+    /**
+     * Encoding of the Risk Central requests and responses.
+     */
+    public enum WireFormat {
+        JSON(MediaType.APPLICATION_JSON),
+        CBOR(MediaType.APPLICATION_CBOR),
+        SMILE(new MediaType("application", "x-jackson-smile"));
+
+        private final MediaType mediaType;
+
+        WireFormat(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        /**
+         * Converter for the binary formats; JSON uses the client's default one.
+         */
+        private HttpMessageConverter<Object> converter() {
+            return switch (this) {
+                case JSON -> null;
+                case CBOR -> new MappingJackson2CborHttpMessageConverter();
+                case SMILE -> new MappingJackson2SmileHttpMessageConverter();
+            };
+        }
+    }
+
     // Request/Response records for REST client
     private record RiskRequest(String documentNumber, BigDecimal amount, Integer termMonths) {
     }
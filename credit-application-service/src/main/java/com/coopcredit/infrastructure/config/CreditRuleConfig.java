@@ -0,0 +1,39 @@
+package com.coopcredit.infrastructure.config;
+
+import com.coopcredit.domain.port.output.RiskCentralPort;
+import com.coopcredit.domain.rule.BureauRiskRule;
+import com.coopcredit.domain.rule.CreditRule;
+import com.coopcredit.domain.rule.DebtToIncomeRule;
+import com.coopcredit.domain.rule.MaximumAmountRule;
+import com.coopcredit.domain.rule.MinimumAffiliationRule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the built-in credit rules. Any other {@link CreditRule} bean is
+ * picked up by the rule pipeline as well.
+ */
+@Configuration
+public class CreditRuleConfig {
+
+    @Bean
+    public CreditRule minimumAffiliationRule(@Value("${app.rules.minimum-affiliation-months:6}") int minimumMonths) {
+        return new MinimumAffiliationRule(minimumMonths);
+    }
+
+    @Bean
+    public CreditRule maximumAmountRule() {
+        return new MaximumAmountRule();
+    }
+
+    @Bean
+    public CreditRule debtToIncomeRule() {
+        return new DebtToIncomeRule();
+    }
+
+    @Bean
+    public CreditRule bureauRiskRule(RiskCentralPort riskCentralPort) {
+        return new BureauRiskRule(riskCentralPort);
+    }
+}
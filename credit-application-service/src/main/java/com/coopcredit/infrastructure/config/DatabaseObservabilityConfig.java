@@ -0,0 +1,52 @@
+package com.coopcredit.infrastructure.config;
+
+import com.coopcredit.infrastructure.observability.RepositoryMethodContext;
+import com.coopcredit.infrastructure.observability.SqlStatementLog;
+import com.coopcredit.infrastructure.observability.StatementTimingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+
+/**
+ * Wires SQL statement timing: wraps the DataSource so statements are recorded in
+ * the SqlStatementLog, and tags each repository call so statements can be traced
+ * back to the repository method that issued them.
+ * Disable with {@code app.observability.sql.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.observability.sql.enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseObservabilityConfig {
+
+    @Bean
+    static BeanPostProcessor statementTimingDataSourcePostProcessor(ObjectProvider<SqlStatementLog> statementLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return StatementTimingDataSource.wrap(dataSource, statementLog.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    static BeanPostProcessor repositoryMethodContextPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(
+                                    RepositoryMethodContext.interceptor(information.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
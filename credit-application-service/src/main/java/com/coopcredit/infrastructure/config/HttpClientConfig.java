@@ -0,0 +1,62 @@
+package com.coopcredit.infrastructure.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP client for the outbound REST adapters.
+ * <p>
+ * Uses the JDK HttpClient instead of the default HttpURLConnection, with connect
+ * and read timeouts: without the Tomcat pool as a cap, a hung Risk Central would
+ * otherwise pile up waiting requests without bound. With
+ * {@code spring.threads.virtual.enabled} its internal tasks run on virtual
+ * threads too.
+ * <p>
+ * The client is closed on shutdown, then its executor. The executor is not a
+ * bean of its own: an Executor bean would replace Spring Boot's
+ * applicationTaskExecutor, which runs the async MVC handlers.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    private final ExecutorService executor;
+
+    public HttpClientConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.executor = virtualThreads ? Executors.newVirtualThreadPerTaskExecutor() : null;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HttpClient jdkHttpClient(@Value("${app.risk-service.connect-timeout:2s}") Duration connectTimeout) {
+        HttpClient.Builder client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout);
+        if (executor != null) {
+            client.executor(executor);
+        }
+        return client.build();
+    }
+
+    @Bean
+    public RestClientCustomizer jdkHttpClientCustomizer(HttpClient jdkHttpClient,
+            @Value("${app.risk-service.read-timeout:10s}") Duration readTimeout) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(jdkHttpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return builder -> builder.requestFactory(requestFactory);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.close();
+        }
+    }
+}
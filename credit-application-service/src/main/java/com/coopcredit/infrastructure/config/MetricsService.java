@@ -1,23 +1,37 @@
 package com.coopcredit.infrastructure.config;
 
+import com.coopcredit.domain.model.enums.RiskLevel;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Custom metrics service for observability using Micrometer.
  */
 @Component
 public class MetricsService {
 
+    public static final String EVALUATION_TIMER = "risk.evaluation.time";
+    public static final String EVALUATION_STAGE_TIMER = "risk.evaluation.stage";
+
+    private static final Duration[] EVALUATION_SLOS = {
+            Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+            Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5) };
+
     private final Counter applicationsCreatedCounter;
     private final Counter applicationsApprovedCounter;
     private final Counter applicationsRejectedCounter;
     private final Counter loginSuccessCounter;
     private final Counter loginFailureCounter;
     private final Counter affiliatesRegisteredCounter;
-    private final Timer riskEvaluationTimer;
+    private final Map<EvaluationStage, Timer> stageTimers = new EnumMap<>(EvaluationStage.class);
+    private final Timer[][] evaluationTimers;
 
     public MetricsService(MeterRegistry registry) {
         // Credit Application Metrics
@@ -52,10 +66,36 @@ public class MetricsService {
                 .description("Total number of affiliates registered")
                 .register(registry);
 
-        // Risk Evaluation Timer
-        this.riskEvaluationTimer = Timer.builder("risk.evaluation.time")
-                .description("Time taken for risk evaluation calls")
-                .register(registry);
+        // Risk Evaluation Timers: one per pipeline stage, plus the end-to-end time
+        // tagged by outcome and risk level. All tag values come from enums, so the
+        // series are registered once here and the hot path never builds a meter.
+        for (EvaluationStage stage : EvaluationStage.values()) {
+            stageTimers.put(stage, latencyTimer(EVALUATION_STAGE_TIMER)
+                    .description("Time spent in each stage of a risk evaluation")
+                    .tag("stage", stage.tagValue())
+                    .register(registry));
+        }
+
+        this.evaluationTimers = new Timer[EvaluationOutcome.values().length][RiskLevel.values().length + 1];
+        for (EvaluationOutcome outcome : EvaluationOutcome.values()) {
+            for (int level = 0; level <= RiskLevel.values().length; level++) {
+                String riskLevel = level < RiskLevel.values().length ? RiskLevel.values()[level].name() : "NONE";
+                evaluationTimers[outcome.ordinal()][level] = latencyTimer(EVALUATION_TIMER)
+                        .description("End-to-end time of a risk evaluation")
+                        .tag("outcome", outcome.tagValue())
+                        .tag("risk_level", riskLevel)
+                        .register(registry);
+            }
+        }
+    }
+
+    private static Timer.Builder latencyTimer(String name) {
+        return Timer.builder(name)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(EVALUATION_SLOS)
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30));
     }
 
     public void incrementApplicationsCreated() {
@@ -82,7 +122,65 @@ public class MetricsService {
         affiliatesRegisteredCounter.increment();
     }
 
-    public Timer getRiskEvaluationTimer() {
-        return riskEvaluationTimer;
+    /**
+     * Record the time spent in one stage of the risk evaluation pipeline.
+     *
+     * @param stage the pipeline stage
+     * @param nanos elapsed time in nanoseconds
+     */
+    public void recordEvaluationStage(EvaluationStage stage, long nanos) {
+        stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record the end-to-end time of a risk evaluation.
+     *
+     * @param outcome   how the evaluation ended
+     * @param riskLevel the bureau risk level, or null when the bureau was not reached
+     * @param nanos     elapsed time in nanoseconds
+     */
+    public void recordEvaluation(EvaluationOutcome outcome, RiskLevel riskLevel, long nanos) {
+        int level = riskLevel != null ? riskLevel.ordinal() : RiskLevel.values().length;
+        evaluationTimers[outcome.ordinal()][level].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stages of CreditApplicationService.evaluateRisk and its response mapping.
+     */
+    public enum EvaluationStage {
+        LOAD("load"),
+        RULES("rules"), // Per-rule times are recorded by CreditRulePipeline
+        PERSIST("persist"),
+        RESPONSE_MAPPING("response.mapping");
+
+        private final String tagValue;
+
+        EvaluationStage(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        public String tagValue() {
+            return tagValue;
+        }
+    }
+
+    /**
+     * Bounded set of outcomes used to tag the end-to-end evaluation timer.
+     */
+    public enum EvaluationOutcome {
+        SUCCESS("success"),
+        NOT_FOUND("not_found"),
+        ALREADY_EVALUATED("already_evaluated"),
+        ERROR("error");
+
+        private final String tagValue;
+
+        EvaluationOutcome(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        public String tagValue() {
+            return tagValue;
+        }
     }
 }
@@ -1,6 +1,7 @@
 package com.coopcredit.infrastructure.config;
 
 import com.coopcredit.infrastructure.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -43,8 +44,14 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Streamed responses complete on an async dispatch of an already authorized request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Public endpoints
                         .requestMatchers("/auth/**", "/api/auth/**").permitAll()
+                        // Endpoints exposing recordings, usernames, request paths or SQL
+                        .requestMatchers("/actuator/flightrecorder", "/actuator/flightrecorder/**",
+                                "/actuator/slowrequests", "/actuator/slowrequests/**",
+                                "/actuator/database", "/actuator/database/**").hasRole("ADMIN")
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
@@ -0,0 +1,237 @@
+package com.coopcredit.infrastructure.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Loads a synthetic, production-sized dataset into PostgreSQL when the
+ * {@code datagen} profile is active, then shuts the application down.
+ * <p>
+ * Rows are streamed with {@code COPY ... FROM STDIN}, one pass per table, with ids
+ * assigned explicitly after the current maximum so applications and evaluations
+ * can reference them; the sequences are moved past the new rows and the tables
+ * analyzed at the end. Generation is deterministic for a given seed and
+ * reference date.
+ */
+@Component
+@Profile("datagen")
+public class DatasetGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+    private static final int FLUSH_BYTES = 1 << 20;
+
+    private final DataSource dataSource;
+    private final ConfigurableApplicationContext applicationContext;
+    private final long affiliates;
+    private final double applicationsPerAffiliate;
+    private final long seed;
+    private final LocalDate referenceDate;
+    private final long documentNumberBase;
+    private final boolean truncate;
+    private final boolean skipForeignKeyChecks;
+    private final boolean exitWhenDone;
+
+    public DatasetGenerator(
+            DataSource dataSource,
+            ConfigurableApplicationContext applicationContext,
+            @Value("${app.datagen.affiliates:1000000}") long affiliates,
+            @Value("${app.datagen.applications-per-affiliate:3}") double applicationsPerAffiliate,
+            @Value("${app.datagen.seed:42}") long seed,
+            @Value("${app.datagen.reference-date:2026-01-01}") LocalDate referenceDate,
+            @Value("${app.datagen.document-number-base:7000000000}") long documentNumberBase,
+            @Value("${app.datagen.truncate:false}") boolean truncate,
+            @Value("${app.datagen.skip-foreign-key-checks:true}") boolean skipForeignKeyChecks,
+            @Value("${app.datagen.exit-when-done:true}") boolean exitWhenDone) {
+        this.dataSource = dataSource;
+        this.applicationContext = applicationContext;
+        this.affiliates = affiliates;
+        this.applicationsPerAffiliate = applicationsPerAffiliate;
+        this.seed = seed;
+        this.referenceDate = referenceDate;
+        this.documentNumberBase = documentNumberBase;
+        this.truncate = truncate;
+        this.skipForeignKeyChecks = skipForeignKeyChecks;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        SyntheticDataset dataset = new SyntheticDataset(seed, referenceDate, applicationsPerAffiliate,
+                documentNumberBase);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            if (truncate) {
+                execute(connection, "TRUNCATE risk_evaluations, credit_applications, affiliates RESTART IDENTITY");
+            }
+            boolean replicaRole = skipForeignKeyChecks && skipForeignKeyChecks(connection);
+            try {
+                load(connection, dataset);
+            } finally {
+                if (replicaRole) {
+                    // The connection goes back to the pool
+                    execute(connection, "RESET session_replication_role");
+                }
+            }
+        }
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    private void load(Connection connection, SyntheticDataset dataset) throws SQLException {
+        long start = System.nanoTime();
+        long firstAffiliateId = nextId(connection, "affiliates");
+        long firstApplicationId = nextId(connection, "credit_applications");
+        log.info("Generating synthetic dataset {} {} {}", kv("affiliates", affiliates),
+                kv("applicationsPerAffiliate", applicationsPerAffiliate), kv("seed", seed));
+
+        long affiliateRows = copy(connection, dataset, firstAffiliateId, firstApplicationId,
+                "affiliates", "id, document_number, name, salary, affiliation_date, status",
+                (data, out) -> {
+                    SyntheticDataset.AffiliateRow a = data.affiliate();
+                    row(out, a.id(), a.documentNumber(), a.name(), a.salary(), a.affiliationDate(), a.status());
+                    return 1;
+                });
+        long applicationRows = copy(connection, dataset, firstAffiliateId, firstApplicationId,
+                "credit_applications",
+                "id, affiliate_id, requested_amount, term_months, proposed_rate, application_date, status",
+                (data, out) -> {
+                    for (SyntheticDataset.ApplicationRow c : data.applications()) {
+                        row(out, c.id(), c.affiliateId(), c.requestedAmount(), c.termMonths(), c.proposedRate(),
+                                c.applicationDate(), c.status());
+                    }
+                    return data.applications().size();
+                });
+        long evaluationRows = copy(connection, dataset, firstAffiliateId, firstApplicationId,
+                "risk_evaluations",
+                "credit_application_id, score, risk_level, debt_to_income_ratio, reason, evaluation_date, approved",
+                (data, out) -> {
+                    for (SyntheticDataset.EvaluationRow e : data.evaluations()) {
+                        row(out, e.applicationId(), e.score(), e.riskLevel(), e.debtToIncomeRatio(), e.reason(),
+                                e.evaluationDate(), e.approved());
+                    }
+                    return data.evaluations().size();
+                });
+
+        execute(connection, "SELECT setval(pg_get_serial_sequence('affiliates', 'id'), "
+                + "(SELECT max(id) FROM affiliates))");
+        execute(connection, "SELECT setval(pg_get_serial_sequence('credit_applications', 'id'), "
+                + "(SELECT max(id) FROM credit_applications))");
+        execute(connection, "SELECT setval(pg_get_serial_sequence('risk_evaluations', 'id'), "
+                + "(SELECT max(id) FROM risk_evaluations))");
+        execute(connection, "ANALYZE affiliates, credit_applications, risk_evaluations");
+
+        log.info("Synthetic dataset loaded {} {} {} {}", kv("affiliates", affiliateRows),
+                kv("applications", applicationRows), kv("evaluations", evaluationRows),
+                kv("seconds", (System.nanoTime() - start) / 1_000_000_000L));
+    }
+
+    /**
+     * Stream one table: regenerate the whole dataset and let the writer emit that
+     * table's rows as COPY text, flushing to the server in 1 MB chunks.
+     */
+    private long copy(Connection connection, SyntheticDataset dataset, long firstAffiliateId,
+            long firstApplicationId, String table, String columns, RowWriter writer) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY " + table + " (" + columns + ") FROM STDIN");
+        StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 4096);
+        long[] rows = { 0 };
+        try {
+            dataset.generate(affiliates, firstAffiliateId, firstApplicationId, data -> {
+                rows[0] += writer.write(data, buffer);
+                if (buffer.length() >= FLUSH_BYTES) {
+                    flush(copyIn, buffer);
+                }
+            });
+            flush(copyIn, buffer);
+            copyIn.endCopy();
+        } catch (RuntimeException | SQLException ex) {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+            throw ex;
+        }
+        log.info("Copied {} {}", kv("table", table), kv("rows", rows[0]));
+        return rows[0];
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+        } catch (SQLException ex) {
+            throw new IllegalStateException("COPY failed: " + ex.getMessage(), ex);
+        }
+        buffer.setLength(0);
+    }
+
+    /**
+     * Append one row in COPY text format. Generated values never contain tabs,
+     * newlines or backslashes, so no escaping is needed.
+     */
+    private static void row(StringBuilder out, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append('\t');
+            }
+            out.append(values[i]);
+        }
+        out.append('\n');
+    }
+
+    /**
+     * Disable FK triggers for this session, as V6 does; this needs superuser, so
+     * fall back to checked inserts when the role is not allowed to.
+     */
+    private static boolean skipForeignKeyChecks(Connection connection) {
+        try {
+            execute(connection, "SET session_replication_role = 'replica'");
+            return true;
+        } catch (SQLException ex) {
+            log.warn("Cannot skip foreign key checks, loading with them enabled: {}", ex.getMessage());
+            return false;
+        }
+    }
+
+    private static long nextId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT coalesce(max(id), 0) + 1 FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        int write(SyntheticDataset.AffiliateData data, StringBuilder out);
+    }
+}
@@ -0,0 +1,196 @@
+package com.coopcredit.infrastructure.datagen;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic generator of affiliates, credit applications and risk evaluations
+ * with production-like distributions.
+ * <p>
+ * Every affiliate draws from its own random stream derived from the seed and its
+ * index, so the same seed always produces the same rows, and a table can be
+ * regenerated on its own without holding the others in memory.
+ * <ul>
+ * <li>Salary: log-normal around 2.8M with a floor at the minimum wage</li>
+ * <li>Applications per affiliate: Poisson around the configured mean</li>
+ * <li>Requested amount: log-normal multiple of the salary, some above the 12x limit</li>
+ * <li>Term: weighted towards 24 and 36 months</li>
+ * <li>Score: normal around 650; status follows the same rules as the service</li>
+ * </ul>
+ */
+public class SyntheticDataset {
+
+    static final long MIN_SALARY = 1_300_000;
+    private static final int[] TERMS = { 12, 24, 36, 48, 60, 72, 120 };
+    private static final int[] TERM_WEIGHTS = { 15, 25, 25, 15, 12, 5, 3 };
+    private static final double PENDING_SHARE = 0.03;
+    private static final double MAX_DEBT_TO_INCOME_RATIO = 40.0;
+    private static final int SALARY_MULTIPLIER_FOR_MAX_CREDIT = 12;
+
+    private static final String[] FIRST_NAMES = { "María", "Carlos", "Ana", "Luis", "Patricia", "Jorge", "Sandra",
+            "Miguel", "Laura", "Ricardo", "Gloria", "Andrés", "Diana", "Felipe", "Camila", "Juan", "Valentina",
+            "Santiago", "Paula", "Alejandro" };
+    private static final String[] LAST_NAMES = { "González", "Rodríguez", "Martínez", "Hernández", "Torres", "Díaz",
+            "López", "Ruiz", "Jiménez", "Vargas", "Ramírez", "Mejía", "Gómez", "Castro", "Morales", "Ortiz",
+            "Pérez", "Silva", "Cruz", "Soto" };
+
+    private final long seed;
+    private final LocalDate referenceDate;
+    private final double applicationsPerAffiliate;
+    private final long documentNumberBase;
+
+    public SyntheticDataset(long seed, LocalDate referenceDate, double applicationsPerAffiliate,
+            long documentNumberBase) {
+        this.seed = seed;
+        this.referenceDate = referenceDate;
+        this.applicationsPerAffiliate = applicationsPerAffiliate;
+        this.documentNumberBase = documentNumberBase;
+    }
+
+    /**
+     * Generate {@code count} affiliates in order, numbering affiliates and
+     * applications consecutively from the given first ids.
+     */
+    public void generate(long count, long firstAffiliateId, long firstApplicationId, Consumer<AffiliateData> sink) {
+        long nextApplicationId = firstApplicationId;
+        for (long index = 0; index < count; index++) {
+            AffiliateData data = affiliate(index, firstAffiliateId + index, nextApplicationId);
+            nextApplicationId += data.applications().size();
+            sink.accept(data);
+        }
+    }
+
+    AffiliateData affiliate(long index, long affiliateId, long firstApplicationId) {
+        SplittableRandom random = new SplittableRandom(mix(seed + index * 0x9E3779B97F4A7C15L));
+
+        long salary = Math.max(MIN_SALARY, roundTo(logNormal(random, 2_800_000, 0.55), 10_000));
+        LocalDate affiliationDate = referenceDate.minusDays(30 + random.nextInt(15 * 365));
+        String status = random.nextDouble() < 0.95 ? "ACTIVE" : "INACTIVE";
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        AffiliateRow affiliate = new AffiliateRow(affiliateId, Long.toString(documentNumberBase + index), name,
+                salary, affiliationDate, status);
+
+        int applicationCount = poisson(random, applicationsPerAffiliate);
+        List<ApplicationRow> applications = new ArrayList<>(applicationCount);
+        List<EvaluationRow> evaluations = new ArrayList<>(applicationCount);
+        long affiliatedDays = Math.max(1, ChronoUnit.DAYS.between(affiliationDate, referenceDate));
+        for (int i = 0; i < applicationCount; i++) {
+            long applicationId = firstApplicationId + i;
+            long amount = Math.min(200_000_000, Math.max(1_000_000,
+                    roundTo(salary * logNormal(random, 4.0, 0.7), 100_000)));
+            int term = weightedTerm(random);
+            double rate = Math.round(Math.min(30, Math.max(6, 16 + random.nextGaussian() * 4)) * 100) / 100.0;
+            LocalDateTime applicationDate = referenceDate.atStartOfDay()
+                    .minusDays(random.nextLong(Math.min(affiliatedDays, 3 * 365)))
+                    .plusSeconds(random.nextInt(8 * 3600, 18 * 3600));
+
+            String applicationStatus;
+            if (random.nextDouble() < PENDING_SHARE) {
+                applicationStatus = "PENDING";
+            } else {
+                int score = (int) Math.min(950, Math.max(300, Math.round(650 + random.nextGaussian() * 90)));
+                double debtToIncome = Math.round(monthlyPayment(amount, rate, term) / salary * 10_000) / 100.0;
+                boolean approved = score > 500 && debtToIncome <= MAX_DEBT_TO_INCOME_RATIO
+                        && amount <= salary * SALARY_MULTIPLIER_FOR_MAX_CREDIT;
+                applicationStatus = approved ? "APPROVED" : "REJECTED";
+                evaluations.add(new EvaluationRow(applicationId, score, riskLevel(score),
+                        Math.min(debtToIncome, 99_999_999.99), approved ? "Aprobado" : reason(score, debtToIncome),
+                        applicationDate.plusMinutes(random.nextInt(5, 72 * 60)), approved));
+            }
+            applications.add(new ApplicationRow(applicationId, affiliateId, amount, term, rate, applicationDate,
+                    applicationStatus));
+        }
+        return new AffiliateData(affiliate, applications, evaluations);
+    }
+
+    /**
+     * Same simple-interest formula as CreditApplication.calculateMonthlyPayment.
+     */
+    static double monthlyPayment(long amount, double annualRatePercent, int termMonths) {
+        return amount * (1 + annualRatePercent / 100 * termMonths / 12.0) / termMonths;
+    }
+
+    static String riskLevel(int score) {
+        if (score <= 500) {
+            return "HIGH";
+        }
+        return score <= 700 ? "MEDIUM" : "LOW";
+    }
+
+    private static String reason(int score, double debtToIncome) {
+        if (score <= 500) {
+            return "Rechazado - Alto riesgo crediticio";
+        }
+        return debtToIncome > MAX_DEBT_TO_INCOME_RATIO
+                ? "Rechazado - Capacidad de pago insuficiente"
+                : "Rechazado - Monto excede el límite permitido";
+    }
+
+    private static int weightedTerm(SplittableRandom random) {
+        int pick = random.nextInt(100);
+        for (int i = 0; i < TERMS.length; i++) {
+            pick -= TERM_WEIGHTS[i];
+            if (pick < 0) {
+                return TERMS[i];
+            }
+        }
+        return TERMS[TERMS.length - 1];
+    }
+
+    private static double logNormal(SplittableRandom random, double median, double sigma) {
+        return median * Math.exp(sigma * random.nextGaussian());
+    }
+
+    private static int poisson(SplittableRandom random, double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        if (mean > 30) {
+            return (int) Math.max(0, Math.round(mean + Math.sqrt(mean) * random.nextGaussian()));
+        }
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    private static long roundTo(double value, long step) {
+        return Math.round(value / step) * step;
+    }
+
+    /**
+     * SplitMix64 finalizer, so neighbouring indexes get unrelated streams.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public record AffiliateRow(long id, String documentNumber, String name, long salary, LocalDate affiliationDate,
+            String status) {
+    }
+
+    public record ApplicationRow(long id, long affiliateId, long requestedAmount, int termMonths,
+            double proposedRate, LocalDateTime applicationDate, String status) {
+    }
+
+    public record EvaluationRow(long applicationId, int score, String riskLevel, double debtToIncomeRatio,
+            String reason, LocalDateTime evaluationDate, boolean approved) {
+    }
+
+    public record AffiliateData(AffiliateRow affiliate, List<ApplicationRow> applications,
+            List<EvaluationRow> evaluations) {
+    }
+}
@@ -4,6 +4,8 @@ import com.coopcredit.domain.exception.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.security.access.AccessDeniedException;
@@ -14,6 +16,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.net.URI;
 import java.time.Instant;
@@ -106,6 +109,28 @@ public class GlobalExceptionHandler {
                 "USER_NOT_FOUND");
     }
 
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ProblemDetail handleIdempotencyKeyReused(IdempotencyKeyReusedException ex, WebRequest request) {
+        log.warn("Idempotency key reused: {}", ex.getMessage());
+        return createProblemDetail(
+                HttpStatus.UNPROCESSABLE_ENTITY,
+                "Idempotency Key Reused",
+                ex.getMessage(),
+                request,
+                ex.getErrorCode());
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ProblemDetail handleIdempotencyKeyInProgress(IdempotencyKeyInProgressException ex, WebRequest request) {
+        log.warn("Idempotency key in progress: {}", ex.getMessage());
+        return createProblemDetail(
+                HttpStatus.CONFLICT,
+                "Request In Progress",
+                ex.getMessage() + ". Retry it later.",
+                request,
+                ex.getErrorCode());
+    }
+
     @ExceptionHandler(DomainException.class)
     public ProblemDetail handleDomainException(DomainException ex, WebRequest request) {
         log.warn("Domain exception: {}", ex.getMessage());
@@ -138,6 +163,17 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ProblemDetail handleTypeMismatch(MethodArgumentTypeMismatchException ex, WebRequest request) {
+        log.warn("Invalid parameter: {}", ex.getMessage());
+        return createProblemDetail(
+                HttpStatus.BAD_REQUEST,
+                "Invalid Parameter",
+                "Invalid value '" + ex.getValue() + "' for parameter '" + ex.getName() + "'",
+                request,
+                "INVALID_PARAMETER");
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ProblemDetail handleAccessDenied(AccessDeniedException ex, WebRequest request) {
         log.warn("Access denied: {}", ex.getMessage());
@@ -160,6 +196,28 @@ public class GlobalExceptionHandler {
                 "AUTHENTICATION_FAILED");
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ProblemDetail handleDataIntegrityViolation(DataIntegrityViolationException ex, WebRequest request) {
+        log.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        return createProblemDetail(
+                HttpStatus.CONFLICT,
+                "Conflict",
+                "The request conflicts with existing data",
+                request,
+                "DATA_CONFLICT");
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail handleConcurrentUpdate(OptimisticLockingFailureException ex, WebRequest request) {
+        log.warn("Concurrent update: {}", ex.getMessage());
+        return createProblemDetail(
+                HttpStatus.CONFLICT,
+                "Concurrent Update",
+                "The resource was modified by another request. Reload it and try again.",
+                request,
+                "CONCURRENT_UPDATE");
+    }
+
     @ExceptionHandler(Exception.class)
     public ProblemDetail handleGeneral(Exception ex, WebRequest request) {
         log.error("Unexpected error: {}", ex.getMessage(), ex);
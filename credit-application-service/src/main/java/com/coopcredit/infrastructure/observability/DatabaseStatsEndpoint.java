@@ -0,0 +1,151 @@
+package com.coopcredit.infrastructure.observability;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Actuator endpoint ({@code /actuator/database}) combining Hikari pool state,
+ * Hibernate session statistics, Spring Data repository timings and the top SQL
+ * fingerprints from the SqlStatementLog. Repository entries include the number
+ * of statements each method issued, so N+1 patterns show up as a high
+ * statements-per-call ratio.
+ */
+@Component
+@Endpoint(id = "database")
+public class DatabaseStatsEndpoint {
+
+    private static final int DEFAULT_TOP = 10;
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry registry;
+    private final SqlStatementLog statementLog;
+
+    public DatabaseStatsEndpoint(DataSource dataSource, EntityManagerFactory entityManagerFactory,
+            MeterRegistry registry, SqlStatementLog statementLog) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+        this.registry = registry;
+        this.statementLog = statementLog;
+    }
+
+    @ReadOperation
+    public DatabaseReport report(@Nullable Integer top) {
+        return new DatabaseReport(
+                pool(),
+                hibernate(),
+                repositories(),
+                statementLog.window().toMinutes(),
+                statementLog.top(top != null ? top : DEFAULT_TOP));
+    }
+
+    private PoolStats pool() {
+        HikariPoolMXBean mxBean = hikari();
+        Timer acquire = registry.find("hikaricp.connections.acquire").timer();
+        Counter timeouts = registry.find("hikaricp.connections.timeout").counter();
+        return new PoolStats(
+                mxBean != null ? mxBean.getActiveConnections() : 0,
+                mxBean != null ? mxBean.getIdleConnections() : 0,
+                mxBean != null ? mxBean.getTotalConnections() : 0,
+                mxBean != null ? mxBean.getThreadsAwaitingConnection() : 0,
+                acquire != null ? acquire.count() : 0,
+                acquire != null ? acquire.mean(TimeUnit.MILLISECONDS) : 0,
+                acquire != null ? acquire.max(TimeUnit.MILLISECONDS) : 0,
+                timeouts != null ? (long) timeouts.count() : 0);
+    }
+
+    private HikariPoolMXBean hikari() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            }
+        } catch (SQLException ignored) {
+            // not a Hikari pool
+        }
+        return null;
+    }
+
+    private HibernateStats hibernate() {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return new HibernateStats(
+                stats.isStatisticsEnabled(),
+                stats.getQueryExecutionCount(),
+                stats.getQueryExecutionMaxTime(),
+                stats.getQueryExecutionMaxTimeQueryString(),
+                stats.getPrepareStatementCount(),
+                stats.getEntityLoadCount(),
+                stats.getEntityFetchCount(),
+                stats.getCollectionFetchCount(),
+                stats.getSecondLevelCacheHitCount(),
+                stats.getSecondLevelCacheMissCount(),
+                stats.getFlushCount(),
+                stats.getSessionOpenCount(),
+                stats.getTransactionCount());
+    }
+
+    private List<RepositoryMethodStats> repositories() {
+        Map<String, SqlStatementLog.MethodStatementStats> statements = statementLog.totalsByRepositoryMethod();
+        Map<String, long[]> byMethod = new LinkedHashMap<>();
+        for (Timer timer : registry.find("spring.data.repository.invocations").timers()) {
+            String key = timer.getId().getTag("repository") + "." + timer.getId().getTag("method");
+            long[] sum = byMethod.computeIfAbsent(key, k -> new long[3]);
+            sum[0] += timer.count();
+            sum[1] += (long) timer.totalTime(TimeUnit.NANOSECONDS);
+            sum[2] = Math.max(sum[2], (long) timer.max(TimeUnit.NANOSECONDS));
+        }
+
+        List<RepositoryMethodStats> result = new ArrayList<>(byMethod.size());
+        byMethod.forEach((method, sum) -> {
+            SqlStatementLog.MethodStatementStats sql = statements.get(method);
+            long statementCount = sql != null ? sql.statements() : 0;
+            result.add(new RepositoryMethodStats(
+                    method,
+                    sum[0],
+                    sum[1] / 1_000_000.0,
+                    sum[0] > 0 ? sum[1] / 1_000_000.0 / sum[0] : 0,
+                    sum[2] / 1_000_000.0,
+                    statementCount,
+                    sum[0] > 0 ? (double) statementCount / sum[0] : 0));
+        });
+        result.sort(Comparator.comparingDouble(RepositoryMethodStats::totalMs).reversed());
+        return result;
+    }
+
+    public record PoolStats(int active, int idle, int total, int pending,
+            long acquireCount, double acquireMeanMs, double acquireMaxMs, long acquireTimeouts) {
+    }
+
+    public record HibernateStats(boolean enabled, long queryExecutions, long queryExecutionMaxMs,
+            String slowestQuery, long preparedStatements, long entityLoads, long entityFetches,
+            long collectionFetches, long secondLevelCacheHits, long secondLevelCacheMisses,
+            long flushes, long sessionsOpened, long transactions) {
+    }
+
+    public record RepositoryMethodStats(String method, long invocations, double totalMs, double meanMs,
+            double maxMs, long statements, double statementsPerCall) {
+    }
+
+    public record DatabaseReport(PoolStats pool, HibernateStats hibernate,
+            List<RepositoryMethodStats> repositories, long slowQueryWindowMinutes,
+            List<SqlStatementLog.FingerprintStats> topStatements) {
+    }
+}
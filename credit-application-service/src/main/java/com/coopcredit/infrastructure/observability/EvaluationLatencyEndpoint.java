@@ -0,0 +1,132 @@
+package com.coopcredit.infrastructure.observability;
+
+import com.coopcredit.application.service.CreditRulePipeline;
+import com.coopcredit.infrastructure.config.MetricsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Actuator endpoint ({@code /actuator/evaluationlatency}) with the p50/p95/p99
+ * breakdown of the risk evaluation pipeline recorded by MetricsService, and
+ * the latency and hit rate of each credit rule.
+ * Counts and means are cumulative; percentiles cover Micrometer's decaying
+ * window (two minutes by default).
+ */
+@Component
+@Endpoint(id = "evaluationlatency")
+public class EvaluationLatencyEndpoint {
+
+    private final MeterRegistry registry;
+
+    public EvaluationLatencyEndpoint(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public EvaluationLatencyReport report() {
+        Collection<Timer> stageTimers = registry.find(MetricsService.EVALUATION_STAGE_TIMER).timers();
+        double stagesTotalMs = stageTimers.stream().mapToDouble(t -> t.totalTime(TimeUnit.MILLISECONDS)).sum();
+
+        Map<String, LatencySummary> stages = new LinkedHashMap<>();
+        for (MetricsService.EvaluationStage stage : MetricsService.EvaluationStage.values()) {
+            Timer timer = registry.find(MetricsService.EVALUATION_STAGE_TIMER)
+                    .tag("stage", stage.tagValue())
+                    .timer();
+            if (timer != null) {
+                stages.put(stage.tagValue(), summarize(timer, stagesTotalMs));
+            }
+        }
+
+        List<EvaluationSummary> evaluations = new ArrayList<>();
+        for (Timer timer : registry.find(MetricsService.EVALUATION_TIMER).timers()) {
+            if (timer.count() > 0) {
+                evaluations.add(new EvaluationSummary(
+                        timer.getId().getTag("outcome"),
+                        timer.getId().getTag("risk_level"),
+                        summarize(timer, 0)));
+            }
+        }
+        evaluations.sort(Comparator.comparingLong((EvaluationSummary e) -> e.latency().count()).reversed());
+
+        Map<String, RuleSummary> rules = new LinkedHashMap<>();
+        for (Timer timer : registry.find(CreditRulePipeline.RULE_TIMER).timers()) {
+            String rule = timer.getId().getTag("rule");
+            double failed = resultCount(rule, "fail");
+            double evaluated = resultCount(rule, "pass") + failed;
+            rules.put(rule, new RuleSummary(
+                    summarize(timer, 0),
+                    evaluated > 0 ? Math.round(failed / evaluated * 1000) / 1000.0 : 0,
+                    (long) resultCount(rule, "skipped")));
+        }
+
+        return new EvaluationLatencyReport(stages, evaluations, rules);
+    }
+
+    private double resultCount(String rule, String result) {
+        Counter counter = registry.find(CreditRulePipeline.RULE_RESULT_COUNTER)
+                .tag("rule", rule)
+                .tag("result", result)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static LatencySummary summarize(Timer timer, double totalMs) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        double p50 = 0;
+        double p95 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            double millis = value.value(TimeUnit.MILLISECONDS);
+            if (value.percentile() == 0.5) {
+                p50 = millis;
+            } else if (value.percentile() == 0.95) {
+                p95 = millis;
+            } else if (value.percentile() == 0.99) {
+                p99 = millis;
+            }
+        }
+        double share = totalMs > 0 ? snapshot.total(TimeUnit.MILLISECONDS) / totalMs : 0;
+        return new LatencySummary(
+                snapshot.count(),
+                snapshot.mean(TimeUnit.MILLISECONDS),
+                snapshot.max(TimeUnit.MILLISECONDS),
+                p50, p95, p99,
+                Math.round(share * 1000) / 1000.0);
+    }
+
+    /**
+     * Latency figures in milliseconds. {@code shareOfTime} is the fraction of all
+     * recorded stage time spent in this stage (0 for end-to-end timers).
+     */
+    public record LatencySummary(long count, double meanMs, double maxMs,
+            double p50Ms, double p95Ms, double p99Ms, double shareOfTime) {
+    }
+
+    public record EvaluationSummary(String outcome, String riskLevel, LatencySummary latency) {
+    }
+
+    /**
+     * Per-rule latency; {@code hitRate} is the fraction of evaluations in which
+     * the rule failed, {@code skipped} how often it was short-circuited.
+     */
+    public record RuleSummary(LatencySummary latency, double hitRate, long skipped) {
+    }
+
+    public record EvaluationLatencyReport(Map<String, LatencySummary> stages, List<EvaluationSummary> evaluations,
+            Map<String, RuleSummary> rules) {
+    }
+}
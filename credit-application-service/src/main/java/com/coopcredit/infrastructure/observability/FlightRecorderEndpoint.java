@@ -0,0 +1,205 @@
+package com.coopcredit.infrastructure.observability;
+
+import com.coopcredit.infrastructure.observability.jfr.DecisionEvent;
+import com.coopcredit.infrastructure.observability.jfr.EvaluateRiskEvent;
+import com.coopcredit.infrastructure.observability.jfr.JwtAuthenticationEvent;
+import com.coopcredit.infrastructure.observability.jfr.RiskCentralCallEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Admin-only actuator endpoint ({@code /actuator/flightrecorder}) controlling an
+ * in-process Java Flight Recorder recording with the application's custom events.
+ * <ul>
+ * <li>GET: current recording state and the dumps written so far</li>
+ * <li>POST /start: start a recording; optional settings ("default" or "profile"),
+ * durationSeconds, maxAgeMinutes and maxSizeMb</li>
+ * <li>POST /dump: write the recording so far to the dump directory</li>
+ * <li>POST /stop: stop the recording and write it to the dump directory</li>
+ * </ul>
+ */
+@Component
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderEndpoint.class);
+    private static final String RECORDING_NAME = "coopcredit";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final List<String> ALLOWED_SETTINGS = List.of("default", "profile");
+
+    private final Path directory;
+    private final String defaultSettings;
+    private final Duration defaultMaxAge;
+    private final long defaultMaxSizeMb;
+    // Not synchronized: a dump writes to disk, which would pin a virtual thread's carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Recording recording;
+
+    public FlightRecorderEndpoint(
+            @Value("${app.observability.jfr.directory:${java.io.tmpdir}/coopcredit-jfr}") Path directory,
+            @Value("${app.observability.jfr.settings:default}") String defaultSettings,
+            @Value("${app.observability.jfr.max-age:30m}") Duration defaultMaxAge,
+            @Value("${app.observability.jfr.max-size-mb:256}") long defaultMaxSizeMb) {
+        this.directory = directory;
+        this.defaultSettings = defaultSettings;
+        this.defaultMaxAge = defaultMaxAge;
+        this.defaultMaxSizeMb = defaultMaxSizeMb;
+    }
+
+    @ReadOperation
+    public RecorderStatus status() {
+        lock.lock();
+        try {
+            return status(null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> control(@Selector String action, @Nullable String settings,
+            @Nullable Long durationSeconds, @Nullable Long maxAgeMinutes, @Nullable Long maxSizeMb) {
+        lock.lock();
+        try {
+            RecorderStatus status = switch (action) {
+                case "start" -> start(settings, durationSeconds, maxAgeMinutes, maxSizeMb);
+                case "dump" -> status(dump());
+                case "stop" -> stop();
+                default -> throw new IllegalArgumentException(
+                        "Unknown action: " + action + " (expected start, dump or stop)");
+            };
+            return new WebEndpointResponse<>(status);
+        } catch (IllegalArgumentException ex) {
+            return new WebEndpointResponse<>(Map.of("error", ex.getMessage()), WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (IllegalStateException ex) {
+            return new WebEndpointResponse<>(Map.of("error", ex.getMessage()), 409);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private RecorderStatus start(String settings, Long durationSeconds, Long maxAgeMinutes, Long maxSizeMb) {
+        if (isActive()) {
+            throw new IllegalStateException("A recording is already running");
+        }
+        String settingsName = settings != null ? settings : defaultSettings;
+        if (!ALLOWED_SETTINGS.contains(settingsName)) {
+            throw new IllegalArgumentException("Unsupported settings: " + settingsName + " (expected " + ALLOWED_SETTINGS + ")");
+        }
+        try {
+            Recording newRecording = new Recording(Configuration.getConfiguration(settingsName));
+            newRecording.setName(RECORDING_NAME);
+            newRecording.setToDisk(true);
+            newRecording.setMaxAge(maxAgeMinutes != null ? Duration.ofMinutes(maxAgeMinutes) : defaultMaxAge);
+            newRecording.setMaxSize((maxSizeMb != null ? maxSizeMb : defaultMaxSizeMb) * 1024 * 1024);
+            if (durationSeconds != null) {
+                newRecording.setDuration(Duration.ofSeconds(durationSeconds));
+                newRecording.setDestination(nextDumpFile());
+            }
+            Stream.of(EvaluateRiskEvent.class, DecisionEvent.class, RiskCentralCallEvent.class,
+                    JwtAuthenticationEvent.class).forEach(type -> newRecording.enable(type).withoutStackTrace());
+            newRecording.start();
+            closeCurrent();
+            recording = newRecording;
+            log.info("Started flight recording with '{}' settings", settingsName);
+            return status(null);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not start flight recording", ex);
+        } catch (ParseException ex) {
+            throw new IllegalArgumentException("Invalid recording settings: " + ex.getMessage(), ex);
+        }
+    }
+
+    private Path dump() {
+        if (!isActive()) {
+            throw new IllegalStateException("No recording is running");
+        }
+        try {
+            Path file = nextDumpFile();
+            recording.dump(file);
+            log.info("Dumped flight recording to {}", file);
+            return file;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not dump flight recording", ex);
+        }
+    }
+
+    private RecorderStatus stop() {
+        if (!isActive()) {
+            throw new IllegalStateException("No recording is running");
+        }
+        Path file = dump();
+        recording.stop();
+        closeCurrent();
+        return status(file);
+    }
+
+    private boolean isActive() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    private void closeCurrent() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Path nextDumpFile() throws IOException {
+        Files.createDirectories(directory);
+        return directory.resolve(RECORDING_NAME + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+    }
+
+    private RecorderStatus status(Path lastDump) {
+        return new RecorderStatus(
+                recording != null ? recording.getState().name() : RecordingState.CLOSED.name(),
+                recording != null ? recording.getStartTime() : null,
+                recording != null ? recording.getDuration() : null,
+                lastDump != null ? lastDump.toString() : null,
+                listDumps());
+    }
+
+    private List<String> listDumps() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".jfr"))
+                    .map(Path::toString)
+                    .sorted()
+                    .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not list flight recordings", ex);
+        }
+    }
+
+    public record RecorderStatus(String state, Instant startTime, Duration duration, String lastDump,
+            List<String> dumps) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.coopcredit.infrastructure.observability;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A latency service-level objective such as "p99 within 500ms".
+ * Parsed from specs like {@code p99=500ms,p99.9=1s}.
+ */
+public record LatencyObjective(double percentile, Duration threshold) {
+
+    public static List<LatencyObjective> parseAll(String spec) {
+        List<LatencyObjective> objectives = new ArrayList<>();
+        if (spec == null || spec.isBlank()) {
+            return objectives;
+        }
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2 || !pair[0].startsWith("p")) {
+                throw new IllegalArgumentException("Invalid latency objective '" + part + "', expected e.g. p99=500ms");
+            }
+            objectives.add(new LatencyObjective(
+                    Double.parseDouble(pair[0].substring(1)),
+                    DurationStyle.detectAndParse(pair[1].trim())));
+        }
+        return objectives;
+    }
+
+    public String name() {
+        String value = percentile == Math.rint(percentile)
+                ? Long.toString((long) percentile)
+                : Double.toString(percentile);
+        return "p" + value;
+    }
+}
@@ -0,0 +1,81 @@
+package com.coopcredit.infrastructure.observability;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/latency}) with rolling 1m/5m/15m latency
+ * percentiles per route, in milliseconds, and the state of each route's
+ * latency objectives.
+ */
+@Component
+@Endpoint(id = "latency")
+public class RouteLatencyEndpoint {
+
+    private static final Map<String, Duration> WINDOWS = windows();
+
+    private final RouteLatencyRegistry registry;
+
+    public RouteLatencyEndpoint(RouteLatencyRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public LatencyReport latency() {
+        List<RouteReport> routes = registry.routes().stream()
+                .map(this::report)
+                .toList();
+        return new LatencyReport(RouteLatencyRegistry.SLOT_SECONDS, registry.sloWindow().toString(),
+                registry.sloMinSamples(), routes);
+    }
+
+    private RouteReport report(RouteLatencyRegistry.RouteLatency route) {
+        Map<String, WindowStats> windows = new LinkedHashMap<>();
+        WINDOWS.forEach((name, duration) ->
+                windows.put(name, stats(route.window(RouteLatencyRegistry.slotsFor(duration)))));
+        List<RouteLatencyRegistry.SloResult> slo = route.evaluate(
+                RouteLatencyRegistry.slotsFor(registry.sloWindow()), registry.sloMinSamples());
+        return new RouteReport(route.route(), route.handler(), route.isBreached(), windows, slo);
+    }
+
+    private static WindowStats stats(Histogram histogram) {
+        return new WindowStats(
+                histogram.getTotalCount(),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getValueAtPercentile(99.99)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private static Map<String, Duration> windows() {
+        Map<String, Duration> windows = new LinkedHashMap<>();
+        windows.put("1m", Duration.ofMinutes(1));
+        windows.put("5m", Duration.ofMinutes(5));
+        windows.put("15m", Duration.ofMinutes(15));
+        return windows;
+    }
+
+    public record LatencyReport(long slotSeconds, String sloWindow, long sloMinSamples, List<RouteReport> routes) {
+    }
+
+    public record RouteReport(String route, String handler, boolean breached, Map<String, WindowStats> windows,
+            List<RouteLatencyRegistry.SloResult> slo) {
+    }
+
+    public record WindowStats(long count, double p50, double p90, double p99, double p999, double p9999,
+            double max) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.coopcredit.infrastructure.observability;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the full request latency, including security filters, into the
+ * RouteLatencyRegistry histogram of the handler method that served it. Async
+ * requests (streamed bodies, SSE) are recorded when they complete, so their
+ * latency covers serialization and streaming rather than just the handler.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class RouteLatencyFilter extends OncePerRequestFilter {
+
+    private final RouteLatencyRegistry registry;
+
+    public RouteLatencyFilter(RouteLatencyRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(handler, start));
+            } else {
+                record(handler, start);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+
+    private void record(Object handler, long start) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            registry.record(handlerMethod.getMethod(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records an async request once it completes, whether normally, by timeout or by error.
+     */
+    private final class CompletionListener implements AsyncListener {
+
+        private final Object handler;
+        private final long start;
+
+        private CompletionListener(Object handler, long start) {
+            this.handler = handler;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(handler, start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Listeners are dropped when async processing is restarted
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.coopcredit.infrastructure.observability;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * HdrHistogram latency recorders for every REST controller route, with rolling
+ * 1m/5m/15m windows and SLO evaluation.
+ * <p>
+ * Each route owns a {@link Recorder}, which is wait-free and does not allocate
+ * when recording. Every 10 seconds the interval histogram is swapped into a ring
+ * of slots (recycling the slot it replaces), so windows are sums of the most
+ * recent slots and lag real time by at most one slot.
+ */
+@Component
+public class RouteLatencyRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(RouteLatencyRegistry.class);
+
+    static final long SLOT_SECONDS = 10;
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final int SLOTS = (int) (TimeUnit.MINUTES.toSeconds(15) / SLOT_SECONDS);
+
+    private final ApplicationContext applicationContext;
+    private final List<LatencyObjective> defaultObjectives;
+    private final Map<String, List<LatencyObjective>> objectiveOverrides;
+    private final Duration sloWindow;
+    private final long sloMinSamples;
+    private final Map<Method, RouteLatency> routes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService rotator;
+
+    public RouteLatencyRegistry(
+            ApplicationContext applicationContext,
+            MeterRegistry meterRegistry,
+            @Value("${app.observability.latency.slo.default:p99=500ms,p99.9=1s}") String defaultObjectives,
+            @Value("${app.observability.latency.slo.overrides:}") String objectiveOverrides,
+            @Value("${app.observability.latency.slo.window:5m}") Duration sloWindow,
+            @Value("${app.observability.latency.slo.min-samples:20}") long sloMinSamples) {
+        this.applicationContext = applicationContext;
+        this.defaultObjectives = LatencyObjective.parseAll(defaultObjectives);
+        this.objectiveOverrides = parseOverrides(objectiveOverrides);
+        this.sloWindow = sloWindow;
+        this.sloMinSamples = sloMinSamples;
+        this.rotator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "route-latency-rotator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rotator.scheduleAtFixedRate(this::rotate, SLOT_SECONDS, SLOT_SECONDS, TimeUnit.SECONDS);
+
+        Gauge.builder("http.server.slo.breaches", routes,
+                        r -> r.values().stream().filter(RouteLatency::isBreached).count())
+                .description("Number of routes currently breaching a latency objective")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Register a recorder for every handler method of a {@code @RestController}
+     * in this application; framework and actuator handlers are skipped.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void registerRoutes() {
+        RequestMappingHandlerMapping mapping = applicationContext.getBean(
+                "requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : mapping.getHandlerMethods().entrySet()) {
+            HandlerMethod handlerMethod = entry.getValue();
+            Class<?> controller = handlerMethod.getBeanType();
+            if (!controller.getPackageName().startsWith("com.coopcredit")
+                    || !AnnotatedElementUtils.hasAnnotation(controller, RestController.class)) {
+                continue;
+            }
+            String handler = controller.getSimpleName() + "." + handlerMethod.getMethod().getName();
+            routes.computeIfAbsent(handlerMethod.getMethod(), m -> new RouteLatency(
+                    routeName(entry.getKey()), handler, objectiveOverrides.getOrDefault(handler, defaultObjectives)));
+        }
+        log.debug("Tracking latency for {} routes", routes.size());
+    }
+
+    /**
+     * Record a request handled by the given handler method. Allocation-free.
+     */
+    public void record(Method handlerMethod, long nanos) {
+        RouteLatency route = routes.get(handlerMethod);
+        if (route != null) {
+            long micros = nanos / 1_000;
+            route.recorder.recordValue(Math.max(1, Math.min(micros, HIGHEST_TRACKABLE_MICROS)));
+        }
+    }
+
+    public Collection<RouteLatency> routes() {
+        List<RouteLatency> sorted = new ArrayList<>(routes.values());
+        sorted.sort(Comparator.comparing(RouteLatency::route));
+        return sorted;
+    }
+
+    public Duration sloWindow() {
+        return sloWindow;
+    }
+
+    public long sloMinSamples() {
+        return sloMinSamples;
+    }
+
+    static int slotsFor(Duration window) {
+        return (int) Math.min(SLOTS, Math.max(1, window.toSeconds() / SLOT_SECONDS));
+    }
+
+    void rotate() {
+        try {
+            for (RouteLatency route : routes.values()) {
+                route.rotate();
+                boolean breached = route.evaluate(slotsFor(sloWindow), sloMinSamples).stream()
+                        .anyMatch(SloResult::breached);
+                if (breached != route.breached) {
+                    route.breached = breached;
+                    if (breached) {
+                        log.warn("Latency objective breached {} {}", kv("route", route.route()),
+                                kv("window", sloWindow.toString()));
+                    } else {
+                        log.info("Latency objective recovered {}", kv("route", route.route()));
+                    }
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not rotate latency histograms", ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rotator.shutdownNow();
+    }
+
+    private static String routeName(RequestMappingInfo info) {
+        String method = info.getMethodsCondition().getMethods().isEmpty()
+                ? "*"
+                : info.getMethodsCondition().getMethods().iterator().next().name();
+        String pattern = info.getPatternValues().isEmpty() ? "/" : info.getPatternValues().iterator().next();
+        return method + " " + pattern;
+    }
+
+    /**
+     * Parse {@code Controller.method[p99=2s,p99.9=5s];Other.method[p99=1s]}.
+     */
+    private static Map<String, List<LatencyObjective>> parseOverrides(String spec) {
+        Map<String, List<LatencyObjective>> overrides = new HashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return overrides;
+        }
+        for (String entry : spec.split(";")) {
+            int open = entry.indexOf('[');
+            if (open <= 0 || !entry.trim().endsWith("]")) {
+                throw new IllegalArgumentException("Invalid latency objective override '" + entry
+                        + "', expected e.g. CreditApplicationController.evaluateRisk[p99=2s]");
+            }
+            String objectives = entry.substring(open + 1, entry.lastIndexOf(']'));
+            overrides.put(entry.substring(0, open).trim(), LatencyObjective.parseAll(objectives));
+        }
+        return overrides;
+    }
+
+    /**
+     * Latency recorder and rolling window slots for one route.
+     */
+    public static final class RouteLatency {
+
+        private final String route;
+        private final String handler;
+        private final List<LatencyObjective> objectives;
+        private final Recorder recorder = new Recorder(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram[] slots = new Histogram[SLOTS];
+        private int head;
+        private volatile boolean breached;
+
+        private RouteLatency(String route, String handler, List<LatencyObjective> objectives) {
+            this.route = route;
+            this.handler = handler;
+            this.objectives = objectives;
+        }
+
+        public String route() {
+            return route;
+        }
+
+        public String handler() {
+            return handler;
+        }
+
+        public boolean isBreached() {
+            return breached;
+        }
+
+        private synchronized void rotate() {
+            head = (head + 1) % SLOTS;
+            // The replaced slot came from this recorder, so it can be recycled
+            slots[head] = recorder.getIntervalHistogram(slots[head]);
+        }
+
+        /**
+         * Sum of the most recent slots, in microseconds.
+         */
+        public synchronized Histogram window(int slotCount) {
+            Histogram sum = new Histogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+            for (int i = 0; i < slotCount; i++) {
+                Histogram slot = slots[Math.floorMod(head - i, SLOTS)];
+                if (slot != null) {
+                    sum.add(slot);
+                }
+            }
+            return sum;
+        }
+
+        public List<SloResult> evaluate(int slotCount, long minSamples) {
+            Histogram window = window(slotCount);
+            List<SloResult> results = new ArrayList<>(objectives.size());
+            for (LatencyObjective objective : objectives) {
+                double actualMs = window.getValueAtPercentile(objective.percentile()) / 1_000.0;
+                double thresholdMs = objective.threshold().toNanos() / 1_000_000.0;
+                boolean enoughSamples = window.getTotalCount() >= minSamples;
+                results.add(new SloResult(objective.name(), thresholdMs, actualMs, window.getTotalCount(),
+                        enoughSamples && actualMs > thresholdMs));
+            }
+            return results;
+        }
+    }
+
+    public record SloResult(String objective, double thresholdMs, double actualMs, long samples,
+            boolean breached) {
+    }
+}
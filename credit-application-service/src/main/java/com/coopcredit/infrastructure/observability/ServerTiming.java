@@ -0,0 +1,157 @@
+package com.coopcredit.infrastructure.observability;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Lightweight span API for the per-request latency breakdown sent in the
+ * {@code Server-Timing} header. Spans are accumulated per metric name on the
+ * request thread; outside a timed request {@link #start(String)} returns a
+ * shared no-op span, so instrumented code costs one ThreadLocal read.
+ *
+ * <pre>
+ * try (ServerTiming.Span span = ServerTiming.start("bureau")) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * Durations are inclusive: "controller" contains "service", which contains
+ * "repository" and "bureau". Nested spans with the same name count once.
+ */
+public final class ServerTiming {
+
+    public static final String AUTH = "auth";
+    public static final String CONTROLLER = "controller";
+    public static final String SERVICE = "service";
+    public static final String REPOSITORY = "repository";
+    public static final String BUREAU = "bureau";
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final Span NOOP = () -> {
+    };
+
+    private ServerTiming() {
+    }
+
+    public static Span start(String metric) {
+        RequestTimings timings = CURRENT.get();
+        return timings != null ? timings.start(metric) : NOOP;
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Record who the current request is authenticated as. The security context is
+     * cleared before ServerTimingFilter regains control, so the filter decides from
+     * this whether to send the header.
+     */
+    public static void authenticated(String username, Collection<String> authorities) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.username = username;
+            timings.authorities = Set.copyOf(authorities);
+        }
+    }
+
+    static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings(System.nanoTime());
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * An open span; closing it adds its duration to the request's metric.
+     */
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Timings collected for a single request. Confined to the request thread, or
+     * to the thread an async request completes on once the request thread is done.
+     */
+    public static final class RequestTimings {
+
+        private final long startNanos;
+        private final Map<String, Metric> metrics = new LinkedHashMap<>();
+        private String username;
+        private Set<String> authorities = Set.of();
+
+        private RequestTimings(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        private Span start(String name) {
+            Metric metric = metrics.computeIfAbsent(name, n -> new Metric());
+            if (metric.depth++ == 0) {
+                metric.openedAt = System.nanoTime();
+            }
+            return metric;
+        }
+
+        public String username() {
+            return username;
+        }
+
+        public Set<String> authorities() {
+            return authorities;
+        }
+
+        public long elapsedNanos() {
+            return System.nanoTime() - startNanos;
+        }
+
+        /**
+         * Duration in milliseconds of each metric recorded so far, in first-seen order.
+         */
+        public Map<String, Double> durations() {
+            Map<String, Double> result = new LinkedHashMap<>();
+            metrics.forEach((name, metric) -> result.put(name, metric.nanos / 1_000_000.0));
+            return result;
+        }
+
+        /**
+         * Render the header value, e.g. {@code auth;dur=0.4, repository;dur=3.1;desc="2 calls", total;dur=12.0}.
+         */
+        public String headerValue() {
+            StringJoiner header = new StringJoiner(", ");
+            metrics.forEach((name, metric) -> {
+                String entry = name + ";dur=" + millis(metric.nanos);
+                header.add(metric.count > 1 ? entry + ";desc=\"" + metric.count + " calls\"" : entry);
+            });
+            header.add("total;dur=" + millis(elapsedNanos()));
+            return header.toString();
+        }
+
+        private static String millis(long nanos) {
+            return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+        }
+    }
+
+    private static final class Metric implements Span {
+        private long nanos;
+        private int count;
+        private int depth;
+        private long openedAt;
+
+        @Override
+        public void close() {
+            if (--depth == 0) {
+                nanos += System.nanoTime() - openedAt;
+                count++;
+            }
+        }
+    }
+}
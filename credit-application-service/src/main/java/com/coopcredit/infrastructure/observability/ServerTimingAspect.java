@@ -0,0 +1,43 @@
+package com.coopcredit.infrastructure.observability;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records ServerTiming spans for each hexagonal layer: REST controllers,
+ * application services, repository ports and the Risk Central port.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.observability.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingAspect {
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController com.coopcredit..*)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timed(ServerTiming.CONTROLLER, joinPoint);
+    }
+
+    @Around("within(com.coopcredit.application.service..*)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timed(ServerTiming.SERVICE, joinPoint);
+    }
+
+    @Around("execution(* com.coopcredit.domain.port.output.*RepositoryPort+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timed(ServerTiming.REPOSITORY, joinPoint);
+    }
+
+    @Around("execution(* com.coopcredit.domain.port.output.RiskCentralPort+.*(..))")
+    public Object timeBureau(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timed(ServerTiming.BUREAU, joinPoint);
+    }
+
+    private static Object timed(String metric, ProceedingJoinPoint joinPoint) throws Throwable {
+        try (ServerTiming.Span span = ServerTiming.start(metric)) {
+            return joinPoint.proceed();
+        }
+    }
+}
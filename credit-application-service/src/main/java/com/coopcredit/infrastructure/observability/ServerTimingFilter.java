@@ -0,0 +1,157 @@
+package com.coopcredit.infrastructure.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Opens the per-request ServerTiming context ahead of the security filter chain,
+ * so JWT processing is timed too, writes the {@code Server-Timing} header and
+ * hands slow requests to the SlowRequestLog.
+ * <p>
+ * The header is added when the response is about to be committed: on the first
+ * body write, flush, error or redirect, or when the filter chain returns without
+ * any of them (e.g. a 304). That covers streamed bodies, SSE, idempotent replays
+ * and problems written by other filters, not only bodies written by Spring MVC.
+ * It is opt-in: it is sent to users holding one of the configured roles, or when
+ * the request carries {@code X-Server-Timing} and header opt-in is allowed.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "app.observability.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    public static final String OPT_IN_HEADER = "X-Server-Timing";
+
+    private final SlowRequestLog slowRequestLog;
+    private final Set<String> roles;
+    private final boolean headerOptIn;
+
+    public ServerTimingFilter(SlowRequestLog slowRequestLog,
+            @Value("${app.observability.server-timing.roles:ROLE_ADMIN}") Set<String> roles,
+            @Value("${app.observability.server-timing.header-opt-in:false}") boolean headerOptIn) {
+        this.slowRequestLog = slowRequestLog;
+        this.roles = roles;
+        this.headerOptIn = headerOptIn;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        ServerTiming.RequestTimings timings = ServerTiming.begin();
+        TimedResponse timedResponse = new TimedResponse(response, request, timings);
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            ServerTiming.end();
+            // An async response is committed later, by the thread that writes it
+            if (!request.isAsyncStarted()) {
+                timedResponse.addTimingHeader();
+            }
+            long elapsed = timings.elapsedNanos();
+            if (slowRequestLog.isSlow(elapsed)) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                slowRequestLog.record(new SlowRequestLog.SlowRequest(
+                        Instant.now(),
+                        request.getMethod(),
+                        pattern != null ? pattern.toString() : request.getRequestURI(),
+                        response.getStatus(),
+                        timings.username(),
+                        elapsed / 1_000_000.0,
+                        timings.durations()));
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+
+    private boolean optedIn(HttpServletRequest request, ServerTiming.RequestTimings timings) {
+        if (headerOptIn && request.getHeader(OPT_IN_HEADER) != null) {
+            return true;
+        }
+        return !Collections.disjoint(roles, timings.authorities());
+    }
+
+    /**
+     * Adds the header right before the wrapped response can be committed.
+     */
+    private final class TimedResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private final ServerTiming.RequestTimings timings;
+        private boolean headerAdded;
+
+        private TimedResponse(HttpServletResponse response, HttpServletRequest request,
+                ServerTiming.RequestTimings timings) {
+            super(response);
+            this.request = request;
+            this.timings = timings;
+        }
+
+        private void addTimingHeader() {
+            if (headerAdded) {
+                return;
+            }
+            headerAdded = true;
+            if (!isCommitted() && optedIn(request, timings)) {
+                addHeader(SERVER_TIMING_HEADER, timings.headerValue());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addTimingHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addTimingHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addTimingHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addTimingHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addTimingHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addTimingHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.coopcredit.infrastructure.observability;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring buffer of the most recent requests slower than
+ * {@code app.observability.server-timing.slow-threshold}, with their span breakdown.
+ */
+@Component
+@ConditionalOnProperty(name = "app.observability.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowRequestLog {
+
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<SlowRequest> ring;
+    private final AtomicLong next = new AtomicLong();
+
+    public SlowRequestLog(
+            @Value("${app.observability.server-timing.slow-threshold:1s}") Duration threshold,
+            @Value("${app.observability.server-timing.slow-capacity:100}") int capacity) {
+        this.thresholdNanos = threshold.toNanos();
+        this.ring = new AtomicReferenceArray<>(capacity);
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    public void record(SlowRequest request) {
+        ring.set((int) (next.getAndIncrement() % ring.length()), request);
+    }
+
+    /**
+     * Buffered slow requests, newest first.
+     */
+    public List<SlowRequest> recent() {
+        long end = next.get();
+        List<SlowRequest> result = new ArrayList<>(ring.length());
+        for (long i = end - 1; i >= 0 && i >= end - ring.length(); i--) {
+            SlowRequest request = ring.get((int) (i % ring.length()));
+            if (request != null) {
+                result.add(request);
+            }
+        }
+        return result;
+    }
+
+    public record SlowRequest(Instant timestamp, String method, String path, int status,
+            String username, double totalMs, Map<String, Double> spans) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.coopcredit.infrastructure.observability;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint ({@code /actuator/slowrequests}) listing the most recent
+ * slow requests with their Server-Timing span breakdown.
+ */
+@Component
+@Endpoint(id = "slowrequests")
+@ConditionalOnProperty(name = "app.observability.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestLog slowRequestLog;
+
+    public SlowRequestsEndpoint(SlowRequestLog slowRequestLog) {
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    @ReadOperation
+    public List<SlowRequestLog.SlowRequest> slowRequests() {
+        return slowRequestLog.recent();
+    }
+}
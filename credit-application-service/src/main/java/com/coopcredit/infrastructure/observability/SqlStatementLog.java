@@ -0,0 +1,163 @@
+package com.coopcredit.infrastructure.observability;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the execution time of every JDBC statement, grouped by SQL fingerprint
+ * and the repository method that issued it. Keeps a rolling window of one-minute
+ * buckets for the top-N report, cumulative per-method statement counts, and logs
+ * statements slower than the configured threshold.
+ */
+@Component
+public class SqlStatementLog {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementLog.class);
+    private static final long BUCKET_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final String OTHER_FINGERPRINT = "(other)";
+
+    private final long slowThresholdNanos;
+    private final int maxFingerprints;
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final Cache<String, String> fingerprints;
+    private final Map<String, StatementTotals> totalsByMethod = new ConcurrentHashMap<>();
+
+    public SqlStatementLog(
+            @Value("${app.observability.sql.slow-threshold:200ms}") Duration slowThreshold,
+            @Value("${app.observability.sql.window:15m}") Duration window,
+            @Value("${app.observability.sql.max-fingerprints:500}") int maxFingerprints) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxFingerprints = maxFingerprints;
+        this.buckets = new AtomicReferenceArray<>((int) Math.max(1, window.toMinutes()));
+        // Hibernate reuses the same SQL strings, so normalization runs once per statement shape
+        this.fingerprints = Caffeine.newBuilder().maximumSize(2_000).build();
+    }
+
+    public void record(String sql, long nanos) {
+        String method = RepositoryMethodContext.current();
+        String fingerprint = sql != null ? fingerprints.get(sql, SqlFingerprints::of) : OTHER_FINGERPRINT;
+
+        totalsByMethod.computeIfAbsent(method, m -> new StatementTotals()).add(nanos);
+
+        Map<StatementKey, StatementTotals> entries = currentBucket().entries;
+        StatementKey key = new StatementKey(fingerprint, method);
+        StatementTotals totals = entries.get(key);
+        if (totals == null) {
+            if (entries.size() >= maxFingerprints) {
+                key = new StatementKey(OTHER_FINGERPRINT, method);
+            }
+            totals = entries.computeIfAbsent(key, k -> new StatementTotals());
+        }
+        totals.add(nanos);
+
+        if (nanos >= slowThresholdNanos) {
+            log.warn("Slow SQL ({} ms) from {}: {}", TimeUnit.NANOSECONDS.toMillis(nanos), method, fingerprint);
+        }
+    }
+
+    /**
+     * Fingerprints with the highest total execution time over the rolling window.
+     */
+    public List<FingerprintStats> top(int limit) {
+        long minute = System.currentTimeMillis() / BUCKET_MILLIS;
+        Map<StatementKey, long[]> merged = new HashMap<>();
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket == null || bucket.minute <= minute - buckets.length()) {
+                continue;
+            }
+            bucket.entries.forEach((key, totals) -> {
+                long[] sum = merged.computeIfAbsent(key, k -> new long[3]);
+                sum[0] += totals.count.sum();
+                sum[1] += totals.totalNanos.sum();
+                sum[2] = Math.max(sum[2], totals.maxNanos.get());
+            });
+        }
+
+        List<FingerprintStats> result = new ArrayList<>(merged.size());
+        merged.forEach((key, sum) -> result.add(new FingerprintStats(
+                key.fingerprint(), key.repositoryMethod(), sum[0], toMillis(sum[1]),
+                sum[0] > 0 ? toMillis(sum[1] / sum[0]) : 0, toMillis(sum[2]))));
+        result.sort(Comparator.comparingDouble(FingerprintStats::totalMs).reversed());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    /**
+     * Statement count and time per repository method since startup.
+     */
+    public Map<String, MethodStatementStats> totalsByRepositoryMethod() {
+        Map<String, MethodStatementStats> result = new HashMap<>();
+        totalsByMethod.forEach((method, totals) -> result.put(method,
+                new MethodStatementStats(totals.count.sum(), toMillis(totals.totalNanos.sum()))));
+        return result;
+    }
+
+    public Duration window() {
+        return Duration.ofMillis(BUCKET_MILLIS * buckets.length());
+    }
+
+    private Bucket currentBucket() {
+        long minute = System.currentTimeMillis() / BUCKET_MILLIS;
+        int index = (int) (minute % buckets.length());
+        Bucket bucket = buckets.get(index);
+        while (bucket == null || bucket.minute != minute) {
+            Bucket fresh = new Bucket(minute);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+            bucket = buckets.get(index);
+        }
+        return bucket;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private record StatementKey(String fingerprint, String repositoryMethod) {
+    }
+
+    private static final class Bucket {
+        private final long minute;
+        private final Map<StatementKey, StatementTotals> entries = new ConcurrentHashMap<>();
+
+        private Bucket(long minute) {
+            this.minute = minute;
+        }
+    }
+
+    private static final class StatementTotals {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    public record FingerprintStats(String fingerprint, String repositoryMethod, long count,
+            double totalMs, double meanMs, double maxMs) {
+    }
+
+    public record MethodStatementStats(long statements, double totalMs) {
+    }
+}
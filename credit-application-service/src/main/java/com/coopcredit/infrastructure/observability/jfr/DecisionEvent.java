@@ -0,0 +1,28 @@
+package com.coopcredit.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering CreditApplicationService.makeDecision.
+ */
+@Name("com.coopcredit.Decision")
+@Label("Credit Decision")
+@Category({ "CoopCredit", "Credit Applications" })
+@Description("Analyst approval or rejection of a credit application")
+@StackTrace(false)
+public class DecisionEvent extends Event {
+
+    @Label("Application ID")
+    public long applicationId;
+
+    @Label("Approved")
+    public boolean approved;
+
+    @Label("Outcome")
+    public String outcome;
+}
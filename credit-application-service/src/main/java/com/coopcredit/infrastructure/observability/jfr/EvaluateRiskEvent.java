@@ -0,0 +1,28 @@
+package com.coopcredit.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering CreditApplicationService.evaluateRisk.
+ */
+@Name("com.coopcredit.EvaluateRisk")
+@Label("Evaluate Risk")
+@Category({ "CoopCredit", "Credit Applications" })
+@Description("Risk evaluation of a credit application, including the bureau call")
+@StackTrace(false)
+public class EvaluateRiskEvent extends Event {
+
+    @Label("Application ID")
+    public long applicationId;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Risk Level")
+    public String riskLevel;
+}
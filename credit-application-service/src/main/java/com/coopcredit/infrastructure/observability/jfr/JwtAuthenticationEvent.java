@@ -0,0 +1,26 @@
+package com.coopcredit.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering token processing in JwtAuthenticationFilter. Records the
+ * roles of the token rather than the username, so recordings carry no user identity.
+ */
+@Name("com.coopcredit.JwtAuthentication")
+@Label("JWT Authentication")
+@Category({ "CoopCredit", "Security" })
+@Description("Parsing and validation of the bearer token of a request")
+@StackTrace(false)
+public class JwtAuthenticationEvent extends Event {
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Roles")
+    public String roles;
+}
@@ -0,0 +1,36 @@
+package com.coopcredit.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering the HTTP call to the Risk Central service. It is emitted
+ * on the thread of the enclosing EvaluateRisk event, which carries the
+ * application ID.
+ */
+@Name("com.coopcredit.RiskCentralCall")
+@Label("Risk Central Call")
+@Category({ "CoopCredit", "Outbound" })
+@Description("Call to the external Risk Central bureau")
+@StackTrace(false)
+public class RiskCentralCallEvent extends Event {
+
+    @Label("Term Months")
+    public int termMonths;
+
+    @Label("Score")
+    public int score;
+
+    @Label("Risk Level")
+    public String riskLevel;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Wire Format")
+    public String wireFormat;
+}
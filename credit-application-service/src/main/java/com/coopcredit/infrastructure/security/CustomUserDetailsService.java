@@ -2,46 +2,60 @@ package com.coopcredit.infrastructure.security;
 
 import com.coopcredit.infrastructure.adapter.output.persistence.entity.UserEntity;
 import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaUserRepository;
+import com.coopcredit.infrastructure.security.UserDetailsCache.CachedUser;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.stream.Collectors;
 
 /**
  * Custom UserDetailsService implementation for Spring Security.
  * Returns CustomUserDetails with documentNumber for affiliate access control.
+ * Lookups are served from the UserDetailsCache; the database (user plus its
+ * eagerly fetched roles) is only hit on a cache miss.
  */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final JpaUserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
-    public CustomUserDetailsService(JpaUserRepository userRepository) {
+    public CustomUserDetailsService(JpaUserRepository userRepository, UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        UserEntity userEntity = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        CachedUser user = userDetailsCache.get(username, this::loadSnapshot);
 
-        var authorities = userEntity.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority(role.name()))
+        var authorities = user.authorities().stream()
+                .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
 
         return new CustomUserDetails(
-                userEntity.getUsername(),
-                userEntity.getPassword(),
-                userEntity.getEnabled(),
+                user.username(),
+                user.password(),
+                user.enabled(),
                 true, // accountNonExpired
                 true, // credentialsNonExpired
                 true, // accountNonLocked
                 authorities,
+                user.documentNumber());
+    }
+
+    private CachedUser loadSnapshot(String username) {
+        UserEntity userEntity = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+
+        return new CachedUser(
+                userEntity.getUsername(),
+                userEntity.getPassword(),
+                Boolean.TRUE.equals(userEntity.getEnabled()),
+                userEntity.getRoles().stream().map(Enum::name).collect(Collectors.toUnmodifiableSet()),
                 userEntity.getDocumentNumber());
     }
 }
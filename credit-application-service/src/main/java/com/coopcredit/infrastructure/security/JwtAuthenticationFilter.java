@@ -1,5 +1,7 @@
 package com.coopcredit.infrastructure.security;
 
+import com.coopcredit.infrastructure.observability.ServerTiming;
+import com.coopcredit.infrastructure.observability.jfr.JwtAuthenticationEvent;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -38,9 +40,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
-        try {
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.begin();
+        String outcome = "no_token";
+        String roles = null;
+        try (ServerTiming.Span span = ServerTiming.start(ServerTiming.AUTH)) {
             String jwt = getJwtFromRequest(request);
 
+            if (StringUtils.hasText(jwt)) {
+                outcome = "invalid";
+            }
             if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
                 String username = tokenProvider.getUsernameFromToken(jwt);
                 String rolesString = tokenProvider.getRolesFromToken(jwt);
@@ -55,11 +64,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                ServerTiming.authenticated(username,
+                        authorities.stream().map(SimpleGrantedAuthority::getAuthority).toList());
+                outcome = "authenticated";
+                roles = rolesString;
                 log.debug("Authenticated user: {} with roles: {}", username, rolesString);
             }
         } catch (Exception ex) {
+            outcome = "error";
             log.error("Could not set user authentication in security context", ex);
         }
+        if (event.shouldCommit()) {
+            event.outcome = outcome;
+            event.roles = roles;
+            event.commit();
+        }
 
         filterChain.doFilter(request, response);
     }
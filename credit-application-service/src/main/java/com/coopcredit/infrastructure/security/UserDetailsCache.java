@@ -0,0 +1,71 @@
+package com.coopcredit.infrastructure.security;
+
+import com.coopcredit.infrastructure.adapter.output.persistence.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based cache of the security data needed to authenticate a user.
+ * Entries are immutable snapshots: Spring Security erases the password of the
+ * UserDetails it authenticated, so a fresh CustomUserDetails is built on every hit.
+ * Entries are evicted after commit whenever the user is saved.
+ */
+@Component
+public class UserDetailsCache {
+
+    private static final Logger log = LoggerFactory.getLogger(UserDetailsCache.class);
+
+    private final Cache<String, CachedUser> cache;
+
+    public UserDetailsCache(
+            @Value("${app.security.user-cache.ttl:5m}") Duration ttl,
+            @Value("${app.security.user-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Get the cached snapshot for a username, loading it on a miss.
+     * Loader exceptions propagate and nothing is cached.
+     */
+    public CachedUser get(String username, Function<String, CachedUser> loader) {
+        return cache.get(username, loader);
+    }
+
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        log.debug("Evicting cached user details for: {}", event.username());
+        invalidate(event.username());
+    }
+
+    /**
+     * Immutable snapshot of a user's authentication data.
+     */
+    public record CachedUser(
+            String username,
+            String password,
+            boolean enabled,
+            Set<String> authorities,
+            String documentNumber) {
+    }
+}
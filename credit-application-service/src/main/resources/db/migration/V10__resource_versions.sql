@@ -0,0 +1,6 @@
+-- V10__resource_versions.sql
+-- Optimistic-locking versions, also used to answer conditional GETs: every
+-- update raises the row's version, so versions fingerprint the resources
+
+ALTER TABLE affiliates ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE credit_applications ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,18 @@
+-- V11__idempotency_keys.sql
+-- Responses to POST requests sent with an Idempotency-Key header, per user.
+-- A row without a status is still being executed; rows are deleted once they
+-- expire.
+
+CREATE TABLE idempotency_keys (
+    owner VARCHAR(50) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    status INTEGER,
+    content_type VARCHAR(100),
+    body TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (owner, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
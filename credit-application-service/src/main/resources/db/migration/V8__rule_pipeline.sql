@@ -0,0 +1,7 @@
+-- V8__rule_pipeline.sql
+-- Credit rule pipeline: warnings are stored as codes, and score / risk level
+-- are NULL when a hard-reject rule stopped the pipeline before the bureau call
+
+ALTER TABLE risk_evaluations ADD COLUMN warning_codes VARCHAR(200);
+ALTER TABLE risk_evaluations ALTER COLUMN score DROP NOT NULL;
+ALTER TABLE risk_evaluations ALTER COLUMN risk_level DROP NOT NULL;
@@ -0,0 +1,13 @@
+-- V9__affiliate_exposure.sql
+-- Per-affiliate exposure aggregate, maintained by the transactions that create
+-- and decide applications. It starts empty: the reconciler fills it from
+-- credit_applications when the service starts.
+
+CREATE TABLE affiliate_exposure (
+    affiliate_id BIGINT PRIMARY KEY,
+    approved_monthly_payments DECIMAL(15, 2) NOT NULL DEFAULT 0,
+    pending_count INTEGER NOT NULL DEFAULT 0,
+    revision BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (affiliate_id) REFERENCES affiliates(id) ON DELETE CASCADE
+);
@@ -2,25 +2,36 @@ package com.coopcredit.application.service;
 
 import com.coopcredit.domain.exception.*;
 import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.AffiliateExposure;
 import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.CreditApplicationChangedEvent;
+import com.coopcredit.domain.model.Money;
 import com.coopcredit.domain.model.enums.AffiliateStatus;
 import com.coopcredit.domain.model.enums.ApplicationStatus;
 import com.coopcredit.domain.model.enums.RiskLevel;
+import com.coopcredit.domain.port.output.AffiliateExposurePort;
 import com.coopcredit.domain.port.output.AffiliateRepositoryPort;
 import com.coopcredit.domain.port.output.CreditApplicationRepositoryPort;
 import com.coopcredit.domain.port.output.RiskCentralPort;
+import com.coopcredit.domain.model.enums.EvaluationWarning;
+import com.coopcredit.domain.rule.BureauRiskRule;
+import com.coopcredit.domain.rule.DebtToIncomeRule;
+import com.coopcredit.domain.rule.MaximumAmountRule;
+import com.coopcredit.domain.rule.MinimumAffiliationRule;
 import com.coopcredit.infrastructure.config.MetricsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,13 +51,18 @@ class CreditApplicationServiceTest {
         @Mock
         private AffiliateRepositoryPort affiliateRepository;
 
+        @Mock
+        private AffiliateExposurePort exposurePort;
+
         @Mock
         private RiskCentralPort riskCentralPort;
 
         @Mock
         private MetricsService metricsService;
 
-        @InjectMocks
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
         private CreditApplicationService creditApplicationService;
 
         private Affiliate activeAffiliate;
@@ -54,6 +70,14 @@ class CreditApplicationServiceTest {
 
         @BeforeEach
         void setUp() {
+                CreditRulePipeline rulePipeline = new CreditRulePipeline(
+                                List.of(new MinimumAffiliationRule(6), new MaximumAmountRule(), new DebtToIncomeRule(),
+                                                new BureauRiskRule(riskCentralPort)),
+                                new SimpleMeterRegistry(), false);
+                creditApplicationService = new CreditApplicationService(
+                                applicationRepository, affiliateRepository, exposurePort, rulePipeline,
+                                metricsService, eventPublisher);
+
                 // Setup active affiliate with 12 months of affiliation
                 activeAffiliate = new Affiliate();
                 activeAffiliate.setId(1L);
@@ -99,6 +123,9 @@ class CreditApplicationServiceTest {
                 assertThat(result.getStatus()).isEqualTo(ApplicationStatus.PENDING);
                 assertThat(result.getAffiliate().getDocumentNumber()).isEqualTo("1017654321");
                 verify(applicationRepository).save(any(CreditApplication.class));
+                verify(exposurePort).applicationCreated(1L);
+                verify(eventPublisher).publishEvent(
+                                new CreditApplicationChangedEvent(CreditApplicationChangedEvent.Change.CREATED, result));
         }
 
         @Test
@@ -159,6 +186,7 @@ class CreditApplicationServiceTest {
                 // Then
                 assertThat(result.getStatus()).isEqualTo(ApplicationStatus.APPROVED);
                 assertThat(result.getRiskEvaluation().getApproved()).isTrue();
+                verify(exposurePort).applicationDecided(1L, pendingApplication.monthlyPayment(), true);
         }
 
         @Test
@@ -210,6 +238,7 @@ class CreditApplicationServiceTest {
                 // Then - Still pending but with warning
                 assertThat(result.getStatus()).isEqualTo(ApplicationStatus.PENDING);
                 assertThat(result.getRiskEvaluation().getReason()).contains("maximum allowed");
+                assertThat(result.getRiskEvaluation().getWarnings()).contains(EvaluationWarning.AMOUNT_EXCEEDS_MAXIMUM);
                 assertThat(result.getRiskEvaluation().getApproved()).isNull(); // Not decided yet
         }
 
@@ -233,6 +262,33 @@ class CreditApplicationServiceTest {
                 // Then - Still pending but with warning
                 assertThat(result.getStatus()).isEqualTo(ApplicationStatus.PENDING);
                 assertThat(result.getRiskEvaluation().getReason()).contains("affiliation time");
+                assertThat(result.getRiskEvaluation().getWarnings())
+                                .containsExactly(EvaluationWarning.INSUFFICIENT_AFFILIATION);
                 assertThat(result.getRiskEvaluation().getApproved()).isNull(); // Not decided yet
         }
+
+        @Test
+        @DisplayName("Should count approved credits of the affiliate in the debt-to-income ratio")
+        void shouldIncludeExistingCreditsInDebtToIncomeRatio() {
+                // Given - 520,833.33 a month on top of 1,600,000.00 already approved
+                when(applicationRepository.findByIdWithAffiliate(1L))
+                                .thenReturn(Optional.of(pendingApplication));
+                when(exposurePort.findByAffiliateId(1L))
+                                .thenReturn(new AffiliateExposure(1L, Money.of(new BigDecimal("1600000")), 1));
+
+                RiskCentralPort.RiskEvaluationResponse riskResponse = new RiskCentralPort.RiskEvaluationResponse(
+                                "1017654321", 800, RiskLevel.LOW, "Good credit");
+                when(riskCentralPort.evaluate(any(), any(), any())).thenReturn(riskResponse);
+                when(applicationRepository.save(any(CreditApplication.class)))
+                                .thenAnswer(invocation -> invocation.getArgument(0));
+
+                // When
+                CreditApplication result = creditApplicationService.evaluateRisk(1L);
+
+                // Then
+                assertThat(result.getRiskEvaluation().getDebtToIncomeRatio()).isEqualByComparingTo("42.42");
+                assertThat(result.getRiskEvaluation().getWarnings())
+                                .containsExactly(EvaluationWarning.DEBT_TO_INCOME_TOO_HIGH);
+                assertThat(result.getRiskEvaluation().getReason()).contains("1600000.00 of approved credits");
+        }
 }
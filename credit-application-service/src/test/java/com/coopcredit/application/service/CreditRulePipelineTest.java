@@ -0,0 +1,92 @@
+package com.coopcredit.application.service;
+
+import com.coopcredit.domain.model.enums.EvaluationWarning;
+import com.coopcredit.domain.rule.CreditRule;
+import com.coopcredit.domain.rule.RuleContext;
+import com.coopcredit.domain.rule.RuleViolation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the credit rule pipeline ordering and short-circuiting.
+ */
+class CreditRulePipelineTest {
+
+    @Test
+    @DisplayName("Should run cheap rules first and skip the rest after a hard reject")
+    void shouldShortCircuitOnHardReject() {
+        StubRule remote = new StubRule("remote", false, 50_000_000, false);
+        StubRule local = new StubRule("local", true, 1_000, true);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CreditRulePipeline pipeline = new CreditRulePipeline(List.of(remote, local), registry, true);
+
+        CreditRulePipeline.Result result = pipeline.evaluate(new RuleContext(null));
+
+        assertThat(pipeline.ruleOrder()).containsExactly("local", "remote");
+        assertThat(result.warnings()).containsExactly(EvaluationWarning.AMOUNT_EXCEEDS_MAXIMUM);
+        assertThat(result.stoppedBy()).isEqualTo("local");
+        assertThat(remote.calls.get()).isZero();
+        assertThat(registry.get(CreditRulePipeline.RULE_RESULT_COUNTER)
+                .tag("rule", "remote").tag("result", "skipped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should run every rule when short-circuiting is disabled")
+    void shouldRunAllRulesWithoutShortCircuit() {
+        StubRule remote = new StubRule("remote", false, 50_000_000, false);
+        StubRule local = new StubRule("local", true, 1_000, true);
+        CreditRulePipeline pipeline = new CreditRulePipeline(List.of(remote, local), new SimpleMeterRegistry(), false);
+
+        CreditRulePipeline.Result result = pipeline.evaluate(new RuleContext(null));
+
+        assertThat(result.stoppedBy()).isNull();
+        assertThat(remote.calls.get()).isEqualTo(1);
+        assertThat(result.reason()).isEqualTo("Requested amount exceeds maximum allowed: local");
+    }
+
+    private static final class StubRule implements CreditRule {
+
+        private final String name;
+        private final boolean hardReject;
+        private final long cost;
+        private final boolean fails;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private StubRule(String name, boolean hardReject, long cost, boolean fails) {
+            this.name = name;
+            this.hardReject = hardReject;
+            this.cost = cost;
+            this.fails = fails;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public boolean hardReject() {
+            return hardReject;
+        }
+
+        @Override
+        public long estimatedCostNanos() {
+            return cost;
+        }
+
+        @Override
+        public Optional<RuleViolation> evaluate(RuleContext context) {
+            calls.incrementAndGet();
+            return fails
+                    ? Optional.of(new RuleViolation(EvaluationWarning.AMOUNT_EXCEEDS_MAXIMUM, name))
+                    : Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.coopcredit.application.service;
+
+import com.coopcredit.domain.exception.InvalidSimulationException;
+import com.coopcredit.domain.model.SimulationRange;
+import com.coopcredit.domain.port.output.AffiliateExposurePort;
+import com.coopcredit.domain.port.output.AffiliateRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for SimulationService.
+ */
+@ExtendWith(MockitoExtension.class)
+class SimulationServiceTest {
+
+    @Mock
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Mock
+    private AffiliateExposurePort exposurePort;
+
+    private SimulationService simulationService;
+
+    @BeforeEach
+    void setUp() {
+        simulationService = new SimulationService(affiliateRepository, exposurePort, 100_000, 20_000);
+    }
+
+    @Test
+    @DisplayName("Should reject a grid larger than the limit")
+    void shouldRejectGridLargerThanLimit() {
+        // Given
+        SimulationRange amounts = range("1000000", "2000000", "1000");
+        SimulationRange terms = range("12", "60", "12");
+        SimulationRange rates = range("1", "25", "1");
+
+        // When / Then
+        assertThatThrownBy(() -> simulationService.simulate("1017654321", amounts, terms, rates))
+                .isInstanceOf(InvalidSimulationException.class)
+                .hasMessageContaining("100000");
+        verifyNoInteractions(affiliateRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a grid whose size would overflow a long")
+    void shouldRejectGridWhoseSizeWouldOverflow() {
+        // Given: every count saturates at Integer.MAX_VALUE, whose cube wraps negative
+        SimulationRange amounts = range("100000", "500000000", "0.0001");
+        SimulationRange terms = range("6", "120", "0.00000001");
+        SimulationRange rates = range("0.1", "50", "0.00000000001");
+
+        // When / Then
+        assertThatThrownBy(() -> simulationService.simulate("1017654321", amounts, terms, rates))
+                .isInstanceOf(InvalidSimulationException.class);
+        verifyNoInteractions(affiliateRepository, exposurePort);
+    }
+
+    private static SimulationRange range(String from, String to, String step) {
+        return new SimulationRange(new BigDecimal(from), new BigDecimal(to), new BigDecimal(step));
+    }
+}
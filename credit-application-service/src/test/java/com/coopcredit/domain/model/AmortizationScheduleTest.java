@@ -0,0 +1,80 @@
+package com.coopcredit.domain.model;
+
+import com.coopcredit.domain.model.enums.AmortizationMethod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the amortization schedule methods.
+ */
+class AmortizationScheduleTest {
+
+    @Test
+    @DisplayName("Should repay the whole principal and end with a zero balance")
+    void shouldRepayPrincipal() {
+        SplittableRandom random = new SplittableRandom(39);
+        for (int i = 0; i < 5_000; i++) {
+            Money amount = Money.ofCents(random.nextLong(100_000, 100_000_000_000L));
+            Rate rate = Rate.ofMicros(random.nextLong(0, 500_001));
+            int term = random.nextInt(1, 121);
+            for (AmortizationMethod method : AmortizationMethod.values()) {
+                AmortizationSchedule schedule = AmortizationSchedule.calculate(
+                        new AmortizationSchedule.Terms(amount, rate, term, method));
+
+                long principal = 0;
+                long remaining = amount.cents();
+                for (int row = 0; row < schedule.installments(); row++) {
+                    assertThat(schedule.principalCents(row)).isNotNegative();
+                    assertThat(schedule.paymentCents(row))
+                            .isEqualTo(schedule.principalCents(row) + schedule.interestCents(row));
+                    remaining -= schedule.principalCents(row);
+                    assertThat(schedule.balanceCents(row)).isEqualTo(remaining);
+                    principal += schedule.principalCents(row);
+                }
+                assertThat(principal).isEqualTo(amount.cents());
+                assertThat(schedule.balanceCents(term - 1)).isZero();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the textbook French and German schedules")
+    void shouldMatchKnownSchedules() {
+        // 10,000.00 at 12% a year over 12 months: 1% a month
+        Money amount = Money.of(new BigDecimal("10000.00"));
+        Rate rate = Rate.ofPercent(new BigDecimal("12"));
+
+        AmortizationSchedule french = AmortizationSchedule.calculate(
+                new AmortizationSchedule.Terms(amount, rate, 12, AmortizationMethod.FRENCH));
+        assertThat(french.paymentCents(0)).isEqualTo(88_849);
+        assertThat(french.interestCents(0)).isEqualTo(10_000);
+        assertThat(french.paymentCents(5)).isEqualTo(88_849);
+
+        AmortizationSchedule german = AmortizationSchedule.calculate(
+                new AmortizationSchedule.Terms(amount, rate, 12, AmortizationMethod.GERMAN));
+        assertThat(german.principalCents(0)).isEqualTo(83_333);
+        assertThat(german.paymentCents(0)).isEqualTo(93_333);
+        assertThat(german.principalCents(10)).isEqualTo(83_333);
+        assertThat(german.principalCents(11)).isEqualTo(83_337);
+        assertThat(german.interestCents(11)).isEqualTo(833);
+    }
+
+    @Test
+    @DisplayName("Should use the application's monthly payment for simple interest")
+    void shouldMatchSimpleInterestPayment() {
+        CreditApplication application = new CreditApplication(1L, null, new BigDecimal("15000000"), 36,
+                new BigDecimal("18.5"));
+
+        AmortizationSchedule schedule = AmortizationSchedule.calculate(
+                application.scheduleTerms(AmortizationMethod.SIMPLE_INTEREST));
+
+        assertThat(schedule.paymentCents(0)).isEqualTo(application.monthlyPayment().cents());
+        assertThat(schedule.totalInterest().cents())
+                .isEqualTo(schedule.totalPayment().cents() - 1_500_000_000L);
+    }
+}
@@ -0,0 +1,68 @@
+package com.coopcredit.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests checking the simulation grid against the per-application rules.
+ */
+class CreditSimulationTest {
+
+    @Test
+    @DisplayName("Should match the application payment, DTI and evaluation rules in every cell")
+    void shouldMatchApplicationRules() {
+        BigDecimal salary = new BigDecimal("3250000.00");
+        long[] amounts = { 10_000_000, 1_000_000_000, 3_900_000_000L, 3_900_000_001L, 5_000_000_000L };
+        int[] terms = { 6, 36, 120 };
+        long[] rates = { 1_000, 185_000, 500_000 };
+
+        CreditSimulation simulation = CreditSimulation.calculate(Money.of(salary), amounts, terms, rates, true);
+
+        assertThat(simulation.rows()).isEqualTo(9);
+        BigDecimal maxDti = CreditApplication.MAX_DEBT_TO_INCOME_RATIO.toPercent();
+        for (int row = 0; row < simulation.rows(); row++) {
+            for (int column = 0; column < simulation.columns(); column++) {
+                CreditApplication application = new CreditApplication(1L, null,
+                        BigDecimal.valueOf(amounts[column], 2), simulation.termMonths(row),
+                        Rate.ofMicros(simulation.rateMicros(row)).toPercent());
+                BigDecimal dti = application.calculateDebtToIncomeRatio(salary);
+                boolean passes = application.getRequestedAmount().compareTo(salary.multiply(BigDecimal.valueOf(12))) <= 0
+                        && dti.compareTo(maxDti) <= 0;
+
+                assertThat(simulation.paymentCents(row, column)).isEqualTo(application.monthlyPayment().cents());
+                assertThat(Rate.ofMicros(simulation.ratioMicros(row, column)).toPercent()).isEqualTo(dti);
+                assertThat(simulation.isAffordable(row, column)).isEqualTo(passes);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should find the largest amount that passes both rules, on top of existing payments")
+    void shouldSolveMaximumAffordableAmount() {
+        SplittableRandom random = new SplittableRandom(40);
+        for (int i = 0; i < 2_000; i++) {
+            long salary = random.nextLong(100_000, 10_000_000_000L);
+            int term = random.nextInt(6, 121);
+            long rate = random.nextLong(1_000, 500_001);
+            long existing = i % 2 == 0 ? 0 : random.nextLong(0, salary / 4);
+
+            CreditSimulation simulation = CreditSimulation.calculate(Money.ofCents(salary), Money.ofCents(existing),
+                    new long[] { 0 }, new int[] { term }, new long[] { rate }, false);
+            long max = simulation.maxAffordableCents(0);
+
+            assertThat(passes(salary, existing, max, term, rate)).isTrue();
+            assertThat(passes(salary, existing, max + 1, term, rate)).isFalse();
+        }
+    }
+
+    private static boolean passes(long salary, long existing, long amount, int term, long rate) {
+        CreditSimulation simulation = CreditSimulation.calculate(Money.ofCents(salary), Money.ofCents(existing),
+                new long[] { amount }, new int[] { term }, new long[] { rate }, false);
+        return simulation.isAffordable(0, 0);
+    }
+}
@@ -0,0 +1,72 @@
+package com.coopcredit.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests checking the fixed-point calculations against the BigDecimal
+ * formulas they replaced.
+ */
+class MoneyTest {
+
+    @Test
+    @DisplayName("Should match the BigDecimal monthly payment and debt-to-income ratio")
+    void shouldMatchBigDecimalResults() {
+        SplittableRandom random = new SplittableRandom(20_240_101);
+        for (int i = 0; i < 200_000; i++) {
+            // Up to the DECIMAL(15, 2) limit of the column
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(10_000_000, 1_000_000_000_000_000L), 2);
+            BigDecimal rate = BigDecimal.valueOf(random.nextLong(10, 5_001), 2);
+            int term = random.nextInt(6, 121);
+            BigDecimal salary = BigDecimal.valueOf(random.nextLong(100, 10_000_000_000L), 2);
+
+            CreditApplication application = new CreditApplication(1L, null, amount, term, rate);
+            BigDecimal expectedPayment = legacyMonthlyPayment(amount, rate, term);
+
+            assertThat(application.calculateMonthlyPayment()).isEqualTo(expectedPayment);
+            assertThat(application.calculateDebtToIncomeRatio(salary))
+                    .isEqualTo(legacyDebtToIncomeRatio(expectedPayment, salary));
+        }
+    }
+
+    @Test
+    @DisplayName("Should round half up at the cent")
+    void shouldRoundHalfUp() {
+        // 1000.00 at 0% over 6 months is 166.666..., 1000.03 over 6 is 166.671666...
+        assertThat(Money.of(new BigDecimal("1000.00")).simpleInterestInstallment(Rate.ZERO, 6))
+                .isEqualTo(Money.ofCents(16_667));
+        assertThat(Money.of(new BigDecimal("1000.03")).simpleInterestInstallment(Rate.ZERO, 6))
+                .isEqualTo(Money.ofCents(16_667));
+        assertThat(Money.of(new BigDecimal("0.005"))).isEqualTo(Money.ofCents(1));
+        assertThat(Money.divideHalfUp(5, 2)).isEqualTo(3);
+        assertThat(Money.divideHalfUp(-5, 2)).isEqualTo(-3);
+        assertThat(Money.divideHalfUp(7, 3)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should convert rates and amounts at the edges")
+    void shouldConvertAtTheEdges() {
+        assertThat(Rate.ofPercent(new BigDecimal("12.5")).micros()).isEqualTo(125_000);
+        assertThat(Rate.ofPercent(new BigDecimal("12.5")).toPercent(2)).isEqualTo(new BigDecimal("12.50"));
+        assertThat(Money.ofCents(123_456).toBigDecimal()).isEqualTo(new BigDecimal("1234.56"));
+        assertThat(Money.ofCents(2_550).ratioTo(Money.ofCents(10_000), 4).toPercent())
+                .isEqualTo(new BigDecimal("25.5000"));
+    }
+
+    private static BigDecimal legacyMonthlyPayment(BigDecimal amount, BigDecimal rate, int term) {
+        BigDecimal annualRate = rate.divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
+        BigDecimal termYears = BigDecimal.valueOf(term).divide(BigDecimal.valueOf(12), 6, RoundingMode.HALF_UP);
+        BigDecimal total = amount.multiply(BigDecimal.ONE.add(annualRate.multiply(termYears)));
+        return total.divide(BigDecimal.valueOf(term), 2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal legacyDebtToIncomeRatio(BigDecimal payment, BigDecimal salary) {
+        return payment.divide(salary, 4, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100));
+    }
+}
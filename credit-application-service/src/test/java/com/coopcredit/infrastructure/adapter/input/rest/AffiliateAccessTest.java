@@ -0,0 +1,170 @@
+package com.coopcredit.infrastructure.adapter.input.rest;
+
+import com.coopcredit.infrastructure.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for AffiliateAccess.
+ */
+@ExtendWith(MockitoExtension.class)
+class AffiliateAccessTest {
+
+    private static final String OWN_DOCUMENT = "1017654321";
+    private static final String OTHER_DOCUMENT = "1098765432";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private AffiliateAccess affiliateAccess;
+
+    @BeforeEach
+    void setUp() {
+        affiliateAccess = new AffiliateAccess(userDetailsService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should let an affiliate authenticated by JWT read its own document number")
+    void shouldLetAffiliateReadOwnDocument() {
+        // Given: JWT authentication carries the username as a String principal
+        authenticate("affiliate1", "ROLE_AFFILIATE");
+        when(userDetailsService.loadUserByUsername("affiliate1")).thenReturn(affiliate("affiliate1", OWN_DOCUMENT));
+
+        // When
+        boolean allowed = affiliateAccess.canAccess(OWN_DOCUMENT);
+
+        // Then
+        assertThat(allowed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not let an affiliate read another affiliate's document number")
+    void shouldNotLetAffiliateReadOtherDocument() {
+        // Given
+        authenticate("affiliate1", "ROLE_AFFILIATE");
+        when(userDetailsService.loadUserByUsername("affiliate1")).thenReturn(affiliate("affiliate1", OWN_DOCUMENT));
+
+        // When
+        boolean allowed = affiliateAccess.canAccess(OTHER_DOCUMENT);
+
+        // Then
+        assertThat(allowed).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should use the principal when it already carries the document number")
+    void shouldUseUserDetailsPrincipal() {
+        // Given
+        CustomUserDetails user = affiliate("affiliate1", OWN_DOCUMENT);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        // When
+        Predicate<String> readable = affiliateAccess.readableDocuments();
+
+        // Then
+        assertThat(readable.test(OWN_DOCUMENT)).isTrue();
+        assertThat(readable.test(OTHER_DOCUMENT)).isFalse();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Should resolve the affiliate's document number once for many records")
+    void shouldResolveDocumentOnce() {
+        // Given
+        authenticate("affiliate1", "ROLE_AFFILIATE");
+        when(userDetailsService.loadUserByUsername("affiliate1")).thenReturn(affiliate("affiliate1", OWN_DOCUMENT));
+
+        // When
+        Predicate<String> readable = affiliateAccess.readableDocuments();
+        List<Boolean> results = List.of(readable.test(OWN_DOCUMENT), readable.test(OTHER_DOCUMENT),
+                readable.test(OWN_DOCUMENT));
+
+        // Then
+        assertThat(results).containsExactly(true, false, true);
+        verify(userDetailsService, times(1)).loadUserByUsername("affiliate1");
+    }
+
+    @Test
+    @DisplayName("Should not let an affiliate without a document number read any record")
+    void shouldDenyAffiliateWithoutDocument() {
+        // Given
+        authenticate("affiliate1", "ROLE_AFFILIATE");
+        UserDetails plainUser = User.withUsername("affiliate1").password("x").roles("AFFILIATE").build();
+        when(userDetailsService.loadUserByUsername("affiliate1")).thenReturn(plainUser);
+
+        // When
+        Predicate<String> readable = affiliateAccess.readableDocuments();
+
+        // Then
+        assertThat(readable.test(OWN_DOCUMENT)).isFalse();
+        assertThat(readable.test(null)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ROLE_ADMIN", "ROLE_ANALYST"})
+    @DisplayName("Should let analysts and admins read every affiliate's records")
+    void shouldLetStaffReadEveryone(String role) {
+        // Given
+        authenticate("staff", role);
+
+        // When
+        Predicate<String> readable = affiliateAccess.readableDocuments();
+
+        // Then
+        assertThat(readable.test(OWN_DOCUMENT)).isTrue();
+        assertThat(readable.test(OTHER_DOCUMENT)).isTrue();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Should let a user who is also an analyst read every affiliate's records")
+    void shouldLetAffiliateAnalystReadEveryone() {
+        // Given
+        authenticate("staff", "ROLE_AFFILIATE", "ROLE_ANALYST");
+
+        // Then
+        assertThat(affiliateAccess.canAccess(OTHER_DOCUMENT)).isTrue();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private static void authenticate(String username, String... roles) {
+        List<SimpleGrantedAuthority> authorities = Arrays.stream(roles).map(SimpleGrantedAuthority::new)
+                .toList();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, authorities));
+    }
+
+    private static CustomUserDetails affiliate(String username, String documentNumber) {
+        return new CustomUserDetails(username, "x", true, true, true, true,
+                List.of(new SimpleGrantedAuthority("ROLE_AFFILIATE")), documentNumber);
+    }
+}
@@ -0,0 +1,202 @@
+package com.coopcredit.infrastructure.adapter.input.rest;
+
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.FieldProjection;
+import com.coopcredit.domain.model.VersionStamp;
+import com.coopcredit.domain.model.enums.AffiliateField;
+import com.coopcredit.domain.model.enums.AffiliateStatus;
+import com.coopcredit.domain.port.input.AffiliateUseCase;
+import com.coopcredit.infrastructure.exception.GlobalExceptionHandler;
+import com.coopcredit.infrastructure.security.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for the sparse fieldsets and lookups of AffiliateController.
+ */
+@ExtendWith(MockitoExtension.class)
+class AffiliateControllerTest {
+
+    private static final VersionStamp STAMP = new VersionStamp(1, 1, 0);
+
+    @Mock
+    private AffiliateUseCase affiliateUseCase;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        AffiliateController controller = new AffiliateController(affiliateUseCase, new ObjectMapper(),
+                new AffiliateAccess(userDetailsService));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should return only the selected fields")
+    void shouldReturnSelectedFields() throws Exception {
+        // Given
+        when(affiliateUseCase.versionOfAll()).thenReturn(STAMP);
+        when(affiliateUseCase.findFields(List.of(AffiliateField.NAME, AffiliateField.DOCUMENT_NUMBER)))
+                .thenReturn(new FieldProjection<>(List.of(AffiliateField.NAME, AffiliateField.DOCUMENT_NUMBER),
+                        List.<Object[]>of(new Object[] {"John Doe", "1017654321"})));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/affiliates").param("fields", "name,documentNumber"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"name\":\"John Doe\",\"documentNumber\":\"1017654321\"}]", true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"name,version", "password", "a.salary", "name,createdAt", ""})
+    @DisplayName("Should answer 400 for fields that are not selectable")
+    void shouldRejectUnselectableFields(String fields) throws Exception {
+        mockMvc.perform(get("/affiliates").param("fields", fields))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").value("https://api.coopcredit.com/errors/invalid_fields"));
+
+        verify(affiliateUseCase, never()).findFields(any());
+    }
+
+    @Test
+    @DisplayName("Should not share an ETag between different selections")
+    void shouldNotShareETagBetweenSelections() throws Exception {
+        // Given
+        when(affiliateUseCase.versionOfAll()).thenReturn(STAMP);
+        when(affiliateUseCase.findFields(any()))
+                .thenReturn(new FieldProjection<>(List.of(AffiliateField.NAME), List.of()));
+        String nameETag = mockMvc.perform(get("/affiliates").param("fields", "name"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When
+        String salaryETag = mockMvc.perform(get("/affiliates").param("fields", "name,salary")
+                        .header(HttpHeaders.IF_NONE_MATCH, nameETag))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Then
+        assertThat(salaryETag).isNotEqualTo(nameETag);
+        mockMvc.perform(get("/affiliates").param("fields", "name").header(HttpHeaders.IF_NONE_MATCH, nameETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Should answer a lookup of 100 document numbers")
+    void shouldAcceptLookupAtLimit() throws Exception {
+        // Given
+        authenticate("analyst", "ROLE_ANALYST");
+        List<String> documentNumbers = documentNumbers(100);
+        when(affiliateUseCase.findAllByDocumentNumber(any())).thenReturn(List.of());
+
+        // When / Then
+        mockMvc.perform(lookup(documentNumbers))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(100))
+                .andExpect(jsonPath("$[99].id").value(documentNumbers.get(99)))
+                .andExpect(jsonPath("$[99].status").value("NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for a lookup of more than 100 document numbers")
+    void shouldRejectLookupOverLimit() throws Exception {
+        mockMvc.perform(lookup(documentNumbers(101)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").value("https://api.coopcredit.com/errors/validation_error"))
+                .andExpect(jsonPath("$.errors.documentNumbers").value("At most 100 document numbers per lookup"));
+
+        verify(affiliateUseCase, never()).findAllByDocumentNumber(any());
+    }
+
+    @Test
+    @DisplayName("Should answer an affiliate's lookup with its own record only")
+    void shouldLimitAffiliateLookupToOwnRecord() throws Exception {
+        // Given
+        CustomUserDetails user = new CustomUserDetails("affiliate1", "x", true, true, true, true,
+                List.of(new SimpleGrantedAuthority("ROLE_AFFILIATE")), "1017654321");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        when(affiliateUseCase.findAllByDocumentNumber(any())).thenReturn(List.of(
+                affiliate(2L, "1098765432"), affiliate(1L, "1017654321")));
+
+        // When / Then
+        mockMvc.perform(lookup(List.of("1017654321", "1098765432", "1000000000")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("FOUND"))
+                .andExpect(jsonPath("$[0].value.id").value(1))
+                .andExpect(jsonPath("$[1].status").value("FORBIDDEN"))
+                .andExpect(jsonPath("$[1].value").doesNotExist())
+                .andExpect(jsonPath("$[2].status").value("NOT_FOUND"));
+    }
+
+    private static RequestBuilder lookup(List<String> documentNumbers)
+            throws Exception {
+        return post("/affiliates/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(Map.of("documentNumbers", documentNumbers)));
+    }
+
+    private static List<String> documentNumbers(int count) {
+        return IntStream.range(0, count).mapToObj(i -> String.valueOf(1_000_000_000L + i)).toList();
+    }
+
+    private static Affiliate affiliate(Long id, String documentNumber) {
+        return new Affiliate(id, documentNumber, "John Doe", new BigDecimal("3500000"),
+                LocalDate.of(2020, 1, 15), AffiliateStatus.ACTIVE);
+    }
+
+    private static void authenticate(String username, String role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority(role))));
+    }
+}
@@ -0,0 +1,228 @@
+package com.coopcredit.infrastructure.adapter.input.rest;
+
+import com.coopcredit.domain.exception.DomainException;
+import com.coopcredit.domain.exception.IdempotencyKeyReusedException;
+import com.coopcredit.infrastructure.adapter.output.persistence.IdempotencyKeyStore;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaIdempotencyKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for IdempotencyFilter.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"affiliateDocumentNumber\":\"1017654321\",\"requestedAmount\":1000000}";
+
+    @Mock
+    private JpaIdempotencyKeyRepository repository;
+
+    @Mock
+    private HandlerExceptionResolver exceptionResolver;
+
+    private IdempotencyFilter filter;
+    private final List<String> executedBodies = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyKeyStore store = new IdempotencyKeyStore(repository, new SimpleMeterRegistry(),
+                Duration.ofHours(24), Duration.ofSeconds(30), 100);
+        filter = new IdempotencyFilter(store, exceptionResolver);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "affiliate1", null, List.of(new SimpleGrantedAuthority("ROLE_AFFILIATE"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should pass requests without a key through untouched")
+    void shouldPassRequestsWithoutKey() throws Exception {
+        // Given
+        MockHttpServletRequest request = post("/applications", null, BODY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, chain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(executedBodies).containsExactly(BODY);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should execute the first request with the body intact, and replay it to retries")
+    void shouldReplayRetries() throws Exception {
+        // Given
+        when(repository.insertIfAbsent(eq("affiliate1"), eq("key-1"), anyString(), any(), any())).thenReturn(1);
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(post("/applications", "key-1", BODY), first, chain());
+        filter.doFilter(post("/applications", "key-1", BODY), retry, chain());
+
+        // Then
+        assertThat(executedBodies).containsExactly(BODY);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(retry.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        verify(repository).complete(eq("affiliate1"), eq("key-1"), eq(201), eq(MediaType.APPLICATION_JSON_VALUE),
+                eq("{\"id\":1}"), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different body")
+    void shouldRejectKeyReusedWithDifferentBody() throws Exception {
+        // Given
+        when(repository.insertIfAbsent(eq("affiliate1"), eq("key-1"), anyString(), any(), any())).thenReturn(1);
+        filter.doFilter(post("/applications", "key-1", BODY), new MockHttpServletResponse(), chain());
+        MockHttpServletRequest changed = post("/applications", "key-1", BODY.replace("1000000", "2000000"));
+
+        // When
+        filter.doFilter(changed, new MockHttpServletResponse(), chain());
+
+        // Then
+        assertThat(executedBodies).hasSize(1);
+        verify(exceptionResolver).resolveException(eq(changed), any(HttpServletResponse.class), isNull(),
+                any(IdempotencyKeyReusedException.class));
+    }
+
+    @Test
+    @DisplayName("Should treat the same body on another path as a different request")
+    void shouldFingerprintPath() throws Exception {
+        // Given
+        when(repository.insertIfAbsent(eq("affiliate1"), eq("key-1"), anyString(), any(), any())).thenReturn(1);
+        filter.doFilter(post("/applications/1/decide", "key-1", "{}"), new MockHttpServletResponse(), chain());
+        MockHttpServletRequest other = post("/applications/2/decide", "key-1", "{}");
+
+        // When
+        filter.doFilter(other, new MockHttpServletResponse(), chain());
+
+        // Then
+        verify(exceptionResolver).resolveException(eq(other), any(HttpServletResponse.class), isNull(),
+                any(IdempotencyKeyReusedException.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a blank key")
+    void shouldRejectBlankKey() throws Exception {
+        // When
+        filter.doFilter(post("/applications", " ", BODY), new MockHttpServletResponse(), chain());
+
+        // Then
+        ArgumentCaptor<Exception> rejected = ArgumentCaptor.forClass(Exception.class);
+        verify(exceptionResolver).resolveException(any(), any(), isNull(), rejected.capture());
+        assertThat(rejected.getValue()).isInstanceOf(DomainException.class);
+        assertThat(((DomainException) rejected.getValue()).getErrorCode()).isEqualTo("INVALID_IDEMPOTENCY_KEY");
+        assertThat(executedBodies).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not store anything for other endpoints")
+    void shouldIgnoreOtherEndpoints() throws Exception {
+        // When
+        filter.doFilter(post("/simulations", "key-1", BODY), new MockHttpServletResponse(), chain());
+
+        // Then
+        assertThat(executedBodies).containsExactly(BODY);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should explain that async body reads are not supported")
+    void shouldRejectAsyncBodyReads() throws Exception {
+        // Given
+        when(repository.insertIfAbsent(eq("affiliate1"), eq("key-1"), anyString(), any(), any())).thenReturn(1);
+        HttpServlet asyncReader = new HttpServlet() {
+            @Override
+            protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                request.getInputStream().setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() {
+                    }
+
+                    @Override
+                    public void onAllDataRead() {
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                    }
+                });
+            }
+        };
+
+        // When / Then
+        assertThatThrownBy(() -> filter.doFilter(post("/applications", "key-1", BODY),
+                new MockHttpServletResponse(), new MockFilterChain(asyncReader)))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("Async body reads are not supported");
+        verify(repository).release("affiliate1", "key-1");
+    }
+
+    private MockFilterChain chain() {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                executedBodies.add(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+                response.setStatus(201);
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getWriter().write("{\"id\":1}");
+            }
+        });
+    }
+
+    private static MockHttpServletRequest post(String path, String idempotencyKey, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (idempotencyKey != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        return request;
+    }
+}
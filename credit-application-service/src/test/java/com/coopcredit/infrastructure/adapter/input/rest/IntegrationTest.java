@@ -1,6 +1,7 @@
 package com.coopcredit.infrastructure.adapter.input.rest;
 
 import com.coopcredit.application.dto.CreateAffiliateRequest;
+import com.coopcredit.application.dto.CreateCreditApplicationRequest;
 import com.coopcredit.application.dto.LoginRequest;
 import com.coopcredit.application.dto.RegisterRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -179,4 +180,115 @@ class IntegrationTest {
                                 .andExpect(status().isBadRequest())
                                 .andExpect(jsonPath("$.title").value("Validation Error"));
         }
+
+        @Test
+        @DisplayName("Should answer 304 until the affiliate changes")
+        void shouldAnswerNotModifiedUntilAffiliateChanges() throws Exception {
+                RegisterRequest registerRequest = new RegisterRequest(
+                                "etagadmin",
+                                "admin123",
+                                "etagadmin@email.com",
+                                null,
+                                null,
+                                null,
+                                java.util.Set.of(com.coopcredit.domain.model.enums.Role.ROLE_ADMIN));
+                MvcResult authResult = mockMvc.perform(post("/auth/register")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(registerRequest)))
+                                .andReturn();
+                String token = objectMapper.readTree(authResult.getResponse().getContentAsString())
+                                .get("token").asText();
+
+                CreateAffiliateRequest affiliate = new CreateAffiliateRequest(
+                                "88776655", "ETag Test", new BigDecimal("3000000"), LocalDate.now().minusYears(1));
+                mockMvc.perform(post("/affiliates")
+                                .header("Authorization", "Bearer " + token)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(affiliate)))
+                                .andExpect(status().isCreated());
+
+                String etag = mockMvc.perform(get("/affiliates/88776655")
+                                .header("Authorization", "Bearer " + token))
+                                .andExpect(status().isOk())
+                                .andExpect(header().exists("ETag"))
+                                .andReturn().getResponse().getHeader("ETag");
+
+                mockMvc.perform(get("/affiliates/88776655")
+                                .header("Authorization", "Bearer " + token)
+                                .header("If-None-Match", etag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(content().string(""));
+
+                mockMvc.perform(put("/affiliates/88776655")
+                                .header("Authorization", "Bearer " + token)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"name\":\"ETag Renamed\",\"salary\":3000000}"))
+                                .andExpect(status().isOk());
+
+                mockMvc.perform(get("/affiliates/88776655")
+                                .header("Authorization", "Bearer " + token)
+                                .header("If-None-Match", etag))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.name").value("ETag Renamed"));
+        }
+
+        @Test
+        @DisplayName("Should replay the response of a retried application creation")
+        void shouldReplayRetriedCreationWithSameIdempotencyKey() throws Exception {
+                RegisterRequest registerRequest = new RegisterRequest(
+                                "idemadmin",
+                                "admin123",
+                                "idemadmin@email.com",
+                                null,
+                                null,
+                                null,
+                                java.util.Set.of(com.coopcredit.domain.model.enums.Role.ROLE_ADMIN));
+                MvcResult authResult = mockMvc.perform(post("/auth/register")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(registerRequest)))
+                                .andReturn();
+                String token = objectMapper.readTree(authResult.getResponse().getContentAsString())
+                                .get("token").asText();
+
+                CreateAffiliateRequest affiliate = new CreateAffiliateRequest(
+                                "55443322", "Idempotency Test", new BigDecimal("3000000"), LocalDate.now().minusYears(1));
+                mockMvc.perform(post("/affiliates")
+                                .header("Authorization", "Bearer " + token)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(affiliate)))
+                                .andExpect(status().isCreated());
+
+                String application = objectMapper.writeValueAsString(new CreateCreditApplicationRequest(
+                                "55443322", new BigDecimal("1200000"), 12, new BigDecimal("12")));
+                String created = mockMvc.perform(post("/applications")
+                                .header("Authorization", "Bearer " + token)
+                                .header("Idempotency-Key", "create-55443322")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(application))
+                                .andExpect(status().isCreated())
+                                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                                .andReturn().getResponse().getContentAsString();
+
+                mockMvc.perform(post("/applications")
+                                .header("Authorization", "Bearer " + token)
+                                .header("Idempotency-Key", "create-55443322")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(application))
+                                .andExpect(status().isCreated())
+                                .andExpect(header().string("Idempotent-Replayed", "true"))
+                                .andExpect(content().json(created));
+
+                mockMvc.perform(post("/applications")
+                                .header("Authorization", "Bearer " + token)
+                                .header("Idempotency-Key", "create-55443322")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(application.replace("1200000", "1300000")))
+                                .andExpect(status().isUnprocessableEntity())
+                                .andExpect(jsonPath("$.errorCode").value("IDEMPOTENCY_KEY_REUSED"));
+
+                mockMvc.perform(get("/applications/affiliate/55443322")
+                                .header("Authorization", "Bearer " + token))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.length()").value(1));
+        }
 }
@@ -0,0 +1,93 @@
+package com.coopcredit.infrastructure.adapter.input.rest;
+
+import com.coopcredit.application.dto.LookupResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for Lookups.
+ */
+class LookupsTest {
+
+    private record Resource(long id, String owner) {
+    }
+
+    @Test
+    @DisplayName("Should answer in request order, whatever order the resources were found in")
+    void shouldKeepRequestOrder() {
+        // Given
+        List<Resource> found = List.of(new Resource(3, "a"), new Resource(1, "a"), new Resource(2, "a"));
+
+        // When
+        List<LookupResult<Long, String>> results = Lookups.resolve(List.of(2L, 3L, 1L), found, Resource::id,
+                resource -> true, resource -> "r" + resource.id());
+
+        // Then
+        assertThat(results).containsExactly(
+                LookupResult.found(2L, "r2"), LookupResult.found(3L, "r3"), LookupResult.found(1L, "r1"));
+    }
+
+    @Test
+    @DisplayName("Should tell missing resources from forbidden ones")
+    void shouldTellNotFoundFromForbidden() {
+        // Given
+        List<Resource> found = List.of(new Resource(1, "mine"), new Resource(2, "theirs"));
+
+        // When
+        List<LookupResult<Long, String>> results = Lookups.resolve(List.of(1L, 2L, 99L), found, Resource::id,
+                resource -> resource.owner().equals("mine"), resource -> "r" + resource.id());
+
+        // Then
+        assertThat(results).containsExactly(
+                LookupResult.found(1L, "r1"), LookupResult.forbidden(2L), LookupResult.notFound(99L));
+        assertThat(results.get(1).value()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should repeat the entry of a repeated identifier and map each resource once")
+    void shouldRepeatEntriesAndMapOnce() {
+        // Given
+        List<Resource> found = List.of(new Resource(1, "a"), new Resource(2, "a"));
+        List<Long> mapped = new ArrayList<>();
+        List<Long> checked = new ArrayList<>();
+
+        // When
+        List<LookupResult<Long, String>> results = Lookups.resolve(List.of(1L, 2L, 1L, 1L, 7L, 7L), found,
+                Resource::id,
+                resource -> checked.add(resource.id()),
+                resource -> {
+                    mapped.add(resource.id());
+                    return "r" + resource.id();
+                });
+
+        // Then
+        assertThat(results).containsExactly(
+                LookupResult.found(1L, "r1"), LookupResult.found(2L, "r2"), LookupResult.found(1L, "r1"),
+                LookupResult.found(1L, "r1"), LookupResult.notFound(7L), LookupResult.notFound(7L));
+        assertThat(mapped).containsExactly(1L, 2L);
+        assertThat(checked).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should not map resources the user may not read")
+    void shouldNotMapForbiddenResources() {
+        // Given
+        List<Long> mapped = new ArrayList<>();
+
+        // When
+        List<LookupResult<Long, String>> results = Lookups.resolve(List.of(1L), List.of(new Resource(1, "theirs")),
+                Resource::id, resource -> false, resource -> {
+                    mapped.add(resource.id());
+                    return "r" + resource.id();
+                });
+
+        // Then
+        assertThat(results).containsExactly(LookupResult.forbidden(1L));
+        assertThat(mapped).isEmpty();
+    }
+}
@@ -0,0 +1,245 @@
+package com.coopcredit.infrastructure.adapter.input.rest;
+
+import com.coopcredit.application.dto.CreditApplicationResponse;
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.CreditApplicationChangedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PendingQueueBroadcaster.
+ */
+class PendingQueueBroadcasterTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(10);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch released = new CountDownLatch(1);
+    private PendingQueueBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        released.countDown();
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should send the snapshot before the changes")
+    void shouldSendSnapshotBeforeChanges() throws Exception {
+        // Given
+        broadcaster = broadcaster(16);
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        broadcaster.subscribe(emitter, () -> List.of(response(1)));
+
+        // When
+        broadcaster.onApplicationChanged(changed(CreditApplicationChangedEvent.Change.CREATED, 2));
+        broadcaster.onApplicationChanged(changed(CreditApplicationChangedEvent.Change.EVALUATED, 1));
+
+        // Then
+        assertThat(emitter.next()).isEqualTo(new Received("snapshot", List.of(1L)));
+        assertThat(emitter.next()).isEqualTo(new Received("created", List.of(2L)));
+        assertThat(emitter.next()).isEqualTo(new Received("evaluated", List.of(1L)));
+    }
+
+    @Test
+    @DisplayName("Should send changes committed while the snapshot loads after it")
+    void shouldSendChangesCommittedWhileJoiningAfterSnapshot() throws Exception {
+        // Given
+        broadcaster = broadcaster(16);
+        RecordingEmitter emitter = new RecordingEmitter(null);
+
+        // When: a change commits after the subscriber registered, before its snapshot was read
+        broadcaster.subscribe(emitter, () -> {
+            broadcaster.onApplicationChanged(changed(CreditApplicationChangedEvent.Change.CREATED, 2));
+            return List.of(response(1), response(2));
+        });
+        broadcaster.onApplicationChanged(changed(CreditApplicationChangedEvent.Change.DECIDED, 1));
+
+        // Then
+        assertThat(emitter.next()).isEqualTo(new Received("snapshot", List.of(1L, 2L)));
+        assertThat(emitter.next()).isEqualTo(new Received("created", List.of(2L)));
+        assertThat(emitter.next()).isEqualTo(new Received("decided", List.of(1L)));
+        assertThat(emitter.events.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should leave no gap between snapshot and changes for subscribers joining during publishing")
+    void shouldLeaveNoGapForSubscribersJoiningDuringPublishing() throws Exception {
+        // Given
+        broadcaster = broadcaster(10_000);
+        int applications = 2_000;
+        List<Long> committed = new CopyOnWriteArrayList<>();
+        Thread publisher = Thread.ofPlatform().start(() -> {
+            for (long id = 1; id <= applications; id++) {
+                committed.add(id);
+                broadcaster.onApplicationChanged(changed(CreditApplicationChangedEvent.Change.CREATED, id));
+            }
+        });
+
+        // When
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        while (publisher.isAlive() || emitters.isEmpty()) {
+            RecordingEmitter emitter = new RecordingEmitter(null);
+            broadcaster.subscribe(emitter, () -> committed.stream().map(PendingQueueBroadcasterTest::response).toList());
+            emitters.add(emitter);
+            Thread.sleep(1);
+        }
+        publisher.join();
+
+        // Then: every application reaches every subscriber, changes in order and once each
+        for (RecordingEmitter emitter : emitters) {
+            Received snapshot = emitter.next();
+            assertThat(snapshot.name()).isEqualTo("snapshot");
+            Set<Long> seen = new TreeSet<>(snapshot.ids());
+            List<Long> changes = new ArrayList<>();
+            while (seen.size() < applications) {
+                Received change = emitter.next();
+                assertThat(change.name()).isEqualTo("created");
+                changes.addAll(change.ids());
+                seen.addAll(change.ids());
+            }
+            assertThat(changes).isSorted().doesNotHaveDuplicates();
+            assertThat(seen).containsExactlyElementsOf(
+                    LongStream.rangeClosed(1, applications).boxed().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should disconnect a stalled subscriber once its queue is full, without holding back others")
+    void shouldEvictStalledSubscriber() throws Exception {
+        // Given
+        broadcaster = broadcaster(4);
+        RecordingEmitter stalled = new RecordingEmitter(released);
+        RecordingEmitter healthy = new RecordingEmitter(null);
+        broadcaster.subscribe(stalled, List::of);
+        broadcaster.subscribe(healthy, List::of);
+
+        // When: the stalled subscriber is stuck sending its snapshot
+        for (long id = 1; id <= 4; id++) {
+            broadcaster.onApplicationChanged(changed(CreditApplicationChangedEvent.Change.CREATED, id));
+        }
+
+        // Then: the healthy subscriber has drained its queue, the stalled one has not
+        assertThat(healthy.next().name()).isEqualTo("snapshot");
+        for (long id = 1; id <= 4; id++) {
+            assertThat(healthy.next()).isEqualTo(new Received("created", List.of(id)));
+        }
+        assertThat(subscribers()).isEqualTo(2);
+        assertThat(evictions()).isZero();
+
+        // When
+        broadcaster.onApplicationChanged(changed(CreditApplicationChangedEvent.Change.CREATED, 5));
+
+        // Then
+        assertThat(subscribers()).isEqualTo(1);
+        assertThat(evictions()).isEqualTo(1);
+        assertThat(stalled.completed.await(WAIT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(healthy.next()).isEqualTo(new Received("created", List.of(5L)));
+    }
+
+    private PendingQueueBroadcaster broadcaster(int queueCapacity) {
+        return new PendingQueueBroadcaster(objectMapper, meterRegistry, queueCapacity, Duration.ofMinutes(1),
+                Duration.ZERO);
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("credit.pending_stream.subscribers").gauge().value();
+    }
+
+    private double evictions() {
+        return meterRegistry.get("credit.pending_stream.evictions").counter().count();
+    }
+
+    private static CreditApplicationChangedEvent changed(CreditApplicationChangedEvent.Change change, long id) {
+        CreditApplication application = new CreditApplication();
+        application.setId(id);
+        return new CreditApplicationChangedEvent(change, application);
+    }
+
+    private static CreditApplicationResponse response(long id) {
+        return CreditApplicationResponseMapper.toResponse(changed(CreditApplicationChangedEvent.Change.CREATED, id)
+                .application());
+    }
+
+    /**
+     * An event as a client sees it: its name and the ids of the applications it carries.
+     */
+    private record Received(String name, List<Long> ids) {
+    }
+
+    /**
+     * Records the events sent, optionally blocking every send until released.
+     */
+    private final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<Received> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch stall;
+
+        RecordingEmitter(CountDownLatch stall) {
+            this.stall = stall;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (stall != null) {
+                try {
+                    stall.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while stalled", ex);
+                }
+            }
+            String name = null;
+            String data = null;
+            String text = builder.build().stream().map(part -> part.getData().toString())
+                    .collect(Collectors.joining());
+            for (String line : text.split("\n")) {
+                if (line.startsWith("event:")) {
+                    name = line.substring("event:".length());
+                } else if (line.startsWith("data:")) {
+                    data = line.substring("data:".length());
+                }
+            }
+            JsonNode payload = objectMapper.readTree(data);
+            List<Long> ids = new ArrayList<>();
+            for (JsonNode application : payload.isArray() ? payload : List.of(payload)) {
+                ids.add(application.get("id").asLong());
+            }
+            events.add(new Received(name, ids));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        Received next() throws InterruptedException {
+            Received received = events.poll(WAIT.toMillis(), TimeUnit.MILLISECONDS);
+            assertThat(received).as("event within %s", WAIT).isNotNull();
+            return received;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.coopcredit.infrastructure.adapter.input.rest;
+
+import com.coopcredit.domain.port.input.SimulationUseCase;
+import com.coopcredit.infrastructure.exception.GlobalExceptionHandler;
+import com.coopcredit.infrastructure.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for SimulationController.
+ */
+@ExtendWith(MockitoExtension.class)
+class SimulationControllerTest {
+
+    @Mock
+    private SimulationUseCase simulationUseCase;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        SimulationController controller =
+                new SimulationController(simulationUseCase, new AffiliateAccess(userDetailsService));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should forbid an affiliate to simulate for another affiliate")
+    void shouldForbidSimulatingForAnotherAffiliate() throws Exception {
+        // Given: authenticated from a JWT, whose principal is the username
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_AFFILIATE"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("affiliate1", null, authorities));
+        when(userDetailsService.loadUserByUsername("affiliate1")).thenReturn(
+                new CustomUserDetails("affiliate1", "", true, true, true, true, authorities, "1017654321"));
+
+        // When / Then
+        mockMvc.perform(post("/simulations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"affiliateDocumentNumber": "1098765432",
+                                 "amounts": {"from": 1000000},
+                                 "terms": {"from": 12},
+                                 "rates": {"from": 1.5}}
+                                """))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.type").value("https://api.coopcredit.com/errors/access_denied"));
+        verifyNoInteractions(simulationUseCase);
+    }
+}
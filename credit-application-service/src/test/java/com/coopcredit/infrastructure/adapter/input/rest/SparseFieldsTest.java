@@ -0,0 +1,115 @@
+package com.coopcredit.infrastructure.adapter.input.rest;
+
+import com.coopcredit.domain.exception.InvalidFieldsException;
+import com.coopcredit.domain.model.FieldProjection;
+import com.coopcredit.domain.model.VersionStamp;
+import com.coopcredit.domain.model.enums.CreditApplicationField;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.coopcredit.domain.model.enums.CreditApplicationField.AFFILIATE_NAME;
+import static com.coopcredit.domain.model.enums.CreditApplicationField.ID;
+import static com.coopcredit.domain.model.enums.CreditApplicationField.SCORE;
+import static com.coopcredit.domain.model.enums.CreditApplicationField.STATUS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SparseFields.
+ */
+class SparseFieldsTest {
+
+    @Test
+    @DisplayName("Should keep the requested order and drop repeated fields")
+    void shouldKeepRequestedOrder() {
+        List<CreditApplicationField> fields = parse(" status, id,score,,status ");
+
+        assertThat(fields).containsExactly(STATUS, ID, SCORE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"version", "password", "affiliate.salary", "a.salary", "c.id", "ID", "id;status"})
+    @DisplayName("Should reject fields that are not selectable")
+    void shouldRejectUnselectableFields(String fields) {
+        assertThatThrownBy(() -> parse("id," + fields))
+                .isInstanceOf(InvalidFieldsException.class)
+                .hasMessageContaining("unknown field");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", ",", " , ,"})
+    @DisplayName("Should reject an empty selection")
+    void shouldRejectEmptySelection(String fields) {
+        assertThatThrownBy(() -> parse(fields))
+                .isInstanceOf(InvalidFieldsException.class)
+                .hasMessageContaining("no field selected");
+    }
+
+    @Test
+    @DisplayName("Should give each selection its own ETag")
+    void shouldGiveEachSelectionItsOwnETag() {
+        // Given
+        VersionStamp stamp = new VersionStamp(3, 42, 7);
+
+        // When
+        String idStatus = ConditionalGet.etag(stamp, SparseFields.qualifier(parse("id,status")));
+        String statusId = ConditionalGet.etag(stamp, SparseFields.qualifier(parse("status,id")));
+        String id = ConditionalGet.etag(stamp, SparseFields.qualifier(parse("id")));
+        String repeated = ConditionalGet.etag(stamp, SparseFields.qualifier(parse("id,status,id")));
+
+        // Then
+        assertThat(List.of(idStatus, statusId, id, ConditionalGet.etag(stamp))).doesNotHaveDuplicates();
+        assertThat(repeated).isEqualTo(idStatus);
+    }
+
+    @Test
+    @DisplayName("Should give every field a distinct single-character qualifier")
+    void shouldGiveEveryFieldDistinctQualifier() {
+        List<String> qualifiers = List.of(CreditApplicationField.values()).stream()
+                .map(field -> SparseFields.qualifier(List.of(field)))
+                .toList();
+
+        assertThat(qualifiers).doesNotHaveDuplicates().allSatisfy(qualifier -> assertThat(qualifier).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("Should write the selected fields of each row in order")
+    void shouldWriteSelectedFields() throws Exception {
+        // Given
+        FieldProjection<CreditApplicationField> projection = new FieldProjection<>(List.of(SCORE, ID, AFFILIATE_NAME),
+                List.of(new Object[] {720, 1L, "John Doe"}, new Object[] {null, 2L, "Jane Roe"}));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        SparseFields.write(new ObjectMapper(), projection, CreditApplicationField::fieldName).writeTo(out);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "[{\"score\":720,\"id\":1,\"affiliateName\":\"John Doe\"},"
+                        + "{\"score\":null,\"id\":2,\"affiliateName\":\"Jane Roe\"}]");
+    }
+
+    @Test
+    @DisplayName("Should write decimals as they are read")
+    void shouldWriteDecimals() throws Exception {
+        FieldProjection<CreditApplicationField> projection = new FieldProjection<>(List.of(ID),
+                List.<Object[]>of(new Object[] {new BigDecimal("1000000.00")}));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        SparseFields.write(new ObjectMapper(), projection, CreditApplicationField::fieldName).writeTo(out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[{\"id\":1000000.00}]");
+    }
+
+    private static List<CreditApplicationField> parse(String fields) {
+        return SparseFields.parse(fields, CreditApplicationField.values(), CreditApplicationField::fieldName);
+    }
+}
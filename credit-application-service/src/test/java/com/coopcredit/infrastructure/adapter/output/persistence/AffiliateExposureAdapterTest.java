@@ -0,0 +1,145 @@
+package com.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.coopcredit.domain.model.AffiliateExposure;
+import com.coopcredit.domain.model.Money;
+import com.coopcredit.domain.model.enums.ApplicationStatus;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaAffiliateExposureRepository;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaAffiliateExposureRepository.ExposureRow;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaCreditApplicationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the exposure reads of AffiliateExposureAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class AffiliateExposureAdapterTest {
+
+    private static final Long AFFILIATE_ID = 7L;
+
+    @Mock
+    private JpaAffiliateExposureRepository exposureRepository;
+
+    @Mock
+    private JpaCreditApplicationRepository applicationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AffiliateExposureAdapter adapter;
+
+    @Test
+    @DisplayName("Should serve the mirrored exposure while its revision matches the row")
+    void shouldServeCurrentMirror() {
+        // Given
+        adapter.onExposureChanged(event("1200000.00", 1, 3));
+        when(exposureRepository.findRevision(AFFILIATE_ID)).thenReturn(Optional.of(3L));
+
+        // When
+        AffiliateExposure exposure = adapter.findByAffiliateId(AFFILIATE_ID);
+
+        // Then
+        assertThat(exposure).isEqualTo(exposure("1200000.00", 1));
+        verify(exposureRepository, never()).findRow(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should re-read a row changed by another instance and mirror it")
+    void shouldRereadRowChangedElsewhere() {
+        // Given: another instance approved a credit, taking the row to revision 4
+        adapter.onExposureChanged(event("1200000.00", 1, 3));
+        when(exposureRepository.findRevision(AFFILIATE_ID)).thenReturn(Optional.of(4L));
+        when(exposureRepository.findRow(AFFILIATE_ID)).thenReturn(Optional.of(row("1950000.00", 0, 4)));
+
+        // When
+        AffiliateExposure first = adapter.findByAffiliateId(AFFILIATE_ID);
+        AffiliateExposure second = adapter.findByAffiliateId(AFFILIATE_ID);
+
+        // Then
+        assertThat(first).isEqualTo(exposure("1950000.00", 0));
+        assertThat(second).isEqualTo(first);
+        verify(exposureRepository).findRow(AFFILIATE_ID);
+        assertThat(adapter.mirroredAffiliates()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should read and mirror a row not mirrored yet")
+    void shouldMirrorUnseenRow() {
+        // Given
+        when(exposureRepository.findRevision(AFFILIATE_ID)).thenReturn(Optional.of(0L));
+        when(exposureRepository.findRow(AFFILIATE_ID)).thenReturn(Optional.of(row("350000.00", 2, 0)));
+
+        // When
+        AffiliateExposure exposure = adapter.findByAffiliateId(AFFILIATE_ID);
+
+        // Then
+        assertThat(exposure).isEqualTo(exposure("350000.00", 2));
+        assertThat(adapter.mirroredAffiliates()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should compute the exposure from the applications when the affiliate has no row")
+    void shouldComputeWithoutRow() {
+        // Given
+        when(exposureRepository.findRevision(AFFILIATE_ID)).thenReturn(Optional.empty());
+        when(applicationRepository.findTermsByAffiliateIdAndStatus(AFFILIATE_ID, ApplicationStatus.APPROVED))
+                .thenReturn(List.of());
+        when(applicationRepository.countByAffiliateIdAndStatus(AFFILIATE_ID, ApplicationStatus.PENDING))
+                .thenReturn(2L);
+
+        // When
+        AffiliateExposure exposure = adapter.findByAffiliateId(AFFILIATE_ID);
+
+        // Then
+        assertThat(exposure).isEqualTo(new AffiliateExposure(AFFILIATE_ID, Money.ZERO, 2));
+        assertThat(adapter.mirroredAffiliates()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the newest revision when committed changes arrive out of order")
+    void shouldKeepNewestRevision() {
+        // Given
+        adapter.onExposureChanged(event("1950000.00", 0, 5));
+        adapter.onExposureChanged(event("1200000.00", 1, 4));
+        when(exposureRepository.findRevision(AFFILIATE_ID)).thenReturn(Optional.of(5L));
+
+        // When
+        AffiliateExposure exposure = adapter.findByAffiliateId(AFFILIATE_ID);
+
+        // Then
+        assertThat(exposure).isEqualTo(exposure("1950000.00", 0));
+        verify(exposureRepository, never()).findRow(anyLong());
+    }
+
+    private static AffiliateExposure exposure(String approved, int pending) {
+        return new AffiliateExposure(AFFILIATE_ID, Money.of(new BigDecimal(approved)), pending);
+    }
+
+    private static AffiliateExposureChangedEvent event(String approved, int pending, long revision) {
+        return new AffiliateExposureChangedEvent(exposure(approved, pending), revision);
+    }
+
+    private static ExposureRow row(String approved, int pending, long revision) {
+        return new Row(AFFILIATE_ID, new BigDecimal(approved), pending, revision);
+    }
+
+    private record Row(Long getAffiliateId, BigDecimal getApprovedMonthlyPayments, Integer getPendingCount,
+            Long getRevision) implements ExposureRow {
+    }
+}
@@ -0,0 +1,85 @@
+package com.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.coopcredit.domain.model.FieldProjection;
+import com.coopcredit.domain.model.enums.AffiliateField;
+import com.coopcredit.infrastructure.adapter.output.persistence.mapper.AffiliateMapper;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaAffiliateRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the sparse fieldsets of AffiliateRepositoryAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class AffiliateRepositoryAdapterTest {
+
+    @Mock
+    private JpaAffiliateRepository jpaRepository;
+
+    @Mock
+    private AffiliateMapper mapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TypedQuery<Object[]> query;
+
+    @InjectMocks
+    private AffiliateRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should select only the columns of the requested fields")
+    void shouldSelectRequestedColumns() {
+        // Given
+        givenRows(List.<Object[]>of(new Object[] {"John Doe", "1017654321"}));
+
+        // When
+        FieldProjection<AffiliateField> projection =
+                adapter.findFields(List.of(AffiliateField.NAME, AffiliateField.DOCUMENT_NUMBER));
+
+        // Then
+        verify(entityManager).createQuery("SELECT a.name, a.documentNumber FROM AffiliateEntity a", Object[].class);
+        assertThat(projection.fields()).containsExactly(AffiliateField.NAME, AffiliateField.DOCUMENT_NUMBER);
+        assertThat(projection.rows().get(0)).containsExactly("John Doe", "1017654321");
+    }
+
+    @Test
+    @DisplayName("Should derive the months of affiliation from the affiliation date")
+    void shouldDeriveMonthsOfAffiliation() {
+        // Given
+        LocalDate affiliationDate = LocalDate.now().minusMonths(14);
+        givenRows(List.of(new Object[] {affiliationDate, affiliationDate}, new Object[] {null, null}));
+
+        // When
+        FieldProjection<AffiliateField> projection =
+                adapter.findFields(List.of(AffiliateField.AFFILIATION_DATE, AffiliateField.MONTHS_OF_AFFILIATION));
+
+        // Then
+        verify(entityManager).createQuery("SELECT a.affiliationDate, a.affiliationDate FROM AffiliateEntity a",
+                Object[].class);
+        assertThat(projection.rows().get(0)).containsExactly(affiliationDate, 14L);
+        assertThat(projection.rows().get(1)).containsExactly(null, 0L);
+    }
+
+    private void givenRows(List<Object[]> rows) {
+        when(entityManager.createQuery(anyString(), eq(Object[].class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(new ArrayList<>(rows));
+    }
+}
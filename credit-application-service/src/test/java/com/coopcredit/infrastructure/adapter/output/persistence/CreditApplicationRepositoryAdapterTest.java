@@ -0,0 +1,161 @@
+package com.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.FieldProjection;
+import com.coopcredit.domain.model.Money;
+import com.coopcredit.domain.model.Rate;
+import com.coopcredit.domain.model.enums.ApplicationStatus;
+import com.coopcredit.domain.model.enums.CreditApplicationField;
+import com.coopcredit.domain.model.enums.EvaluationWarning;
+import com.coopcredit.infrastructure.adapter.output.persistence.mapper.CreditApplicationMapper;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaAffiliateRepository;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaCreditApplicationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.coopcredit.domain.model.enums.CreditApplicationField.AFFILIATE_NAME;
+import static com.coopcredit.domain.model.enums.CreditApplicationField.ESTIMATED_MONTHLY_PAYMENT;
+import static com.coopcredit.domain.model.enums.CreditApplicationField.ID;
+import static com.coopcredit.domain.model.enums.CreditApplicationField.SCORE;
+import static com.coopcredit.domain.model.enums.CreditApplicationField.STATUS;
+import static com.coopcredit.domain.model.enums.CreditApplicationField.WARNINGS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the sparse fieldsets of CreditApplicationRepositoryAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class CreditApplicationRepositoryAdapterTest {
+
+    @Mock
+    private JpaCreditApplicationRepository jpaRepository;
+
+    @Mock
+    private JpaAffiliateRepository affiliateRepository;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private CreditApplicationMapper mapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TypedQuery<Object[]> query;
+
+    private CreditApplicationRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CreditApplicationRepositoryAdapter(jpaRepository, affiliateRepository, mapper, entityManager);
+    }
+
+    @Test
+    @DisplayName("Should not join anything for fields of the application itself")
+    void shouldNotJoinForRootFields() {
+        // Given
+        String jpql = givenRows(List.of(ID, STATUS), null, null);
+
+        // Then
+        assertThat(jpql).isEqualTo("SELECT c.id, c.status FROM CreditApplicationEntity c");
+    }
+
+    @Test
+    @DisplayName("Should join the affiliate for its fields or its document number")
+    void shouldJoinAffiliateWhenNeeded() {
+        assertThat(givenRows(List.of(ID, AFFILIATE_NAME), null, null))
+                .isEqualTo("SELECT c.id, a.name FROM CreditApplicationEntity c JOIN c.affiliate a");
+        assertThat(givenRows(List.of(ID), null, "1017654321"))
+                .isEqualTo("SELECT c.id FROM CreditApplicationEntity c JOIN c.affiliate a"
+                        + " WHERE a.documentNumber = :documentNumber");
+        verify(query).setParameter("documentNumber", "1017654321");
+    }
+
+    @Test
+    @DisplayName("Should left join the risk evaluation for its fields")
+    void shouldLeftJoinRiskEvaluationWhenNeeded() {
+        // Given
+        String jpql = givenRows(List.of(ID, SCORE), ApplicationStatus.PENDING, null);
+
+        // Then
+        assertThat(jpql).isEqualTo("SELECT c.id, r.score FROM CreditApplicationEntity c"
+                + " LEFT JOIN c.riskEvaluation r WHERE c.status = :status");
+        verify(query).setParameter("status", ApplicationStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should derive the monthly payment from the amount, rate and term")
+    void shouldDeriveMonthlyPayment() {
+        // Given
+        givenTuples(List.of(
+                new Object[] {7L, new BigDecimal("1000000.00"), new BigDecimal("1.5000"), 12, 720},
+                new Object[] {8L, null, null, null, null}));
+
+        // When
+        FieldProjection<CreditApplicationField> projection =
+                adapter.findFields(List.of(ID, ESTIMATED_MONTHLY_PAYMENT, SCORE), null, null);
+
+        // Then
+        BigDecimal payment = CreditApplication.monthlyPayment(Money.of(new BigDecimal("1000000.00")),
+                Rate.ofPercent(new BigDecimal("1.5000")), 12).toBigDecimal();
+        assertThat(lastJpql()).startsWith(
+                "SELECT c.id, c.requestedAmount, c.proposedRate, c.termMonths, r.score FROM");
+        assertThat(projection.rows()).hasSize(2);
+        assertThat(projection.rows().get(0)).containsExactly(7L, payment, 720);
+        assertThat(projection.rows().get(1)).containsExactly(8L, BigDecimal.ZERO, null);
+    }
+
+    @Test
+    @DisplayName("Should tell apart no evaluation from an evaluation without warnings")
+    void shouldDeriveWarnings() {
+        // Given
+        givenTuples(List.of(
+                new Object[] {1L, 10L, "DEBT_TO_INCOME_TOO_HIGH"},
+                new Object[] {2L, 11L, null},
+                new Object[] {3L, null, null}));
+
+        // When
+        FieldProjection<CreditApplicationField> projection = adapter.findFields(List.of(ID, WARNINGS), null, null);
+
+        // Then
+        assertThat(lastJpql()).isEqualTo(
+                "SELECT c.id, r.id, r.warningCodes FROM CreditApplicationEntity c LEFT JOIN c.riskEvaluation r");
+        assertThat(projection.rows().get(0)[1]).isEqualTo(List.of(EvaluationWarning.DEBT_TO_INCOME_TOO_HIGH));
+        assertThat(projection.rows().get(1)[1]).isEqualTo(List.of());
+        assertThat(projection.rows().get(2)[1]).isNull();
+    }
+
+    private String givenRows(List<CreditApplicationField> fields, ApplicationStatus status, String documentNumber) {
+        givenTuples(List.of());
+        adapter.findFields(fields, status, documentNumber);
+        return lastJpql();
+    }
+
+    private void givenTuples(List<Object[]> tuples) {
+        when(entityManager.createQuery(anyString(), eq(Object[].class)))
+                .thenReturn(query);
+        when(query.getResultList()).thenReturn(new ArrayList<>(tuples));
+    }
+
+    private String lastJpql() {
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        verify(entityManager, atLeastOnce()).createQuery(jpql.capture(), eq(Object[].class));
+        return jpql.getValue();
+    }
+}
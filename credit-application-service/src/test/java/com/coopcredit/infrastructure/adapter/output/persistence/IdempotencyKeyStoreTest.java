@@ -0,0 +1,238 @@
+package com.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.coopcredit.infrastructure.adapter.output.persistence.IdempotencyKeyStore.Outcome;
+import com.coopcredit.infrastructure.adapter.output.persistence.IdempotencyKeyStore.StoredResponse;
+import com.coopcredit.infrastructure.adapter.output.persistence.entity.IdempotencyKeyEntity;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaIdempotencyKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for IdempotencyKeyStore.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyStoreTest {
+
+    private static final String OWNER = "affiliate1";
+    private static final String KEY = "3f1c7a52-retry";
+    private static final StoredResponse CREATED = new StoredResponse("hash-a", 201, "application/json", "{\"id\":1}");
+
+    @Mock
+    private JpaIdempotencyKeyRepository repository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private IdempotencyKeyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = store(Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("Should execute the first request and replay its response to retries")
+    void shouldReplayCompletedResponse() {
+        // Given
+        givenInsertResults(1);
+        Outcome first = store.begin(OWNER, KEY, "hash-a");
+        store.complete(first.claim(), CREATED);
+
+        // When
+        Outcome retry = store.begin(OWNER, KEY, "hash-a");
+
+        // Then
+        assertThat(first.kind()).isEqualTo(Outcome.Kind.EXECUTE);
+        assertThat(retry.kind()).isEqualTo(Outcome.Kind.REPLAYED);
+        assertThat(retry.response()).isEqualTo(CREATED);
+        verify(repository).complete(eq(OWNER), eq(KEY), eq(201), eq("application/json"), eq("{\"id\":1}"),
+                any(LocalDateTime.class));
+        verify(repository, times(1)).insertIfAbsent(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request")
+    void shouldRejectKeyReusedForDifferentRequest() {
+        // Given
+        givenInsertResults(1);
+        store.complete(store.begin(OWNER, KEY, "hash-a").claim(), CREATED);
+
+        // When
+        Outcome reused = store.begin(OWNER, KEY, "hash-b");
+
+        // Then
+        assertThat(reused.kind()).isEqualTo(Outcome.Kind.MISMATCH);
+    }
+
+    @Test
+    @DisplayName("Should reject a key stored by another instance for a different request")
+    void shouldRejectKeyStoredElsewhereForDifferentRequest() {
+        // Given
+        givenInsertResults(0);
+        when(repository.findById(new IdempotencyKeyEntity.Key(OWNER, KEY)))
+                .thenReturn(Optional.of(stored("hash-a", 201)));
+
+        // When
+        Outcome reused = store.begin(OWNER, KEY, "hash-b");
+
+        // Then
+        assertThat(reused.kind()).isEqualTo(Outcome.Kind.MISMATCH);
+    }
+
+    @Test
+    @DisplayName("Should replay a response stored by another instance, and answer in progress while it runs there")
+    void shouldUseRowsOfOtherInstances() {
+        // Given
+        givenInsertResults(0);
+        when(repository.findById(new IdempotencyKeyEntity.Key(OWNER, KEY)))
+                .thenReturn(Optional.of(stored("hash-a", null)), Optional.of(stored("hash-a", 201)));
+
+        // When
+        Outcome running = store.begin(OWNER, KEY, "hash-a");
+        Outcome done = store.begin(OWNER, KEY, "hash-a");
+
+        // Then
+        assertThat(running.kind()).isEqualTo(Outcome.Kind.IN_PROGRESS);
+        assertThat(done.kind()).isEqualTo(Outcome.Kind.REPLAYED);
+        assertThat(done.response().status()).isEqualTo(201);
+    }
+
+    @Test
+    @DisplayName("Should collapse concurrent duplicates into the first execution")
+    void shouldCollapseConcurrentDuplicates() throws Exception {
+        // Given
+        givenInsertResults(1);
+        Outcome first = store.begin(OWNER, KEY, "hash-a");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Thread> waiting = new ArrayList<>();
+        List<Future<Outcome>> duplicates = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                duplicates.add(executor.submit(() -> {
+                    synchronized (waiting) {
+                        waiting.add(Thread.currentThread());
+                    }
+                    return store.begin(OWNER, KEY, "hash-a");
+                }));
+            }
+            awaitBlocked(waiting, 8);
+
+            // When
+            store.complete(first.claim(), CREATED);
+
+            // Then
+            for (Future<Outcome> duplicate : duplicates) {
+                Outcome outcome = duplicate.get(5, TimeUnit.SECONDS);
+                assertThat(outcome.kind()).isEqualTo(Outcome.Kind.COLLAPSED);
+                assertThat(outcome.response()).isEqualTo(CREATED);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(repository, times(1)).insertIfAbsent(any(), any(), any(), any(), any());
+        assertThat(meterRegistry.get("credit.idempotency.requests").tag("outcome", "collapsed").counter().count())
+                .isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should reject a different request on a key being executed, without waiting")
+    void shouldRejectDifferentRequestOnKeyInFlight() {
+        // Given
+        givenInsertResults(1);
+        store.begin(OWNER, KEY, "hash-a");
+
+        // When
+        Outcome other = store.begin(OWNER, KEY, "hash-b");
+
+        // Then
+        assertThat(other.kind()).isEqualTo(Outcome.Kind.MISMATCH);
+    }
+
+    @Test
+    @DisplayName("Should release the key of a response a retry could change")
+    void shouldReleaseKeyOfRetryableResponse() {
+        // Given
+        givenInsertResults(1, 1);
+        Outcome first = store.begin(OWNER, KEY, "hash-a");
+
+        // When
+        store.complete(first.claim(), new StoredResponse("hash-a", 503, "application/problem+json", "{}"));
+        Outcome retry = store.begin(OWNER, KEY, "hash-a");
+
+        // Then
+        verify(repository).release(OWNER, KEY);
+        verify(repository, never()).complete(any(), any(), anyInt(), any(), any(), any());
+        assertThat(retry.kind()).isEqualTo(Outcome.Kind.EXECUTE);
+    }
+
+    @Test
+    @DisplayName("Should execute again once the stored response expired")
+    void shouldExecuteAgainAfterExpiry() throws Exception {
+        // Given: the cached response and the row expire
+        store = store(Duration.ofMillis(50));
+        givenInsertResults(1, 0, 1);
+        store.complete(store.begin(OWNER, KEY, "hash-a").claim(), CREATED);
+        when(repository.deleteIfExpired(eq(OWNER), eq(KEY), any(LocalDateTime.class))).thenReturn(1);
+        Thread.sleep(100);
+
+        // When
+        Outcome retry = store.begin(OWNER, KEY, "hash-b");
+
+        // Then
+        assertThat(retry.kind()).isEqualTo(Outcome.Kind.EXECUTE);
+        verify(repository, times(3)).insertIfAbsent(any(), any(), any(), any(), any());
+    }
+
+    private IdempotencyKeyStore store(Duration ttl) {
+        return new IdempotencyKeyStore(repository, meterRegistry, ttl, Duration.ofSeconds(30), 100);
+    }
+
+    private void givenInsertResults(int first, Integer... next) {
+        when(repository.insertIfAbsent(eq(OWNER), eq(KEY), any(), any(), any())).thenReturn(first, next);
+    }
+
+    private static IdempotencyKeyEntity stored(String requestHash, Integer status) {
+        IdempotencyKeyEntity entity = new IdempotencyKeyEntity();
+        entity.setOwner(OWNER);
+        entity.setIdempotencyKey(KEY);
+        entity.setRequestHash(requestHash);
+        entity.setStatus(status);
+        return entity;
+    }
+
+    private static void awaitBlocked(List<Thread> threads, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            synchronized (threads) {
+                if (threads.size() == count
+                        && threads.stream().allMatch(thread -> thread.getState() == Thread.State.TIMED_WAITING)) {
+                    return;
+                }
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("Duplicates did not wait for the first execution");
+    }
+}
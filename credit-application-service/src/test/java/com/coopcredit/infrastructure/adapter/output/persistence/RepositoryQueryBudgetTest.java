@@ -0,0 +1,499 @@
+package com.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.enums.AffiliateStatus;
+import com.coopcredit.domain.model.enums.ApplicationStatus;
+import com.coopcredit.domain.port.output.AffiliateRepositoryPort;
+import com.coopcredit.domain.port.output.CreditApplicationRepositoryPort;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Query-budget regression tests for the repository ports against a realistically
+ * sized PostgreSQL dataset (100k affiliates and 1M applications by default).
+ * <p>
+ * Every port method gets an upper bound on JDBC statements, entities loaded and
+ * median wall time, and the hot lookups have their PostgreSQL plan checked for
+ * sequential scans. Seeding takes a minute or two and the full-table reads need
+ * a couple of GB of heap.
+ * <p>
+ * To run these tests, execute:
+ * mvn test -Dtest=RepositoryQueryBudgetTest -Dtestcontainers.enabled=true
+ * <p>
+ * The dataset can be shrunk with -Dquery-budget.affiliates and
+ * -Dquery-budget.applications-per-affiliate, and wall-time budgets scaled on
+ * slow machines with -Dquery-budget.time-factor.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "testcontainers.enabled", matches = "true")
+class RepositoryQueryBudgetTest {
+
+        private static final int AFFILIATES = Integer.getInteger("query-budget.affiliates", 100_000);
+        private static final int APPLICATIONS_PER_AFFILIATE = Integer
+                        .getInteger("query-budget.applications-per-affiliate", 10);
+        private static final double TIME_FACTOR = Double
+                        .parseDouble(System.getProperty("query-budget.time-factor", "1.0"));
+
+        private static final int TIMED_RUNS = 5;
+        private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
+        @Container
+        static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+                        .withDatabaseName("coopcredit_budget")
+                        .withUsername("test")
+                        .withPassword("test");
+
+        @DynamicPropertySource
+        static void configureProperties(DynamicPropertyRegistry registry) {
+                registry.add("spring.datasource.url", postgres::getJdbcUrl);
+                registry.add("spring.datasource.username", postgres::getUsername);
+                registry.add("spring.datasource.password", postgres::getPassword);
+                registry.add("spring.flyway.enabled", () -> "true");
+                // Plans must be checked against the Flyway schema and its indexes
+                registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+                registry.add("spring.jpa.show-sql", () -> "false");
+                registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+                registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                                () -> CapturingStatementInspector.class.getName());
+                registry.add("logging.level.com.coopcredit", () -> "INFO");
+        }
+
+        @Autowired
+        private AffiliateRepositoryPort affiliateRepository;
+
+        @Autowired
+        private CreditApplicationRepositoryPort applicationRepository;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+
+        private Statistics statistics;
+        private TransactionTemplate readTransaction;
+        private TransactionTemplate writeTransaction;
+
+        private long seededAffiliateId;
+        private String seededDocumentNumber;
+        private long approvedApplicationId;
+        private long pendingApplicationId;
+        private long pendingCount;
+        private long pendingAffiliates;
+        private long applicationCount;
+        private long evaluationCount;
+        private long affiliateCount;
+
+        @BeforeAll
+        void seed() {
+                jdbcTemplate.update("""
+                                INSERT INTO affiliates (document_number, name, salary, affiliation_date, status)
+                                SELECT '9' || lpad(g::text, 9, '0'), 'Budget Affiliate ' || g,
+                                       1500000 + (g % 50) * 100000, DATE '2015-01-01' + (g % 3000),
+                                       CASE WHEN g % 20 = 0 THEN 'INACTIVE' ELSE 'ACTIVE' END
+                                FROM generate_series(1, ?) g
+                                """, AFFILIATES);
+                // About 2% of the applications stay PENDING, like a queue that is being worked off
+                jdbcTemplate.update("""
+                                INSERT INTO credit_applications (affiliate_id, requested_amount, term_months,
+                                                                 proposed_rate, application_date, status)
+                                SELECT a.id, 1000000 + (n * 7919 % 400) * 100000, 6 + ((a.id + n) % 115), 1.20,
+                                       TIMESTAMP '2024-01-01' + ((a.id * 10 + n) % 700) * INTERVAL '1 day',
+                                       CASE WHEN (a.id + n) % 50 = 0 THEN 'PENDING'
+                                            WHEN (a.id + n) % 5 < 2 THEN 'REJECTED'
+                                            ELSE 'APPROVED' END
+                                FROM affiliates a CROSS JOIN generate_series(1, ?) n
+                                WHERE a.name LIKE 'Budget Affiliate %'
+                                """, APPLICATIONS_PER_AFFILIATE);
+                jdbcTemplate.update("""
+                                INSERT INTO risk_evaluations (credit_application_id, score, risk_level,
+                                                              debt_to_income_ratio, reason, evaluation_date, approved)
+                                SELECT c.id,
+                                       CASE WHEN c.status = 'APPROVED' THEN 760 ELSE 420 END,
+                                       CASE WHEN c.status = 'APPROVED' THEN 'LOW' ELSE 'HIGH' END,
+                                       25.00, 'Seeded evaluation', c.application_date + INTERVAL '1 day',
+                                       c.status = 'APPROVED'
+                                FROM credit_applications c
+                                WHERE c.status <> 'PENDING'
+                                  AND NOT EXISTS (SELECT 1 FROM risk_evaluations r WHERE r.credit_application_id = c.id)
+                                """);
+                jdbcTemplate.execute("ANALYZE");
+
+                seededDocumentNumber = "9" + String.format("%09d", AFFILIATES / 2);
+                seededAffiliateId = jdbcTemplate.queryForObject(
+                                "SELECT id FROM affiliates WHERE document_number = ?", Long.class,
+                                seededDocumentNumber);
+                approvedApplicationId = jdbcTemplate.queryForObject(
+                                "SELECT min(id) FROM credit_applications WHERE affiliate_id = ? AND status = 'APPROVED'",
+                                Long.class, seededAffiliateId);
+                pendingApplicationId = jdbcTemplate.queryForObject(
+                                "SELECT max(id) FROM credit_applications WHERE status = 'PENDING'", Long.class);
+                pendingCount = count("SELECT count(*) FROM credit_applications WHERE status = 'PENDING'");
+                pendingAffiliates = count(
+                                "SELECT count(DISTINCT affiliate_id) FROM credit_applications WHERE status = 'PENDING'");
+                applicationCount = count("SELECT count(*) FROM credit_applications");
+                evaluationCount = count("SELECT count(*) FROM risk_evaluations");
+                affiliateCount = count("SELECT count(*) FROM affiliates");
+
+                statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+                readTransaction = new TransactionTemplate(transactionManager);
+                readTransaction.setReadOnly(true);
+                writeTransaction = new TransactionTemplate(transactionManager);
+        }
+
+        @BeforeEach
+        void resetCounters() {
+                statistics.clear();
+                CapturingStatementInspector.clear();
+        }
+
+        @Nested
+        @DisplayName("AffiliateRepositoryPort")
+        class AffiliateRepositoryBudgets {
+
+                @Test
+                @DisplayName("save inserts with a single statement")
+                void save() {
+                        Measurement m = write(() -> affiliateRepository.save(new Affiliate(null, "8000000001",
+                                        "Budget New Affiliate", new BigDecimal("3000000"), LocalDate.now(),
+                                        AffiliateStatus.ACTIVE)));
+
+                        m.assertWithin(1, 0, 100);
+                }
+
+                @Test
+                @DisplayName("findById is a single indexed lookup")
+                void findById() {
+                        Measurement m = read(TIMED_RUNS, () -> affiliateRepository.findById(seededAffiliateId));
+
+                        m.assertWithin(1, 1, 50);
+                        assertNoSeqScan(m, Set.of(), seededAffiliateId);
+                }
+
+                @Test
+                @DisplayName("findByDocumentNumber is a single indexed lookup")
+                void findByDocumentNumber() {
+                        Measurement m = read(TIMED_RUNS,
+                                        () -> affiliateRepository.findByDocumentNumber(seededDocumentNumber));
+
+                        m.assertWithin(1, 1, 50);
+                        assertNoSeqScan(m, Set.of(), seededDocumentNumber);
+                }
+
+                @Test
+                @DisplayName("existsByDocumentNumber loads no entity")
+                void existsByDocumentNumber() {
+                        Measurement m = read(TIMED_RUNS,
+                                        () -> affiliateRepository.existsByDocumentNumber(seededDocumentNumber));
+
+                        m.assertWithin(1, 0, 50);
+                        // Spring Data binds the row limit of the exists query as a second parameter
+                        assertNoSeqScan(m, Set.of(), seededDocumentNumber, 1);
+                }
+
+                @Test
+                @DisplayName("findAll reads the table in one statement")
+                void findAll() {
+                        Measurement m = read(1, () -> affiliateRepository.findAll());
+
+                        m.assertWithin(1, affiliateCount, 10_000);
+                }
+
+                @Test
+                @DisplayName("deleteById only grows with the affiliate's own applications")
+                void deleteById() {
+                        Measurement m = write(() -> {
+                                affiliateRepository.deleteById(seededAffiliateId);
+                                return null;
+                        });
+
+                        // Lookup, cascade loads and one delete per application and evaluation
+                        m.assertWithin(4 + 3L * APPLICATIONS_PER_AFFILIATE, 1 + 2L * APPLICATIONS_PER_AFFILIATE, 500);
+                }
+        }
+
+        @Nested
+        @DisplayName("CreditApplicationRepositoryPort")
+        class CreditApplicationRepositoryBudgets {
+
+                @Test
+                @DisplayName("save of a new application looks up the affiliate and inserts")
+                void saveNew() {
+                        Affiliate affiliate = new Affiliate();
+                        affiliate.setDocumentNumber(seededDocumentNumber);
+                        Measurement m = write(() -> applicationRepository.save(new CreditApplication(null, affiliate,
+                                        new BigDecimal("10000000"), 24, new BigDecimal("1.20"))));
+
+                        m.assertWithin(2, 1, 100);
+                }
+
+                @Test
+                @DisplayName("save of an existing application loads and updates it")
+                void saveExisting() {
+                        Measurement m = write(() -> {
+                                CreditApplication application = applicationRepository.findById(pendingApplicationId)
+                                                .orElseThrow();
+                                application.setStatus(ApplicationStatus.REJECTED);
+                                return applicationRepository.save(application);
+                        });
+
+                        m.assertWithin(4, 3, 100);
+                }
+
+                @Test
+                @DisplayName("findById fetches the affiliate and evaluation in one statement")
+                void findById() {
+                        Measurement m = read(TIMED_RUNS, () -> applicationRepository.findById(approvedApplicationId));
+
+                        m.assertWithin(1, 3, 50);
+                        assertNoSeqScan(m, Set.of(), approvedApplicationId);
+                }
+
+                @Test
+                @DisplayName("findByIdWithAffiliate is a single indexed lookup")
+                void findByIdWithAffiliate() {
+                        Measurement m = read(TIMED_RUNS,
+                                        () -> applicationRepository.findByIdWithAffiliate(approvedApplicationId));
+
+                        m.assertWithin(1, 3, 50);
+                        assertNoSeqScan(m, Set.of(), approvedApplicationId);
+                }
+
+                @Test
+                @DisplayName("findAllByIdWithAffiliate resolves a batch in one indexed statement")
+                void findAllByIdWithAffiliate() {
+                        Measurement m = read(TIMED_RUNS, () -> applicationRepository.findAllByIdWithAffiliate(
+                                        List.of(approvedApplicationId, pendingApplicationId)));
+
+                        m.assertWithin(1, 6, 50);
+                        assertNoSeqScan(m, Set.of(), approvedApplicationId, pendingApplicationId);
+                }
+
+                @Test
+                @DisplayName("findByAffiliateId has no N+1")
+                void findByAffiliateId() {
+                        Measurement m = read(TIMED_RUNS,
+                                        () -> applicationRepository.findByAffiliateId(seededAffiliateId));
+
+                        m.assertWithin(1, 1 + 2L * APPLICATIONS_PER_AFFILIATE, 100);
+                        assertNoSeqScan(m, Set.of(), seededAffiliateId);
+                }
+
+                @Test
+                @DisplayName("findByAffiliateDocumentNumber has no N+1")
+                void findByAffiliateDocumentNumber() {
+                        Measurement m = read(TIMED_RUNS,
+                                        () -> applicationRepository.findByAffiliateDocumentNumber(seededDocumentNumber));
+
+                        m.assertWithin(1, 1 + 2L * APPLICATIONS_PER_AFFILIATE, 100);
+                        assertNoSeqScan(m, Set.of(), seededDocumentNumber);
+                }
+
+                @Test
+                @DisplayName("findByStatus(PENDING) reads the pending queue through the status index")
+                void findByStatusPending() {
+                        Measurement m = read(TIMED_RUNS,
+                                        () -> applicationRepository.findByStatus(ApplicationStatus.PENDING));
+
+                        m.assertWithin(1, pendingCount + pendingAffiliates, 3_000);
+                        // Joining a fifth of the affiliates may legitimately hash-join them
+                        assertNoSeqScan(m, Set.of("affiliates", "risk_evaluations"), ApplicationStatus.PENDING.name());
+                }
+
+                @Test
+                @DisplayName("findAll reads every application in one statement")
+                void findAll() {
+                        Measurement m = read(1, () -> applicationRepository.findAll());
+
+                        m.assertWithin(1, applicationCount + affiliateCount + evaluationCount, 90_000);
+                }
+
+                @Test
+                @DisplayName("deleteById loads and deletes the application and its evaluation")
+                void deleteById() {
+                        Measurement m = write(() -> {
+                                applicationRepository.deleteById(approvedApplicationId);
+                                return null;
+                        });
+
+                        m.assertWithin(4, 2, 100);
+                }
+        }
+
+        /**
+         * Run the call once to warm up, then once more while counting statements and
+         * entity loads, then time it. Each run gets its own read-only transaction.
+         */
+        private Measurement read(int timedRuns, Supplier<?> call) {
+                readTransaction.execute(status -> call.get());
+                resetCounters();
+                readTransaction.execute(status -> call.get());
+                Measurement measurement = new Measurement(statistics.getPrepareStatementCount(),
+                                statistics.getEntityLoadCount(), CapturingStatementInspector.statements());
+
+                long[] nanos = new long[timedRuns];
+                for (int i = 0; i < nanos.length; i++) {
+                        long start = System.nanoTime();
+                        readTransaction.execute(status -> call.get());
+                        nanos[i] = System.nanoTime() - start;
+                }
+                Arrays.sort(nanos);
+                measurement.medianMillis = nanos[nanos.length / 2] / 1_000_000.0;
+                return measurement;
+        }
+
+        /**
+         * Run a modifying call, flush it so its DML is counted, and roll it back to
+         * keep the dataset identical for the other tests.
+         */
+        private Measurement write(Supplier<?> call) {
+                long start = System.nanoTime();
+                writeTransaction.execute(status -> {
+                        call.get();
+                        status.flush();
+                        status.setRollbackOnly();
+                        return null;
+                });
+                Measurement measurement = new Measurement(statistics.getPrepareStatementCount(),
+                                statistics.getEntityLoadCount(), CapturingStatementInspector.statements());
+                measurement.medianMillis = (System.nanoTime() - start) / 1_000_000.0;
+                return measurement;
+        }
+
+        /**
+         * EXPLAIN the query the call issued with the given bind values and fail on a
+         * sequential scan of any table not explicitly allowed.
+         */
+        private void assertNoSeqScan(Measurement measurement, Set<String> allowedSeqScans, Object... parameters) {
+                String sql = measurement.statements.stream()
+                                .filter(statement -> statement.stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+                                .findFirst()
+                                .orElseThrow(() -> new AssertionError("No SELECT captured"));
+                List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + inline(sql, parameters), String.class);
+
+                Matcher matcher = SEQ_SCAN.matcher(String.join("\n", plan));
+                while (matcher.find()) {
+                        if (!allowedSeqScans.contains(matcher.group(1))) {
+                                fail("Sequential scan on %s for:%n%s%n%s", matcher.group(1), sql,
+                                                String.join("\n", plan));
+                        }
+                }
+        }
+
+        private static String inline(String sql, Object... parameters) {
+                StringBuilder inlined = new StringBuilder(sql.length() + 32);
+                int next = 0;
+                for (int i = 0; i < sql.length(); i++) {
+                        char c = sql.charAt(i);
+                        if (c != '?') {
+                                inlined.append(c);
+                                continue;
+                        }
+                        if (next >= parameters.length) {
+                                fail("Query has more parameters than the %d given: %s", parameters.length, sql);
+                        }
+                        Object value = parameters[next++];
+                        inlined.append(value instanceof Number
+                                        ? value.toString()
+                                        : "'" + value.toString().replace("'", "''") + "'");
+                }
+                return inlined.toString();
+        }
+
+        private long count(String sql) {
+                return jdbcTemplate.queryForObject(sql, Long.class);
+        }
+
+        private static final class Measurement {
+
+                private final long statementCount;
+                private final long entitiesLoaded;
+                private final List<String> statements;
+                private double medianMillis;
+
+                private Measurement(long statementCount, long entitiesLoaded, List<String> statements) {
+                        this.statementCount = statementCount;
+                        this.entitiesLoaded = entitiesLoaded;
+                        this.statements = statements;
+                }
+
+                void assertWithin(long maxStatements, long maxEntities, long maxMillis) {
+                        assertThat(statementCount)
+                                        .as("JDBC statements%n%s", String.join("\n", statements))
+                                        .isLessThanOrEqualTo(maxStatements);
+                        assertThat(entitiesLoaded).as("entities loaded").isLessThanOrEqualTo(maxEntities);
+                        assertThat(medianMillis).as("median wall time (ms)")
+                                        .isLessThanOrEqualTo(maxMillis * TIME_FACTOR);
+                }
+        }
+
+        /**
+         * Records the SQL Hibernate prepares, so the tests can EXPLAIN exactly what
+         * a port method sent to the database.
+         */
+        public static class CapturingStatementInspector implements StatementInspector {
+
+                private static final List<String> STATEMENTS = new ArrayList<>();
+
+                @Override
+                public String inspect(String sql) {
+                        synchronized (STATEMENTS) {
+                                STATEMENTS.add(sql);
+                        }
+                        return sql;
+                }
+
+                static List<String> statements() {
+                        synchronized (STATEMENTS) {
+                                return List.copyOf(STATEMENTS);
+                        }
+                }
+
+                static void clear() {
+                        synchronized (STATEMENTS) {
+                                STATEMENTS.clear();
+                        }
+                }
+        }
+}
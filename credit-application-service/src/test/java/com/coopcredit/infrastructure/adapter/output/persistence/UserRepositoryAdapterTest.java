@@ -0,0 +1,99 @@
+package com.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.coopcredit.domain.exception.DuplicateUserException;
+import com.coopcredit.domain.model.User;
+import com.coopcredit.infrastructure.adapter.output.persistence.entity.UserEntity;
+import com.coopcredit.infrastructure.adapter.output.persistence.mapper.UserMapper;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaUserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the translation of unique constraint violations in UserRepositoryAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserRepositoryAdapterTest {
+
+    @Mock
+    private JpaUserRepository jpaRepository;
+
+    @Mock
+    private UserMapper mapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private UserRepositoryAdapter adapter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new UserRepositoryAdapter(jpaRepository, mapper, eventPublisher);
+        user = new User();
+        user.setUsername("jdoe");
+        user.setEmail("jdoe@coopcredit.com");
+        when(mapper.toEntity(user)).thenReturn(new UserEntity());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "users_username_key", "PUBLIC.USERS_USERNAME_KEY_INDEX_4" })
+    @DisplayName("Should report a duplicate username for the username constraint")
+    void shouldTranslateUsernameConstraint(String constraintName) {
+        when(jpaRepository.save(any())).thenThrow(violation(constraintName));
+
+        assertThatThrownBy(() -> adapter.save(user))
+                .isInstanceOf(DuplicateUserException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "DUPLICATE_USERNAME");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "users_email_key", "PUBLIC.USERS_EMAIL_KEY_INDEX_4 ON PUBLIC.USERS(EMAIL NULLS FIRST)" })
+    @DisplayName("Should report a duplicate email for the email constraint")
+    void shouldTranslateEmailConstraint(String constraintName) {
+        when(jpaRepository.save(any())).thenThrow(violation(constraintName));
+
+        assertThatThrownBy(() -> adapter.save(user))
+                .isInstanceOf(DuplicateUserException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "DUPLICATE_EMAIL");
+    }
+
+    @Test
+    @DisplayName("Should rethrow violations of any other constraint")
+    void shouldRethrowOtherConstraints() {
+        DataIntegrityViolationException violation = violation("users_document_number_fkey");
+        when(jpaRepository.save(any())).thenThrow(violation);
+
+        assertThatThrownBy(() -> adapter.save(user)).isSameAs(violation);
+    }
+
+    @Test
+    @DisplayName("Should rethrow violations without a constraint name instead of guessing from the message")
+    void shouldRethrowUnnamedViolations() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException(
+                "duplicate key value violates unique constraint on email");
+        when(jpaRepository.save(any())).thenThrow(violation);
+
+        assertThatThrownBy(() -> adapter.save(user)).isSameAs(violation);
+    }
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key", "23505"),
+                        constraintName));
+    }
+}
@@ -0,0 +1,99 @@
+package com.coopcredit.infrastructure.adapter.output.rest;
+
+import com.coopcredit.domain.model.enums.RiskLevel;
+import com.coopcredit.domain.port.output.RiskCentralPort.RiskEvaluationResponse;
+import com.coopcredit.infrastructure.adapter.output.rest.RiskCentralAdapter.WireFormat;
+import com.coopcredit.observability.tracing.OtlpFileSpanExporter;
+import com.coopcredit.observability.tracing.TracingClientInterceptor;
+import com.coopcredit.observability.tracing.Tracer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Unit tests for the wire formats of RiskCentralAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class RiskCentralAdapterTest {
+
+    private static final String RISK_SERVICE_URL = "http://risk-central";
+
+    @Mock
+    private OtlpFileSpanExporter exporter;
+
+    @ParameterizedTest
+    @EnumSource(WireFormat.class)
+    @DisplayName("Should encode the request and decode the response in the configured wire format")
+    void shouldUseWireFormat(WireFormat wireFormat) throws Exception {
+        // Given
+        ObjectMapper mapper = mapperFor(wireFormat);
+        MediaType mediaType = mediaTypeFor(wireFormat);
+        RestClient.Builder builder = RestClient.builder();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        RiskCentralAdapter adapter = new RiskCentralAdapter(builder,
+                new TracingClientInterceptor(new Tracer(exporter, 0.0)), RISK_SERVICE_URL, wireFormat);
+        server.expect(requestTo(RISK_SERVICE_URL + "/risk-evaluation"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header(HttpHeaders.CONTENT_TYPE, mediaType.toString()))
+                .andExpect(header(HttpHeaders.ACCEPT, mediaType.toString()))
+                .andExpect(request -> {
+                    Request body = mapper.readValue(((MockClientHttpRequest) request).getBodyAsBytes(),
+                            Request.class);
+                    assertThat(body.documentNumber()).isEqualTo("1017654321");
+                    assertThat(body.amount()).isEqualByComparingTo("5000000");
+                    assertThat(body.termMonths()).isEqualTo(24);
+                })
+                .andRespond(withSuccess(mapper.writeValueAsBytes(
+                        new Response("1017654321", 812, "LOW", "Low credit risk.")), mediaType));
+
+        // When
+        RiskEvaluationResponse response = adapter.evaluate("1017654321", new BigDecimal("5000000.00"), 24);
+
+        // Then
+        assertThat(response).isEqualTo(
+                new RiskEvaluationResponse("1017654321", 812, RiskLevel.LOW, "Low credit risk."));
+        server.verify();
+    }
+
+    private static ObjectMapper mapperFor(WireFormat wireFormat) {
+        return switch (wireFormat) {
+            case JSON -> new ObjectMapper();
+            case CBOR -> new CBORMapper();
+            case SMILE -> new SmileMapper();
+        };
+    }
+
+    private static MediaType mediaTypeFor(WireFormat wireFormat) {
+        return switch (wireFormat) {
+            case JSON -> MediaType.APPLICATION_JSON;
+            case CBOR -> MediaType.APPLICATION_CBOR;
+            case SMILE -> new MediaType("application", "x-jackson-smile");
+        };
+    }
+
+    private record Request(String documentNumber, BigDecimal amount, Integer termMonths) {
+    }
+
+    private record Response(String documentNumber, Integer score, String riskLevel, String details) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.coopcredit.infrastructure.config;
+
+import com.coopcredit.infrastructure.adapter.output.rest.RiskCentralAdapter;
+import com.coopcredit.observability.tracing.OtlpFileSpanExporter;
+import com.coopcredit.observability.tracing.TracingClientInterceptor;
+import com.coopcredit.observability.tracing.Tracer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for HttpClientConfig.
+ */
+@ExtendWith(MockitoExtension.class)
+class HttpClientConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withUserConfiguration(HttpClientConfig.class);
+
+    @Mock
+    private OtlpFileSpanExporter exporter;
+
+    @Test
+    @DisplayName("Should apply the configured connect timeout to the HTTP client")
+    void shouldApplyConnectTimeout() {
+        contextRunner
+                .withPropertyValues("app.risk-service.connect-timeout=150ms")
+                .run(context -> assertThat(context.getBean(HttpClient.class).connectTimeout())
+                        .contains(Duration.ofMillis(150)));
+    }
+
+    @Test
+    @DisplayName("Should time out the Risk Central call after the configured read timeout")
+    void shouldApplyReadTimeout() throws Exception {
+        // Given: a server that accepts connections and never answers
+        try (ServerSocket server = new ServerSocket(0)) {
+            contextRunner
+                    .withPropertyValues("app.risk-service.read-timeout=300ms")
+                    .run(context -> {
+                        RestClient.Builder builder = RestClient.builder();
+                        context.getBean(RestClientCustomizer.class).customize(builder);
+                        RiskCentralAdapter adapter = new RiskCentralAdapter(builder,
+                                new TracingClientInterceptor(new Tracer(exporter, 0.0)),
+                                "http://localhost:" + server.getLocalPort(), RiskCentralAdapter.WireFormat.JSON);
+
+                        // When
+                        long start = System.nanoTime();
+                        assertThatThrownBy(() -> adapter.evaluate("1017654321", new BigDecimal("5000000"), 24))
+                                .cause()
+                                .isInstanceOf(ResourceAccessException.class)
+                                .message().containsIgnoringCase("timed out");
+
+                        // Then
+                        assertThat(Duration.ofNanos(System.nanoTime() - start))
+                                .isBetween(Duration.ofMillis(250), Duration.ofSeconds(5));
+                    });
+        }
+    }
+
+    @Test
+    @DisplayName("Should run the client on virtual threads when enabled and close them on shutdown")
+    void shouldCloseVirtualThreadExecutor() {
+        AtomicReference<ExecutorService> executor = new AtomicReference<>();
+        contextRunner
+                .withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> {
+                    Optional<?> clientExecutor = context.getBean(HttpClient.class).executor();
+                    assertThat(clientExecutor).containsInstanceOf(ExecutorService.class);
+                    executor.set((ExecutorService) clientExecutor.orElseThrow());
+                    assertThat(executor.get().isShutdown()).isFalse();
+                });
+
+        assertThat(executor.get().isTerminated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should leave the client on its default executor without virtual threads")
+    void shouldUseDefaultExecutor() {
+        contextRunner.run(context -> assertThat(context.getBean(HttpClient.class).executor()).isEmpty());
+    }
+}
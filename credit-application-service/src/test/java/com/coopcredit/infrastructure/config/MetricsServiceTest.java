@@ -0,0 +1,115 @@
+package com.coopcredit.infrastructure.config;
+
+import com.coopcredit.domain.model.enums.RiskLevel;
+import com.coopcredit.infrastructure.config.MetricsService.EvaluationOutcome;
+import com.coopcredit.infrastructure.config.MetricsService.EvaluationStage;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Unit tests for the risk evaluation timers of MetricsService.
+ */
+class MetricsServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MetricsService metricsService = new MetricsService(registry);
+
+    @Test
+    @DisplayName("Should register one stage timer and one end-to-end timer per tag combination up front")
+    void shouldRegisterTimersUpFront() {
+        assertThat(registry.find(MetricsService.EVALUATION_STAGE_TIMER).timers())
+                .extracting(timer -> timer.getId().getTag("stage"))
+                .containsExactlyInAnyOrder("load", "rules", "persist", "response.mapping");
+        assertThat(registry.find(MetricsService.EVALUATION_TIMER).timers())
+                .hasSize(EvaluationOutcome.values().length * (RiskLevel.values().length + 1));
+        assertThat(registry.find(MetricsService.EVALUATION_TIMER).tag("outcome", "not_found")
+                .tag("risk_level", "NONE").timer()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should record each stage in its own timer")
+    void shouldRecordStages() {
+        // When
+        metricsService.recordEvaluationStage(EvaluationStage.LOAD, millis(4));
+        metricsService.recordEvaluationStage(EvaluationStage.RULES, millis(1));
+        metricsService.recordEvaluationStage(EvaluationStage.RULES, millis(3));
+
+        // Then
+        Timer load = stageTimer("load");
+        Timer rules = stageTimer("rules");
+        assertThat(load.count()).isEqualTo(1);
+        assertThat(load.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(4.0);
+        assertThat(rules.count()).isEqualTo(2);
+        assertThat(rules.max(TimeUnit.MILLISECONDS)).isEqualTo(3.0);
+        assertThat(stageTimer("persist").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should tag end-to-end times by outcome and risk level, NONE without a bureau answer")
+    void shouldTagEvaluations() {
+        // When
+        metricsService.recordEvaluation(EvaluationOutcome.SUCCESS, RiskLevel.LOW, millis(80));
+        metricsService.recordEvaluation(EvaluationOutcome.ERROR, null, millis(5));
+
+        // Then
+        assertThat(evaluationTimer("success", "LOW").count()).isEqualTo(1);
+        assertThat(evaluationTimer("error", "NONE").count()).isEqualTo(1);
+        assertThat(evaluationTimer("success", "HIGH").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count evaluations in the SLO buckets")
+    void shouldCountSloBuckets() {
+        // When
+        for (long ms : new long[] {10, 30, 60, 300, 3000}) {
+            metricsService.recordEvaluation(EvaluationOutcome.SUCCESS, RiskLevel.MEDIUM, millis(ms));
+        }
+
+        // Then: bucket counts are cumulative
+        assertThat(sloBuckets(evaluationTimer("success", "MEDIUM").takeSnapshot())).containsExactly(
+                entry(25.0, 1.0), entry(50.0, 2.0), entry(100.0, 3.0), entry(250.0, 3.0),
+                entry(500.0, 4.0), entry(1000.0, 4.0), entry(2000.0, 4.0), entry(5000.0, 5.0));
+    }
+
+    private Timer stageTimer(String stage) {
+        return registry.get(MetricsService.EVALUATION_STAGE_TIMER).tag("stage", stage).timer();
+    }
+
+    private Timer evaluationTimer(String outcome, String riskLevel) {
+        return registry.get(MetricsService.EVALUATION_TIMER)
+                .tag("outcome", outcome)
+                .tag("risk_level", riskLevel)
+                .timer();
+    }
+
+    private static Map<Double, Double> sloBuckets(HistogramSnapshot snapshot) {
+        Map<Double, Double> buckets = new LinkedHashMap<>();
+        Arrays.stream(snapshot.histogramCounts())
+                .filter(bucket -> isSlo(bucket.bucket(TimeUnit.MILLISECONDS)))
+                .forEach(bucket -> buckets.put(bucket.bucket(TimeUnit.MILLISECONDS), bucket.count()));
+        return buckets;
+    }
+
+    private static boolean isSlo(double bucketMs) {
+        return Arrays.stream(new Duration[] {
+                        Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+                        Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5)})
+                .anyMatch(slo -> slo.toMillis() == bucketMs);
+    }
+
+    private static long millis(long ms) {
+        return TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+}
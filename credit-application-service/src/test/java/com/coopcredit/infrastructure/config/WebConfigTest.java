@@ -0,0 +1,70 @@
+package com.coopcredit.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for the message converters of WebConfig.
+ */
+class WebConfigTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+                    HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+            .withUserConfiguration(WebConfig.class, TestController.class);
+
+    @Test
+    @DisplayName("Should keep the binary Risk Central formats off the API")
+    void shouldNotRegisterBinaryConverters() {
+        contextRunner.run(context -> assertThat(context.getBean(RequestMappingHandlerAdapter.class)
+                .getMessageConverters())
+                .noneMatch(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                        || converter instanceof MappingJackson2SmileHttpMessageConverter));
+    }
+
+    @Test
+    @DisplayName("Should answer JSON only, even to clients asking for CBOR")
+    void shouldAnswerJsonOnly() {
+        contextRunner.run(context -> {
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+            mockMvc.perform(get("/test").accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isNotAcceptable());
+            mockMvc.perform(get("/test").accept(new MediaType("application", "x-jackson-smile")))
+                    .andExpect(status().isNotAcceptable());
+            mockMvc.perform(get("/test").header("Accept", "application/cbor, application/json;q=0.5"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(content().json("{\"status\":\"ok\"}"));
+        });
+    }
+
+    @RestController
+    static class TestController {
+
+        @GetMapping("/test")
+        Map<String, String> test() {
+            return Map.of("status", "ok");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.coopcredit.infrastructure.datagen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the synthetic dataset distributions.
+ */
+class SyntheticDatasetTest {
+
+    private static final LocalDate REFERENCE_DATE = LocalDate.of(2026, 1, 1);
+
+    @Test
+    @DisplayName("Should produce the same rows for the same seed")
+    void shouldBeDeterministic() {
+        assertThat(generate(42, 500)).isEqualTo(generate(42, 500));
+        assertThat(generate(43, 500)).isNotEqualTo(generate(42, 500));
+    }
+
+    @Test
+    @DisplayName("Should number applications consecutively and respect schema constraints")
+    void shouldRespectSchemaConstraints() {
+        List<SyntheticDataset.AffiliateData> data = generate(7, 2_000);
+
+        long expectedApplicationId = 100;
+        for (SyntheticDataset.AffiliateData affiliate : data) {
+            assertThat(affiliate.affiliate().salary()).isGreaterThanOrEqualTo(SyntheticDataset.MIN_SALARY);
+            assertThat(affiliate.affiliate().documentNumber()).hasSizeLessThanOrEqualTo(20);
+            for (SyntheticDataset.ApplicationRow application : affiliate.applications()) {
+                assertThat(application.id()).isEqualTo(expectedApplicationId++);
+                assertThat(application.affiliateId()).isEqualTo(affiliate.affiliate().id());
+                assertThat(application.termMonths()).isBetween(6, 120);
+                assertThat(application.applicationDate().toLocalDate())
+                        .isAfterOrEqualTo(affiliate.affiliate().affiliationDate())
+                        .isBeforeOrEqualTo(REFERENCE_DATE);
+            }
+            for (SyntheticDataset.EvaluationRow evaluation : affiliate.evaluations()) {
+                SyntheticDataset.ApplicationRow application = affiliate.applications().stream()
+                        .filter(a -> a.id() == evaluation.applicationId())
+                        .findFirst()
+                        .orElseThrow();
+                assertThat(application.status()).isEqualTo(evaluation.approved() ? "APPROVED" : "REJECTED");
+                assertThat(evaluation.riskLevel()).isEqualTo(SyntheticDataset.riskLevel(evaluation.score()));
+            }
+        }
+
+        long applications = data.stream().mapToLong(d -> d.applications().size()).sum();
+        long pending = data.stream().flatMap(d -> d.applications().stream())
+                .filter(a -> a.status().equals("PENDING")).count();
+        assertThat(applications).isBetween(5_000L, 7_000L);
+        assertThat(pending).isBetween(applications / 100, applications / 20);
+    }
+
+    private static List<SyntheticDataset.AffiliateData> generate(long seed, long affiliates) {
+        List<SyntheticDataset.AffiliateData> data = new ArrayList<>();
+        new SyntheticDataset(seed, REFERENCE_DATE, 3, 7_000_000_000L).generate(affiliates, 1, 100, data::add);
+        return data;
+    }
+}
@@ -0,0 +1,107 @@
+package com.coopcredit.infrastructure.observability;
+
+import com.coopcredit.application.service.CreditRulePipeline;
+import com.coopcredit.domain.model.enums.RiskLevel;
+import com.coopcredit.infrastructure.config.MetricsService;
+import com.coopcredit.infrastructure.config.MetricsService.EvaluationOutcome;
+import com.coopcredit.infrastructure.config.MetricsService.EvaluationStage;
+import com.coopcredit.infrastructure.observability.EvaluationLatencyEndpoint.EvaluationLatencyReport;
+import com.coopcredit.infrastructure.observability.EvaluationLatencyEndpoint.LatencySummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+/**
+ * Unit tests for EvaluationLatencyEndpoint.
+ */
+class EvaluationLatencyEndpointTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MetricsService metricsService = new MetricsService(registry);
+    private final EvaluationLatencyEndpoint endpoint = new EvaluationLatencyEndpoint(registry);
+
+    @Test
+    @DisplayName("Should report every stage in pipeline order with its percentiles and share of time")
+    void shouldReportStagePercentiles() {
+        // Given: 1..100 ms in the rules stage, a constant 10 ms elsewhere
+        for (int ms = 1; ms <= 100; ms++) {
+            metricsService.recordEvaluationStage(EvaluationStage.RULES, millis(ms));
+        }
+        metricsService.recordEvaluationStage(EvaluationStage.LOAD, millis(10));
+
+        // When
+        EvaluationLatencyReport report = endpoint.report();
+
+        // Then
+        assertThat(report.stages().keySet()).containsExactly("load", "rules", "persist", "response.mapping");
+        LatencySummary rules = report.stages().get("rules");
+        assertThat(rules.count()).isEqualTo(100);
+        assertThat(rules.meanMs()).isEqualTo(50.5);
+        assertThat(rules.maxMs()).isEqualTo(100.0);
+        assertThat(rules.p50Ms()).isCloseTo(50, withinPercentage(10));
+        assertThat(rules.p95Ms()).isCloseTo(95, withinPercentage(10));
+        assertThat(rules.p99Ms()).isCloseTo(99, withinPercentage(10));
+        assertThat(rules.shareOfTime()).isCloseTo(5050.0 / 5060, within(0.001));
+        assertThat(report.stages().get("load").shareOfTime()).isCloseTo(10.0 / 5060, within(0.001));
+        assertThat(report.stages().get("persist").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report only end-to-end timers that recorded, busiest first")
+    void shouldReportRecordedEvaluations() {
+        // Given
+        metricsService.recordEvaluation(EvaluationOutcome.ERROR, null, millis(5));
+        for (int i = 0; i < 3; i++) {
+            metricsService.recordEvaluation(EvaluationOutcome.SUCCESS, RiskLevel.LOW, millis(40));
+        }
+
+        // When
+        EvaluationLatencyReport report = endpoint.report();
+
+        // Then
+        assertThat(report.evaluations()).extracting(e -> e.outcome() + "/" + e.riskLevel())
+                .containsExactly("success/LOW", "error/NONE");
+        assertThat(report.evaluations().get(0).latency().count()).isEqualTo(3);
+        assertThat(report.evaluations().get(0).latency().p50Ms()).isCloseTo(40, withinPercentage(10));
+        assertThat(report.evaluations().get(0).latency().shareOfTime()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report each rule's latency, hit rate and skips")
+    void shouldReportRules() {
+        // Given
+        Timer.builder(CreditRulePipeline.RULE_TIMER).tag("rule", "dti").register(registry)
+                .record(2, TimeUnit.MILLISECONDS);
+        result("dti", "pass").increment(2);
+        result("dti", "fail").increment(1);
+        result("dti", "skipped").increment(4);
+
+        // When
+        EvaluationLatencyReport report = endpoint.report();
+
+        // Then
+        assertThat(report.rules()).containsOnlyKeys("dti");
+        assertThat(report.rules().get("dti").hitRate()).isEqualTo(0.333);
+        assertThat(report.rules().get("dti").skipped()).isEqualTo(4);
+        assertThat(report.rules().get("dti").latency().count()).isEqualTo(1);
+    }
+
+    private Counter result(String rule, String result) {
+        return Counter.builder(CreditRulePipeline.RULE_RESULT_COUNTER)
+                .tag("rule", rule)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static long millis(long ms) {
+        return TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+}
@@ -0,0 +1,122 @@
+package com.coopcredit.infrastructure.observability;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for FlightRecorderEndpoint.
+ */
+class FlightRecorderEndpointTest {
+
+    @TempDir
+    Path directory;
+
+    private FlightRecorderEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new FlightRecorderEndpoint(directory, "default", Duration.ofMinutes(5), 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if ("RUNNING".equals(endpoint.status().state())) {
+            endpoint.control("stop", null, null, null, null);
+        }
+    }
+
+    @Test
+    @DisplayName("Should start, dump and stop a recording, writing a file for each dump")
+    void shouldStartDumpAndStop() {
+        // Given
+        assertThat(endpoint.status().state()).isEqualTo("CLOSED");
+        assertThat(endpoint.status().dumps()).isEmpty();
+
+        // When
+        WebEndpointResponse<Object> started = endpoint.control("start", "profile", null, null, null);
+        WebEndpointResponse<Object> dumped = endpoint.control("dump", null, null, null, null);
+        WebEndpointResponse<Object> stopped = endpoint.control("stop", null, null, null, null);
+
+        // Then
+        assertThat(started.getStatus()).isEqualTo(200);
+        assertThat(status(started).state()).isEqualTo("RUNNING");
+        assertThat(status(started).startTime()).isNotNull();
+
+        assertThat(dumped.getStatus()).isEqualTo(200);
+        assertThat(status(dumped).state()).isEqualTo("RUNNING");
+        assertThat(Path.of(status(dumped).lastDump())).exists().startsWith(directory);
+
+        assertThat(stopped.getStatus()).isEqualTo(200);
+        assertThat(status(stopped).state()).isEqualTo("CLOSED");
+        assertThat(Path.of(status(stopped).lastDump())).exists();
+        assertThat(status(stopped).dumps())
+                .containsExactly(status(dumped).lastDump(), status(stopped).lastDump());
+        assertThat(endpoint.status().state()).isEqualTo("CLOSED");
+    }
+
+    @Test
+    @DisplayName("Should answer 409 when a recording is already running")
+    void shouldRejectSecondStart() {
+        // Given
+        endpoint.control("start", null, null, null, null);
+
+        // When
+        WebEndpointResponse<Object> response = endpoint.control("start", null, null, null, null);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(error(response)).isEqualTo("A recording is already running");
+        assertThat(endpoint.status().state()).isEqualTo("RUNNING");
+    }
+
+    @Test
+    @DisplayName("Should answer 409 when dumping or stopping without a recording")
+    void shouldRejectDumpAndStopWithoutRecording() {
+        // When
+        WebEndpointResponse<Object> dump = endpoint.control("dump", null, null, null, null);
+        WebEndpointResponse<Object> stop = endpoint.control("stop", null, null, null, null);
+
+        // Then
+        assertThat(dump.getStatus()).isEqualTo(409);
+        assertThat(error(dump)).isEqualTo("No recording is running");
+        assertThat(stop.getStatus()).isEqualTo(409);
+        assertThat(error(stop)).isEqualTo("No recording is running");
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for unsupported settings or an unknown action")
+    void shouldRejectInvalidInput() throws Exception {
+        // When
+        WebEndpointResponse<Object> settings = endpoint.control("start", "/etc/passwd", null, null, null);
+        WebEndpointResponse<Object> action = endpoint.control("restart", null, null, null, null);
+
+        // Then
+        assertThat(settings.getStatus()).isEqualTo(400);
+        assertThat(error(settings)).startsWith("Unsupported settings: /etc/passwd");
+        assertThat(action.getStatus()).isEqualTo(400);
+        assertThat(error(action)).startsWith("Unknown action: restart");
+        assertThat(endpoint.status().state()).isEqualTo("CLOSED");
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private static FlightRecorderEndpoint.RecorderStatus status(WebEndpointResponse<Object> response) {
+        return (FlightRecorderEndpoint.RecorderStatus) response.getBody();
+    }
+
+    private static String error(WebEndpointResponse<Object> response) {
+        return ((Map<?, ?>) response.getBody()).get("error").toString();
+    }
+}
@@ -0,0 +1,45 @@
+package com.coopcredit.infrastructure.observability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for LatencyObjective.
+ */
+class LatencyObjectiveTest {
+
+    @Test
+    @DisplayName("Should parse a list of objectives and name them by percentile")
+    void shouldParseObjectives() {
+        // When
+        var objectives = LatencyObjective.parseAll("p99=500ms, p99.9=1s");
+
+        // Then
+        assertThat(objectives).containsExactly(
+                new LatencyObjective(99, Duration.ofMillis(500)),
+                new LatencyObjective(99.9, Duration.ofSeconds(1)));
+        assertThat(objectives).extracting(LatencyObjective::name).containsExactly("p99", "p99.9");
+    }
+
+    @Test
+    @DisplayName("Should have no objectives for a blank spec")
+    void shouldAcceptBlankSpec() {
+        assertThat(LatencyObjective.parseAll(null)).isEmpty();
+        assertThat(LatencyObjective.parseAll(" ")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"99=500ms", "p99", "p99=500ms=1s", "pxx=500ms", "p99=soon"})
+    @DisplayName("Should reject malformed objectives")
+    void shouldRejectMalformedObjectives(String spec) {
+        assertThatThrownBy(() -> LatencyObjective.parseAll(spec))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,95 @@
+package com.coopcredit.infrastructure.observability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for RouteLatencyFilter.
+ */
+@ExtendWith(MockitoExtension.class)
+class RouteLatencyFilterTest {
+
+    @Mock
+    private RouteLatencyRegistry registry;
+
+    @Test
+    @DisplayName("Should record a synchronous request against its handler method")
+    void shouldRecordSynchronousRequest() throws Exception {
+        // Given
+        RouteLatencyFilter filter = new RouteLatencyFilter(registry);
+        Method method = Handlers.class.getMethod("list");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/affiliates");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.setAttribute(
+                HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, new HandlerMethod(new Handlers(), method)));
+
+        // Then
+        verify(registry).record(eq(method), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should record an async request only once it completes")
+    void shouldRecordAsyncRequestOnCompletion() throws Exception {
+        // Given
+        RouteLatencyFilter filter = new RouteLatencyFilter(registry);
+        Method method = Handlers.class.getMethod("stream");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/applications/pending/stream");
+        request.setAsyncSupported(true);
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                    new HandlerMethod(new Handlers(), method));
+            req.startAsync(req, res);
+        });
+
+        // Then
+        verifyNoInteractions(registry);
+
+        // When
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        // Then
+        verify(registry).record(eq(method), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should not record requests without a handler method")
+    void shouldIgnoreRequestsWithoutHandler() throws Exception {
+        // Given
+        RouteLatencyFilter filter = new RouteLatencyFilter(registry);
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/missing"), new MockHttpServletResponse(),
+                (req, res) -> {
+                });
+
+        // Then
+        verifyNoInteractions(registry);
+    }
+
+    static class Handlers {
+
+        public void list() {
+        }
+
+        public void stream() {
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.coopcredit.infrastructure.observability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RouteLatencyRegistry. Rotation is driven directly instead of
+ * waiting for the 10 second schedule.
+ */
+@ExtendWith(MockitoExtension.class)
+class RouteLatencyRegistryTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RouteLatencyRegistry registry;
+
+    @AfterEach
+    void tearDown() {
+        if (registry != null) {
+            registry.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should register only application REST controller routes, with overrides by handler")
+    void shouldRegisterRoutes() throws Exception {
+        // Given
+        registry = registry("p99=500ms", "TestController.slow[p99=2s]", Duration.ofMinutes(5), 20);
+        stubHandlerMapping();
+
+        // When
+        registry.registerRoutes();
+
+        // Then
+        assertThat(registry.routes()).extracting(RouteLatencyRegistry.RouteLatency::route)
+                .containsExactly("GET /fast", "POST /slow");
+        assertThat(registry.routes()).extracting(RouteLatencyRegistry.RouteLatency::handler)
+                .containsExactly("TestController.fast", "TestController.slow");
+        assertThat(route("POST /slow").evaluate(1, 0)).extracting(RouteLatencyRegistry.SloResult::thresholdMs)
+                .containsExactly(2000.0);
+        assertThat(route("GET /fast").evaluate(1, 0)).extracting(RouteLatencyRegistry.SloResult::thresholdMs)
+                .containsExactly(500.0);
+    }
+
+    @Test
+    @DisplayName("Should move recorded values into a window slot on rotation")
+    void shouldRotateIntoSlots() throws Exception {
+        // Given
+        registry = registeredRegistry(Duration.ofMinutes(5), 20);
+        RouteLatencyRegistry.RouteLatency route = route("GET /fast");
+
+        // When
+        registry.record(fast(), 5 * MILLIS);
+        registry.record(fast(), 7 * MILLIS);
+
+        // Then
+        assertThat(route.window(1).getTotalCount()).isZero();
+
+        // When
+        registry.rotate();
+
+        // Then
+        assertThat(route.window(1).getTotalCount()).isEqualTo(2);
+        assertThat(route.window(1).getMaxValue()).isBetween(6_990L, 7_010L);
+    }
+
+    @Test
+    @DisplayName("Should sum the most recent slots for each window and drop slots that age out")
+    void shouldSumWindows() throws Exception {
+        // Given
+        registry = registeredRegistry(Duration.ofMinutes(5), 20);
+        RouteLatencyRegistry.RouteLatency route = route("GET /fast");
+        int oneMinute = RouteLatencyRegistry.slotsFor(Duration.ofMinutes(1));
+        int fiveMinutes = RouteLatencyRegistry.slotsFor(Duration.ofMinutes(5));
+        int fifteenMinutes = RouteLatencyRegistry.slotsFor(Duration.ofMinutes(15));
+
+        // When: one request in each slot for the last 10 minutes
+        for (int i = 0; i < 2 * fiveMinutes; i++) {
+            registry.record(fast(), MILLIS);
+            registry.rotate();
+        }
+
+        // Then
+        assertThat(route.window(oneMinute).getTotalCount()).isEqualTo(oneMinute);
+        assertThat(route.window(fiveMinutes).getTotalCount()).isEqualTo(fiveMinutes);
+        assertThat(route.window(fifteenMinutes).getTotalCount()).isEqualTo(2 * fiveMinutes);
+
+        // When: 15 idle minutes recycle every slot
+        for (int i = 0; i < fifteenMinutes; i++) {
+            registry.rotate();
+        }
+
+        // Then
+        assertThat(route.window(fifteenMinutes).getTotalCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should map windows to slot counts between one slot and 15 minutes")
+    void shouldMapWindowsToSlots() {
+        assertThat(RouteLatencyRegistry.slotsFor(Duration.ofSeconds(1))).isEqualTo(1);
+        assertThat(RouteLatencyRegistry.slotsFor(Duration.ofMinutes(1))).isEqualTo(6);
+        assertThat(RouteLatencyRegistry.slotsFor(Duration.ofMinutes(5))).isEqualTo(30);
+        assertThat(RouteLatencyRegistry.slotsFor(Duration.ofMinutes(15))).isEqualTo(90);
+        assertThat(RouteLatencyRegistry.slotsFor(Duration.ofHours(1))).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("Should not breach an objective before the window has min-samples requests")
+    void shouldGateOnMinSamples() throws Exception {
+        // Given
+        registry = registeredRegistry(Duration.ofSeconds(10), 5);
+        RouteLatencyRegistry.RouteLatency route = route("GET /fast");
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            registry.record(fast(), 900 * MILLIS);
+        }
+        registry.rotate();
+
+        // Then
+        assertThat(route.evaluate(1, 5)).singleElement().satisfies(result -> {
+            assertThat(result.samples()).isEqualTo(4);
+            assertThat(result.actualMs()).isGreaterThan(result.thresholdMs());
+            assertThat(result.breached()).isFalse();
+        });
+        assertThat(route.isBreached()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should flag a breach and its recovery on rotation, and count breaching routes")
+    void shouldTrackBreachAndRecovery() throws Exception {
+        // Given
+        registry = registeredRegistry(Duration.ofSeconds(10), 5);
+        RouteLatencyRegistry.RouteLatency route = route("GET /fast");
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            registry.record(fast(), 900 * MILLIS);
+        }
+        registry.rotate();
+
+        // Then
+        assertThat(route.isBreached()).isTrue();
+        assertThat(meterRegistry.get("http.server.slo.breaches").gauge().value()).isEqualTo(1.0);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            registry.record(fast(), 10 * MILLIS);
+        }
+        registry.rotate();
+
+        // Then
+        assertThat(route.isBreached()).isFalse();
+        assertThat(meterRegistry.get("http.server.slo.breaches").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should clamp values beyond the trackable range and ignore unknown handlers")
+    void shouldClampAndIgnoreUnknownHandlers() throws Exception {
+        // Given
+        registry = registeredRegistry(Duration.ofMinutes(5), 20);
+        RouteLatencyRegistry.RouteLatency route = route("GET /fast");
+
+        // When
+        registry.record(fast(), Duration.ofMinutes(5).toNanos());
+        registry.record(Object.class.getMethod("toString"), MILLIS);
+        registry.rotate();
+
+        // Then
+        assertThat(route.window(1).getTotalCount()).isEqualTo(1);
+        assertThat(route.window(1).getMaxValue())
+                .isBetween(RouteLatencyRegistry.HIGHEST_TRACKABLE_MICROS * 999 / 1000,
+                        RouteLatencyRegistry.HIGHEST_TRACKABLE_MICROS * 1001 / 1000);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed objective overrides")
+    void shouldRejectMalformedOverrides() {
+        assertThatThrownBy(() -> registry("p99=500ms", "TestController.slow", Duration.ofMinutes(5), 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid latency objective override 'TestController.slow'");
+        assertThatThrownBy(() -> registry("p99=500ms", "[p99=1s]", Duration.ofMinutes(5), 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry("p99=500ms", "TestController.slow[99=1s]", Duration.ofMinutes(5), 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid latency objective '99=1s'");
+    }
+
+    private RouteLatencyRegistry registeredRegistry(Duration sloWindow, long minSamples) throws Exception {
+        RouteLatencyRegistry registered = registry("p99=500ms", "", sloWindow, minSamples);
+        stubHandlerMapping();
+        registered.registerRoutes();
+        return registered;
+    }
+
+    private RouteLatencyRegistry registry(String defaults, String overrides, Duration sloWindow, long minSamples) {
+        return new RouteLatencyRegistry(applicationContext, meterRegistry, defaults, overrides, sloWindow,
+                minSamples);
+    }
+
+    private void stubHandlerMapping() throws NoSuchMethodException {
+        RequestMappingHandlerMapping mapping = new RequestMappingHandlerMapping();
+        TestController controller = new TestController();
+        mapping.registerMapping(RequestMappingInfo.paths("/fast").methods(RequestMethod.GET).build(),
+                controller, fast());
+        mapping.registerMapping(RequestMappingInfo.paths("/slow").methods(RequestMethod.POST).build(),
+                controller, TestController.class.getMethod("slow"));
+        mapping.registerMapping(RequestMappingInfo.paths("/plain").methods(RequestMethod.GET).build(),
+                new PlainHandler(), PlainHandler.class.getMethod("handle"));
+        when(applicationContext.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class))
+                .thenReturn(mapping);
+    }
+
+    private RouteLatencyRegistry.RouteLatency route(String name) {
+        return registry.routes().stream()
+                .filter(route -> route.route().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Method fast() throws NoSuchMethodException {
+        return TestController.class.getMethod("fast");
+    }
+
+    @RestController
+    static class TestController {
+
+        public String fast() {
+            return "fast";
+        }
+
+        public String slow() {
+            return "slow";
+        }
+    }
+
+    /**
+     * Not a {@code @RestController}, so not tracked.
+     */
+    static class PlainHandler {
+
+        public String handle() {
+            return "plain";
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.coopcredit.infrastructure.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ServerTimingFilter.
+ */
+class ServerTimingFilterTest {
+
+    private final SlowRequestLog slowRequestLog = new SlowRequestLog(Duration.ofHours(1), 10);
+    private final ServerTimingFilter filter = new ServerTimingFilter(slowRequestLog, Set.of("ROLE_ADMIN"), false);
+
+    @Test
+    @DisplayName("Should add the header before the body is written for an opted-in role")
+    void shouldAddHeaderOnFirstWrite() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/affiliates");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Object> headerBeforeWrite = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            authenticate("admin", "ROLE_ADMIN");
+            try (ServerTiming.Span span = ServerTiming.start(ServerTiming.SERVICE)) {
+                res.getOutputStream().write("[]".getBytes());
+            }
+            headerBeforeWrite.set(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER));
+            res.flushBuffer();
+        });
+
+        // Then
+        assertThat(headerBeforeWrite.get()).isNotNull();
+        assertThat(response.getHeaders(ServerTimingFilter.SERVER_TIMING_HEADER)).singleElement()
+                .asString().startsWith("auth;dur=").contains("total;dur=");
+    }
+
+    @Test
+    @DisplayName("Should add the header to a response that never writes a body, like a 304")
+    void shouldAddHeaderWithoutBody() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/affiliates/1017654321");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            authenticate("admin", "ROLE_ADMIN");
+            ((HttpServletResponse) res).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        });
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).contains("total;dur=");
+    }
+
+    @Test
+    @DisplayName("Should add the header to errors sent by other filters")
+    void shouldAddHeaderOnSendError() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/applications");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            authenticate("admin", "ROLE_ADMIN");
+            ((HttpServletResponse) res).sendError(HttpServletResponse.SC_CONFLICT);
+        });
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).contains("total;dur=");
+    }
+
+    @Test
+    @DisplayName("Should not send the header to users without an opted-in role")
+    void shouldNotAddHeaderWithoutRole() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/applications");
+        request.addHeader(ServerTimingFilter.OPT_IN_HEADER, "1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            authenticate("affiliate1", "ROLE_AFFILIATE");
+            res.getWriter().write("[]");
+        });
+
+        // Then
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should send the header to anonymous requests opting in when header opt-in is allowed")
+    void shouldHonourHeaderOptIn() throws Exception {
+        // Given
+        ServerTimingFilter optInFilter = new ServerTimingFilter(slowRequestLog, Set.of("ROLE_ADMIN"), true);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.addHeader(ServerTimingFilter.OPT_IN_HEADER, "1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        optInFilter.doFilter(request, response, (req, res) -> res.getWriter().write("{}"));
+
+        // Then
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).contains("total;dur=");
+    }
+
+    @Test
+    @DisplayName("Should leave the header of an async response to the thread that writes it")
+    void shouldAddHeaderWhenAsyncResponseIsWritten() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/applications/pending/stream");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<ServletResponse> asyncResponse = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            authenticate("admin", "ROLE_ADMIN");
+            req.startAsync(req, res);
+            asyncResponse.set(res);
+        });
+        Object headerAfterFirstDispatch = response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER);
+        asyncResponse.get().getOutputStream().write("data:[]\n\n".getBytes());
+
+        // Then
+        assertThat(headerAfterFirstDispatch).isNull();
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).contains("total;dur=");
+    }
+
+    @Test
+    @DisplayName("Should record slow requests with their route, user and spans")
+    void shouldRecordSlowRequests() throws Exception {
+        // Given
+        SlowRequestLog log = new SlowRequestLog(Duration.ZERO, 10);
+        ServerTimingFilter slowFilter = new ServerTimingFilter(log, Set.of("ROLE_ADMIN"), false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/applications/42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        slowFilter.doFilter(request, response, (req, res) -> {
+            authenticate("analyst1", "ROLE_ANALYST");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/applications/{id}");
+            try (ServerTiming.Span span = ServerTiming.start(ServerTiming.REPOSITORY)) {
+                ((HttpServletResponse) res).setStatus(200);
+            }
+        });
+
+        // Then
+        assertThat(log.recent()).singleElement().satisfies(slow -> {
+            assertThat(slow.method()).isEqualTo("GET");
+            assertThat(slow.path()).isEqualTo("/applications/{id}");
+            assertThat(slow.status()).isEqualTo(200);
+            assertThat(slow.username()).isEqualTo("analyst1");
+            assertThat(slow.spans()).containsOnlyKeys("auth", "repository");
+            assertThat(slow.totalMs()).isGreaterThanOrEqualTo(slow.spans().get("repository"));
+        });
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not record requests faster than the threshold")
+    void shouldNotRecordFastRequests() throws Exception {
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/affiliates"), new MockHttpServletResponse(),
+                (FilterChain) (req, res) -> res.getWriter().write("[]"));
+
+        // Then
+        assertThat(slowRequestLog.recent()).isEmpty();
+    }
+
+    /**
+     * What JwtAuthenticationFilter does once it has validated a token.
+     */
+    private static void authenticate(String username, String role) {
+        try (ServerTiming.Span span = ServerTiming.start(ServerTiming.AUTH)) {
+            ServerTiming.authenticated(username, List.of(role));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.coopcredit.infrastructure.observability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SlowRequestLog.
+ */
+class SlowRequestLogTest {
+
+    @Test
+    @DisplayName("Should treat requests at or above the threshold as slow")
+    void shouldApplyThreshold() {
+        // Given
+        SlowRequestLog log = new SlowRequestLog(Duration.ofMillis(500), 3);
+
+        // Then
+        assertThat(log.isSlow(Duration.ofMillis(499).toNanos())).isFalse();
+        assertThat(log.isSlow(Duration.ofMillis(500).toNanos())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep only the most recent requests, newest first")
+    void shouldKeepMostRecent() {
+        // Given
+        SlowRequestLog log = new SlowRequestLog(Duration.ofMillis(500), 3);
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            log.record(slowRequest("/applications/" + i));
+        }
+
+        // Then
+        assertThat(log.recent()).extracting(SlowRequestLog.SlowRequest::path)
+                .containsExactly("/applications/5", "/applications/4", "/applications/3");
+    }
+
+    @Test
+    @DisplayName("Should list only the requests recorded while the buffer is not yet full")
+    void shouldListPartialBuffer() {
+        // Given
+        SlowRequestLog log = new SlowRequestLog(Duration.ofMillis(500), 3);
+
+        // Then
+        assertThat(log.recent()).isEmpty();
+
+        // When
+        log.record(slowRequest("/affiliates"));
+
+        // Then
+        assertThat(log.recent()).extracting(SlowRequestLog.SlowRequest::path).containsExactly("/affiliates");
+    }
+
+    private static SlowRequestLog.SlowRequest slowRequest(String path) {
+        return new SlowRequestLog.SlowRequest(Instant.now(), "GET", path, 200, "admin", 750.0,
+                Map.of("repository", 700.0));
+    }
+}
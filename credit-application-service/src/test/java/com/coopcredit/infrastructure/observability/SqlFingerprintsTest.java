@@ -0,0 +1,37 @@
+package com.coopcredit.infrastructure.observability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SQL fingerprint normalization.
+ */
+class SqlFingerprintsTest {
+
+    @Test
+    @DisplayName("Should replace literals and collapse whitespace")
+    void shouldNormalizeLiteralsAndWhitespace() {
+        String fingerprint = SqlFingerprints.of(
+                "SELECT ca1_0.id FROM credit_applications ca1_0\n   WHERE ca1_0.status = 'PENDING' AND ca1_0.requested_amount > 1500.50");
+
+        assertThat(fingerprint).isEqualTo(
+                "select ca1_0.id from credit_applications ca1_0 where ca1_0.status = ? and ca1_0.requested_amount > ?");
+    }
+
+    @Test
+    @DisplayName("Should group IN lists of any length")
+    void shouldCollapseInLists() {
+        assertThat(SqlFingerprints.of("select * from affiliates where id in (?, ?, ?)"))
+                .isEqualTo(SqlFingerprints.of("select * from affiliates where id in (?)"))
+                .isEqualTo("select * from affiliates where id in (?+)");
+    }
+
+    @Test
+    @DisplayName("Should handle escaped quotes inside string literals")
+    void shouldHandleEscapedQuotes() {
+        assertThat(SqlFingerprints.of("select * from users where username = 'o''brien'"))
+                .isEqualTo("select * from users where username = ?");
+    }
+}
@@ -0,0 +1,106 @@
+package com.coopcredit.infrastructure.security;
+
+import com.coopcredit.domain.model.enums.Role;
+import com.coopcredit.infrastructure.adapter.output.persistence.UserChangedEvent;
+import com.coopcredit.infrastructure.adapter.output.persistence.entity.UserEntity;
+import com.coopcredit.infrastructure.adapter.output.persistence.repository.JpaUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CustomUserDetailsService and its user details cache.
+ */
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private JpaUserRepository userRepository;
+
+    private UserDetailsCache cache;
+    private CustomUserDetailsService service;
+    private UserEntity analyst;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserDetailsCache(Duration.ofMinutes(5), 100);
+        service = new CustomUserDetailsService(userRepository, cache);
+
+        analyst = new UserEntity();
+        analyst.setUsername("analyst");
+        analyst.setPassword("$2a$10$hash");
+        analyst.setEmail("analyst@coopcredit.com");
+        analyst.setRoles(Set.of(Role.ROLE_ANALYST));
+        analyst.setEnabled(true);
+    }
+
+    @Test
+    @DisplayName("Should hit the database only once for repeated lookups")
+    void shouldServeRepeatedLookupsFromCache() {
+        // Given
+        when(userRepository.findByUsername("analyst")).thenReturn(Optional.of(analyst));
+
+        // When
+        service.loadUserByUsername("analyst");
+        UserDetails second = service.loadUserByUsername("analyst");
+
+        // Then
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_ANALYST");
+        verify(userRepository, times(1)).findByUsername("analyst");
+    }
+
+    @Test
+    @DisplayName("Should keep the password after Spring Security erases credentials")
+    void shouldNotShareErasedCredentials() {
+        // Given
+        when(userRepository.findByUsername("analyst")).thenReturn(Optional.of(analyst));
+
+        // When
+        ((CustomUserDetails) service.loadUserByUsername("analyst")).eraseCredentials();
+
+        // Then
+        assertThat(service.loadUserByUsername("analyst").getPassword()).isEqualTo("$2a$10$hash");
+    }
+
+    @Test
+    @DisplayName("Should reload the user after a change event")
+    void shouldReloadAfterUserChangedEvent() {
+        // Given
+        when(userRepository.findByUsername("analyst")).thenReturn(Optional.of(analyst));
+        service.loadUserByUsername("analyst");
+        analyst.setEnabled(false);
+
+        // When
+        cache.onUserChanged(new UserChangedEvent("analyst"));
+        UserDetails reloaded = service.loadUserByUsername("analyst");
+
+        // Then
+        assertThat(reloaded.isEnabled()).isFalse();
+        verify(userRepository, times(2)).findByUsername("analyst");
+    }
+
+    @Test
+    @DisplayName("Should not cache unknown users")
+    void shouldNotCacheMisses() {
+        // Given
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> service.loadUserByUsername("ghost"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThat(cache.size()).isZero();
+    }
+}
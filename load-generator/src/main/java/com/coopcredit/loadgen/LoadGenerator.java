@@ -0,0 +1,148 @@
+package com.coopcredit.loadgen;
+
+import com.coopcredit.loadgen.embedded.EmbeddedStack;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line entry point.
+ *
+ * <pre>
+ * java -jar load-generator/target/load-generator-1.0.0.jar \
+ *     [--scenario load-generator/scenarios/credit-flow.json] [--folder "Complete Flow Tests"]
+ *     [--base-url http://localhost:8080/api | --embedded [--service-property name=value]...]
+ *     [--rate 20] [--duration 2m] [--warmup 15s] [--ramp-up 10s] [--max-in-flight 500] [--timeout 10s]
+ *     [--var name=value]... [--max-error-rate 0.01] [--min-throughput 15] [--latency "*:p99=1s"]...
+ *     [--report load-report.json]
+ * </pre>
+ *
+ * Command line options override the scenario file. Exits with 0 when every
+ * threshold passed, 1 when one failed and 2 when the run could not be performed.
+ */
+public final class LoadGenerator {
+
+    private static final String DEFAULT_SCENARIO = "load-generator/scenarios/credit-flow.json";
+    private static final String DEFAULT_REPORT = "load-report.json";
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) {
+        int exitCode;
+        try {
+            exitCode = run(args);
+        } catch (IllegalArgumentException | IllegalStateException | IOException ex) {
+            System.err.println("Load test aborted: " + ex.getMessage());
+            exitCode = 2;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            exitCode = 2;
+        }
+        System.exit(exitCode);
+    }
+
+    static int run(String[] args) throws IOException, InterruptedException {
+        Map<String, List<String>> options = parse(args);
+        Scenario scenario = new ScenarioLoader().load(
+                Path.of(single(options, "scenario", DEFAULT_SCENARIO)), single(options, "folder", null));
+        scenario = applyOverrides(scenario, options);
+
+        LoadReport report;
+        if (options.containsKey("embedded")) {
+            try (EmbeddedStack stack = EmbeddedStack.start(options.getOrDefault("service-property", List.of()))) {
+                report = new LoadRun(scenario, stack.baseUrl()).execute();
+            }
+        } else {
+            report = new LoadRun(scenario, single(options, "base-url", null)).execute();
+        }
+
+        report.print(System.out);
+        Path reportFile = Path.of(single(options, "report", DEFAULT_REPORT));
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+        System.out.println("Report written to " + reportFile.toAbsolutePath());
+        return report.passed() ? 0 : 1;
+    }
+
+    private static Scenario applyOverrides(Scenario scenario, Map<String, List<String>> options) {
+        LoadProfile load = scenario.load();
+        scenario = scenario.withLoad(new LoadProfile(
+                options.containsKey("rate") ? Double.parseDouble(single(options, "rate", null)) : load.arrivalRate(),
+                duration(options, "ramp-up", load.rampUp()),
+                duration(options, "warmup", load.warmup()),
+                duration(options, "duration", load.duration()),
+                options.containsKey("max-in-flight")
+                        ? Integer.parseInt(single(options, "max-in-flight", null))
+                        : load.maxInFlight(),
+                duration(options, "timeout", load.requestTimeout())));
+
+        Map<String, String> variables = new LinkedHashMap<>(scenario.variables());
+        for (String variable : options.getOrDefault("var", List.of())) {
+            int separator = variable.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid --var '" + variable + "', expected name=value");
+            }
+            variables.put(variable.substring(0, separator), variable.substring(separator + 1));
+        }
+        scenario = scenario.withVariables(variables);
+
+        Thresholds thresholds = scenario.thresholds();
+        List<Thresholds.LatencyLimit> latency = new ArrayList<>(thresholds.latency());
+        for (String limit : options.getOrDefault("latency", List.of())) {
+            // step:p99=1s, where step may itself contain ':'
+            int stepEnd = limit.lastIndexOf(':');
+            int separator = limit.indexOf('=', stepEnd);
+            if (stepEnd <= 0 || separator < 0) {
+                throw new IllegalArgumentException("Invalid --latency '" + limit + "', expected e.g. *:p99=1s");
+            }
+            latency.add(new Thresholds.LatencyLimit(
+                    limit.substring(0, stepEnd),
+                    ScenarioLoader.percentile(limit.substring(stepEnd + 1, separator)),
+                    DurationStyle.detectAndParse(limit.substring(separator + 1))));
+        }
+        return scenario.withThresholds(new Thresholds(
+                options.containsKey("max-error-rate")
+                        ? Double.valueOf(single(options, "max-error-rate", null))
+                        : thresholds.maxErrorRate(),
+                options.containsKey("min-throughput")
+                        ? Double.valueOf(single(options, "min-throughput", null))
+                        : thresholds.minThroughput(),
+                latency));
+    }
+
+    private static Map<String, List<String>> parse(String[] args) {
+        Map<String, List<String>> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            String name = args[i].substring(2);
+            if (name.equals("embedded")) {
+                options.put(name, List.of());
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for --" + name);
+            }
+            options.computeIfAbsent(name, k -> new ArrayList<>()).add(args[++i]);
+        }
+        return options;
+    }
+
+    private static String single(Map<String, List<String>> options, String name, String defaultValue) {
+        List<String> values = options.get(name);
+        return values == null || values.isEmpty() ? defaultValue : values.get(values.size() - 1);
+    }
+
+    private static Duration duration(Map<String, List<String>> options, String name, Duration defaultValue) {
+        String value = single(options, name, null);
+        return value != null ? DurationStyle.detectAndParse(value) : defaultValue;
+    }
+}
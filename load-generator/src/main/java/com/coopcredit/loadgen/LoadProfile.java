@@ -0,0 +1,40 @@
+package com.coopcredit.loadgen;
+
+import java.time.Duration;
+
+/**
+ * Open-model arrival profile: new sessions start at {@code arrivalRate} per second
+ * regardless of how many are still running, ramping up linearly over
+ * {@code rampUp}. Sessions started during {@code warmup} are not measured, and
+ * arrivals beyond {@code maxInFlight} concurrent sessions are dropped and counted.
+ */
+public record LoadProfile(
+        double arrivalRate,
+        Duration rampUp,
+        Duration warmup,
+        Duration duration,
+        int maxInFlight,
+        Duration requestTimeout) {
+
+    public static final LoadProfile DEFAULT = new LoadProfile(5, Duration.ZERO, Duration.ofSeconds(10),
+            Duration.ofSeconds(60), 1000, Duration.ofSeconds(30));
+
+    public LoadProfile {
+        if (arrivalRate <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive: " + arrivalRate);
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight sessions must be positive: " + maxInFlight);
+        }
+    }
+
+    /**
+     * Arrival rate in sessions per second at the given time since the start.
+     */
+    public double rateAt(Duration elapsed) {
+        if (rampUp.isZero() || elapsed.compareTo(rampUp) >= 0) {
+            return arrivalRate;
+        }
+        return Math.max(arrivalRate * elapsed.toNanos() / rampUp.toNanos(), Math.min(arrivalRate, 1.0));
+    }
+}
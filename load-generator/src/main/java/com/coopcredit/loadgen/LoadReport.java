@@ -0,0 +1,142 @@
+package com.coopcredit.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of a run: latency percentiles, errors and throughput per step and for
+ * whole sessions, plus the outcome of every threshold.
+ */
+public record LoadReport(
+        String scenario,
+        double arrivalRate,
+        double durationSeconds,
+        long sessionsStarted,
+        long sessionsDropped,
+        double sessionsPerSecond,
+        double requestsPerSecond,
+        double errorRate,
+        List<StepReport> steps,
+        StepReport session,
+        List<ThresholdResult> thresholds,
+        boolean passed) {
+
+    public record StepReport(String name, long requests, long errors, double errorRate, double meanMs,
+            double p50Ms, double p90Ms, double p95Ms, double p99Ms, double p999Ms, double maxMs,
+            Map<String, Long> errorsByKind) {
+    }
+
+    public record ThresholdResult(String name, double limit, double actual, boolean passed) {
+    }
+
+    static LoadReport of(Scenario scenario, Collection<StepStats> stepStats, StepStats sessionStats,
+            long started, long dropped) {
+        double seconds = scenario.load().duration().toNanos() / 1e9;
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        List<StepReport> steps = new ArrayList<>();
+        long requests = 0;
+        long errors = 0;
+        for (StepStats stats : stepStats) {
+            Histogram histogram = stats.histogram();
+            histograms.put(stats.name(), histogram);
+            steps.add(stepReport(stats, histogram));
+            requests += stats.requests();
+            errors += stats.errors();
+        }
+        Histogram sessionHistogram = sessionStats.histogram();
+        histograms.put(Thresholds.SESSION, sessionHistogram);
+        StepReport session = stepReport(sessionStats, sessionHistogram);
+
+        double errorRate = requests == 0 ? 0 : (double) errors / requests;
+        long completed = sessionStats.requests() - sessionStats.errors();
+        double sessionsPerSecond = completed / seconds;
+
+        List<ThresholdResult> results = new ArrayList<>();
+        Thresholds thresholds = scenario.thresholds();
+        if (thresholds.maxErrorRate() != null) {
+            double failedSessions = started + dropped == 0 ? 0
+                    : (double) (sessionStats.errors() + dropped) / (started + dropped);
+            double actual = Math.max(errorRate, failedSessions);
+            results.add(new ThresholdResult("error rate", thresholds.maxErrorRate(), actual,
+                    actual <= thresholds.maxErrorRate()));
+        }
+        if (thresholds.minThroughput() != null) {
+            results.add(new ThresholdResult("sessions/s", thresholds.minThroughput(), sessionsPerSecond,
+                    sessionsPerSecond >= thresholds.minThroughput()));
+        }
+        for (Thresholds.LatencyLimit limit : thresholds.latency()) {
+            double limitMs = limit.limit().toNanos() / 1e6;
+            histograms.forEach((name, histogram) -> {
+                if (limit.appliesTo(name) && !overridden(limit, name, thresholds.latency())) {
+                    double actual = histogram.getValueAtPercentile(limit.percentile()) / 1_000.0;
+                    results.add(new ThresholdResult(name + " " + limit.percentileName(), limitMs, actual,
+                            actual <= limitMs));
+                }
+            });
+        }
+
+        return new LoadReport(scenario.name(), scenario.load().arrivalRate(), seconds, started, dropped,
+                sessionsPerSecond, requests / seconds, errorRate, steps, session, results,
+                results.stream().allMatch(ThresholdResult::passed));
+    }
+
+    /**
+     * A "*" limit gives way to a limit on the same percentile for that specific step.
+     */
+    private static boolean overridden(Thresholds.LatencyLimit limit, String step, List<Thresholds.LatencyLimit> all) {
+        return limit.step().equals(Thresholds.ALL_STEPS) && all.stream()
+                .anyMatch(other -> other.step().equals(step) && other.percentile() == limit.percentile());
+    }
+
+    private static StepReport stepReport(StepStats stats, Histogram histogram) {
+        long requests = stats.requests();
+        return new StepReport(
+                stats.name(),
+                requests,
+                stats.errors(),
+                requests == 0 ? 0 : (double) stats.errors() / requests,
+                histogram.getMean() / 1_000.0,
+                histogram.getValueAtPercentile(50) / 1_000.0,
+                histogram.getValueAtPercentile(90) / 1_000.0,
+                histogram.getValueAtPercentile(95) / 1_000.0,
+                histogram.getValueAtPercentile(99) / 1_000.0,
+                histogram.getValueAtPercentile(99.9) / 1_000.0,
+                histogram.getMaxValue() / 1_000.0,
+                stats.errorsByKind());
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nScenario: %s%n", scenario);
+        out.printf("Offered %.1f sessions/s for %.0fs: %d started, %d dropped, %.2f completed sessions/s, %.2f requests/s%n%n",
+                arrivalRate, durationSeconds, sessionsStarted, sessionsDropped, sessionsPerSecond, requestsPerSecond);
+        out.printf("%-40s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "step", "requests", "errors", "mean ms", "p50", "p90", "p99", "p99.9", "max");
+        steps.forEach(step -> printStep(out, step));
+        printStep(out, session);
+        steps.stream()
+                .filter(step -> !step.errorsByKind().isEmpty())
+                .forEach(step -> out.printf("  %s errors: %s%n", step.name(), step.errorsByKind()));
+
+        if (!thresholds.isEmpty()) {
+            out.println();
+            for (ThresholdResult result : thresholds) {
+                out.printf("%-4s %-48s limit %10.3f actual %10.3f%n",
+                        result.passed() ? "PASS" : "FAIL", result.name(), result.limit(), result.actual());
+            }
+        }
+        out.printf("%n%s%n", passed ? "PASSED" : "FAILED");
+    }
+
+    private static void printStep(PrintStream out, StepReport step) {
+        out.printf("%-40s %8d %6.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                step.name().length() > 40 ? step.name().substring(0, 40) : step.name(),
+                step.requests(), step.errorRate() * 100, step.meanMs(), step.p50Ms(), step.p90Ms(),
+                step.p99Ms(), step.p999Ms(), step.maxMs());
+    }
+}
@@ -0,0 +1,108 @@
+package com.coopcredit.loadgen;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a scenario with an open workload model: a scheduler thread starts a new
+ * session on its own virtual thread at every arrival time, independent of how
+ * many earlier sessions are still running. Session latency is measured from the
+ * intended arrival time, so a stalled server shows up in the results instead of
+ * silently lowering the offered load.
+ */
+final class LoadRun {
+
+    private final Scenario scenario;
+    private final String baseUrl;
+
+    LoadRun(Scenario scenario, String baseUrl) {
+        this.scenario = scenario;
+        this.baseUrl = baseUrl;
+    }
+
+    LoadReport execute() throws InterruptedException {
+        LoadProfile load = scenario.load();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Sessions block in send() on their own virtual threads; the client keeps its
+            // default executor so it outlives the session executor while draining
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build();
+            SessionRunner runner = new SessionRunner(client, load.requestTimeout());
+
+            Map<String, String> variables = new LinkedHashMap<>(scenario.variables());
+            if (baseUrl != null) {
+                variables.put("base_url", baseUrl);
+            }
+            Map<String, String> shared = Map.copyOf(runner.setup(scenario.setup(), variables));
+
+            Map<String, StepStats> stats = new LinkedHashMap<>();
+            scenario.steps().forEach(step -> stats.putIfAbsent(step.name(), new StepStats(step.name())));
+            StepStats sessions = new StepStats(Thresholds.SESSION);
+            LongAdder started = new LongAdder();
+            LongAdder dropped = new LongAdder();
+            AtomicInteger inFlight = new AtomicInteger();
+
+            long start = System.nanoTime();
+            long measureFrom = start + load.warmup().toNanos();
+            long end = measureFrom + load.duration().toNanos();
+            long next = start;
+            long iteration = 0;
+            while (next < end) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                    continue;
+                }
+                boolean measured = next >= measureFrom;
+                if (inFlight.get() >= load.maxInFlight()) {
+                    if (measured) {
+                        dropped.increment();
+                    }
+                } else {
+                    if (measured) {
+                        started.increment();
+                    }
+                    inFlight.incrementAndGet();
+                    long intended = next;
+                    long session = ++iteration;
+                    executor.execute(() -> {
+                        try {
+                            boolean ok = runner.run(scenario.steps(), shared, session, measured ? stats : null);
+                            if (measured) {
+                                long nanos = System.nanoTime() - intended;
+                                if (ok) {
+                                    sessions.recordSuccess(nanos);
+                                } else {
+                                    sessions.recordError(nanos, "failed step");
+                                }
+                            }
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+                }
+                double rate = load.rateAt(Duration.ofNanos(next - start));
+                next += (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+            }
+
+            executor.shutdown();
+            long drainNanos = load.requestTimeout().toNanos() * Math.max(1, scenario.steps().size());
+            if (!executor.awaitTermination(drainNanos, TimeUnit.NANOSECONDS)) {
+                executor.shutdownNow();
+            }
+            return LoadReport.of(scenario, stats.values(), sessions, started.sum(), dropped.sum());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.coopcredit.loadgen;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A load test: setup steps run once before the load starts, and every session
+ * then runs {@code steps} in order with its own copy of the variables. Variables
+ * extracted during setup (e.g. an admin token) are shared by all sessions.
+ */
+public record Scenario(
+        String name,
+        Map<String, String> variables,
+        LoadProfile load,
+        Thresholds thresholds,
+        List<Step> setup,
+        List<Step> steps) {
+
+    public Scenario {
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("Scenario '" + name + "' has no steps");
+        }
+    }
+
+    public Scenario withLoad(LoadProfile newLoad) {
+        return new Scenario(name, variables, newLoad, thresholds, setup, steps);
+    }
+
+    public Scenario withThresholds(Thresholds newThresholds) {
+        return new Scenario(name, variables, load, newThresholds, setup, steps);
+    }
+
+    public Scenario withVariables(Map<String, String> newVariables) {
+        return new Scenario(name, newVariables, load, thresholds, setup, steps);
+    }
+}
@@ -0,0 +1,187 @@
+package com.coopcredit.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads scenarios in three shapes:
+ * <ul>
+ * <li>a scenario file: a Postman collection extended with {@code load},
+ * {@code thresholds} and {@code setup} sections</li>
+ * <li>a plain Postman collection, optionally narrowed to one folder; variable
+ * extraction and expected status codes are taken from the usual
+ * {@code pm.collectionVariables.set(...)} and {@code pm.response.to.have.status(...)}
+ * test script lines</li>
+ * <li>a {@code .jsonl} file with one collection item per line</li>
+ * </ul>
+ * Items may also declare {@code extract} and {@code expect} directly.
+ */
+public final class ScenarioLoader {
+
+    private static final Pattern SET_VARIABLE = Pattern.compile(
+            "pm\\.(?:collectionVariables|environment|variables)\\.set\\(\\s*[\"'](\\w+)[\"']\\s*,\\s*jsonData\\.([\\w.]+)\\s*\\)");
+    private static final Pattern EXPECT_STATUS = Pattern.compile("pm\\.response\\.to\\.have\\.status\\((\\d+)\\)");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public Scenario load(Path file, String folder) throws IOException {
+        String fileName = file.getFileName().toString();
+        if (fileName.endsWith(".jsonl")) {
+            return loadJsonLines(file);
+        }
+
+        JsonNode root = objectMapper.readTree(file.toFile());
+        String name = root.path("info").path("name").asText(root.path("name").asText(fileName));
+        JsonNode items = root.path("item");
+        if (folder != null) {
+            items = findFolder(items, folder);
+            if (items == null) {
+                throw new IllegalArgumentException("Folder not found in collection: " + folder);
+            }
+            name = name + " / " + folder;
+        }
+        return new Scenario(
+                name,
+                variables(root.path("variable")),
+                root.has("load") ? loadProfile(root.path("load")) : LoadProfile.DEFAULT,
+                root.has("thresholds") ? thresholds(root.path("thresholds")) : Thresholds.NONE,
+                steps(root.path("setup")),
+                steps(items));
+    }
+
+    private Scenario loadJsonLines(Path file) throws IOException {
+        List<Step> steps = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            if (!line.isBlank()) {
+                steps.add(step(objectMapper.readTree(line)));
+            }
+        }
+        return new Scenario(file.getFileName().toString(), Map.of(), LoadProfile.DEFAULT, Thresholds.NONE,
+                List.of(), steps);
+    }
+
+    private static JsonNode findFolder(JsonNode items, String folder) {
+        for (JsonNode item : items) {
+            if (item.has("item")) {
+                if (folder.equals(item.path("name").asText())) {
+                    return item.path("item");
+                }
+                JsonNode nested = findFolder(item.path("item"), folder);
+                if (nested != null) {
+                    return nested;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, String> variables(JsonNode variables) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (JsonNode variable : variables) {
+            result.put(variable.path("key").asText(), variable.path("value").asText());
+        }
+        return result;
+    }
+
+    private static LoadProfile loadProfile(JsonNode load) {
+        LoadProfile defaults = LoadProfile.DEFAULT;
+        return new LoadProfile(
+                load.path("arrivalRate").asDouble(defaults.arrivalRate()),
+                duration(load, "rampUp", defaults.rampUp()),
+                duration(load, "warmup", defaults.warmup()),
+                duration(load, "duration", defaults.duration()),
+                load.path("maxInFlight").asInt(defaults.maxInFlight()),
+                duration(load, "requestTimeout", defaults.requestTimeout()));
+    }
+
+    private static Thresholds thresholds(JsonNode thresholds) {
+        List<Thresholds.LatencyLimit> latency = new ArrayList<>();
+        thresholds.path("latency").fields().forEachRemaining(step ->
+                step.getValue().fields().forEachRemaining(limit -> latency.add(new Thresholds.LatencyLimit(
+                        step.getKey(),
+                        percentile(limit.getKey()),
+                        DurationStyle.detectAndParse(limit.getValue().asText())))));
+        return new Thresholds(
+                thresholds.has("maxErrorRate") ? thresholds.path("maxErrorRate").asDouble() : null,
+                thresholds.has("minThroughput") ? thresholds.path("minThroughput").asDouble() : null,
+                latency);
+    }
+
+    static double percentile(String name) {
+        if (!name.startsWith("p")) {
+            throw new IllegalArgumentException("Invalid percentile '" + name + "', expected e.g. p99 or p99.9");
+        }
+        return Double.parseDouble(name.substring(1));
+    }
+
+    private static Duration duration(JsonNode node, String field, Duration defaultValue) {
+        return node.has(field) ? DurationStyle.detectAndParse(node.path(field).asText()) : defaultValue;
+    }
+
+    private static List<Step> steps(JsonNode items) {
+        List<Step> steps = new ArrayList<>();
+        for (JsonNode item : items) {
+            if (item.has("item")) {
+                steps.addAll(steps(item.path("item")));
+            } else {
+                steps.add(step(item));
+            }
+        }
+        return steps;
+    }
+
+    private static Step step(JsonNode item) {
+        JsonNode request = item.path("request");
+        JsonNode url = request.path("url");
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (JsonNode header : request.path("header")) {
+            if (!header.path("disabled").asBoolean(false)) {
+                headers.put(header.path("key").asText(), header.path("value").asText());
+            }
+        }
+
+        Map<String, String> extract = new LinkedHashMap<>();
+        Set<Integer> expectedStatus = new LinkedHashSet<>();
+        for (JsonNode event : item.path("event")) {
+            if ("test".equals(event.path("listen").asText())) {
+                for (JsonNode line : event.path("script").path("exec")) {
+                    Matcher setVariable = SET_VARIABLE.matcher(line.asText());
+                    if (setVariable.find()) {
+                        extract.put(setVariable.group(1), setVariable.group(2));
+                    }
+                    Matcher expectStatus = EXPECT_STATUS.matcher(line.asText());
+                    if (expectStatus.find()) {
+                        expectedStatus.add(Integer.parseInt(expectStatus.group(1)));
+                    }
+                }
+            }
+        }
+        item.path("extract").fields().forEachRemaining(field -> extract.put(field.getKey(), field.getValue().asText()));
+        item.path("expect").forEach(status -> expectedStatus.add(status.asInt()));
+
+        String body = request.path("body").path("raw").asText(null);
+        return new Step(
+                item.path("name").asText(),
+                request.path("method").asText("GET"),
+                url.isTextual() ? url.asText() : url.path("raw").asText(),
+                headers,
+                body != null && !body.isEmpty() ? body : null,
+                extract,
+                expectedStatus);
+    }
+}
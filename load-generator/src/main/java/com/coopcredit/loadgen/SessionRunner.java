@@ -0,0 +1,142 @@
+package com.coopcredit.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the steps of one session in order, threading extracted variables from
+ * one response into the next request. A failed step ends the session.
+ */
+final class SessionRunner {
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    SessionRunner(HttpClient client, Duration requestTimeout) {
+        this.client = client;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Run the setup steps once and return the variables they produced.
+     *
+     * @throws IllegalStateException if a setup step fails
+     */
+    Map<String, String> setup(List<Step> steps, Map<String, String> variables) throws InterruptedException {
+        Map<String, String> result = new HashMap<>(variables);
+        for (Step step : steps) {
+            Outcome outcome = execute(step, result, 0);
+            if (!outcome.ok()) {
+                throw new IllegalStateException("Setup step '" + step.name() + "' failed: " + outcome.error());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Run one session. Latencies are recorded into {@code stats} when it is not
+     * null, i.e. outside the warmup.
+     *
+     * @return whether every step succeeded
+     */
+    boolean run(List<Step> steps, Map<String, String> sharedVariables, long iteration,
+            Map<String, StepStats> stats) throws InterruptedException {
+        Map<String, String> variables = new HashMap<>(sharedVariables);
+        for (Step step : steps) {
+            Outcome outcome = execute(step, variables, iteration);
+            if (stats != null) {
+                StepStats stepStats = stats.get(step.name());
+                if (outcome.ok()) {
+                    stepStats.recordSuccess(outcome.nanos());
+                } else {
+                    stepStats.recordError(outcome.nanos(), outcome.error());
+                }
+            }
+            if (!outcome.ok()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Outcome execute(Step step, Map<String, String> variables, long iteration) throws InterruptedException {
+        HttpRequest request;
+        try {
+            request = request(step, variables, iteration);
+        } catch (IllegalArgumentException ex) {
+            return new Outcome(false, "invalid request: " + ex.getMessage(), 0);
+        }
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            long nanos = System.nanoTime() - start;
+            if (!step.accepts(response.statusCode())) {
+                return new Outcome(false, "HTTP " + response.statusCode(), nanos);
+            }
+            String missing = extract(step, response.body(), variables);
+            return missing == null
+                    ? new Outcome(true, null, nanos)
+                    : new Outcome(false, "missing " + missing, nanos);
+        } catch (HttpTimeoutException ex) {
+            return new Outcome(false, "timeout", System.nanoTime() - start);
+        } catch (IOException ex) {
+            return new Outcome(false, ex.getClass().getSimpleName() + ": " + ex.getMessage(), System.nanoTime() - start);
+        }
+    }
+
+    private HttpRequest request(Step step, Map<String, String> variables, long iteration) {
+        String body = Template.render(step.body(), variables, iteration);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(Template.render(step.url(), variables, iteration)))
+                .timeout(requestTimeout)
+                .method(step.method(), body != null
+                        ? HttpRequest.BodyPublishers.ofString(body)
+                        : HttpRequest.BodyPublishers.noBody());
+        step.headers().forEach((name, value) -> builder.header(name, Template.render(value, variables, iteration)));
+        if (body != null && !step.headers().containsKey("Content-Type")) {
+            builder.header("Content-Type", "application/json");
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return the path that could not be found, or null when everything was extracted
+     */
+    private String extract(Step step, String body, Map<String, String> variables) {
+        if (step.extract().isEmpty()) {
+            return null;
+        }
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (IOException ex) {
+            return "JSON body";
+        }
+        for (Map.Entry<String, String> entry : step.extract().entrySet()) {
+            JsonNode node = root;
+            for (String field : entry.getValue().split("\\.")) {
+                node = node.path(field);
+            }
+            if (node.isMissingNode() || node.isNull()) {
+                return entry.getValue();
+            }
+            variables.put(entry.getKey(), node.asText());
+        }
+        return null;
+    }
+
+    private record Outcome(boolean ok, String error, long nanos) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.coopcredit.loadgen;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One HTTP request of a scenario, in the shape of a Postman collection item.
+ * {@code extract} maps a variable name to a dotted path into the JSON response
+ * body; an empty {@code expectedStatus} accepts any 2xx response.
+ */
+public record Step(
+        String name,
+        String method,
+        String url,
+        Map<String, String> headers,
+        String body,
+        Map<String, String> extract,
+        Set<Integer> expectedStatus) {
+
+    public boolean accepts(int status) {
+        return expectedStatus.isEmpty() ? status >= 200 && status < 300 : expectedStatus.contains(status);
+    }
+}
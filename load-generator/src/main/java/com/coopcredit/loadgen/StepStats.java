@@ -0,0 +1,71 @@
+package com.coopcredit.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and error counts of one step, safe for concurrent recording.
+ */
+final class StepStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(1, HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram total = new Histogram(1, HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> errorsByKind = new ConcurrentHashMap<>();
+
+    StepStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void recordSuccess(long nanos) {
+        requests.increment();
+        recordLatency(nanos);
+    }
+
+    void recordError(long nanos, String kind) {
+        requests.increment();
+        errors.increment();
+        errorsByKind.computeIfAbsent(kind, k -> new LongAdder()).increment();
+        recordLatency(nanos);
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    Map<String, Long> errorsByKind() {
+        Map<String, Long> result = new TreeMap<>();
+        errorsByKind.forEach((kind, count) -> result.put(kind, count.sum()));
+        return result;
+    }
+
+    /**
+     * All latencies recorded so far, in microseconds. Call once recording is over.
+     */
+    synchronized Histogram histogram() {
+        total.add(recorder.getIntervalHistogram());
+        return total;
+    }
+
+    private void recordLatency(long nanos) {
+        recorder.recordValue(Math.max(1, Math.min(nanos / 1_000, HIGHEST_TRACKABLE_MICROS)));
+    }
+}
@@ -0,0 +1,45 @@
+package com.coopcredit.loadgen;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Postman-style {@code {{variable}}} substitution. Besides scenario variables,
+ * the dynamic variables {@code $iteration}, {@code $guid}, {@code $timestamp} and
+ * {@code $randomInt} are supported. Unknown variables are left as they are, like
+ * Postman does.
+ */
+final class Template {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*([$\\w.-]+)\\s*}}");
+
+    private Template() {
+    }
+
+    static String render(String text, Map<String, String> variables, long iteration) {
+        if (text == null || text.indexOf("{{") < 0) {
+            return text;
+        }
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        StringBuilder result = new StringBuilder(text.length() + 32);
+        while (matcher.find()) {
+            String value = resolve(matcher.group(1), variables, iteration);
+            matcher.appendReplacement(result, Matcher.quoteReplacement(value != null ? value : matcher.group()));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private static String resolve(String name, Map<String, String> variables, long iteration) {
+        return switch (name) {
+            case "$iteration" -> Long.toString(iteration);
+            case "$guid" -> UUID.randomUUID().toString();
+            case "$timestamp" -> Long.toString(System.currentTimeMillis() / 1000);
+            case "$randomInt" -> Integer.toString(ThreadLocalRandom.current().nextInt(1001));
+            default -> variables.get(name);
+        };
+    }
+}
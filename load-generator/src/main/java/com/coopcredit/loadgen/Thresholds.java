@@ -0,0 +1,31 @@
+package com.coopcredit.loadgen;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Pass/fail criteria of a run. Any limit may be null to leave it unchecked.
+ *
+ * @param maxErrorRate  highest accepted fraction of failed requests, e.g. 0.01
+ * @param minThroughput lowest accepted rate of completed sessions per second
+ * @param latency       percentile limits per step; step "*" applies to every step
+ *                      and "session" to the whole flow
+ */
+public record Thresholds(Double maxErrorRate, Double minThroughput, List<LatencyLimit> latency) {
+
+    public static final String ALL_STEPS = "*";
+    public static final String SESSION = "session";
+
+    public static final Thresholds NONE = new Thresholds(null, null, List.of());
+
+    public record LatencyLimit(String step, double percentile, Duration limit) {
+
+        public String percentileName() {
+            return "p" + (percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile));
+        }
+
+        public boolean appliesTo(String stepName) {
+            return step.equals(ALL_STEPS) ? !stepName.equals(SESSION) : step.equals(stepName);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.coopcredit.loadgen.embedded;
+
+import com.coopcredit.CreditApplicationServiceApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+
+/**
+ * The credit application service configuration, minus the Risk Central mock and
+ * the load generator: both live under {@code com.coopcredit} too, so the service's
+ * own {@code @SpringBootApplication} scan would pick them up in this classpath.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@AutoConfigurationPackage(basePackageClasses = CreditApplicationServiceApplication.class)
+@ComponentScan(basePackageClasses = CreditApplicationServiceApplication.class, excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = CreditApplicationServiceApplication.class),
+        @ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.coopcredit\\.(risk|loadgen)\\..*")
+})
+class EmbeddedCreditApplication {
+}
@@ -0,0 +1,102 @@
+package com.coopcredit.loadgen.embedded;
+
+import com.coopcredit.risk.RiskCentralMockApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The Risk Central mock and the credit application service started in this JVM
+ * on random ports, with an in-memory H2 database instead of PostgreSQL. Useful
+ * to compare builds without the docker-compose stack; absolute numbers include
+ * the load generator competing for the same CPUs. Extra properties, e.g.
+ * {@code spring.threads.virtual.enabled=true}, are passed to both services.
+ */
+public final class EmbeddedStack implements AutoCloseable {
+
+    private static final List<String> MOCK_EXCLUDED_AUTO_CONFIGURATIONS = List.of(
+            "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+            "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+            "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration",
+            "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration",
+            "org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration",
+            "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration");
+
+    private final ConfigurableApplicationContext riskCentral;
+    private final ConfigurableApplicationContext creditService;
+
+    private EmbeddedStack(ConfigurableApplicationContext riskCentral, ConfigurableApplicationContext creditService) {
+        this.riskCentral = riskCentral;
+        this.creditService = creditService;
+    }
+
+    public static EmbeddedStack start() {
+        return start(List.of());
+    }
+
+    /**
+     * @param properties {@code name=value} pairs applied to both services
+     */
+    public static EmbeddedStack start(List<String> properties) {
+        // Command line arguments, so they take precedence over each service's application.yml
+        ConfigurableApplicationContext riskCentral = new SpringApplicationBuilder(RiskCentralMockApplication.class)
+                .bannerMode(Banner.Mode.OFF)
+                .run(arguments(properties,
+                        // Both jars contain an application.yml; keep the credit service's one away from the mock
+                        "--spring.config.name=risk-central-embedded",
+                        "--spring.application.name=risk-central-mock-service",
+                        "--server.port=0",
+                        // The credit service's dependencies are on the classpath, but the mock uses none of them
+                        "--spring.autoconfigure.exclude=" + String.join(",", MOCK_EXCLUDED_AUTO_CONFIGURATIONS),
+                        "--app.observability.tracing.export-enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.coopcredit=WARN"));
+        try {
+            ConfigurableApplicationContext creditService = new SpringApplicationBuilder(EmbeddedCreditApplication.class)
+                    .bannerMode(Banner.Mode.OFF)
+                    .run(arguments(properties,
+                            "--server.port=0",
+                            "--app.risk-service.url=http://localhost:" + port(riskCentral),
+                            "--spring.datasource.url=jdbc:h2:mem:loadgen;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                            "--spring.datasource.driver-class-name=org.h2.Driver",
+                            "--spring.datasource.username=sa",
+                            "--spring.datasource.password=",
+                            "--spring.flyway.enabled=false",
+                            "--spring.jpa.hibernate.ddl-auto=create-drop",
+                            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                            "--app.observability.tracing.export-enabled=false",
+                            "--logging.level.root=WARN",
+                            "--logging.level.com.coopcredit=WARN"));
+            return new EmbeddedStack(riskCentral, creditService);
+        } catch (RuntimeException ex) {
+            riskCentral.close();
+            throw ex;
+        }
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + port(creditService) + "/api";
+    }
+
+    @Override
+    public void close() {
+        creditService.close();
+        riskCentral.close();
+    }
+
+    private static String[] arguments(List<String> properties, String... defaults) {
+        List<String> arguments = new ArrayList<>(List.of(defaults));
+        for (String property : properties) {
+            arguments.add("--" + property);
+        }
+        return arguments.toArray(String[]::new);
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
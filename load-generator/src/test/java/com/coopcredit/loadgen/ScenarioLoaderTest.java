@@ -0,0 +1,58 @@
+package com.coopcredit.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioLoaderTest {
+
+    private final ScenarioLoader loader = new ScenarioLoader();
+
+    @Test
+    void loadsPostmanFolderWithExtractionsFromTestScripts() throws IOException {
+        Scenario scenario = loader.load(Path.of("../postman/CoopCredit.postman_collection.json"),
+                "Complete Flow Tests");
+
+        assertEquals(5, scenario.steps().size());
+        assertEquals("http://localhost:8080/api", scenario.variables().get("base_url"));
+
+        Step login = scenario.steps().get(0);
+        assertEquals("POST", login.method());
+        assertEquals("{{base_url}}/auth/login", login.url());
+        assertEquals(Map.of("token", "token"), login.extract());
+        assertEquals(Set.of(200), login.expectedStatus());
+
+        Step create = scenario.steps().get(1);
+        assertEquals(Map.of("application_id", "id"), create.extract());
+        assertTrue(create.accepts(201));
+        assertFalse(create.accepts(200));
+    }
+
+    @Test
+    void loadsScenarioFileWithLoadProfileAndThresholds() throws IOException {
+        Scenario scenario = loader.load(Path.of("scenarios/credit-flow.json"), null);
+
+        assertEquals(3, scenario.setup().size());
+        assertEquals(4, scenario.steps().size());
+        assertEquals(10, scenario.load().arrivalRate());
+        assertEquals(Duration.ofSeconds(60), scenario.load().duration());
+        assertEquals(0.01, scenario.thresholds().maxErrorRate());
+        assertTrue(scenario.thresholds().latency().stream()
+                .anyMatch(limit -> limit.step().equals("Evaluate risk") && limit.percentile() == 99
+                        && limit.limit().equals(Duration.ofSeconds(2))));
+    }
+
+    @Test
+    void rendersVariablesAndLeavesUnknownOnes() {
+        String rendered = Template.render("{{base_url}}/applications/{{ application_id }}/{{missing}}?i={{$iteration}}",
+                Map.of("base_url", "http://host/api", "application_id", "42"), 7);
+
+        assertEquals("http://host/api/applications/42/{{missing}}?i=7", rendered);
+    }
+}
@@ -0,0 +1,71 @@
+package com.coopcredit.observability.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logback turbo filter that keeps only a fraction of the INFO/DEBUG/TRACE events
+ * of selected loggers. WARN and ERROR are never sampled.
+ * <p>
+ * Rules are {@code logger=ratio} pairs separated by commas, e.g.
+ * {@code com.coopcredit.risk.controller=0.1}; a rule applies to
+ * the logger and its children, and the longest matching prefix wins.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final double KEEP_ALL = 1.0;
+
+    private final Map<String, Double> rules = new LinkedHashMap<>();
+    private final Map<String, Double> ratioByLogger = new ConcurrentHashMap<>();
+
+    public void setRules(String spec) {
+        rules.clear();
+        ratioByLogger.clear();
+        if (spec == null) {
+            return;
+        }
+        for (String rule : spec.split(",")) {
+            int separator = rule.indexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            try {
+                rules.put(rule.substring(0, separator).trim(), Double.parseDouble(rule.substring(separator + 1).trim()));
+            } catch (NumberFormatException ex) {
+                addWarn("Ignoring invalid log sampling rule: " + rule);
+            }
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+            Throwable t) {
+        if (rules.isEmpty() || level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        double ratio = ratioByLogger.computeIfAbsent(logger.getName(), this::ratioFor);
+        if (ratio >= KEEP_ALL || ThreadLocalRandom.current().nextDouble() < ratio) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    private double ratioFor(String loggerName) {
+        String bestMatch = null;
+        for (String prefix : rules.keySet()) {
+            boolean matches = loggerName.equals(prefix) || loggerName.startsWith(prefix + ".");
+            if (matches && (bestMatch == null || prefix.length() > bestMatch.length())) {
+                bestMatch = prefix;
+            }
+        }
+        return bestMatch != null ? rules.get(bestMatch) : KEEP_ALL;
+    }
+}
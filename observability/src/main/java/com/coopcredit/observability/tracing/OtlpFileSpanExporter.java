@@ -0,0 +1,148 @@
+package com.coopcredit.observability.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffers finished spans in a bounded queue and periodically appends them to a
+ * local file, one OTLP/JSON {@code ExportTraceServiceRequest} per line (the
+ * format of the OpenTelemetry Collector file exporter), so traces can be
+ * inspected or replayed into a collector later. Spans are dropped, and counted,
+ * when the buffer is full; request threads never block on I/O.
+ */
+@Component
+public class OtlpFileSpanExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(OtlpFileSpanExporter.class);
+    private static final int MAX_BATCH = 512;
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final boolean enabled;
+    private final Map<String, Object> resource;
+    private final BlockingQueue<Span> buffer;
+    private final AtomicLong dropped = new AtomicLong();
+    private final ScheduledExecutorService flusher;
+
+    public OtlpFileSpanExporter(
+            ObjectMapper objectMapper,
+            @Value("${spring.application.name}") String serviceName,
+            @Value("${app.observability.tracing.export-enabled:true}") boolean enabled,
+            @Value("${app.observability.tracing.file:${java.io.tmpdir}/coopcredit-traces/${spring.application.name}.otlp.jsonl}") Path file,
+            @Value("${app.observability.tracing.buffer-size:10000}") int bufferSize,
+            @Value("${app.observability.tracing.flush-interval:5s}") Duration flushInterval) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+        this.enabled = enabled;
+        this.resource = Map.of("attributes", List.of(attribute("service.name", serviceName)));
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "otlp-file-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            flusher.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(), flushInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void export(Span span) {
+        if (enabled && !buffer.offer(span)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long droppedSpans() {
+        return dropped.get();
+    }
+
+    synchronized void flush() {
+        try {
+            List<Span> batch = new ArrayList<>(MAX_BATCH);
+            while (buffer.drainTo(batch, MAX_BATCH) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not export spans to {}: {}", file, ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        flush();
+    }
+
+    private void write(List<Span> spans) throws IOException {
+        List<Map<String, Object>> otlpSpans = new ArrayList<>(spans.size());
+        for (Span span : spans) {
+            otlpSpans.add(toOtlp(span));
+        }
+        Map<String, Object> request = Map.of("resourceSpans", List.of(Map.of(
+                "resource", resource,
+                "scopeSpans", List.of(Map.of(
+                        "scope", Map.of("name", "com.coopcredit"),
+                        "spans", otlpSpans)))));
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, objectMapper.writeValueAsString(request) + "\n", StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private Map<String, Object> toOtlp(Span span) {
+        Map<String, Object> otlp = new LinkedHashMap<>();
+        otlp.put("traceId", span.context().traceId());
+        otlp.put("spanId", span.context().spanId());
+        if (span.parentSpanId() != null) {
+            otlp.put("parentSpanId", span.parentSpanId());
+        }
+        otlp.put("name", span.name());
+        otlp.put("kind", span.kind().ordinal());
+        otlp.put("startTimeUnixNano", Long.toString(span.startEpochNanos()));
+        otlp.put("endTimeUnixNano", Long.toString(span.endEpochNanos()));
+        List<Map<String, Object>> attributes = new ArrayList<>(span.attributes().size());
+        span.attributes().forEach((key, value) -> attributes.add(attribute(key, value)));
+        otlp.put("attributes", attributes);
+        otlp.put("status", span.isError()
+                ? Map.of("code", 2, "message", String.valueOf(span.errorMessage()))
+                : Map.of("code", 0));
+        return otlp;
+    }
+
+    private static Map<String, Object> attribute(String key, Object value) {
+        Map<String, Object> typed;
+        if (value instanceof Integer || value instanceof Long) {
+            typed = Map.of("intValue", value.toString());
+        } else if (value instanceof Number number) {
+            typed = Map.of("doubleValue", number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+            typed = Map.of("boolValue", bool);
+        } else {
+            typed = Map.of("stringValue", String.valueOf(value));
+        }
+        return Map.of("key", key, "value", typed);
+    }
+}
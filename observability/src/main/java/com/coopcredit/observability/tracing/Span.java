@@ -0,0 +1,116 @@
+package com.coopcredit.observability.tracing;
+
+import org.slf4j.MDC;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A timed operation within a trace. Spans are opened with {@link Tracer}, become
+ * the current span of the thread (and of the log MDC), and must be closed on the
+ * same thread, typically with try-with-resources.
+ */
+public final class Span implements AutoCloseable {
+
+    /**
+     * OTLP span kinds; the ordinal values match the protocol's enum.
+     */
+    public enum Kind {
+        UNSPECIFIED, INTERNAL, SERVER, CLIENT
+    }
+
+    private final Tracer tracer;
+    private final Span previous;
+    private final TraceParent context;
+    private final String parentSpanId;
+    private String name;
+    private final Kind kind;
+    private final long startEpochNanos;
+    private final long startNanoTime;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    private long endEpochNanos;
+    private String errorMessage;
+    private boolean error;
+
+    Span(Tracer tracer, Span previous, TraceParent context, String parentSpanId, String name, Kind kind) {
+        this.tracer = tracer;
+        this.previous = previous;
+        this.context = context;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.startEpochNanos = Tracer.epochNanos();
+        this.startNanoTime = System.nanoTime();
+        MDC.put(Tracer.TRACE_ID_MDC_KEY, context.traceId());
+        MDC.put(Tracer.SPAN_ID_MDC_KEY, context.spanId());
+    }
+
+    public Span attribute(String key, Object value) {
+        if (value != null) {
+            attributes.put(key, value);
+        }
+        return this;
+    }
+
+    public Span updateName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public Span error(Throwable throwable) {
+        this.error = true;
+        this.errorMessage = throwable.getClass().getSimpleName() + ": " + throwable.getMessage();
+        return this;
+    }
+
+    public Span error(String message) {
+        this.error = true;
+        this.errorMessage = message;
+        return this;
+    }
+
+    public TraceParent context() {
+        return context;
+    }
+
+    @Override
+    public void close() {
+        endEpochNanos = startEpochNanos + (System.nanoTime() - startNanoTime);
+        tracer.restore(previous);
+        if (context.sampled()) {
+            tracer.export(this);
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    public String parentSpanId() {
+        return parentSpanId;
+    }
+
+    public long startEpochNanos() {
+        return startEpochNanos;
+    }
+
+    public long endEpochNanos() {
+        return endEpochNanos;
+    }
+
+    public Map<String, Object> attributes() {
+        return attributes;
+    }
+
+    public boolean isError() {
+        return error;
+    }
+
+    public String errorMessage() {
+        return errorMessage;
+    }
+}
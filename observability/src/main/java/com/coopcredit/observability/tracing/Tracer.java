@@ -0,0 +1,95 @@
+package com.coopcredit.observability.tracing;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Minimal in-process tracer implementing W3C trace context propagation.
+ * The current span is kept in a ThreadLocal and mirrored into the log MDC
+ * ({@code traceId}, {@code spanId}); sampled spans are handed to the
+ * OtlpFileSpanExporter when they close.
+ */
+@Component
+public class Tracer {
+
+    public static final String TRACE_ID_MDC_KEY = "traceId";
+    public static final String SPAN_ID_MDC_KEY = "spanId";
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+    private final OtlpFileSpanExporter exporter;
+    private final double sampleRatio;
+
+    public Tracer(OtlpFileSpanExporter exporter,
+            @Value("${app.observability.tracing.sample-ratio:1.0}") double sampleRatio) {
+        this.exporter = exporter;
+        this.sampleRatio = sampleRatio;
+    }
+
+    public static Span current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Start a server span continuing the caller's trace, or a new trace when the
+     * {@code traceparent} header is missing or invalid. The caller's sampling
+     * decision is honoured.
+     */
+    public Span startServerSpan(String name, String traceparentHeader) {
+        TraceParent parent = TraceParent.parse(traceparentHeader);
+        if (parent == null) {
+            return start(name, Span.Kind.SERVER, null);
+        }
+        TraceParent context = new TraceParent(parent.traceId(), TraceParent.newSpanId(), parent.sampled());
+        return activate(new Span(this, CURRENT.get(), context, parent.spanId(), name, Span.Kind.SERVER));
+    }
+
+    /**
+     * Start a child of the current span, or a new root span if there is none.
+     */
+    public Span startSpan(String name, Span.Kind kind) {
+        return start(name, kind, CURRENT.get());
+    }
+
+    private Span start(String name, Span.Kind kind, Span parent) {
+        TraceParent context = parent != null
+                ? new TraceParent(parent.context().traceId(), TraceParent.newSpanId(), parent.context().sampled())
+                : new TraceParent(TraceParent.newTraceId(), TraceParent.newSpanId(), sampleRoot());
+        String parentSpanId = parent != null ? parent.context().spanId() : null;
+        return activate(new Span(this, CURRENT.get(), context, parentSpanId, name, kind));
+    }
+
+    private Span activate(Span span) {
+        CURRENT.set(span);
+        return span;
+    }
+
+    private boolean sampleRoot() {
+        return sampleRatio >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRatio;
+    }
+
+    void restore(Span previous) {
+        if (previous == null) {
+            CURRENT.remove();
+            MDC.remove(TRACE_ID_MDC_KEY);
+            MDC.remove(SPAN_ID_MDC_KEY);
+        } else {
+            CURRENT.set(previous);
+            MDC.put(TRACE_ID_MDC_KEY, previous.context().traceId());
+            MDC.put(SPAN_ID_MDC_KEY, previous.context().spanId());
+        }
+    }
+
+    void export(Span span) {
+        exporter.export(span);
+    }
+
+    static long epochNanos() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+}
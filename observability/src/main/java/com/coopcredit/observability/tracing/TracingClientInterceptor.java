@@ -0,0 +1,48 @@
+package com.coopcredit.observability.tracing;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Wraps outbound HTTP calls in a client span and propagates it downstream in the
+ * {@code traceparent} header.
+ */
+@Component
+public class TracingClientInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Tracer tracer;
+
+    public TracingClientInterceptor(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String path = request.getURI().getPath();
+        try (Span span = tracer.startSpan(request.getMethod() + " " + path, Span.Kind.CLIENT)) {
+            span.attribute("http.request.method", request.getMethod().name())
+                    .attribute("server.address", request.getURI().getHost())
+                    .attribute("server.port", request.getURI().getPort())
+                    .attribute("url.path", path);
+            request.getHeaders().set(TraceParent.HEADER, span.context().format());
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                int status = response.getStatusCode().value();
+                span.attribute("http.response.status_code", status);
+                if (status >= 500) {
+                    span.error("HTTP " + status);
+                }
+                return response;
+            } catch (IOException | RuntimeException ex) {
+                span.error(ex);
+                throw ex;
+            }
+        }
+    }
+}
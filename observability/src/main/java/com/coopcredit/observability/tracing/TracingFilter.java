@@ -0,0 +1,60 @@
+package com.coopcredit.observability.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Opens the server span of every request, continuing the caller's W3C trace when a
+ * {@code traceparent} header is present. Runs first so the trace id is in the MDC
+ * for all later filters and is echoed back in the {@code traceparent} response header.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingFilter extends OncePerRequestFilter {
+
+    private final Tracer tracer;
+
+    public TracingFilter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        try (Span span = tracer.startServerSpan(request.getMethod(), request.getHeader(TraceParent.HEADER))) {
+            span.attribute("http.request.method", request.getMethod())
+                    .attribute("url.path", request.getRequestURI());
+            response.setHeader(TraceParent.HEADER, span.context().format());
+            try {
+                filterChain.doFilter(request, response);
+            } catch (IOException | ServletException | RuntimeException ex) {
+                span.error(ex);
+                throw ex;
+            } finally {
+                Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                if (route != null) {
+                    span.updateName(request.getMethod() + " " + route);
+                }
+                span.attribute("http.route", route)
+                        .attribute("http.response.status_code", response.getStatus());
+                if (response.getStatus() >= 500) {
+                    span.error("HTTP " + response.getStatus());
+                }
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+}
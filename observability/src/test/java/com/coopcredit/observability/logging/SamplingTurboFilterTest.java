@@ -0,0 +1,78 @@
+package com.coopcredit.observability.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SamplingTurboFilter.
+ */
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.setContext(context);
+    }
+
+    @Test
+    @DisplayName("Should drop sampled-out events but never WARN or ERROR")
+    void shouldNeverSampleWarnings() {
+        // Given
+        filter.setRules("com.coopcredit.risk=0");
+        Logger logger = context.getLogger("com.coopcredit.risk.controller.RiskEvaluationController");
+
+        // Then
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.DENY);
+        assertThat(decide(logger, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("Should apply the longest matching prefix to a logger and its children only")
+    void shouldApplyLongestPrefix() {
+        // Given
+        filter.setRules("com.coopcredit=0, com.coopcredit.risk.controller=1");
+
+        // Then
+        assertThat(decide(context.getLogger("com.coopcredit.risk.controller.RiskEvaluationController"), Level.INFO))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(context.getLogger("com.coopcredit.risk.service.RiskCalculatorService"), Level.INFO))
+                .isEqualTo(FilterReply.DENY);
+        assertThat(decide(context.getLogger("com.coopcreditx.Other"), Level.INFO))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("Should ignore invalid rules and keep everything without rules")
+    void shouldIgnoreInvalidRules() {
+        // Given
+        Logger logger = context.getLogger("com.coopcredit.risk.controller.RiskEvaluationController");
+
+        // When
+        filter.setRules("com.coopcredit.risk=half,=0,com.coopcredit.risk.controller");
+
+        // Then
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+
+        // When
+        filter.setRules(null);
+
+        // Then
+        assertThat(decide(logger, Level.TRACE)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message", null, null);
+    }
+}
@@ -0,0 +1,43 @@
+package com.coopcredit.observability.tracing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for W3C traceparent parsing and formatting.
+ */
+class TraceParentTest {
+
+    @Test
+    @DisplayName("Should round-trip a valid traceparent header")
+    void shouldParseAndFormat() {
+        String header = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+        TraceParent parsed = TraceParent.parse(header);
+
+        assertThat(parsed).isNotNull();
+        assertThat(parsed.traceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(parsed.spanId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(parsed.sampled()).isTrue();
+        assertThat(parsed.format()).isEqualTo(header);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed or all-zero identifiers")
+    void shouldRejectInvalidHeaders() {
+        assertThat(TraceParent.parse(null)).isNull();
+        assertThat(TraceParent.parse("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01")).isNull();
+        assertThat(TraceParent.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01")).isNull();
+        assertThat(TraceParent.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01")).isNull();
+        assertThat(TraceParent.parse("ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should generate identifiers of the expected length")
+    void shouldGenerateIds() {
+        assertThat(TraceParent.newTraceId()).hasSize(32).matches("[0-9a-f]+");
+        assertThat(TraceParent.newSpanId()).hasSize(16).matches("[0-9a-f]+");
+    }
+}
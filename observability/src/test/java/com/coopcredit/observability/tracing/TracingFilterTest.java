@@ -0,0 +1,129 @@
+package com.coopcredit.observability.tracing;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for TracingFilter and the server spans it opens.
+ */
+@ExtendWith(MockitoExtension.class)
+class TracingFilterTest {
+
+    private static final String PARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    @Mock
+    private OtlpFileSpanExporter exporter;
+
+    private TracingFilter filter;
+    private final List<Span> current = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        filter = new TracingFilter(new Tracer(exporter, 1.0));
+    }
+
+    @Test
+    @DisplayName("Should continue the caller's trace and name the span after the route")
+    void shouldContinueCallerTrace() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/risk-evaluation");
+        request.addHeader(TraceParent.HEADER, PARENT);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, chain(200));
+
+        // Then
+        Span span = exported();
+        assertThat(span.context().traceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(span.parentSpanId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(span.kind()).isEqualTo(Span.Kind.SERVER);
+        assertThat(span.name()).isEqualTo("POST /risk-evaluation");
+        assertThat(span.attributes()).containsEntry("http.response.status_code", 200);
+        assertThat(span.isError()).isFalse();
+        assertThat(response.getHeader(TraceParent.HEADER)).isEqualTo(span.context().format());
+        assertThat(current).containsExactly(span);
+    }
+
+    @Test
+    @DisplayName("Should start a new trace and clear it from the thread afterwards")
+    void shouldStartNewTrace() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/health");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain(200));
+
+        // Then
+        Span span = exported();
+        assertThat(span.parentSpanId()).isNull();
+        assertThat(span.context().traceId()).isNotEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(Tracer.current()).isNull();
+        assertThat(MDC.get(Tracer.TRACE_ID_MDC_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should mark server errors on the span")
+    void shouldMarkServerErrors() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("POST", "/risk-evaluation"), new MockHttpServletResponse(),
+                chain(503));
+
+        Span span = exported();
+        assertThat(span.isError()).isTrue();
+        assertThat(span.errorMessage()).isEqualTo("HTTP 503");
+    }
+
+    @Test
+    @DisplayName("Should not export the spans of a trace the caller did not sample")
+    void shouldHonourCallerSampling() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/risk-evaluation");
+        request.addHeader(TraceParent.HEADER, PARENT.substring(0, PARENT.length() - 2) + "00");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, chain(200));
+
+        // Then
+        verify(exporter, never()).export(any());
+        assertThat(response.getHeader(TraceParent.HEADER)).endsWith("-00");
+    }
+
+    private MockFilterChain chain(int status) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                current.add(Tracer.current());
+                request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, request.getRequestURI());
+                response.setStatus(status);
+            }
+        });
+    }
+
+    private Span exported() {
+        ArgumentCaptor<Span> span = ArgumentCaptor.forClass(Span.class);
+        verify(exporter).export(span.capture());
+        return span.getValue();
+    }
+}
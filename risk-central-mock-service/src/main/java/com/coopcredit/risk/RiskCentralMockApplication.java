@@ -5,8 +5,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 /**
  * Main application class for Risk Central Mock Service.
+ * Also scans the tracing shared with the credit application service.
  */
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"com.coopcredit.risk", "com.coopcredit.observability"})
 public class RiskCentralMockApplication {
 
     public static void main(String[] args) {
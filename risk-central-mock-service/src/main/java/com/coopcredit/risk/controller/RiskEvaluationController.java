@@ -1,5 +1,7 @@
 package com.coopcredit.risk.controller;
 
+import com.coopcredit.observability.tracing.Span;
+import com.coopcredit.observability.tracing.Tracer;
 import com.coopcredit.risk.dto.RiskEvaluationRequest;
 import com.coopcredit.risk.dto.RiskEvaluationResponse;
 import com.coopcredit.risk.service.RiskCalculatorService;
@@ -8,6 +10,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 /**
  * REST Controller for risk evaluation endpoint.
  */
@@ -25,9 +29,16 @@ public class RiskEvaluationController {
 
     @PostMapping("/risk-evaluation")
     public ResponseEntity<RiskEvaluationResponse> evaluate(@RequestBody RiskEvaluationRequest request) {
-        log.info("Received risk evaluation request for document: {}", request.documentNumber());
+        log.debug("Received risk evaluation request {}", kv("documentNumber", request.documentNumber()));
 
         RiskEvaluationResponse response = riskCalculatorService.evaluate(request);
+
+        // The server span was opened by TracingFilter from the caller's traceparent
+        Span span = Tracer.current();
+        if (span != null) {
+            span.attribute("risk.score", response.score())
+                    .attribute("risk.level", response.riskLevel());
+        }
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,68 @@
+package com.coopcredit.risk.fault;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runtime control of the fault profile, so a load test can change how Risk
+ * Central behaves without restarting it:
+ * {@code PUT /admin/faults} with a profile spec as plain text,
+ * {@code GET /admin/faults} for the active profile and its counts,
+ * {@code DELETE /admin/faults} to answer normally again.
+ * The endpoint is unauthenticated, so it only exists with {@code app.faults.enabled}.
+ */
+@ConditionalOnProperty(name = "app.faults.enabled", havingValue = "true")
+@RestController
+@RequestMapping("/admin/faults")
+public class FaultAdminController {
+
+    private final FaultInjector injector;
+
+    public FaultAdminController(FaultInjector injector) {
+        this.injector = injector;
+    }
+
+    @GetMapping
+    public Map<String, Object> get() {
+        return describe(injector.active());
+    }
+
+    @PutMapping(consumes = MediaType.TEXT_PLAIN_VALUE)
+    public Map<String, Object> put(@RequestBody String spec) {
+        return describe(injector.activate(FaultProfile.parse(spec)));
+    }
+
+    @DeleteMapping
+    public Map<String, Object> delete() {
+        return describe(injector.activate(FaultProfile.NONE));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ProblemDetail> invalidProfile(IllegalArgumentException ex) {
+        return ResponseEntity.badRequest()
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage()));
+    }
+
+    private static Map<String, Object> describe(FaultInjector.Active active) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        active.counts().forEach((fault, count) -> counts.put(fault.name().toLowerCase(), count.sum()));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("profile", active.profile().spec());
+        body.put("since", active.since());
+        body.put("requests", counts);
+        return body;
+    }
+}
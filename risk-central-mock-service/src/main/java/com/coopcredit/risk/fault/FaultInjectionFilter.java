@@ -0,0 +1,126 @@
+package com.coopcredit.risk.fault;
+
+import com.coopcredit.observability.tracing.Span;
+import com.coopcredit.observability.tracing.Tracer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Makes {@code /risk-evaluation} slow and unreliable the way a real bureau is,
+ * following the active {@link FaultProfile} or, for a single request, the
+ * profile sent in the {@code X-Fault-Profile} header. Runs right after the
+ * tracing filter, so the injected latency and fault are part of the server span.
+ * Without {@code app.faults.enabled} the filter is not registered and the
+ * header is ignored.
+ */
+@ConditionalOnProperty(name = "app.faults.enabled", havingValue = "true")
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    static final String PROFILE_HEADER = "X-Fault-Profile";
+
+    private static final Logger log = LoggerFactory.getLogger(FaultInjectionFilter.class);
+
+    private final FaultInjector injector;
+    private final ObjectMapper objectMapper;
+
+    public FaultInjectionFilter(FaultInjector injector, ObjectMapper objectMapper) {
+        this.injector = injector;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"/risk-evaluation".equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        FaultProfile profile;
+        String header = request.getHeader(PROFILE_HEADER);
+        try {
+            profile = header != null ? FaultProfile.parse(header) : injector.active().profile();
+        } catch (IllegalArgumentException ex) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage()));
+            return;
+        }
+        if (profile.isNone()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        FaultProfile.Fault fault = profile.nextFault(random);
+        Duration delay = fault == FaultProfile.Fault.TIMEOUT
+                ? profile.timeout()
+                : profile.nextDelay(random, System.currentTimeMillis());
+        injector.record(profile, fault);
+        Span span = Tracer.current();
+        if (span != null) {
+            span.attribute("fault.delay_ms", delay.toMillis())
+                    .attribute("fault.type", fault.name().toLowerCase());
+        }
+        log.debug("Injecting fault {} {}", kv("fault", fault), kv("delayMs", delay.toMillis()));
+
+        if (!sleep(delay)) {
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        switch (fault) {
+            case ERROR -> response.sendError(profile.errorStatus());
+            case RESET -> dropConnection(response);
+            case NONE, TIMEOUT -> filterChain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * Send the headers of a response and close the connection before its body,
+     * so the client sees the connection fail mid-response.
+     */
+    private static void dropConnection(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentLength(1024);
+        response.getOutputStream().write('{');
+        response.flushBuffer();
+    }
+
+    private static boolean sleep(Duration delay) {
+        if (delay.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.coopcredit.risk.fault;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * The fault profile applied to risk evaluations, set at startup from
+ * {@code app.faults.profile} and replaced at runtime through
+ * {@link FaultAdminController}, with counts of the faults injected since it
+ * was activated. Fault injection only exists with {@code app.faults.enabled}.
+ */
+@ConditionalOnProperty(name = "app.faults.enabled", havingValue = "true")
+@Component
+public class FaultInjector {
+
+    private static final Logger log = LoggerFactory.getLogger(FaultInjector.class);
+
+    private final AtomicReference<Active> active;
+
+    public FaultInjector(@Value("${app.faults.profile:}") String profile) {
+        this.active = new AtomicReference<>(new Active(FaultProfile.parse(profile), Instant.now()));
+        if (!active.get().profile().isNone()) {
+            log.info("Fault injection enabled {}", kv("profile", active.get().profile().spec()));
+        }
+    }
+
+    public Active active() {
+        return active.get();
+    }
+
+    public Active activate(FaultProfile profile) {
+        Active activated = new Active(profile, Instant.now());
+        active.set(activated);
+        log.info("Fault profile activated {}", kv("profile", profile.spec()));
+        return activated;
+    }
+
+    /**
+     * Count a fault injected by the active profile; faults of profiles sent in a
+     * request header are not counted.
+     */
+    void record(FaultProfile profile, FaultProfile.Fault fault) {
+        Active current = active.get();
+        if (current.profile() == profile) {
+            current.counts.get(fault).increment();
+        }
+    }
+
+    /**
+     * A profile and the requests it has handled, by fault.
+     */
+    public record Active(FaultProfile profile, Instant since, Map<FaultProfile.Fault, LongAdder> counts) {
+
+        Active(FaultProfile profile, Instant since) {
+            this(profile, since, new EnumMap<>(FaultProfile.Fault.class));
+            for (FaultProfile.Fault fault : FaultProfile.Fault.values()) {
+                counts.put(fault, new LongAdder());
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.coopcredit.risk.fault;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.random.RandomGenerator;
+
+/**
+ * How slow and how unreliable Risk Central should behave. Parsed from specs
+ * like {@code latency=lognormal,delay=200ms,sigma=0.6,error-rate=0.02}:
+ * <ul>
+ * <li>{@code latency}: {@code none}, {@code fixed} ({@code delay}), {@code uniform}
+ * ({@code delay} to {@code max}), {@code lognormal} (median {@code delay}, shape
+ * {@code sigma}) or {@code bursty} ({@code delay}, plus a {@code stall} that every
+ * request arriving in the first part of each {@code stall-every} period waits out)</li>
+ * <li>{@code error-rate}: share of requests answered with {@code error-status}</li>
+ * <li>{@code timeout-rate}: share of requests held for {@code timeout} before being answered</li>
+ * <li>{@code reset-rate}: share of requests whose connection is closed mid-response</li>
+ * </ul>
+ * Rates are fractions between 0 and 1; omitted keys keep their defaults. No
+ * setting nor sampled latency goes beyond {@link #MAX_DELAY}, so a profile
+ * cannot hold a request thread indefinitely.
+ */
+public record FaultProfile(
+        Latency latency,
+        Duration delay,
+        Duration max,
+        double sigma,
+        Duration stall,
+        Duration stallEvery,
+        double errorRate,
+        int errorStatus,
+        double timeoutRate,
+        Duration timeout,
+        double resetRate) {
+
+    public static final Duration MAX_DELAY = Duration.ofMinutes(2);
+
+    public static final FaultProfile NONE = new FaultProfile(Latency.NONE, Duration.ZERO, Duration.ZERO, 0.5,
+            Duration.ofSeconds(2), Duration.ofSeconds(30), 0, 503, 0, Duration.ofSeconds(30), 0);
+
+    public enum Latency {
+        NONE, FIXED, UNIFORM, LOGNORMAL, BURSTY
+    }
+
+    /**
+     * What happens to a request besides its latency.
+     */
+    public enum Fault {
+        NONE, ERROR, TIMEOUT, RESET
+    }
+
+    public FaultProfile {
+        for (Duration duration : new Duration[] {delay, max, stall, stallEvery, timeout}) {
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException("durations must not be negative, was " + duration);
+            }
+        }
+        for (Duration duration : new Duration[] {delay, max, stall, timeout}) {
+            if (duration.compareTo(MAX_DELAY) > 0) {
+                throw new IllegalArgumentException("delays must not exceed " + format(MAX_DELAY) + ", was "
+                        + format(duration));
+            }
+        }
+        requireRate("error-rate", errorRate);
+        requireRate("timeout-rate", timeoutRate);
+        requireRate("reset-rate", resetRate);
+        if (errorRate + timeoutRate + resetRate > 1) {
+            throw new IllegalArgumentException("error-rate, timeout-rate and reset-rate add up to more than 1");
+        }
+        if (errorStatus < 400 || errorStatus > 599) {
+            throw new IllegalArgumentException("error-status must be a 4xx or 5xx status, was " + errorStatus);
+        }
+        if (latency == Latency.UNIFORM && max.compareTo(delay) < 0) {
+            throw new IllegalArgumentException("max must not be less than delay for uniform latency");
+        }
+        if (latency == Latency.BURSTY && (stallEvery.isZero() || stall.compareTo(stallEvery) > 0)) {
+            throw new IllegalArgumentException("stall must fit in a non-zero stall-every period");
+        }
+    }
+
+    public static FaultProfile parse(String spec) {
+        if (spec == null || spec.isBlank() || spec.trim().equalsIgnoreCase("none")) {
+            return NONE;
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid fault setting '" + part + "', expected e.g. delay=200ms");
+            }
+            values.put(pair[0].trim().toLowerCase(Locale.ROOT), pair[1].trim());
+        }
+        try {
+            FaultProfile profile = new FaultProfile(
+                    latency(values.remove("latency")),
+                    duration(values.remove("delay"), NONE.delay),
+                    duration(values.remove("max"), NONE.max),
+                    number(values.remove("sigma"), NONE.sigma),
+                    duration(values.remove("stall"), NONE.stall),
+                    duration(values.remove("stall-every"), NONE.stallEvery),
+                    number(values.remove("error-rate"), NONE.errorRate),
+                    (int) number(values.remove("error-status"), NONE.errorStatus),
+                    number(values.remove("timeout-rate"), NONE.timeoutRate),
+                    duration(values.remove("timeout"), NONE.timeout),
+                    number(values.remove("reset-rate"), NONE.resetRate));
+            if (!values.isEmpty()) {
+                throw new IllegalArgumentException("Unknown fault settings " + values.keySet());
+            }
+            return profile;
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid fault profile '" + spec + "': " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * The latency of a request arriving at {@code epochMillis}, at most {@link #MAX_DELAY}.
+     */
+    public Duration nextDelay(RandomGenerator random, long epochMillis) {
+        Duration next = switch (latency) {
+            case NONE -> Duration.ZERO;
+            case FIXED -> delay;
+            case UNIFORM -> delay.plusNanos(random.nextLong(max.minus(delay).toNanos() + 1));
+            case LOGNORMAL -> Duration.ofNanos((long) (delay.toNanos() * Math.exp(sigma * random.nextGaussian())));
+            case BURSTY -> {
+                long phase = epochMillis % stallEvery.toMillis();
+                yield phase < stall.toMillis() ? delay.plusMillis(stall.toMillis() - phase) : delay;
+            }
+        };
+        return next.compareTo(MAX_DELAY) > 0 ? MAX_DELAY : next;
+    }
+
+    public Fault nextFault(RandomGenerator random) {
+        double roll = random.nextDouble();
+        if (roll < resetRate) {
+            return Fault.RESET;
+        }
+        if (roll < resetRate + timeoutRate) {
+            return Fault.TIMEOUT;
+        }
+        if (roll < resetRate + timeoutRate + errorRate) {
+            return Fault.ERROR;
+        }
+        return Fault.NONE;
+    }
+
+    public boolean isNone() {
+        return latency == Latency.NONE && errorRate == 0 && timeoutRate == 0 && resetRate == 0;
+    }
+
+    /**
+     * The spec of this profile, listing only the settings that apply.
+     */
+    public String spec() {
+        if (isNone()) {
+            return "none";
+        }
+        StringJoiner spec = new StringJoiner(",");
+        spec.add("latency=" + latency.name().toLowerCase(Locale.ROOT));
+        switch (latency) {
+            case NONE -> {
+            }
+            case FIXED -> spec.add("delay=" + format(delay));
+            case UNIFORM -> spec.add("delay=" + format(delay)).add("max=" + format(max));
+            case LOGNORMAL -> spec.add("delay=" + format(delay)).add("sigma=" + sigma);
+            case BURSTY -> spec.add("delay=" + format(delay)).add("stall=" + format(stall))
+                    .add("stall-every=" + format(stallEvery));
+        }
+        if (errorRate > 0) {
+            spec.add("error-rate=" + errorRate).add("error-status=" + errorStatus);
+        }
+        if (timeoutRate > 0) {
+            spec.add("timeout-rate=" + timeoutRate).add("timeout=" + format(timeout));
+        }
+        if (resetRate > 0) {
+            spec.add("reset-rate=" + resetRate);
+        }
+        return spec.toString();
+    }
+
+    private static Latency latency(String value) {
+        if (value == null) {
+            return NONE.latency;
+        }
+        try {
+            return Latency.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("latency must be one of none, fixed, uniform, lognormal or bursty");
+        }
+    }
+
+    private static Duration duration(String value, Duration defaultValue) {
+        return value != null ? DurationStyle.detectAndParse(value) : defaultValue;
+    }
+
+    private static double number(String value, double defaultValue) {
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    private static String format(Duration duration) {
+        ChronoUnit unit = duration.toMillis() % 1000 == 0 ? ChronoUnit.SECONDS : ChronoUnit.MILLIS;
+        return DurationStyle.SIMPLE.print(duration, unit);
+    }
+
+    private static void requireRate(String name, double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException(name + " must be between 0 and 1, was " + rate);
+        }
+    }
+}
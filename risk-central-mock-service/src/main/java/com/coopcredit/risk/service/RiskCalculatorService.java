@@ -6,6 +6,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 /**
  * Service for calculating risk scores.
  * Uses a deterministic algorithm based on document number to ensure
@@ -29,7 +31,7 @@ public class RiskCalculatorService {
      * - Uses hash-based seed for deterministic results
      */
     public RiskEvaluationResponse evaluate(RiskEvaluationRequest request) {
-        log.info("Evaluating risk for document: {}", request.documentNumber());
+        log.debug("Evaluating risk {}", kv("documentNumber", request.documentNumber()));
 
         // Generate deterministic seed from document number (hash mod 1000)
         int seed = Math.abs(request.documentNumber().hashCode() % 1000);
@@ -53,8 +55,8 @@ public class RiskCalculatorService {
             details = "Low credit risk. Excellent payment history and credit behavior.";
         }
 
-        log.info("Risk evaluation complete: document={}, score={}, level={}",
-                request.documentNumber(), score, riskLevel);
+        log.info("Risk evaluation complete {} {} {}",
+                kv("documentNumber", request.documentNumber()), kv("score", score), kv("riskLevel", riskLevel));
 
         return new RiskEvaluationResponse(
                 request.documentNumber(),
@@ -0,0 +1,69 @@
+package com.coopcredit.risk.controller;
+
+import com.coopcredit.risk.dto.RiskEvaluationRequest;
+import com.coopcredit.risk.dto.RiskEvaluationResponse;
+import com.coopcredit.risk.service.RiskCalculatorService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for the content negotiation of RiskEvaluationController.
+ */
+class RiskEvaluationControllerTest {
+
+    private static final RiskEvaluationRequest REQUEST =
+            new RiskEvaluationRequest("1017654321", new BigDecimal("5000000.00"), 24);
+
+    private final RiskCalculatorService riskCalculatorService = new RiskCalculatorService();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new RiskEvaluationController(riskCalculatorService)).build();
+    }
+
+    static Stream<Arguments> wireFormats() {
+        return Stream.of(
+                Arguments.of(MediaType.APPLICATION_JSON, new ObjectMapper()),
+                Arguments.of(MediaType.APPLICATION_CBOR, new CBORMapper()),
+                Arguments.of(new MediaType("application", "x-jackson-smile"), new SmileMapper()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("wireFormats")
+    @DisplayName("Should read the request and write the response in the negotiated format")
+    void shouldNegotiateWireFormat(MediaType mediaType, ObjectMapper mapper) throws Exception {
+        // When
+        MockHttpServletResponse response = mockMvc.perform(post("/risk-evaluation")
+                        .contentType(mediaType)
+                        .accept(mediaType)
+                        .content(mapper.writeValueAsBytes(REQUEST)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        // Then
+        assertThat(MediaType.parseMediaType(response.getHeader(HttpHeaders.CONTENT_TYPE)).isCompatibleWith(mediaType))
+                .isTrue();
+        assertThat(mapper.readValue(response.getContentAsByteArray(), RiskEvaluationResponse.class))
+                .isEqualTo(riskCalculatorService.evaluate(REQUEST));
+    }
+}
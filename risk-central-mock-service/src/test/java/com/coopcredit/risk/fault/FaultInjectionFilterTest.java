@@ -0,0 +1,121 @@
+package com.coopcredit.risk.fault;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for FaultInjectionFilter.
+ */
+class FaultInjectionFilterTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withBean(ObjectMapper.class)
+            .withUserConfiguration(FaultInjector.class, FaultInjectionFilter.class, FaultAdminController.class);
+
+    private FaultInjector injector;
+    private FaultInjectionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        injector = new FaultInjector("");
+        filter = new FaultInjectionFilter(injector, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Should not register fault injection unless enabled")
+    void shouldNotRegisterFaultInjectionUnlessEnabled() {
+        contextRunner
+                .withPropertyValues("app.faults.profile=error-rate=1")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(FaultInjector.class);
+                    assertThat(context).doesNotHaveBean(FaultInjectionFilter.class);
+                    assertThat(context).doesNotHaveBean(FaultAdminController.class);
+                });
+        contextRunner
+                .withPropertyValues("app.faults.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(FaultInjectionFilter.class);
+                    assertThat(context).hasSingleBean(FaultAdminController.class);
+                });
+    }
+
+    @Test
+    @DisplayName("Should answer with the error status of the header profile")
+    void shouldApplyHeaderProfile() throws Exception {
+        // Given
+        MockHttpServletRequest request = riskEvaluation("error-rate=1,error-status=502");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(502);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(injector.active().counts().get(FaultProfile.Fault.ERROR).sum()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid header profile with 400")
+    void shouldRejectInvalidHeaderProfile() throws Exception {
+        // Given
+        MockHttpServletRequest request = riskEvaluation("latency=slow");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("latency must be one of");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should count faults of the active profile")
+    void shouldCountFaultsOfActiveProfile() throws Exception {
+        // Given
+        injector.activate(FaultProfile.parse("error-rate=1"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(riskEvaluation(null), response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(injector.active().counts().get(FaultProfile.Fault.ERROR).sum()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should leave other endpoints alone")
+    void shouldLeaveOtherEndpointsAlone() throws Exception {
+        // Given
+        injector.activate(FaultProfile.parse("error-rate=1"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    private static MockHttpServletRequest riskEvaluation(String profileHeader) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/risk-evaluation");
+        if (profileHeader != null) {
+            request.addHeader(FaultInjectionFilter.PROFILE_HEADER, profileHeader);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,140 @@
+package com.coopcredit.risk.fault;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for FaultProfile.
+ */
+class FaultProfileTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "delay",
+            "latency=slow",
+            "delay=soon",
+            "delay=-1s",
+            "error-rate=1.5",
+            "error-rate=0.6,timeout-rate=0.6",
+            "error-rate=0.1,error-status=200",
+            "latency=uniform,delay=2s,max=1s",
+            "latency=bursty,stall=10s,stall-every=5s",
+            "latency=fixed,delay=3m",
+            "timeout-rate=0.1,timeout=1h",
+            "jitter=5ms"
+    })
+    @DisplayName("Should reject invalid profiles")
+    void shouldRejectInvalidProfiles(String spec) {
+        assertThatThrownBy(() -> FaultProfile.parse(spec))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid fault");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "  ", "none", "NONE"})
+    @DisplayName("Should parse empty profiles as none")
+    void shouldParseEmptyProfilesAsNone(String spec) {
+        assertThat(FaultProfile.parse(spec)).isSameAs(FaultProfile.NONE);
+        assertThat(FaultProfile.parse(null)).isSameAs(FaultProfile.NONE);
+    }
+
+    @Test
+    @DisplayName("Should print a spec that parses back to the same profile")
+    void shouldRoundTripSpec() {
+        // Given
+        FaultProfile profile = FaultProfile.parse(
+                "latency=lognormal,delay=200ms,sigma=0.6,error-rate=0.02,timeout-rate=0.01,timeout=15s");
+
+        // When
+        String spec = profile.spec();
+
+        // Then
+        assertThat(spec).isEqualTo(
+                "latency=lognormal,delay=200ms,sigma=0.6,error-rate=0.02,error-status=503,timeout-rate=0.01,timeout=15s");
+        assertThat(FaultProfile.parse(spec)).isEqualTo(profile);
+    }
+
+    @Test
+    @DisplayName("Should inject each fault at its rate")
+    void shouldInjectFaultsAtTheirRates() {
+        // Given
+        FaultProfile profile = FaultProfile.parse("error-rate=0.2,timeout-rate=0.1,reset-rate=0.05");
+        SplittableRandom random = new SplittableRandom(42);
+        int requests = 100_000;
+
+        // When
+        Map<FaultProfile.Fault, Integer> counts = new EnumMap<>(FaultProfile.Fault.class);
+        for (int i = 0; i < requests; i++) {
+            counts.merge(profile.nextFault(random), 1, Integer::sum);
+        }
+
+        // Then
+        assertThat(counts.get(FaultProfile.Fault.ERROR) / (double) requests).isCloseTo(0.2, within(0.01));
+        assertThat(counts.get(FaultProfile.Fault.TIMEOUT) / (double) requests).isCloseTo(0.1, within(0.01));
+        assertThat(counts.get(FaultProfile.Fault.RESET) / (double) requests).isCloseTo(0.05, within(0.01));
+        assertThat(counts.get(FaultProfile.Fault.NONE) / (double) requests).isCloseTo(0.65, within(0.01));
+    }
+
+    @Test
+    @DisplayName("Should never inject a fault at zero rates")
+    void shouldNeverInjectFaultsAtZeroRates() {
+        FaultProfile profile = FaultProfile.parse("latency=fixed,delay=10ms");
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(profile.nextFault(random)).isEqualTo(FaultProfile.Fault.NONE);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep uniform delays between delay and max")
+    void shouldKeepUniformDelaysWithinBounds() {
+        FaultProfile profile = FaultProfile.parse("latency=uniform,delay=100ms,max=300ms");
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(profile.nextDelay(random, 0)).isBetween(Duration.ofMillis(100), Duration.ofMillis(300));
+        }
+    }
+
+    @Test
+    @DisplayName("Should cap sampled delays at the maximum delay")
+    void shouldCapSampledDelays() {
+        // Given: a median of a minute with a heavy tail
+        FaultProfile profile = FaultProfile.parse("latency=lognormal,delay=1m,sigma=5");
+        SplittableRandom random = new SplittableRandom(42);
+
+        // When
+        Duration longest = Duration.ZERO;
+        for (int i = 0; i < 10_000; i++) {
+            Duration delay = profile.nextDelay(random, 0);
+            longest = delay.compareTo(longest) > 0 ? delay : longest;
+        }
+
+        // Then
+        assertThat(longest).isEqualTo(FaultProfile.MAX_DELAY);
+    }
+
+    @Test
+    @DisplayName("Should stall bursty requests until the end of the stall")
+    void shouldStallBurstyRequests() {
+        FaultProfile profile = FaultProfile.parse("latency=bursty,delay=10ms,stall=2s,stall-every=30s");
+        SplittableRandom random = new SplittableRandom(42);
+
+        assertThat(profile.nextDelay(random, 30_000)).isEqualTo(Duration.ofMillis(2010));
+        assertThat(profile.nextDelay(random, 31_500)).isEqualTo(Duration.ofMillis(510));
+        assertThat(profile.nextDelay(random, 32_000)).isEqualTo(Duration.ofMillis(10));
+        assertThat(profile.nextDelay(random, 59_999)).isEqualTo(Duration.ofMillis(10));
+    }
+}